@@ -0,0 +1,496 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2010, The OP4J team (http://www.op4j.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+
+package org.op4j.jodatime.functions;
+
+import org.apache.commons.lang.Validate;
+import org.joda.time.Chronology;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeConstants;
+import org.joda.time.DateTimeField;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Interval;
+import org.joda.time.LocalDate;
+import org.joda.time.chrono.ISOChronology;
+
+/**
+ * <p>
+ * Columnar conversions between instants (in milliseconds), their fields and intervals, for
+ * converting whole columns of values without creating a {@link DateTime} for each of them,
+ * or boxing their fields.
+ * </p>
+ * <p>
+ * The results are exactly the ones the equivalent {@link DateTime} objects would give.
+ * </p>
+ * 
+ * @since 1.3
+ *
+ */
+public final class DateTimeColumns {
+
+	
+	
+	private DateTimeColumns() {
+		super();
+	}
+	
+	
+	
+	/**
+	 * <p>
+	 * Fills the given columns with the year, month of year, day of month and hour of day
+	 * of every instant in the input array in the given {@link DateTimeZone}, as
+	 * <tt>new DateTime(millis[i], dateTimeZone)</tt> would return them.
+	 * </p>
+	 * <p>
+	 * Any of the columns can be null, meaning that field will not be extracted. The
+	 * columns that are not null must be at least as long as the input array.
+	 * </p>
+	 * 
+	 * @param millis the instants, in milliseconds
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used
+	 * @param years the column for the years (can be null)
+	 * @param monthsOfYear the column for the months of year (can be null)
+	 * @param daysOfMonth the column for the days of month (can be null)
+	 * @param hoursOfDay the column for the hours of day (can be null)
+	 */
+	public static void extractFields(final long[] millis, final DateTimeZone dateTimeZone, 
+			final int[] years, final int[] monthsOfYear, final int[] daysOfMonth, final int[] hoursOfDay) {
+		Validate.notNull(dateTimeZone, "dateTimeZone can't be null");
+		extractFields(millis, ISOChronology.getInstance(dateTimeZone), years, monthsOfYear, daysOfMonth, hoursOfDay);
+	}
+	
+	/**
+	 * <p>
+	 * Fills the given columns with the year, month of year, day of month and hour of day
+	 * of every instant in the input array in the given {@link Chronology}, as
+	 * <tt>new DateTime(millis[i], chronology)</tt> would return them.
+	 * </p>
+	 * <p>
+	 * Any of the columns can be null, meaning that field will not be extracted. The
+	 * columns that are not null must be at least as long as the input array.
+	 * </p>
+	 * 
+	 * @param millis the instants, in milliseconds
+	 * @param chronology {@link Chronology} to be used
+	 * @param years the column for the years (can be null)
+	 * @param monthsOfYear the column for the months of year (can be null)
+	 * @param daysOfMonth the column for the days of month (can be null)
+	 * @param hoursOfDay the column for the hours of day (can be null)
+	 */
+	public static void extractFields(final long[] millis, final Chronology chronology, 
+			final int[] years, final int[] monthsOfYear, final int[] daysOfMonth, final int[] hoursOfDay) {
+		
+		Validate.notNull(millis, "millis can't be null");
+		Validate.notNull(chronology, "chronology can't be null");
+		validateColumn(years, "years", millis.length);
+		validateColumn(monthsOfYear, "monthsOfYear", millis.length);
+		validateColumn(daysOfMonth, "daysOfMonth", millis.length);
+		validateColumn(hoursOfDay, "hoursOfDay", millis.length);
+		
+		final ZoneOffsetCache offsetCache = ZoneOffsetCache.forZone(chronology.getZone());
+		final Chronology utcChronology = chronology.withUTC();
+		final DateTimeField yearField = utcChronology.year();
+		final DateTimeField monthOfYearField = utcChronology.monthOfYear();
+		final DateTimeField dayOfMonthField = utcChronology.dayOfMonth();
+		
+		// Local day [dayStart, dayEnd) of the previous value. Fields are read in UTC,
+		// where every day is 24 hours long, so values in the same day share them.
+		long dayStart = 0L;
+		long dayEnd = 0L;
+		int year = 0;
+		int monthOfYear = 0;
+		int dayOfMonth = 0;
+		
+		for (int i = 0; i < millis.length; i++) {
+			final long instant = millis[i];
+			final long localInstant = offsetCache.toLocalMillis(instant);
+			if (localInstant < dayStart || localInstant >= dayEnd) {
+				dayStart = dayOfMonthField.roundFloor(localInstant);
+				dayEnd = dayStart + DateTimeConstants.MILLIS_PER_DAY;
+				year = yearField.get(localInstant);
+				monthOfYear = monthOfYearField.get(localInstant);
+				dayOfMonth = dayOfMonthField.get(localInstant);
+			}
+			if (years != null) {
+				years[i] = year;
+			}
+			if (monthsOfYear != null) {
+				monthsOfYear[i] = monthOfYear;
+			}
+			if (daysOfMonth != null) {
+				daysOfMonth[i] = dayOfMonth;
+			}
+			if (hoursOfDay != null) {
+				hoursOfDay[i] = (int) ((localInstant - dayStart) / DateTimeConstants.MILLIS_PER_HOUR);
+			}
+		}
+	}
+	
+	
+	/**
+	 * <p>
+	 * Creates the instants (in milliseconds) with the fields in the given columns in the
+	 * given {@link DateTimeZone}, as <tt>new DateTime(years[i], monthsOfYear[i], daysOfMonth[i],
+	 * hoursOfDay[i], minutesOfHour[i], secondsOfMinute[i], millisOfSecond[i], dateTimeZone).getMillis()</tt>
+	 * would return them.
+	 * </p>
+	 * <p>
+	 * One instant is created for each element of the <tt>years</tt> column, and the rest of
+	 * the columns must be at least as long as it. The time columns can be null, meaning that
+	 * field is 0 for every instant.
+	 * </p>
+	 * 
+	 * @param years the column with the years
+	 * @param monthsOfYear the column with the months of year
+	 * @param daysOfMonth the column with the days of month
+	 * @param hoursOfDay the column with the hours of day (can be null)
+	 * @param minutesOfHour the column with the minutes of hour (can be null)
+	 * @param secondsOfMinute the column with the seconds of minute (can be null)
+	 * @param millisOfSecond the column with the milliseconds of second (can be null)
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used
+	 * @return the instants, in milliseconds
+	 * @throws IllegalArgumentException if any of the values is not valid, or does not exist
+	 *         in the given time zone
+	 */
+	public static long[] toMillis(final int[] years, final int[] monthsOfYear, final int[] daysOfMonth, 
+			final int[] hoursOfDay, final int[] minutesOfHour, final int[] secondsOfMinute, 
+			final int[] millisOfSecond, final DateTimeZone dateTimeZone) {
+		Validate.notNull(dateTimeZone, "dateTimeZone can't be null");
+		return toMillis(years, monthsOfYear, daysOfMonth, hoursOfDay, minutesOfHour, secondsOfMinute, 
+				millisOfSecond, ISOChronology.getInstance(dateTimeZone));
+	}
+	
+	/**
+	 * <p>
+	 * Creates the instants (in milliseconds) with the fields in the given columns in the
+	 * given {@link Chronology}, as <tt>new DateTime(years[i], monthsOfYear[i], daysOfMonth[i],
+	 * hoursOfDay[i], minutesOfHour[i], secondsOfMinute[i], millisOfSecond[i], chronology).getMillis()</tt>
+	 * would return them.
+	 * </p>
+	 * <p>
+	 * One instant is created for each element of the <tt>years</tt> column, and the rest of
+	 * the columns must be at least as long as it. The time columns can be null, meaning that
+	 * field is 0 for every instant.
+	 * </p>
+	 * 
+	 * @param years the column with the years
+	 * @param monthsOfYear the column with the months of year
+	 * @param daysOfMonth the column with the days of month
+	 * @param hoursOfDay the column with the hours of day (can be null)
+	 * @param minutesOfHour the column with the minutes of hour (can be null)
+	 * @param secondsOfMinute the column with the seconds of minute (can be null)
+	 * @param millisOfSecond the column with the milliseconds of second (can be null)
+	 * @param chronology {@link Chronology} to be used
+	 * @return the instants, in milliseconds
+	 * @throws IllegalArgumentException if any of the values is not valid in the given chronology
+	 */
+	public static long[] toMillis(final int[] years, final int[] monthsOfYear, final int[] daysOfMonth, 
+			final int[] hoursOfDay, final int[] minutesOfHour, final int[] secondsOfMinute, 
+			final int[] millisOfSecond, final Chronology chronology) {
+		
+		final FieldColumns columns = new FieldColumns(years, monthsOfYear, daysOfMonth, 
+				hoursOfDay, minutesOfHour, secondsOfMinute, millisOfSecond, chronology);
+		final long[] result = new long[years.length];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = columns.getMillis(i);
+		}
+		return result;
+	}
+	
+	
+	/**
+	 * <p>
+	 * Creates the {@link DateTime} objects with the fields in the given columns in the
+	 * given {@link DateTimeZone}, as <tt>new DateTime(years[i], monthsOfYear[i], daysOfMonth[i],
+	 * hoursOfDay[i], minutesOfHour[i], secondsOfMinute[i], millisOfSecond[i], dateTimeZone)</tt>
+	 * would.
+	 * </p>
+	 * <p>
+	 * One {@link DateTime} is created for each element of the <tt>years</tt> column, and the
+	 * rest of the columns must be at least as long as it. The time columns can be null, meaning
+	 * that field is 0 for every result.
+	 * </p>
+	 * 
+	 * @param years the column with the years
+	 * @param monthsOfYear the column with the months of year
+	 * @param daysOfMonth the column with the days of month
+	 * @param hoursOfDay the column with the hours of day (can be null)
+	 * @param minutesOfHour the column with the minutes of hour (can be null)
+	 * @param secondsOfMinute the column with the seconds of minute (can be null)
+	 * @param millisOfSecond the column with the milliseconds of second (can be null)
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used
+	 * @return the {@link DateTime} objects
+	 * @throws IllegalArgumentException if any of the values is not valid, or does not exist
+	 *         in the given time zone
+	 */
+	public static DateTime[] toDateTimes(final int[] years, final int[] monthsOfYear, final int[] daysOfMonth, 
+			final int[] hoursOfDay, final int[] minutesOfHour, final int[] secondsOfMinute, 
+			final int[] millisOfSecond, final DateTimeZone dateTimeZone) {
+		Validate.notNull(dateTimeZone, "dateTimeZone can't be null");
+		return toDateTimes(years, monthsOfYear, daysOfMonth, hoursOfDay, minutesOfHour, secondsOfMinute, 
+				millisOfSecond, ISOChronology.getInstance(dateTimeZone));
+	}
+	
+	/**
+	 * <p>
+	 * Creates the {@link DateTime} objects with the fields in the given columns in the
+	 * given {@link Chronology}, as <tt>new DateTime(years[i], monthsOfYear[i], daysOfMonth[i],
+	 * hoursOfDay[i], minutesOfHour[i], secondsOfMinute[i], millisOfSecond[i], chronology)</tt>
+	 * would.
+	 * </p>
+	 * <p>
+	 * One {@link DateTime} is created for each element of the <tt>years</tt> column, and the
+	 * rest of the columns must be at least as long as it. The time columns can be null, meaning
+	 * that field is 0 for every result.
+	 * </p>
+	 * 
+	 * @param years the column with the years
+	 * @param monthsOfYear the column with the months of year
+	 * @param daysOfMonth the column with the days of month
+	 * @param hoursOfDay the column with the hours of day (can be null)
+	 * @param minutesOfHour the column with the minutes of hour (can be null)
+	 * @param secondsOfMinute the column with the seconds of minute (can be null)
+	 * @param millisOfSecond the column with the milliseconds of second (can be null)
+	 * @param chronology {@link Chronology} to be used
+	 * @return the {@link DateTime} objects
+	 * @throws IllegalArgumentException if any of the values is not valid in the given chronology
+	 */
+	public static DateTime[] toDateTimes(final int[] years, final int[] monthsOfYear, final int[] daysOfMonth, 
+			final int[] hoursOfDay, final int[] minutesOfHour, final int[] secondsOfMinute, 
+			final int[] millisOfSecond, final Chronology chronology) {
+		
+		final FieldColumns columns = new FieldColumns(years, monthsOfYear, daysOfMonth, 
+				hoursOfDay, minutesOfHour, secondsOfMinute, millisOfSecond, chronology);
+		final DateTime[] result = new DateTime[years.length];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = new DateTime(columns.getMillis(i), chronology);
+		}
+		return result;
+	}
+	
+	
+	/**
+	 * <p>
+	 * Creates the {@link LocalDate} objects with the fields in the given columns in the
+	 * given {@link Chronology}, as <tt>new LocalDate(years[i], monthsOfYear[i], daysOfMonth[i],
+	 * chronology)</tt> would.
+	 * </p>
+	 * <p>
+	 * One {@link LocalDate} is created for each element of the <tt>years</tt> column, and the
+	 * rest of the columns must be at least as long as it.
+	 * </p>
+	 * 
+	 * @param years the column with the years
+	 * @param monthsOfYear the column with the months of year
+	 * @param daysOfMonth the column with the days of month
+	 * @param chronology {@link Chronology} to be used
+	 * @return the {@link LocalDate} objects
+	 * @throws IllegalArgumentException if any of the values is not valid in the given chronology
+	 */
+	public static LocalDate[] toLocalDates(final int[] years, final int[] monthsOfYear, final int[] daysOfMonth, 
+			final Chronology chronology) {
+		
+		Validate.notNull(chronology, "chronology can't be null");
+		// Local dates are created in UTC, where their fields are the local ones
+		final Chronology utcChronology = chronology.withUTC();
+		final FieldColumns columns = new FieldColumns(years, monthsOfYear, daysOfMonth, 
+				null, null, null, null, utcChronology);
+		final LocalDate[] result = new LocalDate[years.length];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = new LocalDate(columns.getMillis(i), utcChronology);
+		}
+		return result;
+	}
+	
+	
+	/**
+	 * <p>
+	 * Creates the {@link Interval} objects with the instants (in milliseconds) in the given
+	 * columns, in the default time zone, as <tt>new Interval(starts[i], ends[i])</tt> would.
+	 * </p>
+	 * <p>
+	 * One {@link Interval} is created for each element of the <tt>starts</tt> column, and the
+	 * <tt>ends</tt> column must have the same length. All the intervals are checked before
+	 * any of them is created.
+	 * </p>
+	 * 
+	 * @param starts the column with the start instants, in milliseconds
+	 * @param ends the column with the end instants, in milliseconds
+	 * @return the {@link Interval} objects
+	 * @throws IllegalArgumentException if the columns have different lengths, or any of the
+	 *         ends is before its start
+	 */
+	public static Interval[] toIntervals(final long[] starts, final long[] ends) {
+		return toIntervals(starts, ends, ISOChronology.getInstance());
+	}
+	
+	/**
+	 * <p>
+	 * Creates the {@link Interval} objects with the instants (in milliseconds) in the given
+	 * columns, in the given {@link DateTimeZone}, as <tt>new Interval(starts[i], ends[i], 
+	 * dateTimeZone)</tt> would.
+	 * </p>
+	 * <p>
+	 * One {@link Interval} is created for each element of the <tt>starts</tt> column, and the
+	 * <tt>ends</tt> column must have the same length. All the intervals are checked before
+	 * any of them is created.
+	 * </p>
+	 * 
+	 * @param starts the column with the start instants, in milliseconds
+	 * @param ends the column with the end instants, in milliseconds
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used
+	 * @return the {@link Interval} objects
+	 * @throws IllegalArgumentException if the columns have different lengths, or any of the
+	 *         ends is before its start
+	 */
+	public static Interval[] toIntervals(final long[] starts, final long[] ends, final DateTimeZone dateTimeZone) {
+		Validate.notNull(dateTimeZone, "dateTimeZone can't be null");
+		return toIntervals(starts, ends, ISOChronology.getInstance(dateTimeZone));
+	}
+	
+	/**
+	 * <p>
+	 * Creates the {@link Interval} objects with the instants (in milliseconds) in the given
+	 * columns, in the given {@link Chronology}, as <tt>new Interval(starts[i], ends[i], 
+	 * chronology)</tt> would.
+	 * </p>
+	 * <p>
+	 * One {@link Interval} is created for each element of the <tt>starts</tt> column, and the
+	 * <tt>ends</tt> column must have the same length. All the intervals are checked before
+	 * any of them is created.
+	 * </p>
+	 * 
+	 * @param starts the column with the start instants, in milliseconds
+	 * @param ends the column with the end instants, in milliseconds
+	 * @param chronology {@link Chronology} to be used
+	 * @return the {@link Interval} objects
+	 * @throws IllegalArgumentException if the columns have different lengths, or any of the
+	 *         ends is before its start
+	 */
+	public static Interval[] toIntervals(final long[] starts, final long[] ends, final Chronology chronology) {
+		Validate.notNull(starts, "starts can't be null");
+		Validate.notNull(ends, "ends can't be null");
+		Validate.notNull(chronology, "chronology can't be null");
+		Validate.isTrue(starts.length == ends.length, "starts and ends must have the same length");
+		
+		// A single pass without allocations, so that no Interval is created for invalid input
+		for (int i = 0; i < starts.length; i++) {
+			if (ends[i] < starts[i]) {
+				throw new IllegalArgumentException(
+						"The end instant must be greater or equal to the start: interval " + i + 
+						" starts at " + starts[i] + " and ends at " + ends[i]);
+			}
+		}
+		
+		final Interval[] result = new Interval[starts.length];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = new Interval(starts[i], ends[i], chronology);
+		}
+		return result;
+	}
+	
+	
+	
+	private static void validateColumn(final int[] column, final String name, final int length) {
+		if (column != null) {
+			Validate.isTrue(column.length >= length, name + " is shorter than the input array");
+		}
+	}
+	
+	
+	
+	/*
+	 * Field columns and the chronology to compute their instants with, exactly as
+	 * Chronology.getDateTimeMillis does.
+	 *
+	 * For ISO chronologies local millis are computed by FieldMillis, and converted to UTC
+	 * with the offsets of a ZoneOffsetCache when they are not near an offset transition.
+	 * Values near a transition, where the local time may not exist or exist twice, and
+	 * values in other chronologies are left to the chronology.
+	 */
+	private static final class FieldColumns {
+		
+		private static final Chronology ISO_UTC = ISOChronology.getInstanceUTC();
+		
+		private final int[] years;
+		private final int[] monthsOfYear;
+		private final int[] daysOfMonth;
+		private final int[] hoursOfDay;
+		private final int[] minutesOfHour;
+		private final int[] secondsOfMinute;
+		private final int[] millisOfSecond;
+		private final Chronology chronology;
+		private final ZoneOffsetCache offsetCache;
+		
+		FieldColumns(final int[] years, final int[] monthsOfYear, final int[] daysOfMonth, 
+				final int[] hoursOfDay, final int[] minutesOfHour, final int[] secondsOfMinute, 
+				final int[] millisOfSecond, final Chronology chronology) {
+			
+			super();
+			
+			Validate.notNull(years, "years can't be null");
+			Validate.notNull(monthsOfYear, "monthsOfYear can't be null");
+			Validate.notNull(daysOfMonth, "daysOfMonth can't be null");
+			Validate.notNull(chronology, "chronology can't be null");
+			validateColumn(monthsOfYear, "monthsOfYear", years.length);
+			validateColumn(daysOfMonth, "daysOfMonth", years.length);
+			validateColumn(hoursOfDay, "hoursOfDay", years.length);
+			validateColumn(minutesOfHour, "minutesOfHour", years.length);
+			validateColumn(secondsOfMinute, "secondsOfMinute", years.length);
+			validateColumn(millisOfSecond, "millisOfSecond", years.length);
+			
+			this.years = years;
+			this.monthsOfYear = monthsOfYear;
+			this.daysOfMonth = daysOfMonth;
+			this.hoursOfDay = hoursOfDay;
+			this.minutesOfHour = minutesOfHour;
+			this.secondsOfMinute = secondsOfMinute;
+			this.millisOfSecond = millisOfSecond;
+			this.chronology = chronology;
+			this.offsetCache = (chronology instanceof ISOChronology ? 
+					ZoneOffsetCache.forZone(chronology.getZone()) : null);
+		}
+		
+		long getMillis(final int i) {
+			final int year = this.years[i];
+			final int monthOfYear = this.monthsOfYear[i];
+			final int dayOfMonth = this.daysOfMonth[i];
+			final int hourOfDay = (this.hoursOfDay != null ? this.hoursOfDay[i] : 0);
+			final int minuteOfHour = (this.minutesOfHour != null ? this.minutesOfHour[i] : 0);
+			final int secondOfMinute = (this.secondsOfMinute != null ? this.secondsOfMinute[i] : 0);
+			final int millisOfSecond = (this.millisOfSecond != null ? this.millisOfSecond[i] : 0);
+			
+			if (this.offsetCache != null) {
+				final long localMillis = FieldMillis.getDateTimeMillis(ISO_UTC, 
+						year, monthOfYear, dayOfMonth, hourOfDay, minuteOfHour, secondOfMinute, millisOfSecond);
+				final int offset = this.offsetCache.getOffset(localMillis);
+				final long instant = localMillis - offset;
+				if (this.offsetCache.getOffset(instant) == offset) {
+					return instant;
+				}
+			}
+			return this.chronology.getDateTimeMillis(
+					year, monthOfYear, dayOfMonth, hourOfDay, minuteOfHour, secondOfMinute, millisOfSecond);
+		}
+		
+	}
+	
+}
@@ -0,0 +1,269 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2010, The OP4J team (http://www.op4j.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+
+package org.op4j.jodatime.functions;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.apache.commons.lang.ObjectUtils;
+import org.apache.commons.lang.Validate;
+import org.joda.time.Chronology;
+import org.joda.time.DateTimeZone;
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
+
+/**
+ * <p>
+ * Process-wide, thread-safe and size-bounded cache of the {@link DateTimeFormatter} objects
+ * used by the functions in this package. Formatters are identified by their pattern or style
+ * together with the {@link Locale}, {@link DateTimeZone} and {@link Chronology} they have been
+ * configured with, so that every function created with the same configuration shares a single
+ * formatter.
+ * </p>
+ * <p>
+ * When the cache is full, the least recently used formatter is evicted.
+ * </p>
+ *
+ * @since 1.3
+ *
+ */
+public final class DateTimeFormatterCache {
+
+	/**
+	 * <p>
+	 * Maximum number of formatters the cache will hold
+	 * </p>
+	 */
+	public static final int MAX_SIZE = 512;
+
+	private static final Map<Key, DateTimeFormatter> CACHE =
+		new LinkedHashMap<Key, DateTimeFormatter>(64, 0.75f, true) {
+
+			private static final long serialVersionUID = -1553286227302440497L;
+
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<Key, DateTimeFormatter> eldest) {
+				if (size() > MAX_SIZE) {
+					evictionCount++;
+					return true;
+				}
+				return false;
+			}
+	};
+
+	private static long hitCount = 0L;
+	private static long missCount = 0L;
+	private static long evictionCount = 0L;
+
+
+
+	private DateTimeFormatterCache() {
+		super();
+	}
+
+
+
+	/**
+	 * <p>
+	 * Returns the {@link DateTimeFormatter} for the given pattern, configured with the given
+	 * {@link Locale}, {@link DateTimeZone} and {@link Chronology}. Any of the last three
+	 * arguments can be null, meaning that the formatter will not be configured with it.
+	 * </p>
+	 *
+	 * @param pattern the pattern (as specified by {@link DateTimeFormat})
+	 * @param locale the {@link Locale} to be used (can be null)
+	 * @param dateTimeZone the {@link DateTimeZone} to be used (can be null)
+	 * @param chronology the {@link Chronology} to be used (can be null)
+	 * @return the shared {@link DateTimeFormatter}
+	 */
+	public static DateTimeFormatter forPattern(final String pattern, final Locale locale,
+			final DateTimeZone dateTimeZone, final Chronology chronology) {
+		Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
+		return getFormatter(new Key(false, pattern, locale, dateTimeZone, chronology));
+	}
+
+	/**
+	 * <p>
+	 * Returns the {@link DateTimeFormatter} for the given style, configured with the given
+	 * {@link Locale}, {@link DateTimeZone} and {@link Chronology}. Any of the last three
+	 * arguments can be null, meaning that the formatter will not be configured with it.
+	 * </p>
+	 *
+	 * @param style the style (as specified by {@link DateTimeFormat})
+	 * @param locale the {@link Locale} to be used (can be null)
+	 * @param dateTimeZone the {@link DateTimeZone} to be used (can be null)
+	 * @param chronology the {@link Chronology} to be used (can be null)
+	 * @return the shared {@link DateTimeFormatter}
+	 */
+	public static DateTimeFormatter forStyle(final String style, final Locale locale,
+			final DateTimeZone dateTimeZone, final Chronology chronology) {
+		Validate.notEmpty(style, "style can't be neither empty nor null");
+		return getFormatter(new Key(true, style, locale, dateTimeZone, chronology));
+	}
+
+
+	/**
+	 * <p>
+	 * Returns the number of lookups that found their formatter already in the cache
+	 * </p>
+	 *
+	 * @return the number of cache hits
+	 */
+	public static synchronized long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * <p>
+	 * Returns the number of lookups that had to build a new formatter
+	 * </p>
+	 *
+	 * @return the number of cache misses
+	 */
+	public static synchronized long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * <p>
+	 * Returns the number of formatters removed from the cache because it was full
+	 * </p>
+	 *
+	 * @return the number of evictions
+	 */
+	public static synchronized long getEvictionCount() {
+		return evictionCount;
+	}
+
+	/**
+	 * <p>
+	 * Returns the number of formatters currently in the cache
+	 * </p>
+	 *
+	 * @return the size of the cache
+	 */
+	public static synchronized int size() {
+		return CACHE.size();
+	}
+
+	/**
+	 * <p>
+	 * Removes every formatter from the cache and resets its counters. Functions already
+	 * created keep the formatters they were created with.
+	 * </p>
+	 */
+	public static synchronized void clear() {
+		CACHE.clear();
+		hitCount = 0L;
+		missCount = 0L;
+		evictionCount = 0L;
+	}
+
+
+
+	private static DateTimeFormatter getFormatter(final Key key) {
+		synchronized (DateTimeFormatterCache.class) {
+			final DateTimeFormatter formatter = CACHE.get(key);
+			if (formatter != null) {
+				hitCount++;
+				return formatter;
+			}
+		}
+		// Built outside the lock, as invalid patterns or styles will throw here
+		final DateTimeFormatter formatter = key.createFormatter();
+		synchronized (DateTimeFormatterCache.class) {
+			missCount++;
+			final DateTimeFormatter existing = CACHE.get(key);
+			if (existing != null) {
+				return existing;
+			}
+			CACHE.put(key, formatter);
+			return formatter;
+		}
+	}
+
+
+
+	private static final class Key {
+
+		private final boolean style;
+		private final String format;
+		private final Locale locale;
+		private final DateTimeZone dateTimeZone;
+		private final Chronology chronology;
+		private final int hashCode;
+
+		Key(final boolean style, final String format, final Locale locale,
+				final DateTimeZone dateTimeZone, final Chronology chronology) {
+			super();
+			this.style = style;
+			this.format = format;
+			this.locale = locale;
+			this.dateTimeZone = dateTimeZone;
+			this.chronology = chronology;
+
+			int result = (style ? 1 : 0);
+			result = 31 * result + format.hashCode();
+			result = 31 * result + ObjectUtils.hashCode(locale);
+			result = 31 * result + ObjectUtils.hashCode(dateTimeZone);
+			result = 31 * result + ObjectUtils.hashCode(chronology);
+			this.hashCode = result;
+		}
+
+		DateTimeFormatter createFormatter() {
+			DateTimeFormatter formatter = (this.style ?
+					DateTimeFormat.forStyle(this.format) : DateTimeFormat.forPattern(this.format));
+			if (this.locale != null) {
+				formatter = formatter.withLocale(this.locale);
+			}
+			if (this.dateTimeZone != null) {
+				formatter = formatter.withZone(this.dateTimeZone);
+			}
+			if (this.chronology != null) {
+				formatter = formatter.withChronology(this.chronology);
+			}
+			return formatter;
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			final Key other = (Key) obj;
+			return this.style == other.style
+					&& this.format.equals(other.format)
+					&& ObjectUtils.equals(this.locale, other.locale)
+					&& ObjectUtils.equals(this.dateTimeZone, other.dateTimeZone)
+					&& ObjectUtils.equals(this.chronology, other.chronology);
+		}
+	}
+
+}
@@ -0,0 +1,108 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2010, The OP4J team (http://www.op4j.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+
+package org.op4j.jodatime.functions;
+
+import org.joda.time.Chronology;
+import org.joda.time.DateMidnight;
+import org.joda.time.DateTimeConstants;
+import org.joda.time.chrono.ISOChronology;
+
+/*
+ * Returns shared DateMidnight objects for the instants of the days most recently
+ * converted with an ISO chronology.
+ *
+ * In a zoned ISO chronology, the midnight of an instant is obtained by rounding its local
+ * millis (instant plus offset) down to the start of the day and converting the result
+ * back to UTC, so all the instants with the same local day have the same DateMidnight,
+ * gaps and overlaps included. Local days are obtained with the offsets in a
+ * ZoneOffsetCache and the DateMidnight of each is only created the first time.
+ */
+final class DayStartCache {
+
+	// Number of remembered days, must be a power of two
+	private static final int SIZE = 16;
+	
+	private final Chronology chronology;
+	private final ZoneOffsetCache offsetCache;
+	private final Entry[] entries;
+	
+	
+	
+	private DayStartCache(final Chronology chronology) {
+		super();
+		this.chronology = chronology;
+		this.offsetCache = ZoneOffsetCache.forZone(chronology.getZone());
+		this.entries = new Entry[SIZE];
+	}
+	
+	
+	
+	/*
+	 * Returns the cache for the given chronology, or null if it is not an ISO chronology
+	 */
+	static DayStartCache forChronology(final Chronology chronology) {
+		if (!(chronology instanceof ISOChronology)) {
+			return null;
+		}
+		return new DayStartCache(chronology);
+	}
+	
+	
+	
+	Chronology getChronology() {
+		return this.chronology;
+	}
+	
+	/*
+	 * Equivalent to new DateMidnight(instant, chronology)
+	 */
+	DateMidnight get(final long instant) {
+		final long localMillis = this.offsetCache.toLocalMillis(instant);
+		final long localDay = (localMillis >= 0 ? 
+				localMillis / DateTimeConstants.MILLIS_PER_DAY : 
+				(localMillis + 1) / DateTimeConstants.MILLIS_PER_DAY - 1);
+		final int index = (int) localDay & (SIZE - 1);
+		final Entry entry = this.entries[index];
+		if (entry != null && entry.localDay == localDay) {
+			return entry.dateMidnight;
+		}
+		final DateMidnight dateMidnight = new DateMidnight(instant, this.chronology);
+		// Entries are immutable, so racing threads can only cause further misses
+		this.entries[index] = new Entry(localDay, dateMidnight);
+		return dateMidnight;
+	}
+	
+	
+	
+	private static final class Entry {
+		
+		final long localDay;
+		final DateMidnight dateMidnight;
+		
+		Entry(final long localDay, final DateMidnight dateMidnight) {
+			super();
+			this.localDay = localDay;
+			this.dateMidnight = dateMidnight;
+		}
+		
+	}
+	
+}
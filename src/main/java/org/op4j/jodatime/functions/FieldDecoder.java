@@ -0,0 +1,62 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2010, The OP4J team (http://www.op4j.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+
+package org.op4j.jodatime.functions;
+
+/*
+ * Decodes the String fields given to the StringField* conversions into ints.
+ *
+ * Values made of an optional minus sign and up to 9 ASCII digits (which cannot overflow
+ * an int) are decoded directly. Any other value is left to Integer.parseInt, so that
+ * results and exceptions are the same as if Integer.parseInt had been called.
+ */
+final class FieldDecoder {
+
+	private static final int MAX_DIGITS = 9;
+	
+	
+	
+	private FieldDecoder() {
+		super();
+	}
+	
+	
+	
+	static int parseInt(final String text) {
+		if (text != null) {
+			final int length = text.length();
+			final boolean negative = (length > 0 && text.charAt(0) == '-');
+			int i = (negative ? 1 : 0);
+			if (length > i && length - i <= MAX_DIGITS) {
+				int value = 0;
+				for (; i < length; i++) {
+					final int digit = text.charAt(i) - '0';
+					if (digit < 0 || digit > 9) {
+						return Integer.parseInt(text);
+					}
+					value = value * 10 + digit;
+				}
+				return (negative ? -value : value);
+			}
+		}
+		return Integer.parseInt(text);
+	}
+	
+}
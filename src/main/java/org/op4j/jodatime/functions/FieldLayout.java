@@ -0,0 +1,212 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2010, The OP4J team (http://www.op4j.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+
+package org.op4j.jodatime.functions;
+
+import java.util.Iterator;
+
+import org.joda.time.Chronology;
+
+/**
+ * <p>
+ * The fields, and their order, used to represent an instant in the field conversions
+ * that are created for a fixed layout, such as
+ * {@link FnInterval#integerFieldArrayToInterval(FieldLayout)} or
+ * {@link FnDateTime#intFieldArrayToDateTime(FieldLayout)}.
+ * </p>
+ * <p>
+ * Those conversions only accept inputs of the size given by the layout, and the fields
+ * not included in it are set to 0.
+ * </p>
+ *
+ * @since 1.3
+ *
+ */
+public enum FieldLayout {
+
+	/**
+	 * year, month, day
+	 */
+	YMD(3) {
+		@Override
+		long getMillis(final Chronology chronology, final int[] fields, final int offset) {
+			return FieldMillis.getDateTimeMillis(chronology,
+					fields[offset], fields[offset + 1], fields[offset + 2], 0, 0, 0, 0);
+		}
+		@Override
+		long getMillis(final Chronology chronology, final Integer[] fields, final int offset) {
+			return FieldMillis.getDateTimeMillis(chronology,
+					fields[offset].intValue(), fields[offset + 1].intValue(), fields[offset + 2].intValue(),
+					0, 0, 0, 0);
+		}
+		@Override
+		long getMillis(final Chronology chronology, final Iterator<Integer> fields) {
+			final int year = fields.next().intValue();
+			final int month = fields.next().intValue();
+			final int day = fields.next().intValue();
+			return FieldMillis.getDateTimeMillis(chronology, year, month, day, 0, 0, 0, 0);
+		}
+	},
+
+	/**
+	 * year, month, day, hour
+	 */
+	YMDH(4) {
+		@Override
+		long getMillis(final Chronology chronology, final int[] fields, final int offset) {
+			return FieldMillis.getDateTimeMillis(chronology,
+					fields[offset], fields[offset + 1], fields[offset + 2], fields[offset + 3], 0, 0, 0);
+		}
+		@Override
+		long getMillis(final Chronology chronology, final Integer[] fields, final int offset) {
+			return FieldMillis.getDateTimeMillis(chronology,
+					fields[offset].intValue(), fields[offset + 1].intValue(), fields[offset + 2].intValue(),
+					fields[offset + 3].intValue(), 0, 0, 0);
+		}
+		@Override
+		long getMillis(final Chronology chronology, final Iterator<Integer> fields) {
+			final int year = fields.next().intValue();
+			final int month = fields.next().intValue();
+			final int day = fields.next().intValue();
+			final int hour = fields.next().intValue();
+			return FieldMillis.getDateTimeMillis(chronology, year, month, day, hour, 0, 0, 0);
+		}
+	},
+
+	/**
+	 * year, month, day, hour, minute
+	 */
+	YMDHM(5) {
+		@Override
+		long getMillis(final Chronology chronology, final int[] fields, final int offset) {
+			return FieldMillis.getDateTimeMillis(chronology,
+					fields[offset], fields[offset + 1], fields[offset + 2],
+					fields[offset + 3], fields[offset + 4], 0, 0);
+		}
+		@Override
+		long getMillis(final Chronology chronology, final Integer[] fields, final int offset) {
+			return FieldMillis.getDateTimeMillis(chronology,
+					fields[offset].intValue(), fields[offset + 1].intValue(), fields[offset + 2].intValue(),
+					fields[offset + 3].intValue(), fields[offset + 4].intValue(), 0, 0);
+		}
+		@Override
+		long getMillis(final Chronology chronology, final Iterator<Integer> fields) {
+			final int year = fields.next().intValue();
+			final int month = fields.next().intValue();
+			final int day = fields.next().intValue();
+			final int hour = fields.next().intValue();
+			final int minute = fields.next().intValue();
+			return FieldMillis.getDateTimeMillis(chronology, year, month, day, hour, minute, 0, 0);
+		}
+	},
+
+	/**
+	 * year, month, day, hour, minute, second
+	 */
+	YMDHMS(6) {
+		@Override
+		long getMillis(final Chronology chronology, final int[] fields, final int offset) {
+			return FieldMillis.getDateTimeMillis(chronology,
+					fields[offset], fields[offset + 1], fields[offset + 2],
+					fields[offset + 3], fields[offset + 4], fields[offset + 5], 0);
+		}
+		@Override
+		long getMillis(final Chronology chronology, final Integer[] fields, final int offset) {
+			return FieldMillis.getDateTimeMillis(chronology,
+					fields[offset].intValue(), fields[offset + 1].intValue(), fields[offset + 2].intValue(),
+					fields[offset + 3].intValue(), fields[offset + 4].intValue(), fields[offset + 5].intValue(),
+					0);
+		}
+		@Override
+		long getMillis(final Chronology chronology, final Iterator<Integer> fields) {
+			final int year = fields.next().intValue();
+			final int month = fields.next().intValue();
+			final int day = fields.next().intValue();
+			final int hour = fields.next().intValue();
+			final int minute = fields.next().intValue();
+			final int second = fields.next().intValue();
+			return FieldMillis.getDateTimeMillis(chronology, year, month, day, hour, minute, second, 0);
+		}
+	},
+
+	/**
+	 * year, month, day, hour, minute, second, millisecond
+	 */
+	YMDHMS_MILLIS(7) {
+		@Override
+		long getMillis(final Chronology chronology, final int[] fields, final int offset) {
+			return FieldMillis.getDateTimeMillis(chronology,
+					fields[offset], fields[offset + 1], fields[offset + 2],
+					fields[offset + 3], fields[offset + 4], fields[offset + 5], fields[offset + 6]);
+		}
+		@Override
+		long getMillis(final Chronology chronology, final Integer[] fields, final int offset) {
+			return FieldMillis.getDateTimeMillis(chronology,
+					fields[offset].intValue(), fields[offset + 1].intValue(), fields[offset + 2].intValue(),
+					fields[offset + 3].intValue(), fields[offset + 4].intValue(), fields[offset + 5].intValue(),
+					fields[offset + 6].intValue());
+		}
+		@Override
+		long getMillis(final Chronology chronology, final Iterator<Integer> fields) {
+			final int year = fields.next().intValue();
+			final int month = fields.next().intValue();
+			final int day = fields.next().intValue();
+			final int hour = fields.next().intValue();
+			final int minute = fields.next().intValue();
+			final int second = fields.next().intValue();
+			final int millisecond = fields.next().intValue();
+			return FieldMillis.getDateTimeMillis(chronology, year, month, day, hour, minute, second, millisecond);
+		}
+	};
+
+
+	private final int size;
+
+
+
+	private FieldLayout(final int size) {
+		this.size = size;
+	}
+
+
+
+	/**
+	 * <p>
+	 * Returns the number of fields of this layout.
+	 * </p>
+	 *
+	 * @return the number of fields
+	 */
+	public int getSize() {
+		return this.size;
+	}
+
+
+	/*
+	 * Each layout reads its own fields in a straight line, so that the functions created
+	 * for a layout don't have to decide for each input which fields it contains.
+	 */
+	abstract long getMillis(final Chronology chronology, final int[] fields, final int offset);
+
+	abstract long getMillis(final Chronology chronology, final Integer[] fields, final int offset);
+
+	abstract long getMillis(final Chronology chronology, final Iterator<Integer> fields);
+
+}
@@ -0,0 +1,103 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2010, The OP4J team (http://www.op4j.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+
+package org.op4j.jodatime.functions;
+
+import org.joda.time.Chronology;
+import org.joda.time.DateTimeConstants;
+import org.joda.time.chrono.ISOChronology;
+
+/*
+ * Computes instants from their fields as Chronology.getDateTimeMillis does, so that the
+ * field conversions don't need to build intermediate DateTime objects.
+ *
+ * For the ISO chronology in UTC, valid fields of years between MIN_FAST_YEAR and
+ * MAX_FAST_YEAR are converted with plain proleptic Gregorian arithmetic. Anything else,
+ * including every invalid field value, is handed to the chronology, so that results and
+ * exceptions are unchanged.
+ */
+final class FieldMillis {
+
+	private static final Chronology ISO_UTC = ISOChronology.getInstanceUTC();
+	
+	private static final int MIN_FAST_YEAR = -9999;
+	private static final int MAX_FAST_YEAR = 9999;
+	
+	// Days from 0000-03-01 to 1970-01-01
+	private static final long DAYS_0000_03_01_TO_1970_01_01 = 719468L;
+	private static final int DAYS_PER_ERA = 146097;
+	
+	
+	
+	private FieldMillis() {
+		super();
+	}
+	
+	
+	
+	static long getDateTimeMillis(final Chronology chronology, final int year, final int monthOfYear, 
+			final int dayOfMonth, final int hourOfDay, final int minuteOfHour, final int secondOfMinute, 
+			final int millisOfSecond) {
+		if (chronology == ISO_UTC 
+				&& year >= MIN_FAST_YEAR && year <= MAX_FAST_YEAR
+				&& monthOfYear >= 1 && monthOfYear <= 12
+				&& dayOfMonth >= 1 && dayOfMonth <= getDaysInMonth(year, monthOfYear)
+				&& hourOfDay >= 0 && hourOfDay < 24
+				&& minuteOfHour >= 0 && minuteOfHour < 60
+				&& secondOfMinute >= 0 && secondOfMinute < 60
+				&& millisOfSecond >= 0 && millisOfSecond < 1000) {
+			return getEpochDay(year, monthOfYear, dayOfMonth) * DateTimeConstants.MILLIS_PER_DAY
+					+ hourOfDay * DateTimeConstants.MILLIS_PER_HOUR
+					+ minuteOfHour * DateTimeConstants.MILLIS_PER_MINUTE
+					+ secondOfMinute * DateTimeConstants.MILLIS_PER_SECOND
+					+ millisOfSecond;
+		}
+		return chronology.getDateTimeMillis(year, monthOfYear, dayOfMonth, 
+				hourOfDay, minuteOfHour, secondOfMinute, millisOfSecond);
+	}
+	
+	
+	/*
+	 * Returns the number of days from 1970-01-01 to the given valid date of the proleptic
+	 * Gregorian calendar. Years are counted from March so that leap days come last.
+	 */
+	static long getEpochDay(final int year, final int monthOfYear, final int dayOfMonth) {
+		final int marchYear = (monthOfYear <= 2 ? year - 1 : year);
+		final int era = (marchYear >= 0 ? marchYear : marchYear - 399) / 400;
+		final int yearOfEra = marchYear - era * 400;
+		final int dayOfYear = (153 * (monthOfYear > 2 ? monthOfYear - 3 : monthOfYear + 9) + 2) / 5 + dayOfMonth - 1;
+		final int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+		return (long) era * DAYS_PER_ERA + dayOfEra - DAYS_0000_03_01_TO_1970_01_01;
+	}
+	
+	
+	static int getDaysInMonth(final int year, final int monthOfYear) {
+		if (monthOfYear == 2) {
+			return (isLeapYear(year) ? 29 : 28);
+		}
+		return (monthOfYear == 4 || monthOfYear == 6 || monthOfYear == 9 || monthOfYear == 11 ? 30 : 31);
+	}
+	
+	
+	static boolean isLeapYear(final int year) {
+		return ((year & 3) == 0 && (year % 100 != 0 || year % 400 == 0));
+	}
+	
+}
@@ -0,0 +1,207 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2010, The OP4J team (http://www.op4j.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+
+package org.op4j.jodatime.functions;
+
+import java.io.IOException;
+
+import org.joda.time.Chronology;
+import org.joda.time.DateTimeZone;
+import org.joda.time.LocalDate;
+import org.joda.time.LocalTime;
+import org.joda.time.ReadableInstant;
+import org.joda.time.format.DateTimeFormatter;
+
+/*
+ * Prints instants, LocalDates and LocalTimes with a fixed-width numeric pattern (see
+ * NumericPattern) by extracting the field values once and writing the digits straight
+ * into a StringBuilder or Appendable, either a caller-supplied one or a StringBuilder of
+ * the known output length.
+ *
+ * Field values are obtained exactly as DateTimeFormatter.print would: instants are
+ * shifted by the offset of the selected chronology's zone and read with its UTC fields,
+ * and partials are read directly. Every print method returns null when the value cannot
+ * be printed this way (year not in 0-9999, or instant not supported by the chronology),
+ * and every append method returns false
+ * having appended nothing, in which case the DateTimeFormatter must be used instead.
+ */
+final class FixedWidthPrinter {
+
+	private final NumericPattern pattern;
+	private final Chronology formatterChronology;
+	private final DateTimeZone formatterZone;
+
+
+
+	private FixedWidthPrinter(final NumericPattern pattern, final DateTimeFormatter formatter) {
+		super();
+		this.pattern = pattern;
+		this.formatterChronology = (formatter == null ? null : formatter.getChronolgy());
+		this.formatterZone = (formatter == null ? null : formatter.getZone());
+	}
+
+
+
+	/*
+	 * Returns a printer for instants, or null if the pattern is not fixed-width numeric.
+	 * The formatter is the one built for the pattern, used for its chronology and zone.
+	 */
+	static FixedWidthPrinter forInstants(final String pattern, final DateTimeFormatter formatter) {
+		final NumericPattern numericPattern = NumericPattern.compile(pattern);
+		if (numericPattern == null) {
+			return null;
+		}
+		return new FixedWidthPrinter(numericPattern, formatter);
+	}
+
+	/*
+	 * Returns a printer for LocalDates, or null if the pattern is not fixed-width numeric
+	 * or contains time fields (which Joda-Time prints as unsupported).
+	 */
+	static FixedWidthPrinter forLocalDates(final String pattern) {
+		final NumericPattern numericPattern = NumericPattern.compile(pattern);
+		if (numericPattern == null || numericPattern.hasTimeFields()) {
+			return null;
+		}
+		return new FixedWidthPrinter(numericPattern, null);
+	}
+
+	/*
+	 * Returns a printer for LocalTimes, or null if the pattern is not fixed-width numeric
+	 * or contains date fields (which Joda-Time prints as unsupported).
+	 */
+	static FixedWidthPrinter forLocalTimes(final String pattern) {
+		final NumericPattern numericPattern = NumericPattern.compile(pattern);
+		if (numericPattern == null || numericPattern.hasDateFields()) {
+			return null;
+		}
+		return new FixedWidthPrinter(numericPattern, null);
+	}
+
+
+
+	int getLength() {
+		return this.pattern.getLength();
+	}
+
+
+	String print(final ReadableInstant instant) {
+		final StringBuilder builder = new StringBuilder(this.pattern.getLength());
+		if (!appendTo(builder, instant)) {
+			return null;
+		}
+		return builder.toString();
+	}
+
+	String print(final LocalDate localDate) {
+		final StringBuilder builder = new StringBuilder(this.pattern.getLength());
+		if (!appendTo(builder, localDate)) {
+			return null;
+		}
+		return builder.toString();
+	}
+
+	String print(final LocalTime localTime) {
+		final StringBuilder builder = new StringBuilder(this.pattern.getLength());
+		if (!appendTo(builder, localTime)) {
+			return null;
+		}
+		return builder.toString();
+	}
+
+
+	boolean appendTo(final StringBuilder builder, final ReadableInstant instant) {
+		try {
+			return appendTo((Appendable) builder, instant);
+		} catch (final IOException e) {
+			// StringBuilders don't throw IOException
+			throw new IllegalStateException(e);
+		}
+	}
+
+	boolean appendTo(final StringBuilder builder, final LocalDate localDate) {
+		try {
+			return appendTo((Appendable) builder, localDate);
+		} catch (final IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	boolean appendTo(final StringBuilder builder, final LocalTime localTime) {
+		try {
+			return appendTo((Appendable) builder, localTime);
+		} catch (final IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+
+	boolean appendTo(final Appendable appendable, final ReadableInstant instant) throws IOException {
+
+		Chronology chronology = instant.getChronology();
+		if (this.formatterChronology != null) {
+			chronology = this.formatterChronology;
+		}
+		if (this.formatterZone != null) {
+			chronology = chronology.withZone(this.formatterZone);
+		}
+
+		final long millis = instant.getMillis();
+		final long localMillis = millis + chronology.getZone().getOffset(millis);
+		final Chronology utcChronology = chronology.withUTC();
+
+		int year = 0;
+		int month = 0;
+		int day = 0;
+		int hour = 0;
+		int minute = 0;
+		int second = 0;
+		int millisOfSecond = 0;
+		try {
+			if (this.pattern.hasDateFields()) {
+				year = utcChronology.year().get(localMillis);
+				month = utcChronology.monthOfYear().get(localMillis);
+				day = utcChronology.dayOfMonth().get(localMillis);
+			}
+			hour = utcChronology.hourOfDay().get(localMillis);
+			minute = utcChronology.minuteOfHour().get(localMillis);
+			second = utcChronology.secondOfMinute().get(localMillis);
+			millisOfSecond = utcChronology.millisOfSecond().get(localMillis);
+		} catch (final RuntimeException e) {
+			// Limited chronologies (Buddhist, Coptic...) reject instants outside their range,
+			// which the DateTimeFormatter prints as '?' placeholders
+			return false;
+		}
+		return this.pattern.appendTo(appendable, year, month, day, hour, minute, second, millisOfSecond);
+	}
+
+	boolean appendTo(final Appendable appendable, final LocalDate localDate) throws IOException {
+		return this.pattern.appendTo(appendable,
+				localDate.getYear(), localDate.getMonthOfYear(), localDate.getDayOfMonth(), 0, 0, 0, 0);
+	}
+
+	boolean appendTo(final Appendable appendable, final LocalTime localTime) throws IOException {
+		return this.pattern.appendTo(appendable, 0, 1, 1,
+				localTime.getHourOfDay(), localTime.getMinuteOfHour(),
+				localTime.getSecondOfMinute(), localTime.getMillisOfSecond());
+	}
+
+
+}
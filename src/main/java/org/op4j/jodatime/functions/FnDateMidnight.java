@@ -27,14 +27,12 @@ import java.util.Date;
 import java.util.Iterator;
 import java.util.Locale;
 
-import org.apache.commons.lang.LocaleUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.lang.Validate;
 import org.joda.time.Chronology;
 import org.joda.time.DateMidnight;
 import org.joda.time.DateTimeZone;
-import org.joda.time.format.DateTimeFormat;
-import org.joda.time.format.DateTimeFormatter;
+import org.joda.time.chrono.ISOChronology;
 import org.op4j.exceptions.ExecutionException;
 import org.op4j.functions.AbstractNullAsNullFunction;
 import org.op4j.functions.ExecCtx;
@@ -51,6 +49,7 @@ public final class FnDateMidnight {
 	
 	private final static TimestampToDateMidnight TIMESTAMP_TO_DATE_MIDNIGHT = new TimestampToDateMidnight();
 	private final static LongToDateMidnight LONG_TO_DATE_MIDNIGHT = new LongToDateMidnight();
+	private final static LongArrayToArrayOfDateMidnight LONG_ARRAY_TO_ARRAY_OF_DATE_MIDNIGHT = new LongArrayToArrayOfDateMidnight();
 	private final static IntegerFieldCollectionToDateMidnight INTEGER_FIELD_COLLECTION_TO_DATE_MIDNIGHT = new IntegerFieldCollectionToDateMidnight();
 	private final static IntegerFieldArrayToDateMidnight INTEGER_FIELD_ARRAY_TO_DATE_MIDNIGHT = new IntegerFieldArrayToDateMidnight();
 	private final static StringFieldCollectionToDateMidnight STRING_FIELD_COLLECTION_TO_DATE_MIDNIGHT = new StringFieldCollectionToDateMidnight();
@@ -186,6 +185,318 @@ public final class FnDateMidnight {
 	}
 	
 	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link DateMidnight} (nulls are
+	 * kept as nulls) using the given pattern parameter.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @return the array of {@link DateMidnight} created from the input and arguments 
+	 */
+	public static final Function<String[], DateMidnight[]> strArrayToArrayOfDateMidnight(String pattern) {
+		return new StringArrayToArrayOfDateMidnight(new StringToDateMidnight(pattern));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link DateMidnight} (nulls are
+	 * kept as nulls) using the given pattern parameter and with the given
+	 * {@link DateTimeZone}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used 
+	 * @return the array of {@link DateMidnight} created from the input and arguments 
+	 */
+	public static final Function<String[], DateMidnight[]> strArrayToArrayOfDateMidnight(String pattern, DateTimeZone dateTimeZone) {
+		return new StringArrayToArrayOfDateMidnight(new StringToDateMidnight(pattern, dateTimeZone));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link DateMidnight} (nulls are
+	 * kept as nulls) using the given pattern parameter and with the given
+	 * {@link Chronology}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of {@link DateMidnight} created from the input and arguments 
+	 */
+	public static final Function<String[], DateMidnight[]> strArrayToArrayOfDateMidnight(String pattern, Chronology chronology) {
+		return new StringArrayToArrayOfDateMidnight(new StringToDateMidnight(pattern, chronology));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link DateMidnight} (nulls are
+	 * kept as nulls) using the given pattern parameter and with the given
+	 * {@link Locale}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale {@link Locale} to be used 
+	 * @return the array of {@link DateMidnight} created from the input and arguments 
+	 */
+	public static final Function<String[], DateMidnight[]> strArrayToArrayOfDateMidnight(String pattern, Locale locale) {
+		return new StringArrayToArrayOfDateMidnight(new StringToDateMidnight(pattern, locale));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link DateMidnight} (nulls are
+	 * kept as nulls) using the given pattern parameter and with the given
+	 * locale.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale locale to be used 
+	 * @return the array of {@link DateMidnight} created from the input and arguments 
+	 */
+	public static final Function<String[], DateMidnight[]> strArrayToArrayOfDateMidnight(String pattern, String locale) {
+		return new StringArrayToArrayOfDateMidnight(new StringToDateMidnight(pattern, locale));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link DateMidnight} (nulls are
+	 * kept as nulls) using the given pattern parameter, {@link Locale} and
+	 * {@link DateTimeZone}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale {@link Locale} to be used 
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used 
+	 * @return the array of {@link DateMidnight} created from the input and arguments 
+	 */
+	public static final Function<String[], DateMidnight[]> strArrayToArrayOfDateMidnight(String pattern, Locale locale, DateTimeZone dateTimeZone) {
+		return new StringArrayToArrayOfDateMidnight(new StringToDateMidnight(pattern, locale, dateTimeZone));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link DateMidnight} (nulls are
+	 * kept as nulls) using the given pattern parameter, locale and
+	 * {@link DateTimeZone}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale locale to be used 
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used 
+	 * @return the array of {@link DateMidnight} created from the input and arguments 
+	 */
+	public static final Function<String[], DateMidnight[]> strArrayToArrayOfDateMidnight(String pattern, String locale, DateTimeZone dateTimeZone) {
+		return new StringArrayToArrayOfDateMidnight(new StringToDateMidnight(pattern, locale, dateTimeZone));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link DateMidnight} (nulls are
+	 * kept as nulls) using the given pattern parameter, {@link Locale} and
+	 * {@link Chronology}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale {@link Locale} to be used 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of {@link DateMidnight} created from the input and arguments 
+	 */
+	public static final Function<String[], DateMidnight[]> strArrayToArrayOfDateMidnight(String pattern, Locale locale, Chronology chronology) {
+		return new StringArrayToArrayOfDateMidnight(new StringToDateMidnight(pattern, locale, chronology));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link DateMidnight} (nulls are
+	 * kept as nulls) using the given pattern parameter, locale and
+	 * {@link Chronology}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale locale to be used 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of {@link DateMidnight} created from the input and arguments 
+	 */
+	public static final Function<String[], DateMidnight[]> strArrayToArrayOfDateMidnight(String pattern, String locale, Chronology chronology) {
+		return new StringArrayToArrayOfDateMidnight(new StringToDateMidnight(pattern, locale, chronology));
+	}
+	
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link DateMidnight} (nulls are
+	 * kept as nulls) using the given pattern parameter.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @return the array of {@link DateMidnight} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, DateMidnight[]> strCollectionToArrayOfDateMidnight(String pattern) {
+		return new StringCollectionToArrayOfDateMidnight(new StringToDateMidnight(pattern));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link DateMidnight} (nulls are
+	 * kept as nulls) using the given pattern parameter and with the given
+	 * {@link DateTimeZone}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used 
+	 * @return the array of {@link DateMidnight} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, DateMidnight[]> strCollectionToArrayOfDateMidnight(String pattern, DateTimeZone dateTimeZone) {
+		return new StringCollectionToArrayOfDateMidnight(new StringToDateMidnight(pattern, dateTimeZone));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link DateMidnight} (nulls are
+	 * kept as nulls) using the given pattern parameter and with the given
+	 * {@link Chronology}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of {@link DateMidnight} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, DateMidnight[]> strCollectionToArrayOfDateMidnight(String pattern, Chronology chronology) {
+		return new StringCollectionToArrayOfDateMidnight(new StringToDateMidnight(pattern, chronology));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link DateMidnight} (nulls are
+	 * kept as nulls) using the given pattern parameter and with the given
+	 * {@link Locale}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale {@link Locale} to be used 
+	 * @return the array of {@link DateMidnight} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, DateMidnight[]> strCollectionToArrayOfDateMidnight(String pattern, Locale locale) {
+		return new StringCollectionToArrayOfDateMidnight(new StringToDateMidnight(pattern, locale));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link DateMidnight} (nulls are
+	 * kept as nulls) using the given pattern parameter and with the given
+	 * locale.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale locale to be used 
+	 * @return the array of {@link DateMidnight} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, DateMidnight[]> strCollectionToArrayOfDateMidnight(String pattern, String locale) {
+		return new StringCollectionToArrayOfDateMidnight(new StringToDateMidnight(pattern, locale));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link DateMidnight} (nulls are
+	 * kept as nulls) using the given pattern parameter, {@link Locale} and
+	 * {@link DateTimeZone}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale {@link Locale} to be used 
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used 
+	 * @return the array of {@link DateMidnight} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, DateMidnight[]> strCollectionToArrayOfDateMidnight(String pattern, Locale locale, DateTimeZone dateTimeZone) {
+		return new StringCollectionToArrayOfDateMidnight(new StringToDateMidnight(pattern, locale, dateTimeZone));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link DateMidnight} (nulls are
+	 * kept as nulls) using the given pattern parameter, locale and
+	 * {@link DateTimeZone}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale locale to be used 
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used 
+	 * @return the array of {@link DateMidnight} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, DateMidnight[]> strCollectionToArrayOfDateMidnight(String pattern, String locale, DateTimeZone dateTimeZone) {
+		return new StringCollectionToArrayOfDateMidnight(new StringToDateMidnight(pattern, locale, dateTimeZone));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link DateMidnight} (nulls are
+	 * kept as nulls) using the given pattern parameter, {@link Locale} and
+	 * {@link Chronology}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale {@link Locale} to be used 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of {@link DateMidnight} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, DateMidnight[]> strCollectionToArrayOfDateMidnight(String pattern, Locale locale, Chronology chronology) {
+		return new StringCollectionToArrayOfDateMidnight(new StringToDateMidnight(pattern, locale, chronology));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link DateMidnight} (nulls are
+	 * kept as nulls) using the given pattern parameter, locale and
+	 * {@link Chronology}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale locale to be used 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of {@link DateMidnight} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, DateMidnight[]> strCollectionToArrayOfDateMidnight(String pattern, String locale, Chronology chronology) {
+		return new StringCollectionToArrayOfDateMidnight(new StringToDateMidnight(pattern, locale, chronology));
+	}
+	
+	
 	
 	
 	/**
@@ -300,6 +611,44 @@ public final class FnDateMidnight {
 	}
 	
 	
+	// Conversion from long[]
+	/**
+	 * <p>
+	 * Every element of the input long[] representing a time in milliseconds is converted into a 
+	 * {@link DateMidnight}. The values are never boxed.
+	 * </p>
+	 * 
+	 * @return the array of {@link DateMidnight} created from the input 
+	 */
+	public static final Function<long[], DateMidnight[]> longArrayToArrayOfDateMidnight() {
+		return LONG_ARRAY_TO_ARRAY_OF_DATE_MIDNIGHT;
+	}
+	/**
+	 * <p>
+	 * Every element of the input long[] representing a time in milliseconds is converted into a 
+	 * {@link DateMidnight} in the given {@link DateTimeZone}. The values are never boxed.
+	 * </p>
+	 * 
+	 * @param dateTimeZone the the time zone ({@link DateTimeZone}) to be used 
+	 * @return the array of {@link DateMidnight} created from the input and arguments 
+	 */
+	public static final Function<long[], DateMidnight[]> longArrayToArrayOfDateMidnight(DateTimeZone dateTimeZone) {
+		return new LongArrayToArrayOfDateMidnight(dateTimeZone);
+	}
+	/**
+	 * <p>
+	 * Every element of the input long[] representing a time in milliseconds is converted into a 
+	 * {@link DateMidnight} with the given {@link Chronology}. The values are never boxed.
+	 * </p>
+	 * 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of {@link DateMidnight} created from the input and arguments 
+	 */
+	public static final Function<long[], DateMidnight[]> longArrayToArrayOfDateMidnight(Chronology chronology) {
+		return new LongArrayToArrayOfDateMidnight(chronology);
+	}
+	
+	
 	
 	/**
 	 * <p>
@@ -517,11 +866,16 @@ public final class FnDateMidnight {
 
 		final DateTimeZone dateTimeZone;
 		final Chronology chronology;
+		// Used for converting instants, null if the default time zone has to be used or
+		// the chronology is not an ISO one
+		private final DayStartCache dayStartCache;
+		private volatile DayStartCache defaultZoneDayStartCache;
 		
 		public BaseToDateMidnight() {
 			super();	
 			this.dateTimeZone = null;
 			this.chronology = null;
+			this.dayStartCache = null;
 		}
 
 		public BaseToDateMidnight(DateTimeZone dateTimeZone) {
@@ -531,6 +885,7 @@ public final class FnDateMidnight {
 			
 			this.dateTimeZone = dateTimeZone;
 			this.chronology = null;
+			this.dayStartCache = DayStartCache.forChronology(ISOChronology.getInstance(dateTimeZone));
 		}
 
 		public BaseToDateMidnight(Chronology chronology) {
@@ -540,13 +895,59 @@ public final class FnDateMidnight {
 						
 			this.dateTimeZone = null;
 			this.chronology = chronology;
+			this.dayStartCache = DayStartCache.forChronology(chronology);
+		}
+		
+		/*
+		 * Equivalent to new DateMidnight(instant, dateTimeZone), new DateMidnight(instant, chronology) 
+		 * or new DateMidnight(instant), but returning the same object for every instant in the 
+		 * same day whenever the chronology is an ISO one.
+		 */
+		DateMidnight fromInstant(long instant) {
+			if (this.dayStartCache != null) {
+				return this.dayStartCache.get(instant);
+			}
+			if (this.chronology != null) {
+				return new DateMidnight(instant, this.chronology);
+			}
+			// The default time zone can change between calls
+			final Chronology defaultChronology = ISOChronology.getInstance();
+			DayStartCache cache = this.defaultZoneDayStartCache;
+			if (cache == null || cache.getChronology() != defaultChronology) {
+				cache = DayStartCache.forChronology(defaultChronology);
+				this.defaultZoneDayStartCache = cache;
+			}
+			return cache.get(instant);
+		}
+		
+		/*
+		 * Same as new DateMidnight(year, monthOfYear, dayOfMonth, chronology), with the
+		 * instant computed by FieldMillis.
+		 */
+		DateMidnight fromFields(final int year, final int monthOfYear, final int dayOfMonth) {
+			final Chronology fieldChronology = 
+				(this.chronology != null ? this.chronology : ISOChronology.getInstance());
+			return new DateMidnight(FieldMillis.getDateTimeMillis(fieldChronology, year, monthOfYear, dayOfMonth, 0, 0, 0, 0), fieldChronology);
+		}
+	}
+	
+	/*
+	 * Obtains the parser used by StringToDateMidnight from the shared DateTimeFormatterCache. It is
+	 * resolved only once, when the function is created, so that invalid patterns are
+	 * reported immediately and no formatter has to be assembled for each converted String.
+	 */
+	private static MillisParser createParser(final String pattern, final Locale locale, 
+			final DateTimeZone dateTimeZone, final Chronology chronology) {
+		if (locale == null) {
+			Validate.isTrue(!(StringUtils.contains(pattern, "MMM") || StringUtils.contains(pattern, "EEE")), 
+					"The use of MMM, MMMM, EEE or EEEE as part of the date pattern requires a Locale");
 		}
+		return new MillisParser(pattern, DateTimeFormatterCache.forPattern(pattern, locale, dateTimeZone, chronology));
 	}
 	
 	static final class StringToDateMidnight extends BaseToDateMidnight<String> {
 
-		private final String pattern;
-		private final Locale locale;
+		private final MillisParser parser;
 		
 		
 		public StringToDateMidnight(String pattern) {
@@ -554,8 +955,7 @@ public final class FnDateMidnight {
 			
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			
-			this.pattern = pattern;
-			this.locale = null;
+			this.parser = createParser(pattern, null, this.dateTimeZone, this.chronology);
 		}
 
 		public StringToDateMidnight(String pattern, DateTimeZone dateTimeZone) {
@@ -563,8 +963,7 @@ public final class FnDateMidnight {
 			
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			
-			this.pattern = pattern;
-			this.locale = null;
+			this.parser = createParser(pattern, null, this.dateTimeZone, this.chronology);
 		}
 
 		public StringToDateMidnight(String pattern, Chronology chronology) {
@@ -572,8 +971,7 @@ public final class FnDateMidnight {
 			
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 						
-			this.pattern = pattern;
-			this.locale = null;
+			this.parser = createParser(pattern, null, this.dateTimeZone, this.chronology);
 		}
 
 		public StringToDateMidnight(String pattern, Locale locale) {
@@ -582,8 +980,7 @@ public final class FnDateMidnight {
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			Validate.notNull(locale, "locale can't be null");
 			
-			this.pattern = pattern;
-			this.locale = locale;
+			this.parser = createParser(pattern, locale, this.dateTimeZone, this.chronology);
 		}
 		
 		public StringToDateMidnight(String pattern, String locale) {
@@ -592,8 +989,7 @@ public final class FnDateMidnight {
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			Validate.notEmpty(locale, "locale can't be neither empty nor null");
 			
-			this.pattern = pattern;
-			this.locale = LocaleUtils.toLocale(locale);
+			this.parser = createParser(pattern, ResolutionCache.toLocale(locale), this.dateTimeZone, this.chronology);
 		}
 		
 		public StringToDateMidnight(String pattern, Locale locale, DateTimeZone dateTimeZone) {
@@ -602,8 +998,7 @@ public final class FnDateMidnight {
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			Validate.notNull(locale, "locale can't be null");
 			
-			this.pattern = pattern;
-			this.locale = locale;
+			this.parser = createParser(pattern, locale, this.dateTimeZone, this.chronology);
 		}
 		
 		public StringToDateMidnight(String pattern, String locale, DateTimeZone dateTimeZone) {
@@ -612,8 +1007,7 @@ public final class FnDateMidnight {
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			Validate.notEmpty(locale, "locale can't be neither empty nor null");
 			
-			this.pattern = pattern;
-			this.locale = LocaleUtils.toLocale(locale);
+			this.parser = createParser(pattern, ResolutionCache.toLocale(locale), this.dateTimeZone, this.chronology);
 		}
 		
 		public StringToDateMidnight(String pattern, Locale locale, Chronology chronology) {
@@ -622,8 +1016,7 @@ public final class FnDateMidnight {
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			Validate.notNull(locale, "locale can't be null");
 			
-			this.pattern = pattern;
-			this.locale = locale;
+			this.parser = createParser(pattern, locale, this.dateTimeZone, this.chronology);
 		}
 
 		public StringToDateMidnight(String pattern, String locale, Chronology chronology) {
@@ -632,8 +1025,7 @@ public final class FnDateMidnight {
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			Validate.notEmpty(locale, "locale can't be neither empty nor null");
 			
-			this.pattern = pattern;
-			this.locale = LocaleUtils.toLocale(locale);
+			this.parser = createParser(pattern, ResolutionCache.toLocale(locale), this.dateTimeZone, this.chronology);
 		}
 		
 		/* (non-Javadoc)
@@ -641,31 +1033,74 @@ public final class FnDateMidnight {
 		 */
 		@Override
 		public DateMidnight nullAsNullExecute(String object, ExecCtx ctx) throws Exception {
-			DateTimeFormatter dateTimeFormatter = null;
-		    if (this.locale == null) {
-		        if (StringUtils.contains(this.pattern, "MMM") || StringUtils.contains(this.pattern, "EEE")) {
-		        	throw new ExecutionException(
-							"The use of MMM, MMMM, EEE or EEEE as part of the date pattern requires a Locale");
-	            }
-		        dateTimeFormatter = DateTimeFormat.forPattern(this.pattern);        
-		    } else {    
-		        dateTimeFormatter = DateTimeFormat.forPattern(this.pattern).withLocale(this.locale);
-		    }
-		    
-		    DateMidnight result = new DateMidnight();
-		    if (this.dateTimeZone != null) {	    	
-		    	dateTimeFormatter = dateTimeFormatter.withZone(this.dateTimeZone);
-		    }
-		    if (this.chronology != null) {
-		    	dateTimeFormatter = dateTimeFormatter.withChronology(this.chronology);
-		    }
-			result = dateTimeFormatter.parseDateTime(object).toDateMidnight();
-			
-			return result;		
+			return new DateMidnight(this.parser.parseMillis(object), this.parser.getChronology());
 		}
 		
 	}	
 	
+	/*
+	 * Bulk versions of StringToDateMidnight: the parser and the chronology are resolved once
+	 * for the whole column instead of once per element.
+	 */
+	static final class StringArrayToArrayOfDateMidnight extends AbstractNullAsNullFunction<String[], DateMidnight[]> {
+
+		private final MillisParser parser;
+		
+		
+		public StringArrayToArrayOfDateMidnight(StringToDateMidnight stringToDateMidnight) {
+			super();
+			this.parser = stringToDateMidnight.parser;
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.op4j.functions.AbstractNullAsNullFunction#nullAsNullExecute(java.lang.Object, org.op4j.functions.ExecCtx)
+		 */
+		@Override
+		public DateMidnight[] nullAsNullExecute(String[] object, ExecCtx ctx) throws Exception {
+			final MillisParser parser = this.parser;
+			final Chronology chronology = parser.getChronology();
+			final DateMidnight[] result = new DateMidnight[object.length];
+			for (int i = 0; i < object.length; i++) {
+				final String element = object[i];
+				if (element != null) {
+					result[i] = new DateMidnight(parser.parseMillis(element, chronology), chronology);
+				}
+			}
+			return result;
+		}
+		
+	}
+	
+	static final class StringCollectionToArrayOfDateMidnight extends AbstractNullAsNullFunction<Collection<String>, DateMidnight[]> {
+
+		private final MillisParser parser;
+		
+		
+		public StringCollectionToArrayOfDateMidnight(StringToDateMidnight stringToDateMidnight) {
+			super();
+			this.parser = stringToDateMidnight.parser;
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.op4j.functions.AbstractNullAsNullFunction#nullAsNullExecute(java.lang.Object, org.op4j.functions.ExecCtx)
+		 */
+		@Override
+		public DateMidnight[] nullAsNullExecute(Collection<String> object, ExecCtx ctx) throws Exception {
+			final MillisParser parser = this.parser;
+			final Chronology chronology = parser.getChronology();
+			final DateMidnight[] result = new DateMidnight[object.size()];
+			int i = 0;
+			for (final String element : object) {
+				if (element != null) {
+					result[i] = new DateMidnight(parser.parseMillis(element, chronology), chronology);
+				}
+				i++;
+			}
+			return result;
+		}
+		
+	}
+	
 	static final class DateToDateMidnight<T extends Date> extends BaseToDateMidnight<T> {
 
 		public DateToDateMidnight() {
@@ -685,14 +1120,7 @@ public final class FnDateMidnight {
 		 */
 		@Override
 		public DateMidnight nullAsNullExecute(T object, ExecCtx ctx) throws Exception {
-			if (this.dateTimeZone != null) {
-				return new DateMidnight(object.getTime(), this.dateTimeZone);
-			}
-			if (this.chronology != null) {
-				return new DateMidnight(object.getTime(), this.chronology);
-			}
-			
-			return new DateMidnight(object.getTime());
+			return fromInstant(object.getTime());
 		}
 		
 		
@@ -717,14 +1145,7 @@ public final class FnDateMidnight {
 		 */
 		@Override
 		public DateMidnight nullAsNullExecute(Timestamp object, ExecCtx ctx) throws Exception {
-			if (this.dateTimeZone != null) {
-				return new DateMidnight(object.getTime(), this.dateTimeZone);
-			}
-			if (this.chronology != null) {
-				return new DateMidnight(object.getTime(), this.chronology);
-			}
-			
-			return new DateMidnight(object.getTime());
+			return fromInstant(object.getTime());
 		}
 	}	
 	
@@ -747,14 +1168,66 @@ public final class FnDateMidnight {
 		 */
 		@Override
 		public DateMidnight nullAsNullExecute(Long object, ExecCtx ctx) throws Exception {
+			return fromInstant(object.longValue());
+		}
+	}	
+	
+	static final class LongArrayToArrayOfDateMidnight extends AbstractNullAsNullFunction<long[], DateMidnight[]> {
+
+		private final DateTimeZone dateTimeZone;
+		private final Chronology chronology;
+		
+		public LongArrayToArrayOfDateMidnight() {
+			super();
+			this.dateTimeZone = null;
+			this.chronology = null;
+		}
+
+		public LongArrayToArrayOfDateMidnight(DateTimeZone dateTimeZone) {
+			super();
+			
+			Validate.notNull(dateTimeZone, "dateTimeZone can't be null");
+			
+			this.dateTimeZone = dateTimeZone;
+			this.chronology = null;
+		}
+
+		public LongArrayToArrayOfDateMidnight(Chronology chronology) {
+			super();
+			
+			Validate.notNull(chronology, "chronology can't be null");
+			
+			this.dateTimeZone = null;
+			this.chronology = chronology;
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.op4j.functions.AbstractNullAsNullFunction#nullAsNullExecute(java.lang.Object, org.op4j.functions.ExecCtx)
+		 */
+		@Override
+		public DateMidnight[] nullAsNullExecute(long[] object, ExecCtx ctx) throws Exception {
+			// Resolved once per call, as the default time zone can change between calls
+			final Chronology chronology;
 			if (this.dateTimeZone != null) {
-				return new DateMidnight(object.longValue(), this.dateTimeZone);
-			}
-			if (this.chronology != null) {
-				return new DateMidnight(object.longValue(), this.chronology);
+				chronology = ISOChronology.getInstance(this.dateTimeZone);
+			} else if (this.chronology != null) {
+				chronology = this.chronology;
+			} else {
+				chronology = ISOChronology.getInstance();
 			}
 			
-			return new DateMidnight(object.longValue());
+			final DateMidnight[] result = new DateMidnight[object.length];
+			final DayStartCache dayStartCache = DayStartCache.forChronology(chronology);
+			if (dayStartCache != null) {
+				for (int i = 0; i < object.length; i++) {
+					result[i] = dayStartCache.get(object[i]);
+				}
+			} else {
+				for (int i = 0; i < object.length; i++) {
+					result[i] = new DateMidnight(object[i], chronology);
+				}
+			}
+			return result;
 		}
 	}	
 	
@@ -785,10 +1258,7 @@ public final class FnDateMidnight {
 			int month = (object.size() >= 2) ? iterator.next().intValue() : 1;
 			int day = (object.size() >= 3) ? iterator.next().intValue() : 1;
 			
-			if (this.chronology != null) {
-	        	return new DateMidnight(year, month, day, this.chronology);
-	        }
-			return new DateMidnight(year, month, day);
+			return fromFields(year, month, day);
 		}
 	}	
 	
@@ -817,10 +1287,7 @@ public final class FnDateMidnight {
 			int month = (object.length >= 2) ? object[1].intValue() : 0;
 			int day = (object.length >= 3) ? object[2].intValue() : 0;
 			
-			if (this.chronology != null) {
-	        	return new DateMidnight(year, month, day, this.chronology);
-	        }
-			return new DateMidnight(year, month, day);
+			return fromFields(year, month, day);
 		}
 		
 	}	
@@ -850,15 +1317,11 @@ public final class FnDateMidnight {
 			
 			Iterator<String> iterator = object.iterator();
 			
-			String year = iterator.next();
-			String month = (object.size() >= 2) ? iterator.next() : "0";
-			String day = (object.size() >= 3) ? iterator.next() : "0";
+			int year = FieldDecoder.parseInt(iterator.next());
+			int month = (object.size() >= 2) ? FieldDecoder.parseInt(iterator.next()) : 0;
+			int day = (object.size() >= 3) ? FieldDecoder.parseInt(iterator.next()) : 0;
 			
-			if (this.chronology != null) {
-	        	return new DateMidnight(Integer.parseInt(year),Integer.parseInt(month), Integer.parseInt(day),
-	        			this.chronology);
-	        }
-			return new DateMidnight(Integer.parseInt(year), Integer.parseInt(month), Integer.parseInt(day));
+			return fromFields(year, month, day);
 		}
 		
 		
@@ -885,15 +1348,11 @@ public final class FnDateMidnight {
 						"between 1 and 3 (year, month, day). Size " + object.length + " is not valid.");
 			}			
 			
-			String year = object[0];
-			String month = (object.length >= 2) ? object[1] : "0";
-			String day = (object.length >= 3) ? object[2] : "0";
+			int year = FieldDecoder.parseInt(object[0]);
+			int month = (object.length >= 2) ? FieldDecoder.parseInt(object[1]) : 0;
+			int day = (object.length >= 3) ? FieldDecoder.parseInt(object[2]) : 0;
 			
-			if (this.chronology != null) {
-	        	return new DateMidnight(Integer.parseInt(year),Integer.parseInt(month), Integer.parseInt(day),
-	        			this.chronology);
-	        }
-			return new DateMidnight(Integer.parseInt(year),Integer.parseInt(month), Integer.parseInt(day));
+			return fromFields(year, month, day);
 		}
 	}	
 	
@@ -916,13 +1375,14 @@ public final class FnDateMidnight {
 		 */
 		@Override
 		public DateMidnight nullAsNullExecute(T object, ExecCtx ctx) throws Exception {
-			if (this.dateTimeZone != null) {
-				return new DateMidnight(object, this.dateTimeZone);
-			}
+			// Same millis and chronology Joda-Time's CalendarConverter would obtain, without
+			// looking the converter up and resolving the time zone through ResolutionCache
 			if (this.chronology != null) {
-				return new DateMidnight(object, this.chronology);
+				return fromInstant(object.getTimeInMillis());
 			}
-			return new DateMidnight(object);
+			final Chronology calendarChronology = (this.dateTimeZone != null ? 
+					ResolutionCache.toChronology(object, this.dateTimeZone) : ResolutionCache.toChronology(object));
+			return new DateMidnight(object.getTimeInMillis(), calendarChronology);
 		}
 	}	
 }
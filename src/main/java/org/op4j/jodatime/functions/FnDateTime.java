@@ -27,14 +27,12 @@ import java.util.Date;
 import java.util.Iterator;
 import java.util.Locale;
 
-import org.apache.commons.lang.LocaleUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.lang.Validate;
 import org.joda.time.Chronology;
 import org.joda.time.DateTime;
 import org.joda.time.DateTimeZone;
-import org.joda.time.format.DateTimeFormat;
-import org.joda.time.format.DateTimeFormatter;
+import org.joda.time.chrono.ISOChronology;
 import org.op4j.exceptions.ExecutionException;
 import org.op4j.functions.AbstractNullAsNullFunction;
 import org.op4j.functions.ExecCtx;
@@ -51,8 +49,10 @@ public final class FnDateTime {
 	
 	private final static TimestampToDateTime TIMESTAMP_TO_DATE_TIME = new TimestampToDateTime();
 	private final static LongToDateTime LONG_TO_DATE_TIME = new LongToDateTime();
+	private final static LongArrayToArrayOfDateTime LONG_ARRAY_TO_ARRAY_OF_DATE_TIME = new LongArrayToArrayOfDateTime();
 	private final static IntegerFieldCollectionToDateTime INTEGER_FIELD_COLLECTION_TO_DATE_TIME = new IntegerFieldCollectionToDateTime();
 	private final static IntegerFieldArrayToDateTime INTEGER_FIELD_ARRAY_TO_DATE_TIME = new IntegerFieldArrayToDateTime();
+	private final static IntFieldArrayToDateTime INT_FIELD_ARRAY_TO_DATE_TIME = new IntFieldArrayToDateTime();
 	private final static StringFieldCollectionToDateTime STRING_FIELD_COLLECTION_TO_DATE_TIME = new StringFieldCollectionToDateTime();
 	private final static StringFieldArrayToDateTime STRING_FIELD_ARRAY_TO_DATE_TIME = new StringFieldArrayToDateTime();
 	
@@ -185,6 +185,648 @@ public final class FnDateTime {
 	public static final Function<String, DateTime> strToDateTime(String pattern, String locale, Chronology chronology) {
 		return new StringToDateTime(pattern, locale, chronology);
 	}
+	
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link DateTime} (nulls are
+	 * kept as nulls) using the given pattern parameter.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @return the array of {@link DateTime} created from the input and arguments 
+	 */
+	public static final Function<String[], DateTime[]> strArrayToArrayOfDateTime(String pattern) {
+		return new StringArrayToArrayOfDateTime(new StringToDateTime(pattern));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link DateTime} (nulls are
+	 * kept as nulls) using the given pattern parameter and with the given
+	 * {@link DateTimeZone}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used 
+	 * @return the array of {@link DateTime} created from the input and arguments 
+	 */
+	public static final Function<String[], DateTime[]> strArrayToArrayOfDateTime(String pattern, DateTimeZone dateTimeZone) {
+		return new StringArrayToArrayOfDateTime(new StringToDateTime(pattern, dateTimeZone));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link DateTime} (nulls are
+	 * kept as nulls) using the given pattern parameter and with the given
+	 * {@link Chronology}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of {@link DateTime} created from the input and arguments 
+	 */
+	public static final Function<String[], DateTime[]> strArrayToArrayOfDateTime(String pattern, Chronology chronology) {
+		return new StringArrayToArrayOfDateTime(new StringToDateTime(pattern, chronology));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link DateTime} (nulls are
+	 * kept as nulls) using the given pattern parameter and with the given
+	 * {@link Locale}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale {@link Locale} to be used 
+	 * @return the array of {@link DateTime} created from the input and arguments 
+	 */
+	public static final Function<String[], DateTime[]> strArrayToArrayOfDateTime(String pattern, Locale locale) {
+		return new StringArrayToArrayOfDateTime(new StringToDateTime(pattern, locale));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link DateTime} (nulls are
+	 * kept as nulls) using the given pattern parameter and with the given
+	 * locale.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale locale to be used 
+	 * @return the array of {@link DateTime} created from the input and arguments 
+	 */
+	public static final Function<String[], DateTime[]> strArrayToArrayOfDateTime(String pattern, String locale) {
+		return new StringArrayToArrayOfDateTime(new StringToDateTime(pattern, locale));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link DateTime} (nulls are
+	 * kept as nulls) using the given pattern parameter, {@link Locale} and
+	 * {@link DateTimeZone}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale {@link Locale} to be used 
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used 
+	 * @return the array of {@link DateTime} created from the input and arguments 
+	 */
+	public static final Function<String[], DateTime[]> strArrayToArrayOfDateTime(String pattern, Locale locale, DateTimeZone dateTimeZone) {
+		return new StringArrayToArrayOfDateTime(new StringToDateTime(pattern, locale, dateTimeZone));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link DateTime} (nulls are
+	 * kept as nulls) using the given pattern parameter, locale and
+	 * {@link DateTimeZone}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale locale to be used 
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used 
+	 * @return the array of {@link DateTime} created from the input and arguments 
+	 */
+	public static final Function<String[], DateTime[]> strArrayToArrayOfDateTime(String pattern, String locale, DateTimeZone dateTimeZone) {
+		return new StringArrayToArrayOfDateTime(new StringToDateTime(pattern, locale, dateTimeZone));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link DateTime} (nulls are
+	 * kept as nulls) using the given pattern parameter, {@link Locale} and
+	 * {@link Chronology}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale {@link Locale} to be used 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of {@link DateTime} created from the input and arguments 
+	 */
+	public static final Function<String[], DateTime[]> strArrayToArrayOfDateTime(String pattern, Locale locale, Chronology chronology) {
+		return new StringArrayToArrayOfDateTime(new StringToDateTime(pattern, locale, chronology));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link DateTime} (nulls are
+	 * kept as nulls) using the given pattern parameter, locale and
+	 * {@link Chronology}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale locale to be used 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of {@link DateTime} created from the input and arguments 
+	 */
+	public static final Function<String[], DateTime[]> strArrayToArrayOfDateTime(String pattern, String locale, Chronology chronology) {
+		return new StringArrayToArrayOfDateTime(new StringToDateTime(pattern, locale, chronology));
+	}
+	
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link DateTime} (nulls are
+	 * kept as nulls) using the given pattern parameter.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @return the array of {@link DateTime} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, DateTime[]> strCollectionToArrayOfDateTime(String pattern) {
+		return new StringCollectionToArrayOfDateTime(new StringToDateTime(pattern));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link DateTime} (nulls are
+	 * kept as nulls) using the given pattern parameter and with the given
+	 * {@link DateTimeZone}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used 
+	 * @return the array of {@link DateTime} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, DateTime[]> strCollectionToArrayOfDateTime(String pattern, DateTimeZone dateTimeZone) {
+		return new StringCollectionToArrayOfDateTime(new StringToDateTime(pattern, dateTimeZone));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link DateTime} (nulls are
+	 * kept as nulls) using the given pattern parameter and with the given
+	 * {@link Chronology}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of {@link DateTime} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, DateTime[]> strCollectionToArrayOfDateTime(String pattern, Chronology chronology) {
+		return new StringCollectionToArrayOfDateTime(new StringToDateTime(pattern, chronology));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link DateTime} (nulls are
+	 * kept as nulls) using the given pattern parameter and with the given
+	 * {@link Locale}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale {@link Locale} to be used 
+	 * @return the array of {@link DateTime} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, DateTime[]> strCollectionToArrayOfDateTime(String pattern, Locale locale) {
+		return new StringCollectionToArrayOfDateTime(new StringToDateTime(pattern, locale));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link DateTime} (nulls are
+	 * kept as nulls) using the given pattern parameter and with the given
+	 * locale.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale locale to be used 
+	 * @return the array of {@link DateTime} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, DateTime[]> strCollectionToArrayOfDateTime(String pattern, String locale) {
+		return new StringCollectionToArrayOfDateTime(new StringToDateTime(pattern, locale));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link DateTime} (nulls are
+	 * kept as nulls) using the given pattern parameter, {@link Locale} and
+	 * {@link DateTimeZone}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale {@link Locale} to be used 
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used 
+	 * @return the array of {@link DateTime} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, DateTime[]> strCollectionToArrayOfDateTime(String pattern, Locale locale, DateTimeZone dateTimeZone) {
+		return new StringCollectionToArrayOfDateTime(new StringToDateTime(pattern, locale, dateTimeZone));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link DateTime} (nulls are
+	 * kept as nulls) using the given pattern parameter, locale and
+	 * {@link DateTimeZone}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale locale to be used 
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used 
+	 * @return the array of {@link DateTime} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, DateTime[]> strCollectionToArrayOfDateTime(String pattern, String locale, DateTimeZone dateTimeZone) {
+		return new StringCollectionToArrayOfDateTime(new StringToDateTime(pattern, locale, dateTimeZone));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link DateTime} (nulls are
+	 * kept as nulls) using the given pattern parameter, {@link Locale} and
+	 * {@link Chronology}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale {@link Locale} to be used 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of {@link DateTime} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, DateTime[]> strCollectionToArrayOfDateTime(String pattern, Locale locale, Chronology chronology) {
+		return new StringCollectionToArrayOfDateTime(new StringToDateTime(pattern, locale, chronology));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link DateTime} (nulls are
+	 * kept as nulls) using the given pattern parameter, locale and
+	 * {@link Chronology}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale locale to be used 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of {@link DateTime} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, DateTime[]> strCollectionToArrayOfDateTime(String pattern, String locale, Chronology chronology) {
+		return new StringCollectionToArrayOfDateTime(new StringToDateTime(pattern, locale, chronology));
+	}
+	
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into the milliseconds of the instant it
+	 * represents, as {@link #strToDateTime(String)} would, without creating any {@link DateTime}.
+	 * Null elements are not allowed. It parses using the given pattern parameter.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @return the array of milliseconds created from the input and arguments 
+	 */
+	public static final Function<String[], long[]> strArrayToMillisArray(String pattern) {
+		return new StringArrayToMillisArray(new StringToDateTime(pattern));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into the milliseconds of the instant it
+	 * represents, as {@link #strToDateTime(String)} would, without creating any {@link DateTime}.
+	 * Null elements are not allowed. It parses using the given pattern parameter and with the given
+	 * {@link DateTimeZone}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used 
+	 * @return the array of milliseconds created from the input and arguments 
+	 */
+	public static final Function<String[], long[]> strArrayToMillisArray(String pattern, DateTimeZone dateTimeZone) {
+		return new StringArrayToMillisArray(new StringToDateTime(pattern, dateTimeZone));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into the milliseconds of the instant it
+	 * represents, as {@link #strToDateTime(String)} would, without creating any {@link DateTime}.
+	 * Null elements are not allowed. It parses using the given pattern parameter and with the given
+	 * {@link Chronology}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of milliseconds created from the input and arguments 
+	 */
+	public static final Function<String[], long[]> strArrayToMillisArray(String pattern, Chronology chronology) {
+		return new StringArrayToMillisArray(new StringToDateTime(pattern, chronology));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into the milliseconds of the instant it
+	 * represents, as {@link #strToDateTime(String)} would, without creating any {@link DateTime}.
+	 * Null elements are not allowed. It parses using the given pattern parameter and with the given
+	 * {@link Locale}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale {@link Locale} to be used 
+	 * @return the array of milliseconds created from the input and arguments 
+	 */
+	public static final Function<String[], long[]> strArrayToMillisArray(String pattern, Locale locale) {
+		return new StringArrayToMillisArray(new StringToDateTime(pattern, locale));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into the milliseconds of the instant it
+	 * represents, as {@link #strToDateTime(String)} would, without creating any {@link DateTime}.
+	 * Null elements are not allowed. It parses using the given pattern parameter and with the given
+	 * locale.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale locale to be used 
+	 * @return the array of milliseconds created from the input and arguments 
+	 */
+	public static final Function<String[], long[]> strArrayToMillisArray(String pattern, String locale) {
+		return new StringArrayToMillisArray(new StringToDateTime(pattern, locale));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into the milliseconds of the instant it
+	 * represents, as {@link #strToDateTime(String)} would, without creating any {@link DateTime}.
+	 * Null elements are not allowed. It parses using the given pattern parameter, {@link Locale} and
+	 * {@link DateTimeZone}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale {@link Locale} to be used 
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used 
+	 * @return the array of milliseconds created from the input and arguments 
+	 */
+	public static final Function<String[], long[]> strArrayToMillisArray(String pattern, Locale locale, DateTimeZone dateTimeZone) {
+		return new StringArrayToMillisArray(new StringToDateTime(pattern, locale, dateTimeZone));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into the milliseconds of the instant it
+	 * represents, as {@link #strToDateTime(String)} would, without creating any {@link DateTime}.
+	 * Null elements are not allowed. It parses using the given pattern parameter, locale and
+	 * {@link DateTimeZone}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale locale to be used 
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used 
+	 * @return the array of milliseconds created from the input and arguments 
+	 */
+	public static final Function<String[], long[]> strArrayToMillisArray(String pattern, String locale, DateTimeZone dateTimeZone) {
+		return new StringArrayToMillisArray(new StringToDateTime(pattern, locale, dateTimeZone));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into the milliseconds of the instant it
+	 * represents, as {@link #strToDateTime(String)} would, without creating any {@link DateTime}.
+	 * Null elements are not allowed. It parses using the given pattern parameter, {@link Locale} and
+	 * {@link Chronology}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale {@link Locale} to be used 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of milliseconds created from the input and arguments 
+	 */
+	public static final Function<String[], long[]> strArrayToMillisArray(String pattern, Locale locale, Chronology chronology) {
+		return new StringArrayToMillisArray(new StringToDateTime(pattern, locale, chronology));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into the milliseconds of the instant it
+	 * represents, as {@link #strToDateTime(String)} would, without creating any {@link DateTime}.
+	 * Null elements are not allowed. It parses using the given pattern parameter, locale and
+	 * {@link Chronology}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale locale to be used 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of milliseconds created from the input and arguments 
+	 */
+	public static final Function<String[], long[]> strArrayToMillisArray(String pattern, String locale, Chronology chronology) {
+		return new StringArrayToMillisArray(new StringToDateTime(pattern, locale, chronology));
+	}
+	
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into the milliseconds of the instant it
+	 * represents, as {@link #strToDateTime(String)} would, without creating any {@link DateTime}.
+	 * Null elements are not allowed. It parses using the given pattern parameter.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @return the array of milliseconds created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, long[]> strCollectionToMillisArray(String pattern) {
+		return new StringCollectionToMillisArray(new StringToDateTime(pattern));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into the milliseconds of the instant it
+	 * represents, as {@link #strToDateTime(String)} would, without creating any {@link DateTime}.
+	 * Null elements are not allowed. It parses using the given pattern parameter and with the given
+	 * {@link DateTimeZone}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used 
+	 * @return the array of milliseconds created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, long[]> strCollectionToMillisArray(String pattern, DateTimeZone dateTimeZone) {
+		return new StringCollectionToMillisArray(new StringToDateTime(pattern, dateTimeZone));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into the milliseconds of the instant it
+	 * represents, as {@link #strToDateTime(String)} would, without creating any {@link DateTime}.
+	 * Null elements are not allowed. It parses using the given pattern parameter and with the given
+	 * {@link Chronology}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of milliseconds created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, long[]> strCollectionToMillisArray(String pattern, Chronology chronology) {
+		return new StringCollectionToMillisArray(new StringToDateTime(pattern, chronology));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into the milliseconds of the instant it
+	 * represents, as {@link #strToDateTime(String)} would, without creating any {@link DateTime}.
+	 * Null elements are not allowed. It parses using the given pattern parameter and with the given
+	 * {@link Locale}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale {@link Locale} to be used 
+	 * @return the array of milliseconds created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, long[]> strCollectionToMillisArray(String pattern, Locale locale) {
+		return new StringCollectionToMillisArray(new StringToDateTime(pattern, locale));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into the milliseconds of the instant it
+	 * represents, as {@link #strToDateTime(String)} would, without creating any {@link DateTime}.
+	 * Null elements are not allowed. It parses using the given pattern parameter and with the given
+	 * locale.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale locale to be used 
+	 * @return the array of milliseconds created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, long[]> strCollectionToMillisArray(String pattern, String locale) {
+		return new StringCollectionToMillisArray(new StringToDateTime(pattern, locale));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into the milliseconds of the instant it
+	 * represents, as {@link #strToDateTime(String)} would, without creating any {@link DateTime}.
+	 * Null elements are not allowed. It parses using the given pattern parameter, {@link Locale} and
+	 * {@link DateTimeZone}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale {@link Locale} to be used 
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used 
+	 * @return the array of milliseconds created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, long[]> strCollectionToMillisArray(String pattern, Locale locale, DateTimeZone dateTimeZone) {
+		return new StringCollectionToMillisArray(new StringToDateTime(pattern, locale, dateTimeZone));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into the milliseconds of the instant it
+	 * represents, as {@link #strToDateTime(String)} would, without creating any {@link DateTime}.
+	 * Null elements are not allowed. It parses using the given pattern parameter, locale and
+	 * {@link DateTimeZone}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale locale to be used 
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used 
+	 * @return the array of milliseconds created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, long[]> strCollectionToMillisArray(String pattern, String locale, DateTimeZone dateTimeZone) {
+		return new StringCollectionToMillisArray(new StringToDateTime(pattern, locale, dateTimeZone));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into the milliseconds of the instant it
+	 * represents, as {@link #strToDateTime(String)} would, without creating any {@link DateTime}.
+	 * Null elements are not allowed. It parses using the given pattern parameter, {@link Locale} and
+	 * {@link Chronology}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale {@link Locale} to be used 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of milliseconds created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, long[]> strCollectionToMillisArray(String pattern, Locale locale, Chronology chronology) {
+		return new StringCollectionToMillisArray(new StringToDateTime(pattern, locale, chronology));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into the milliseconds of the instant it
+	 * represents, as {@link #strToDateTime(String)} would, without creating any {@link DateTime}.
+	 * Null elements are not allowed. It parses using the given pattern parameter, locale and
+	 * {@link Chronology}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale locale to be used 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of milliseconds created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, long[]> strCollectionToMillisArray(String pattern, String locale, Chronology chronology) {
+		return new StringCollectionToMillisArray(new StringToDateTime(pattern, locale, chronology));
+	}
 	//
 	
 	
@@ -299,6 +941,44 @@ public final class FnDateTime {
 	public static final Function<Long, DateTime> longToDateTime(Chronology chronology) {
 		return new LongToDateTime(chronology);
 	}
+	
+	
+	// Conversion from long[]
+	/**
+	 * <p>
+	 * Every element of the input long[] representing a time in milliseconds is converted into a 
+	 * {@link DateTime}. The values are never boxed.
+	 * </p>
+	 * 
+	 * @return the array of {@link DateTime} created from the input 
+	 */
+	public static final Function<long[], DateTime[]> longArrayToArrayOfDateTime() {
+		return LONG_ARRAY_TO_ARRAY_OF_DATE_TIME;
+	}
+	/**
+	 * <p>
+	 * Every element of the input long[] representing a time in milliseconds is converted into a 
+	 * {@link DateTime} in the given {@link DateTimeZone}. The values are never boxed.
+	 * </p>
+	 * 
+	 * @param dateTimeZone the the time zone ({@link DateTimeZone}) to be used 
+	 * @return the array of {@link DateTime} created from the input and arguments 
+	 */
+	public static final Function<long[], DateTime[]> longArrayToArrayOfDateTime(DateTimeZone dateTimeZone) {
+		return new LongArrayToArrayOfDateTime(dateTimeZone);
+	}
+	/**
+	 * <p>
+	 * Every element of the input long[] representing a time in milliseconds is converted into a 
+	 * {@link DateTime} with the given {@link Chronology}. The values are never boxed.
+	 * </p>
+	 * 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of {@link DateTime} created from the input and arguments 
+	 */
+	public static final Function<long[], DateTime[]> longArrayToArrayOfDateTime(Chronology chronology) {
+		return new LongArrayToArrayOfDateTime(chronology);
+	}
 	//
 	
 	// Conversion from Integer list
@@ -339,52 +1019,270 @@ public final class FnDateTime {
 	 * @param chronology {@link Chronology} to be used 
 	 * @return the {@link DateTime} created from the input and arguments 
 	 */
-	public static final Function<Collection<Integer>, DateTime> integerFieldCollectionToDateTime(Chronology chronology) {
-		return new  IntegerFieldCollectionToDateTime(chronology);
+	public static final Function<Collection<Integer>, DateTime> integerFieldCollectionToDateTime(Chronology chronology) {
+		return new  IntegerFieldCollectionToDateTime(chronology);
+	}
+	//
+	
+	
+	// Conversion from Integer array
+	/**
+	 * <p>
+	 * A {@link DateTime} is created from the given {@link Integer} array.
+	 * </p>
+	 * 
+	 * <p>
+     * The valid input Integer[] are:
+     * </p>
+     * <ul>
+     * <li>year (month and day will be set to 1)</li>
+     * <li>year, month (day will be set to 1)</li>
+     * <li>year, month, day</li>
+     * </ul>
+     * 
+     * @return the {@link DateTime} created from the input 
+	 */
+	public static final Function<Integer[], DateTime> integerFieldArrayToDateTime() {
+		return INTEGER_FIELD_ARRAY_TO_DATE_TIME;
+	}
+	/**
+	 * <p>
+	 * A {@link DateTime} is created from the given {@link Integer} array.
+	 * The result will be created with the given {@link Chronology}
+	 * </p>
+	 * 
+	 * <p>
+     * The valid input Integer[] are:
+     * </p>
+     * <ul>
+     * <li>year (month and day will be set to 1)</li>
+     * <li>year, month (day will be set to 1)</li>
+     * <li>year, month, day</li>
+     * </ul>
+     * 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the {@link DateTime} created from the input and arguments 
+	 */
+	public static final Function<Integer[], DateTime> integerFieldArrayToDateTime(Chronology chronology) {
+		return new  IntegerFieldArrayToDateTime(chronology);
+	}
+	
+	
+	// Conversion from int array
+	/**
+	 * <p>
+	 * A {@link DateTime} is created from the given <tt>int</tt> array, without boxing its
+	 * components.
+	 * </p>
+	 * 
+	 * <p>
+	 * The valid input int[] are:
+	 * </p>
+	 * <ul>
+	 * <li>year, month, day, hour (minute, second and millisecond will be set to 0)</li>
+	 * <li>year, month, day, hour, minute (second and millisecond will be set to 0)</li>
+	 * <li>year, month, day, hour, minute, second (millisecond will be set to 0)</li>
+	 * <li>year, month, day, hour, minute, second, millisecond</li>
+	 * </ul>
+	 * 
+	 * @return the {@link DateTime} created from the input 
+	 */
+	public static final Function<int[], DateTime> intFieldArrayToDateTime() {
+		return INT_FIELD_ARRAY_TO_DATE_TIME;
+	}
+	/**
+	 * <p>
+	 * A {@link DateTime} is created from the given <tt>int</tt> array, without boxing its
+	 * components. The result will be created with the given {@link Chronology}
+	 * </p>
+	 * 
+	 * <p>
+	 * The valid input int[] are:
+	 * </p>
+	 * <ul>
+	 * <li>year, month, day, hour (minute, second and millisecond will be set to 0)</li>
+	 * <li>year, month, day, hour, minute (second and millisecond will be set to 0)</li>
+	 * <li>year, month, day, hour, minute, second (millisecond will be set to 0)</li>
+	 * <li>year, month, day, hour, minute, second, millisecond</li>
+	 * </ul>
+	 * 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the {@link DateTime} created from the input and arguments 
+	 */
+	public static final Function<int[], DateTime> intFieldArrayToDateTime(Chronology chronology) {
+		return new IntFieldArrayToDateTime(chronology);
+	}
+	
+	
+	// Conversion from Integer list, array or int array with a fixed layout
+	/**
+	 * <p>
+	 * A {@link DateTime} is created from the input {@link Integer} {@link Collection}, which 
+	 * contains the fields given by the {@link FieldLayout}.
+	 * </p>
+	 * 
+	 * <p>
+	 * The size of the input Collection&lt;Integer&gt; has to be the size of the layout, and the 
+	 * fields not included in it will be set to 0. As the layout is fixed when the function is 
+	 * created, the input is not checked against the other layouts.
+	 * </p>
+	 * 
+	 * @param layout the {@link FieldLayout} of the input
+	 * @return the {@link DateTime} created from the input and arguments 
+	 */
+	public static final Function<Collection<Integer>, DateTime> integerFieldCollectionToDateTime(FieldLayout layout) {
+		return new LayoutIntegerFieldCollectionToDateTime(layout);
+	}
+	/**
+	 * <p>
+	 * A {@link DateTime} is created from the input {@link Integer} {@link Collection}, which 
+	 * contains the fields given by the {@link FieldLayout}. The result will be created with 
+	 * the given {@link Chronology}
+	 * </p>
+	 * 
+	 * <p>
+	 * The size of the input Collection&lt;Integer&gt; has to be the size of the layout, and the 
+	 * fields not included in it will be set to 0.
+	 * </p>
+	 * 
+	 * @param layout the {@link FieldLayout} of the input
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the {@link DateTime} created from the input and arguments 
+	 */
+	public static final Function<Collection<Integer>, DateTime> integerFieldCollectionToDateTime(FieldLayout layout, Chronology chronology) {
+		return new LayoutIntegerFieldCollectionToDateTime(layout, chronology);
+	}
+	/**
+	 * <p>
+	 * A {@link DateTime} is created from the given {@link Integer} array, which contains
+	 * the fields given by the {@link FieldLayout}.
+	 * </p>
+	 * 
+	 * <p>
+	 * The length of the input Integer[] has to be the size of the layout, and the fields not 
+	 * included in it will be set to 0. As the layout is fixed when the function is created, 
+	 * the input is not checked against the other layouts.
+	 * </p>
+	 * 
+	 * @param layout the {@link FieldLayout} of the input
+	 * @return the {@link DateTime} created from the input and arguments 
+	 */
+	public static final Function<Integer[], DateTime> integerFieldArrayToDateTime(FieldLayout layout) {
+		return new LayoutIntegerFieldArrayToDateTime(layout);
+	}
+	/**
+	 * <p>
+	 * A {@link DateTime} is created from the given {@link Integer} array, which contains
+	 * the fields given by the {@link FieldLayout}. The result will be created with the 
+	 * given {@link Chronology}
+	 * </p>
+	 * 
+	 * <p>
+	 * The length of the input Integer[] has to be the size of the layout, and the fields not 
+	 * included in it will be set to 0.
+	 * </p>
+	 * 
+	 * @param layout the {@link FieldLayout} of the input
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the {@link DateTime} created from the input and arguments 
+	 */
+	public static final Function<Integer[], DateTime> integerFieldArrayToDateTime(FieldLayout layout, Chronology chronology) {
+		return new LayoutIntegerFieldArrayToDateTime(layout, chronology);
+	}
+	/**
+	 * <p>
+	 * A {@link DateTime} is created from the given <tt>int</tt> array, which contains
+	 * the fields given by the {@link FieldLayout}, without boxing its components.
+	 * </p>
+	 * 
+	 * <p>
+	 * The length of the input int[] has to be the size of the layout, and the fields not 
+	 * included in it will be set to 0. As the layout is fixed when the function is created, 
+	 * the input is not checked against the other layouts.
+	 * </p>
+	 * 
+	 * @param layout the {@link FieldLayout} of the input
+	 * @return the {@link DateTime} created from the input and arguments 
+	 */
+	public static final Function<int[], DateTime> intFieldArrayToDateTime(FieldLayout layout) {
+		return new LayoutIntFieldArrayToDateTime(layout);
+	}
+	/**
+	 * <p>
+	 * A {@link DateTime} is created from the given <tt>int</tt> array, which contains
+	 * the fields given by the {@link FieldLayout}, without boxing its components. The result 
+	 * will be created with the given {@link Chronology}
+	 * </p>
+	 * 
+	 * <p>
+	 * The length of the input int[] has to be the size of the layout, and the fields not 
+	 * included in it will be set to 0.
+	 * </p>
+	 * 
+	 * @param layout the {@link FieldLayout} of the input
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the {@link DateTime} created from the input and arguments 
+	 */
+	public static final Function<int[], DateTime> intFieldArrayToDateTime(FieldLayout layout, Chronology chronology) {
+		return new LayoutIntFieldArrayToDateTime(layout, chronology);
 	}
-	//
 	
-	
-	// Conversion from Integer array
 	/**
 	 * <p>
-	 * A {@link DateTime} is created from the given {@link Integer} array.
+	 * An array of {@link DateTime} is created from the records of fields in the given 
+	 * <tt>int</tt> array.
 	 * </p>
 	 * 
 	 * <p>
-     * The valid input Integer[] are:
-     * </p>
-     * <ul>
-     * <li>year (month and day will be set to 1)</li>
-     * <li>year, month (day will be set to 1)</li>
-     * <li>year, month, day</li>
-     * </ul>
-     * 
-     * @return the {@link DateTime} created from the input 
+	 * The input int[] is read as a sequence of records of <tt>fieldsPerRecord</tt> fields each,
+	 * and one {@link DateTime} is created from each record. The valid number of fields per record
+	 * is between 4 and 7, and the length of the input array has to be a multiple of it.
+	 * </p>
+	 * 
+	 * <p>
+	 * Each record is:
+	 * </p>
+	 * <ul>
+	 * <li>year, month, day, hour (minute, second and millisecond will be set to 0)</li>
+	 * <li>year, month, day, hour, minute (second and millisecond will be set to 0)</li>
+	 * <li>year, month, day, hour, minute, second (millisecond will be set to 0)</li>
+	 * <li>year, month, day, hour, minute, second, millisecond</li>
+	 * </ul>
+	 * 
+	 * @param fieldsPerRecord the number of fields of each record
+	 * @return the array of {@link DateTime} created from the input and arguments 
 	 */
-	public static final Function<Integer[], DateTime> integerFieldArrayToDateTime() {
-		return INTEGER_FIELD_ARRAY_TO_DATE_TIME;
+	public static final Function<int[], DateTime[]> intFieldArrayToArrayOfDateTime(int fieldsPerRecord) {
+		return new IntFieldArrayToArrayOfDateTime(new IntFieldArrayToDateTime(), fieldsPerRecord);
 	}
 	/**
 	 * <p>
-	 * A {@link DateTime} is created from the given {@link Integer} array.
-	 * The result will be created with the given {@link Chronology}
+	 * An array of {@link DateTime} is created from the records of fields in the given 
+	 * <tt>int</tt> array. The results will be created with the given {@link Chronology}
 	 * </p>
 	 * 
 	 * <p>
-     * The valid input Integer[] are:
-     * </p>
-     * <ul>
-     * <li>year (month and day will be set to 1)</li>
-     * <li>year, month (day will be set to 1)</li>
-     * <li>year, month, day</li>
-     * </ul>
-     * 
+	 * The input int[] is read as a sequence of records of <tt>fieldsPerRecord</tt> fields each,
+	 * and one {@link DateTime} is created from each record. The valid number of fields per record
+	 * is between 4 and 7, and the length of the input array has to be a multiple of it.
+	 * </p>
+	 * 
+	 * <p>
+	 * Each record is:
+	 * </p>
+	 * <ul>
+	 * <li>year, month, day, hour (minute, second and millisecond will be set to 0)</li>
+	 * <li>year, month, day, hour, minute (second and millisecond will be set to 0)</li>
+	 * <li>year, month, day, hour, minute, second (millisecond will be set to 0)</li>
+	 * <li>year, month, day, hour, minute, second, millisecond</li>
+	 * </ul>
+	 * 
+	 * @param fieldsPerRecord the number of fields of each record
 	 * @param chronology {@link Chronology} to be used 
-	 * @return the {@link DateTime} created from the input and arguments 
+	 * @return the array of {@link DateTime} created from the input and arguments 
 	 */
-	public static final Function<Integer[], DateTime> integerFieldArrayToDateTime(Chronology chronology) {
-		return new  IntegerFieldArrayToDateTime(chronology);
+	public static final Function<int[], DateTime[]> intFieldArrayToArrayOfDateTime(int fieldsPerRecord, Chronology chronology) {
+		return new IntFieldArrayToArrayOfDateTime(new IntFieldArrayToDateTime(chronology), fieldsPerRecord);
 	}
 	//
 	
@@ -541,12 +1439,40 @@ public final class FnDateTime {
 			this.dateTimeZone = null;
 			this.chronology = chronology;
 		}
+		
+		/*
+		 * Same as new DateTime(year, ..., millisOfSecond, chronology), with the
+		 * instant computed by FieldMillis.
+		 */
+		DateTime fromFields(final int year, final int monthOfYear, final int dayOfMonth, 
+				final int hourOfDay, final int minuteOfHour, final int secondOfMinute, final int millisOfSecond) {
+			final Chronology fieldChronology = getFieldChronology();
+			return new DateTime(FieldMillis.getDateTimeMillis(fieldChronology, year, monthOfYear, dayOfMonth, 
+					hourOfDay, minuteOfHour, secondOfMinute, millisOfSecond), fieldChronology);
+		}
+		
+		Chronology getFieldChronology() {
+			return (this.chronology != null ? this.chronology : ISOChronology.getInstance());
+		}
+	}
+	
+	/*
+	 * Obtains the parser used by StringToDateTime from the shared DateTimeFormatterCache. It is
+	 * resolved only once, when the function is created, so that invalid patterns are
+	 * reported immediately and no formatter has to be assembled for each converted String.
+	 */
+	private static MillisParser createParser(final String pattern, final Locale locale, 
+			final DateTimeZone dateTimeZone, final Chronology chronology) {
+		if (locale == null) {
+			Validate.isTrue(!(StringUtils.contains(pattern, "MMM") || StringUtils.contains(pattern, "EEE")), 
+					"The use of MMM, MMMM, EEE or EEEE as part of the date pattern requires a Locale");
+		}
+		return new MillisParser(pattern, DateTimeFormatterCache.forPattern(pattern, locale, dateTimeZone, chronology));
 	}
 	
 	static final class StringToDateTime extends BaseToDateTime<String> {
 
-		private final String pattern;
-		private final Locale locale;
+		private final MillisParser parser;
 		
 		
 		public StringToDateTime(String pattern) {
@@ -554,8 +1480,7 @@ public final class FnDateTime {
 			
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			
-			this.pattern = pattern;
-			this.locale = null;
+			this.parser = createParser(pattern, null, this.dateTimeZone, this.chronology);
 		}
 
 		public StringToDateTime(String pattern, DateTimeZone dateTimeZone) {
@@ -563,8 +1488,7 @@ public final class FnDateTime {
 			
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			
-			this.pattern = pattern;
-			this.locale = null;
+			this.parser = createParser(pattern, null, this.dateTimeZone, this.chronology);
 		}
 
 		public StringToDateTime(String pattern, Chronology chronology) {
@@ -572,8 +1496,7 @@ public final class FnDateTime {
 			
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			
-			this.pattern = pattern;
-			this.locale = null;
+			this.parser = createParser(pattern, null, this.dateTimeZone, this.chronology);
 		}
 
 		public StringToDateTime(String pattern, Locale locale) {
@@ -582,8 +1505,7 @@ public final class FnDateTime {
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			Validate.notNull(locale, "locale can't be null");
 			
-			this.pattern = pattern;
-			this.locale = locale;
+			this.parser = createParser(pattern, locale, this.dateTimeZone, this.chronology);
 		}
 		
 		public StringToDateTime(String pattern, String locale) {
@@ -592,8 +1514,7 @@ public final class FnDateTime {
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			Validate.notEmpty(locale, "locale can't be neither empty nor null");
 			
-			this.pattern = pattern;
-			this.locale = LocaleUtils.toLocale(locale);
+			this.parser = createParser(pattern, ResolutionCache.toLocale(locale), this.dateTimeZone, this.chronology);
 		}
 		
 		public StringToDateTime(String pattern, Locale locale, DateTimeZone dateTimeZone) {
@@ -602,8 +1523,7 @@ public final class FnDateTime {
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			Validate.notNull(locale, "locale can't be null");
 			
-			this.pattern = pattern;
-			this.locale = locale;
+			this.parser = createParser(pattern, locale, this.dateTimeZone, this.chronology);
 		}
 		
 		public StringToDateTime(String pattern, String locale, DateTimeZone dateTimeZone) {
@@ -612,8 +1532,7 @@ public final class FnDateTime {
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			Validate.notEmpty(locale, "locale can't be neither empty nor null");
 			
-			this.pattern = pattern;
-			this.locale = LocaleUtils.toLocale(locale);
+			this.parser = createParser(pattern, ResolutionCache.toLocale(locale), this.dateTimeZone, this.chronology);
 		}
 		
 		public StringToDateTime(String pattern, Locale locale, Chronology chronology) {
@@ -622,8 +1541,7 @@ public final class FnDateTime {
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			Validate.notNull(locale, "locale can't be null");
 			
-			this.pattern = pattern;
-			this.locale = locale;
+			this.parser = createParser(pattern, locale, this.dateTimeZone, this.chronology);
 		}
 		
 		public StringToDateTime(String pattern, String locale, Chronology chronology) {
@@ -632,8 +1550,7 @@ public final class FnDateTime {
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			Validate.notEmpty(locale, "locale can't be neither empty nor null");
 			
-			this.pattern = pattern;
-			this.locale = LocaleUtils.toLocale(locale);
+			this.parser = createParser(pattern, ResolutionCache.toLocale(locale), this.dateTimeZone, this.chronology);
 		}
 		
 		/* (non-Javadoc)
@@ -641,32 +1558,141 @@ public final class FnDateTime {
 		 */
 		@Override
 		public DateTime nullAsNullExecute(String object, ExecCtx ctx) throws Exception {
-			DateTimeFormatter dateTimeFormatter = null;
-		    if (this.locale == null) {
-		        if (StringUtils.contains(this.pattern, "MMM") || StringUtils.contains(this.pattern, "EEE")) {
-		        	throw new ExecutionException(
-							"The use of MMM, MMMM, EEE or EEEE as part of the date pattern requires a Locale");
-	            }
-		        dateTimeFormatter = DateTimeFormat.forPattern(this.pattern);        
-		    } else {    
-		        dateTimeFormatter = DateTimeFormat.forPattern(this.pattern).withLocale(this.locale);
-		    }
-		    
-		    DateTime result = new DateTime();
-		    if (this.dateTimeZone != null) {	    	
-		    	dateTimeFormatter = dateTimeFormatter.withZone(this.dateTimeZone);
-		    }
-		    if (this.chronology != null) {
-		    	dateTimeFormatter = dateTimeFormatter.withChronology(this.chronology);
-		    }
-			result = dateTimeFormatter.parseDateTime(object).toDateTime();
-			
-			return result;		
+			return new DateTime(this.parser.parseMillis(object), this.parser.getChronology());
 		}
 		
 		
 	}	
 	
+	/*
+	 * Bulk versions of StringToDateTime: the parser and the chronology are resolved once
+	 * for the whole column instead of once per element.
+	 */
+	static final class StringArrayToArrayOfDateTime extends AbstractNullAsNullFunction<String[], DateTime[]> {
+
+		private final MillisParser parser;
+		
+		
+		public StringArrayToArrayOfDateTime(StringToDateTime stringToDateTime) {
+			super();
+			this.parser = stringToDateTime.parser;
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.op4j.functions.AbstractNullAsNullFunction#nullAsNullExecute(java.lang.Object, org.op4j.functions.ExecCtx)
+		 */
+		@Override
+		public DateTime[] nullAsNullExecute(String[] object, ExecCtx ctx) throws Exception {
+			final MillisParser parser = this.parser;
+			final Chronology chronology = parser.getChronology();
+			final DateTime[] result = new DateTime[object.length];
+			for (int i = 0; i < object.length; i++) {
+				final String element = object[i];
+				if (element != null) {
+					result[i] = new DateTime(parser.parseMillis(element, chronology), chronology);
+				}
+			}
+			return result;
+		}
+		
+	}
+	
+	static final class StringCollectionToArrayOfDateTime extends AbstractNullAsNullFunction<Collection<String>, DateTime[]> {
+
+		private final MillisParser parser;
+		
+		
+		public StringCollectionToArrayOfDateTime(StringToDateTime stringToDateTime) {
+			super();
+			this.parser = stringToDateTime.parser;
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.op4j.functions.AbstractNullAsNullFunction#nullAsNullExecute(java.lang.Object, org.op4j.functions.ExecCtx)
+		 */
+		@Override
+		public DateTime[] nullAsNullExecute(Collection<String> object, ExecCtx ctx) throws Exception {
+			final MillisParser parser = this.parser;
+			final Chronology chronology = parser.getChronology();
+			final DateTime[] result = new DateTime[object.size()];
+			int i = 0;
+			for (final String element : object) {
+				if (element != null) {
+					result[i] = new DateTime(parser.parseMillis(element, chronology), chronology);
+				}
+				i++;
+			}
+			return result;
+		}
+		
+	}
+	
+	/*
+	 * Millis-only versions of StringToDateTime: parsing resolves the same chronology, but
+	 * the result is written into a long[] instead of creating a DateTime for each element.
+	 */
+	static final class StringArrayToMillisArray extends AbstractNullAsNullFunction<String[], long[]> {
+
+		private final MillisParser parser;
+		
+		
+		public StringArrayToMillisArray(StringToDateTime stringToDateTime) {
+			super();
+			this.parser = stringToDateTime.parser;
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.op4j.functions.AbstractNullAsNullFunction#nullAsNullExecute(java.lang.Object, org.op4j.functions.ExecCtx)
+		 */
+		@Override
+		public long[] nullAsNullExecute(String[] object, ExecCtx ctx) throws Exception {
+			final MillisParser parser = this.parser;
+			final Chronology chronology = parser.getChronology();
+			final long[] result = new long[object.length];
+			for (int i = 0; i < object.length; i++) {
+				final String element = object[i];
+				if (element == null) {
+					throw new ExecutionException(
+							"Null elements cannot be converted into milliseconds. Element " + i + " is null.");
+				}
+				result[i] = parser.parseMillis(element, chronology);
+			}
+			return result;
+		}
+		
+	}
+	
+	static final class StringCollectionToMillisArray extends AbstractNullAsNullFunction<Collection<String>, long[]> {
+
+		private final MillisParser parser;
+		
+		
+		public StringCollectionToMillisArray(StringToDateTime stringToDateTime) {
+			super();
+			this.parser = stringToDateTime.parser;
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.op4j.functions.AbstractNullAsNullFunction#nullAsNullExecute(java.lang.Object, org.op4j.functions.ExecCtx)
+		 */
+		@Override
+		public long[] nullAsNullExecute(Collection<String> object, ExecCtx ctx) throws Exception {
+			final MillisParser parser = this.parser;
+			final Chronology chronology = parser.getChronology();
+			final long[] result = new long[object.size()];
+			int i = 0;
+			for (final String element : object) {
+				if (element == null) {
+					throw new ExecutionException(
+							"Null elements cannot be converted into milliseconds. Element " + i + " is null.");
+				}
+				result[i++] = parser.parseMillis(element, chronology);
+			}
+			return result;
+		}
+		
+	}
+	
 	static final class DateToDateTime<T extends Date> extends BaseToDateTime<T> {
 
 		public DateToDateTime() {
@@ -759,6 +1785,58 @@ public final class FnDateTime {
 		}
 	}	
 	
+	static final class LongArrayToArrayOfDateTime extends AbstractNullAsNullFunction<long[], DateTime[]> {
+
+		private final DateTimeZone dateTimeZone;
+		private final Chronology chronology;
+		
+		public LongArrayToArrayOfDateTime() {
+			super();
+			this.dateTimeZone = null;
+			this.chronology = null;
+		}
+
+		public LongArrayToArrayOfDateTime(DateTimeZone dateTimeZone) {
+			super();
+			
+			Validate.notNull(dateTimeZone, "dateTimeZone can't be null");
+			
+			this.dateTimeZone = dateTimeZone;
+			this.chronology = null;
+		}
+
+		public LongArrayToArrayOfDateTime(Chronology chronology) {
+			super();
+			
+			Validate.notNull(chronology, "chronology can't be null");
+			
+			this.dateTimeZone = null;
+			this.chronology = chronology;
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.op4j.functions.AbstractNullAsNullFunction#nullAsNullExecute(java.lang.Object, org.op4j.functions.ExecCtx)
+		 */
+		@Override
+		public DateTime[] nullAsNullExecute(long[] object, ExecCtx ctx) throws Exception {
+			// Resolved once per call, as the default time zone can change between calls
+			final Chronology chronology;
+			if (this.dateTimeZone != null) {
+				chronology = ISOChronology.getInstance(this.dateTimeZone);
+			} else if (this.chronology != null) {
+				chronology = this.chronology;
+			} else {
+				chronology = ISOChronology.getInstance();
+			}
+			
+			final DateTime[] result = new DateTime[object.length];
+			for (int i = 0; i < object.length; i++) {
+				result[i] = new DateTime(object[i], chronology);
+			}
+			return result;
+		}
+	}	
+	
 	static final class IntegerFieldCollectionToDateTime extends BaseToDateTime<Collection<Integer>> {
 
 		public IntegerFieldCollectionToDateTime() {
@@ -790,10 +1868,7 @@ public final class FnDateTime {
 			int second = (object.size() >= 6) ? iterator.next().intValue() : 0;
 			int milli = (object.size() >= 7) ? iterator.next().intValue() : 0;
 			
-			if (this.chronology != null) {
-	        	return new DateTime(year, month, day, hour, minute, second, milli, this.chronology);
-	        }
-			return new DateTime(year, month, day,  hour, minute, second, milli);
+			return fromFields(year, month, day, hour, minute, second, milli);
 		}
 	}	
 	
@@ -826,12 +1901,178 @@ public final class FnDateTime {
 			int second = (object.length >= 6) ? object[5].intValue() : 0;
 			int milli = (object.length >= 7) ? object[6].intValue() : 0;
 			
-			if (this.chronology != null) {
-	        	return new DateTime(year, month, day, hour, minute, second, milli, this.chronology);
-	        }
-			return new DateTime(year, month, day, hour, minute, second, milli);
+			return fromFields(year, month, day, hour, minute, second, milli);
+		}
+		
+	}	
+	
+	static final class IntFieldArrayToDateTime extends BaseToDateTime<int[]> {
+
+		public IntFieldArrayToDateTime() {
+			super();			
+		}
+
+		public IntFieldArrayToDateTime(Chronology chronology) {
+			super(chronology);
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.op4j.functions.AbstractNullAsNullFunction#nullAsNullExecute(java.lang.Object, org.op4j.functions.ExecCtx)
+		 */
+		@Override
+		public DateTime nullAsNullExecute(final int[] object, final ExecCtx ctx) throws Exception {
+			return fromFields(object, 0, object.length);
+		}
+		
+		DateTime fromFields(final int[] fields, final int offset, final int length) throws ExecutionException {
+			if (length < 4 || length > 7) {
+				throw new ExecutionException(
+						"int arguments array for DateTime conversion should of size " +
+						"between 4 and 7 (year, month, day, hour, minute, second, millisecond). Size " + length + " is not valid.");
+			}
+			
+			final int year = fields[offset];
+			final int month = fields[offset + 1];
+			final int day = fields[offset + 2];
+			final int hour = fields[offset + 3];
+			final int minute = (length >= 5) ? fields[offset + 4] : 0;
+			final int second = (length >= 6) ? fields[offset + 5] : 0;
+			final int milli = (length >= 7) ? fields[offset + 6] : 0;
+			
+			return fromFields(year, month, day, hour, minute, second, milli);
+		}
+		
+	}	
+	
+	static final class IntFieldArrayToArrayOfDateTime extends AbstractNullAsNullFunction<int[], DateTime[]> {
+
+		private final IntFieldArrayToDateTime converter;
+		private final int fieldsPerRecord;
+		
+		public IntFieldArrayToArrayOfDateTime(final IntFieldArrayToDateTime converter, final int fieldsPerRecord) {
+			super();
+			
+			Validate.isTrue(fieldsPerRecord >= 4 && fieldsPerRecord <= 7, 
+					"fieldsPerRecord must be between 4 and 7");
+			
+			this.converter = converter;
+			this.fieldsPerRecord = fieldsPerRecord;
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.op4j.functions.AbstractNullAsNullFunction#nullAsNullExecute(java.lang.Object, org.op4j.functions.ExecCtx)
+		 */
+		@Override
+		public DateTime[] nullAsNullExecute(final int[] object, final ExecCtx ctx) throws Exception {
+			if (object.length % this.fieldsPerRecord != 0) {
+				throw new ExecutionException(
+						"int arguments array for DateTime conversion should have a size multiple of " +
+						this.fieldsPerRecord + ". Size " + object.length + " is not valid.");
+			}
+			
+			final DateTime[] result = new DateTime[object.length / this.fieldsPerRecord];
+			for (int i = 0; i < result.length; i++) {
+				result[i] = this.converter.fromFields(object, i * this.fieldsPerRecord, this.fieldsPerRecord);
+			}
+			return result;
+		}
+		
+	}
+	
+	static final class LayoutIntegerFieldCollectionToDateTime extends BaseToDateTime<Collection<Integer>> {
+
+		private final FieldLayout layout;
+		
+		public LayoutIntegerFieldCollectionToDateTime(FieldLayout layout) {
+			super();
+			Validate.notNull(layout, "layout can't be null");
+			this.layout = layout;
+		}
+
+		public LayoutIntegerFieldCollectionToDateTime(FieldLayout layout, Chronology chronology) {
+			super(chronology);
+			Validate.notNull(layout, "layout can't be null");
+			this.layout = layout;
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.op4j.functions.AbstractNullAsNullFunction#nullAsNullExecute(java.lang.Object, org.op4j.functions.ExecCtx)
+		 */
+		@Override
+		public DateTime nullAsNullExecute(final Collection<Integer> object, final ExecCtx ctx) throws Exception {
+			if (object.size() != this.layout.getSize()) {
+				throw new ExecutionException(
+						"Integer arguments list for DateTime conversion with layout " + this.layout + 
+						" should be of size " + this.layout.getSize() + ". Size " + object.size() + " is not valid.");
+			}
+			
+			final Chronology fieldChronology = getFieldChronology();
+			return new DateTime(this.layout.getMillis(fieldChronology, object.iterator()), fieldChronology);
+		}
+	}	
+	
+	static final class LayoutIntegerFieldArrayToDateTime extends BaseToDateTime<Integer[]> {
+
+		private final FieldLayout layout;
+		
+		public LayoutIntegerFieldArrayToDateTime(FieldLayout layout) {
+			super();
+			Validate.notNull(layout, "layout can't be null");
+			this.layout = layout;
+		}
+
+		public LayoutIntegerFieldArrayToDateTime(FieldLayout layout, Chronology chronology) {
+			super(chronology);
+			Validate.notNull(layout, "layout can't be null");
+			this.layout = layout;
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.op4j.functions.AbstractNullAsNullFunction#nullAsNullExecute(java.lang.Object, org.op4j.functions.ExecCtx)
+		 */
+		@Override
+		public DateTime nullAsNullExecute(final Integer[] object, final ExecCtx ctx) throws Exception {
+			if (object.length != this.layout.getSize()) {
+				throw new ExecutionException(
+						"Integer arguments array for DateTime conversion with layout " + this.layout + 
+						" should be of length " + this.layout.getSize() + ". Size " + object.length + " is not valid.");
+			}
+			
+			final Chronology fieldChronology = getFieldChronology();
+			return new DateTime(this.layout.getMillis(fieldChronology, object, 0), fieldChronology);
+		}
+	}	
+	
+	static final class LayoutIntFieldArrayToDateTime extends BaseToDateTime<int[]> {
+
+		private final FieldLayout layout;
+		
+		public LayoutIntFieldArrayToDateTime(FieldLayout layout) {
+			super();
+			Validate.notNull(layout, "layout can't be null");
+			this.layout = layout;
+		}
+
+		public LayoutIntFieldArrayToDateTime(FieldLayout layout, Chronology chronology) {
+			super(chronology);
+			Validate.notNull(layout, "layout can't be null");
+			this.layout = layout;
 		}
 		
+		/* (non-Javadoc)
+		 * @see org.op4j.functions.AbstractNullAsNullFunction#nullAsNullExecute(java.lang.Object, org.op4j.functions.ExecCtx)
+		 */
+		@Override
+		public DateTime nullAsNullExecute(final int[] object, final ExecCtx ctx) throws Exception {
+			if (object.length != this.layout.getSize()) {
+				throw new ExecutionException(
+						"int arguments array for DateTime conversion with layout " + this.layout + 
+						" should be of length " + this.layout.getSize() + ". Size " + object.length + " is not valid.");
+			}
+			
+			final Chronology fieldChronology = getFieldChronology();
+			return new DateTime(this.layout.getMillis(fieldChronology, object, 0), fieldChronology);
+		}
 	}	
 	
 	
@@ -859,21 +2100,15 @@ public final class FnDateTime {
 			
 			Iterator<String> iterator = object.iterator();
 			
-			String year = iterator.next();
-			String month = iterator.next();
-			String day = iterator.next();
-			String hour = iterator.next();
-			String minute = (object.size() >= 5) ? iterator.next() : "0";
-			String second = (object.size() >= 6) ? iterator.next() : "0";
-			String milli = (object.size() >= 7) ? iterator.next() : "0";
+			int year = FieldDecoder.parseInt(iterator.next());
+			int month = FieldDecoder.parseInt(iterator.next());
+			int day = FieldDecoder.parseInt(iterator.next());
+			int hour = FieldDecoder.parseInt(iterator.next());
+			int minute = (object.size() >= 5) ? FieldDecoder.parseInt(iterator.next()) : 0;
+			int second = (object.size() >= 6) ? FieldDecoder.parseInt(iterator.next()) : 0;
+			int milli = (object.size() >= 7) ? FieldDecoder.parseInt(iterator.next()) : 0;
 			
-			if (this.chronology != null) {
-	        	return new DateTime(Integer.parseInt(year),Integer.parseInt(month), Integer.parseInt(day),
-	        			Integer.parseInt(hour), Integer.parseInt(minute), Integer.parseInt(second), Integer.parseInt(milli),
-	        			this.chronology);
-	        }
-			return new DateTime(Integer.parseInt(year), Integer.parseInt(month), Integer.parseInt(day),
-					Integer.parseInt(hour), Integer.parseInt(minute), Integer.parseInt(second), Integer.parseInt(milli));
+			return fromFields(year, month, day, hour, minute, second, milli);
 		}
 	}	
 	
@@ -898,21 +2133,15 @@ public final class FnDateTime {
 						"between 4 and 7 (year, month, day, hour, minute, second, millisecond). Size " + object.length + " is not valid.");
 			}			
 			
-			String year = object[0];
-			String month = object[1];
-			String day = object[2];
-			String hour = object[3];
-			String minute = (object.length >= 5) ? object[4] : "0";
-			String second = (object.length >= 6) ? object[5] : "0";
-			String milli = (object.length >= 7) ? object[6] : "0";
+			int year = FieldDecoder.parseInt(object[0]);
+			int month = FieldDecoder.parseInt(object[1]);
+			int day = FieldDecoder.parseInt(object[2]);
+			int hour = FieldDecoder.parseInt(object[3]);
+			int minute = (object.length >= 5) ? FieldDecoder.parseInt(object[4]) : 0;
+			int second = (object.length >= 6) ? FieldDecoder.parseInt(object[5]) : 0;
+			int milli = (object.length >= 7) ? FieldDecoder.parseInt(object[6]) : 0;
 			
-			if (this.chronology != null) {
-	        	return new DateTime(Integer.parseInt(year),Integer.parseInt(month), Integer.parseInt(day), 
-	        			Integer.parseInt(hour), Integer.parseInt(minute), Integer.parseInt(second), Integer.parseInt(milli),
-	        			this.chronology);
-	        }
-			return new DateTime(Integer.parseInt(year),Integer.parseInt(month), Integer.parseInt(day),
-					Integer.parseInt(hour), Integer.parseInt(minute), Integer.parseInt(second), Integer.parseInt(milli));
+			return fromFields(year, month, day, hour, minute, second, milli);
 		}
 	}	
 	
@@ -935,13 +2164,14 @@ public final class FnDateTime {
 		 */
 		@Override
 		public DateTime nullAsNullExecute(T object, ExecCtx ctx) throws Exception {
-			if (this.dateTimeZone != null) {
-				return new DateTime(object, this.dateTimeZone);
-			}
+			// Same millis and chronology Joda-Time's CalendarConverter would obtain, without
+			// looking the converter up and resolving the time zone through ResolutionCache
 			if (this.chronology != null) {
-				return new DateTime(object, this.chronology);
+				return new DateTime(object.getTimeInMillis(), this.chronology);
 			}
-			return new DateTime(object);
+			final Chronology calendarChronology = (this.dateTimeZone != null ? 
+					ResolutionCache.toChronology(object, this.dateTimeZone) : ResolutionCache.toChronology(object));
+			return new DateTime(object.getTimeInMillis(), calendarChronology);
 		}
 	}	
 }
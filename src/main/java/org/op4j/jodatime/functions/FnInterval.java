@@ -27,7 +27,6 @@ import java.util.Date;
 import java.util.Iterator;
 import java.util.Locale;
 
-import org.apache.commons.lang.LocaleUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.lang.Validate;
 import org.joda.time.Chronology;
@@ -35,7 +34,7 @@ import org.joda.time.DateTime;
 import org.joda.time.DateTimeZone;
 import org.joda.time.Interval;
 import org.joda.time.base.BaseDateTime;
-import org.joda.time.format.DateTimeFormat;
+import org.joda.time.chrono.ISOChronology;
 import org.joda.time.format.DateTimeFormatter;
 import org.op4j.exceptions.ExecutionException;
 import org.op4j.functions.AbstractNullAsNullFunction;
@@ -61,6 +60,7 @@ public final class FnInterval {
 	
 	private static final Function<Collection<Integer>, Interval> INTEGER_FIELD_COLLECTION_TO_INTERVAL = new IntegerFieldCollectionToInterval();
 	private static final Function<Integer[], Interval> INTEGER_FIELD_ARRAY_TO_INTERVAL = new IntegerFieldArrayToInterval();
+	private static final Function<int[], Interval> INT_FIELD_ARRAY_TO_INTERVAL = new IntFieldArrayToInterval();
 	
 	private static final Function<Collection<? extends Calendar>, Interval> CALENDAR_FIELD_COLLECTION_TO_INTERVAL = new CalendarFieldCollectionToInterval();
 	
@@ -888,6 +888,320 @@ public final class FnInterval {
 	public static final Function<Integer[], Interval> integerFieldArrayToInterval(Chronology chronology) {
 		return new IntegerFieldArrayToInterval(chronology);
 	}
+	
+	
+	/**
+	 * <p>
+	 * It converts the given <tt>int</tt> elements into an {@link Interval}, without boxing them. 
+	 * The target <tt>int</tt> elements represent the start and end of the {@link Interval}. 
+	 * </p>
+	 * 
+	 * <p>The accepted input int[] are:</p>
+	 * <ul>
+	 * <li>year, month, day, year, month, day</li>
+	 * <li>year, month, day, hour, minute, year, month, day, hour, minute</li>
+	 * <li>year, month, day, hour, minute, second, year, month, day, hour, minute, second</li>
+	 * <li>year, month, day, hour, minute, second, millisecond, year, month, day, hour, minute, second, millisecond</li>
+	 * </ul>
+	 * 
+	 * @return the {@link Interval} created from the input 
+	 */
+	public static final Function<int[], Interval> intFieldArrayToInterval() {
+		return INT_FIELD_ARRAY_TO_INTERVAL;
+	}
+	/**
+	 * <p>
+	 * It converts the given <tt>int</tt> elements into an {@link Interval} with the given {@link DateTimeZone}, 
+	 * without boxing them. The target <tt>int</tt> elements represent the start and end of the {@link Interval}. 
+	 * </p>
+	 * 
+	 * <p>The accepted input int[] are:</p>
+	 * <ul>
+	 * <li>year, month, day, year, month, day</li>
+	 * <li>year, month, day, hour, minute, year, month, day, hour, minute</li>
+	 * <li>year, month, day, hour, minute, second, year, month, day, hour, minute, second</li>
+	 * <li>year, month, day, hour, minute, second, millisecond, year, month, day, hour, minute, second, millisecond</li>
+	 * </ul>
+	 * 
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used 
+	 * @return the {@link Interval} created from the input and arguments 
+	 */
+	public static final Function<int[], Interval> intFieldArrayToInterval(DateTimeZone dateTimeZone) {
+		return new IntFieldArrayToInterval(dateTimeZone);
+	}
+	/**
+	 * <p>
+	 * It converts the given <tt>int</tt> elements into an {@link Interval} with the given {@link Chronology}, 
+	 * without boxing them. The target <tt>int</tt> elements represent the start and end of the {@link Interval}. 
+	 * </p>
+	 * 
+	 * <p>The accepted input int[] are:</p>
+	 * <ul>
+	 * <li>year, month, day, year, month, day</li>
+	 * <li>year, month, day, hour, minute, year, month, day, hour, minute</li>
+	 * <li>year, month, day, hour, minute, second, year, month, day, hour, minute, second</li>
+	 * <li>year, month, day, hour, minute, second, millisecond, year, month, day, hour, minute, second, millisecond</li>
+	 * </ul>
+	 * 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the {@link Interval} created from the input and arguments 
+	 */
+	public static final Function<int[], Interval> intFieldArrayToInterval(Chronology chronology) {
+		return new IntFieldArrayToInterval(chronology);
+	}
+	
+	
+	/**
+	 * <p>
+	 * It converts the given {@link Integer} elements into an {@link Interval}, reading the start
+	 * and the end of the {@link Interval} with the given {@link FieldLayout}. 
+	 * </p>
+	 * 
+	 * <p>
+	 * The input Collection&lt;Integer&gt; must contain the fields of the start followed by the 
+	 * fields of the end, so its size has to be twice the size of the layout. As the layout is 
+	 * fixed when the function is created, the input is not checked against the other layouts.
+	 * </p>
+	 * 
+	 * @param layout the {@link FieldLayout} of both the start and the end
+	 * @return the {@link Interval} created from the input and arguments 
+	 */
+	public static final Function<Collection<Integer>, Interval> integerFieldCollectionToInterval(FieldLayout layout) {
+		return new LayoutIntegerFieldCollectionToInterval(layout);
+	}
+	/**
+	 * <p>
+	 * It converts the given {@link Integer} elements into an {@link Interval} with the given 
+	 * {@link DateTimeZone}, reading the start and the end of the {@link Interval} with the given 
+	 * {@link FieldLayout}. 
+	 * </p>
+	 * 
+	 * <p>
+	 * The input Collection&lt;Integer&gt; must contain the fields of the start followed by the 
+	 * fields of the end, so its size has to be twice the size of the layout.
+	 * </p>
+	 * 
+	 * @param layout the {@link FieldLayout} of both the start and the end
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used 
+	 * @return the {@link Interval} created from the input and arguments 
+	 */
+	public static final Function<Collection<Integer>, Interval> integerFieldCollectionToInterval(FieldLayout layout, DateTimeZone dateTimeZone) {
+		return new LayoutIntegerFieldCollectionToInterval(layout, dateTimeZone);
+	}
+	/**
+	 * <p>
+	 * It converts the given {@link Integer} elements into an {@link Interval} with the given 
+	 * {@link Chronology}, reading the start and the end of the {@link Interval} with the given 
+	 * {@link FieldLayout}. 
+	 * </p>
+	 * 
+	 * <p>
+	 * The input Collection&lt;Integer&gt; must contain the fields of the start followed by the 
+	 * fields of the end, so its size has to be twice the size of the layout.
+	 * </p>
+	 * 
+	 * @param layout the {@link FieldLayout} of both the start and the end
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the {@link Interval} created from the input and arguments 
+	 */
+	public static final Function<Collection<Integer>, Interval> integerFieldCollectionToInterval(FieldLayout layout, Chronology chronology) {
+		return new LayoutIntegerFieldCollectionToInterval(layout, chronology);
+	}
+	
+	/**
+	 * <p>
+	 * It converts the given {@link Integer} elements into an {@link Interval}, reading the start
+	 * and the end of the {@link Interval} with the given {@link FieldLayout}. 
+	 * </p>
+	 * 
+	 * <p>
+	 * The input Integer[] must contain the fields of the start followed by the fields of the 
+	 * end, so its length has to be twice the size of the layout. As the layout is fixed when 
+	 * the function is created, the input is not checked against the other layouts.
+	 * </p>
+	 * 
+	 * @param layout the {@link FieldLayout} of both the start and the end
+	 * @return the {@link Interval} created from the input and arguments 
+	 */
+	public static final Function<Integer[], Interval> integerFieldArrayToInterval(FieldLayout layout) {
+		return new LayoutIntegerFieldArrayToInterval(layout);
+	}
+	/**
+	 * <p>
+	 * It converts the given {@link Integer} elements into an {@link Interval} with the given 
+	 * {@link DateTimeZone}, reading the start and the end of the {@link Interval} with the given 
+	 * {@link FieldLayout}. 
+	 * </p>
+	 * 
+	 * <p>
+	 * The input Integer[] must contain the fields of the start followed by the fields of the 
+	 * end, so its length has to be twice the size of the layout.
+	 * </p>
+	 * 
+	 * @param layout the {@link FieldLayout} of both the start and the end
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used 
+	 * @return the {@link Interval} created from the input and arguments 
+	 */
+	public static final Function<Integer[], Interval> integerFieldArrayToInterval(FieldLayout layout, DateTimeZone dateTimeZone) {
+		return new LayoutIntegerFieldArrayToInterval(layout, dateTimeZone);
+	}
+	/**
+	 * <p>
+	 * It converts the given {@link Integer} elements into an {@link Interval} with the given 
+	 * {@link Chronology}, reading the start and the end of the {@link Interval} with the given 
+	 * {@link FieldLayout}. 
+	 * </p>
+	 * 
+	 * <p>
+	 * The input Integer[] must contain the fields of the start followed by the fields of the 
+	 * end, so its length has to be twice the size of the layout.
+	 * </p>
+	 * 
+	 * @param layout the {@link FieldLayout} of both the start and the end
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the {@link Interval} created from the input and arguments 
+	 */
+	public static final Function<Integer[], Interval> integerFieldArrayToInterval(FieldLayout layout, Chronology chronology) {
+		return new LayoutIntegerFieldArrayToInterval(layout, chronology);
+	}
+	
+	/**
+	 * <p>
+	 * It converts the given <tt>int</tt> elements into an {@link Interval}, without boxing them,
+	 * reading the start and the end of the {@link Interval} with the given {@link FieldLayout}. 
+	 * </p>
+	 * 
+	 * <p>
+	 * The input int[] must contain the fields of the start followed by the fields of the 
+	 * end, so its length has to be twice the size of the layout. As the layout is fixed when 
+	 * the function is created, the input is not checked against the other layouts.
+	 * </p>
+	 * 
+	 * @param layout the {@link FieldLayout} of both the start and the end
+	 * @return the {@link Interval} created from the input and arguments 
+	 */
+	public static final Function<int[], Interval> intFieldArrayToInterval(FieldLayout layout) {
+		return new LayoutIntFieldArrayToInterval(layout);
+	}
+	/**
+	 * <p>
+	 * It converts the given <tt>int</tt> elements into an {@link Interval} with the given 
+	 * {@link DateTimeZone}, without boxing them, reading the start and the end of the 
+	 * {@link Interval} with the given {@link FieldLayout}. 
+	 * </p>
+	 * 
+	 * <p>
+	 * The input int[] must contain the fields of the start followed by the fields of the 
+	 * end, so its length has to be twice the size of the layout.
+	 * </p>
+	 * 
+	 * @param layout the {@link FieldLayout} of both the start and the end
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used 
+	 * @return the {@link Interval} created from the input and arguments 
+	 */
+	public static final Function<int[], Interval> intFieldArrayToInterval(FieldLayout layout, DateTimeZone dateTimeZone) {
+		return new LayoutIntFieldArrayToInterval(layout, dateTimeZone);
+	}
+	/**
+	 * <p>
+	 * It converts the given <tt>int</tt> elements into an {@link Interval} with the given 
+	 * {@link Chronology}, without boxing them, reading the start and the end of the 
+	 * {@link Interval} with the given {@link FieldLayout}. 
+	 * </p>
+	 * 
+	 * <p>
+	 * The input int[] must contain the fields of the start followed by the fields of the 
+	 * end, so its length has to be twice the size of the layout.
+	 * </p>
+	 * 
+	 * @param layout the {@link FieldLayout} of both the start and the end
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the {@link Interval} created from the input and arguments 
+	 */
+	public static final Function<int[], Interval> intFieldArrayToInterval(FieldLayout layout, Chronology chronology) {
+		return new LayoutIntFieldArrayToInterval(layout, chronology);
+	}
+	
+	/**
+	 * <p>
+	 * An array of {@link Interval} is created from the records of fields in the given 
+	 * <tt>int</tt> array.
+	 * </p>
+	 * 
+	 * <p>
+	 * The input int[] is read as a sequence of records of <tt>fieldsPerRecord</tt> fields each,
+	 * and one {@link Interval} is created from each record. The valid number of fields per record
+	 * is 6, 10, 12 or 14, and the length of the input array has to be a multiple of it.
+	 * </p>
+	 * 
+	 * <p>Each record is one of:</p>
+	 * <ul>
+	 * <li>year, month, day, year, month, day</li>
+	 * <li>year, month, day, hour, minute, year, month, day, hour, minute</li>
+	 * <li>year, month, day, hour, minute, second, year, month, day, hour, minute, second</li>
+	 * <li>year, month, day, hour, minute, second, millisecond, year, month, day, hour, minute, second, millisecond</li>
+	 * </ul>
+	 * 
+	 * @param fieldsPerRecord the number of fields of each record
+	 * @return the array of {@link Interval} created from the input and arguments 
+	 */
+	public static final Function<int[], Interval[]> intFieldArrayToArrayOfInterval(int fieldsPerRecord) {
+		return new IntFieldArrayToArrayOfInterval(new IntFieldArrayToInterval(), fieldsPerRecord);
+	}
+	/**
+	 * <p>
+	 * An array of {@link Interval} is created from the records of fields in the given 
+	 * <tt>int</tt> array, with the given {@link DateTimeZone}.
+	 * </p>
+	 * 
+	 * <p>
+	 * The input int[] is read as a sequence of records of <tt>fieldsPerRecord</tt> fields each,
+	 * and one {@link Interval} is created from each record. The valid number of fields per record
+	 * is 6, 10, 12 or 14, and the length of the input array has to be a multiple of it.
+	 * </p>
+	 * 
+	 * <p>Each record is one of:</p>
+	 * <ul>
+	 * <li>year, month, day, year, month, day</li>
+	 * <li>year, month, day, hour, minute, year, month, day, hour, minute</li>
+	 * <li>year, month, day, hour, minute, second, year, month, day, hour, minute, second</li>
+	 * <li>year, month, day, hour, minute, second, millisecond, year, month, day, hour, minute, second, millisecond</li>
+	 * </ul>
+	 * 
+	 * @param fieldsPerRecord the number of fields of each record
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used 
+	 * @return the array of {@link Interval} created from the input and arguments 
+	 */
+	public static final Function<int[], Interval[]> intFieldArrayToArrayOfInterval(int fieldsPerRecord, DateTimeZone dateTimeZone) {
+		return new IntFieldArrayToArrayOfInterval(new IntFieldArrayToInterval(dateTimeZone), fieldsPerRecord);
+	}
+	/**
+	 * <p>
+	 * An array of {@link Interval} is created from the records of fields in the given 
+	 * <tt>int</tt> array, with the given {@link Chronology}.
+	 * </p>
+	 * 
+	 * <p>
+	 * The input int[] is read as a sequence of records of <tt>fieldsPerRecord</tt> fields each,
+	 * and one {@link Interval} is created from each record. The valid number of fields per record
+	 * is 6, 10, 12 or 14, and the length of the input array has to be a multiple of it.
+	 * </p>
+	 * 
+	 * <p>Each record is one of:</p>
+	 * <ul>
+	 * <li>year, month, day, year, month, day</li>
+	 * <li>year, month, day, hour, minute, year, month, day, hour, minute</li>
+	 * <li>year, month, day, hour, minute, second, year, month, day, hour, minute, second</li>
+	 * <li>year, month, day, hour, minute, second, millisecond, year, month, day, hour, minute, second, millisecond</li>
+	 * </ul>
+	 * 
+	 * @param fieldsPerRecord the number of fields of each record
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of {@link Interval} created from the input and arguments 
+	 */
+	public static final Function<int[], Interval[]> intFieldArrayToArrayOfInterval(int fieldsPerRecord, Chronology chronology) {
+		return new IntFieldArrayToArrayOfInterval(new IntFieldArrayToInterval(chronology), fieldsPerRecord);
+	}
 	//
 	
 	// From Calendar list or array
@@ -1044,11 +1358,14 @@ public final class FnInterval {
 
 		final Chronology chronology;
 		final DateTimeZone dateTimeZone;
+		// Chronology instants are computed with from their fields (null means ISO in the default zone)
+		private final Chronology fieldChronology;
 		
 		public BaseToInterval() {
 			super();
 			this.chronology = null;
 			this.dateTimeZone = null;
+			this.fieldChronology = null;
 		}
 
 		public BaseToInterval(Chronology chronology) {
@@ -1058,6 +1375,7 @@ public final class FnInterval {
 			
 			this.chronology = chronology;
 			this.dateTimeZone = null;
+			this.fieldChronology = chronology;
 		}
 
 		public BaseToInterval(DateTimeZone dateTimeZone) {
@@ -1067,6 +1385,18 @@ public final class FnInterval {
 						
 			this.chronology = null;
 			this.dateTimeZone = dateTimeZone;			
+			this.fieldChronology = ISOChronology.getInstance(dateTimeZone);
+		}
+		
+		/*
+		 * Returns the chronology an Interval created from fields has, which is also the
+		 * one new DateTime(year, ..., millisecond) would use with the same parameters.
+		 */
+		Chronology getFieldChronology() {
+			if (this.fieldChronology == null) {
+				return ISOChronology.getInstance();
+			}
+			return this.fieldChronology;
 		}
 	}
 	
@@ -1076,12 +1406,14 @@ public final class FnInterval {
 		private final ConversionType conversionType;
 		private final String pattern;
 		private final Locale locale;
+		private final DateTimeFormatter formatter;
 		
 		public StringFieldCollectionToInterval() {
 			super();
 			this.conversionType = ConversionType.NO_PARAM;
 			this.pattern = null;
 			this.locale = null;
+			this.formatter = null;
 		}
 		
 		public StringFieldCollectionToInterval(DateTimeZone dateTimeZone) {
@@ -1089,6 +1421,7 @@ public final class FnInterval {
 			this.conversionType = ConversionType.DATETIMEZONE;
 			this.pattern = null;
 			this.locale = null;
+			this.formatter = null;
 		}
 		
 		public StringFieldCollectionToInterval(Chronology chronology) {
@@ -1096,6 +1429,7 @@ public final class FnInterval {
 			this.conversionType = ConversionType.CHRONOLOGY;
 			this.pattern = null;
 			this.locale = null;
+			this.formatter = null;
 		}
 		
 		public StringFieldCollectionToInterval(String pattern) {
@@ -1106,6 +1440,7 @@ public final class FnInterval {
 			this.pattern = pattern;
 			this.conversionType = ConversionType.PATTERN;
 			this.locale = null;
+			this.formatter = DateTimeFormatterCache.forPattern(this.pattern, this.locale, this.dateTimeZone, this.chronology);
 		}	
 		
 		public StringFieldCollectionToInterval(String pattern, DateTimeZone dateTimeZone) {
@@ -1116,6 +1451,7 @@ public final class FnInterval {
 			this.pattern = pattern;
 			this.conversionType = ConversionType.PATTERN_DATETIMEZONE;
 			this.locale = null;
+			this.formatter = DateTimeFormatterCache.forPattern(this.pattern, this.locale, this.dateTimeZone, this.chronology);
 		}	
 		
 		public StringFieldCollectionToInterval(String pattern, Chronology chronology) {
@@ -1125,7 +1461,8 @@ public final class FnInterval {
 			
 			this.pattern = pattern;
 			this.conversionType = ConversionType.PATTERN_CHRONOLOGY;
-			this.locale = null;			
+			this.locale = null;
+			this.formatter = DateTimeFormatterCache.forPattern(this.pattern, this.locale, this.dateTimeZone, this.chronology);
 		}
 		
 		public StringFieldCollectionToInterval(String pattern, Locale locale) {
@@ -1137,6 +1474,7 @@ public final class FnInterval {
 			this.pattern = pattern;
 			this.locale = locale;
 			this.conversionType = ConversionType.PATTERN_LOCALE;
+			this.formatter = DateTimeFormatterCache.forPattern(this.pattern, this.locale, this.dateTimeZone, this.chronology);
 		}
 		
 		public StringFieldCollectionToInterval(String pattern, String locale) {
@@ -1146,8 +1484,9 @@ public final class FnInterval {
 			Validate.notEmpty(locale, "locale can't be neither empty nor null");
 			
 			this.pattern = pattern;
-			this.locale = LocaleUtils.toLocale(locale);
+			this.locale = ResolutionCache.toLocale(locale);
 			this.conversionType = ConversionType.PATTERN_LOCALE;
+			this.formatter = DateTimeFormatterCache.forPattern(this.pattern, this.locale, this.dateTimeZone, this.chronology);
 		}
 		
 		public StringFieldCollectionToInterval(String pattern, Locale locale, DateTimeZone dateTimeZone) {
@@ -1159,6 +1498,7 @@ public final class FnInterval {
 			this.pattern = pattern;
 			this.locale = locale;
 			this.conversionType = ConversionType.PATTERN_LOCALE_DATETIMEZONE;
+			this.formatter = DateTimeFormatterCache.forPattern(this.pattern, this.locale, this.dateTimeZone, this.chronology);
 		}
 		
 		public StringFieldCollectionToInterval(String pattern, String locale, DateTimeZone dateTimeZone) {
@@ -1168,8 +1508,9 @@ public final class FnInterval {
 			Validate.notEmpty(locale, "locale can't be neither empty nor null");
 			
 			this.pattern = pattern;
-			this.locale = LocaleUtils.toLocale(locale);
+			this.locale = ResolutionCache.toLocale(locale);
 			this.conversionType = ConversionType.PATTERN_LOCALE_DATETIMEZONE;
+			this.formatter = DateTimeFormatterCache.forPattern(this.pattern, this.locale, this.dateTimeZone, this.chronology);
 		}
 		
 		public StringFieldCollectionToInterval(String pattern, Locale locale, Chronology chronology) {
@@ -1181,6 +1522,7 @@ public final class FnInterval {
 			this.pattern = pattern;
 			this.locale = locale;
 			this.conversionType = ConversionType.PATTERN_LOCALE_CHRONOLOGY;
+			this.formatter = DateTimeFormatterCache.forPattern(this.pattern, this.locale, this.dateTimeZone, this.chronology);
 		}
 		
 		public StringFieldCollectionToInterval(String pattern, String locale, Chronology chronology) {
@@ -1190,8 +1532,9 @@ public final class FnInterval {
 			Validate.notEmpty(locale, "locale can't be neither empty nor null");
 			
 			this.pattern = pattern;
-			this.locale = LocaleUtils.toLocale(locale);
+			this.locale = ResolutionCache.toLocale(locale);
 			this.conversionType = ConversionType.PATTERN_LOCALE_CHRONOLOGY;
+			this.formatter = DateTimeFormatterCache.forPattern(this.pattern, this.locale, this.dateTimeZone, this.chronology);
 		}
 		
 		/* (non-Javadoc)
@@ -1222,9 +1565,9 @@ public final class FnInterval {
 							". Size " + object.size() + " is not valid.");
 				}
 				
-				int year1 = Integer.parseInt(iterator.next());
-				int month1 = Integer.parseInt(iterator.next());
-				int day1 = Integer.parseInt(iterator.next());
+				int year1 = FieldDecoder.parseInt(iterator.next());
+				int month1 = FieldDecoder.parseInt(iterator.next());
+				int day1 = FieldDecoder.parseInt(iterator.next());
 				int hour1 = 0;
 				int minute1 = 0;
 				int second1 = 0;
@@ -1237,58 +1580,46 @@ public final class FnInterval {
 				int second2 = 0;
 				int millisecond2 = 0;
 				if (object.size() == 6) {
-					year2 = Integer.parseInt(iterator.next());
-					month2 = Integer.parseInt(iterator.next());
-					day2 = Integer.parseInt(iterator.next());
+					year2 = FieldDecoder.parseInt(iterator.next());
+					month2 = FieldDecoder.parseInt(iterator.next());
+					day2 = FieldDecoder.parseInt(iterator.next());
 				} else if (object.size() == 10) {
-					hour1 = Integer.parseInt(iterator.next());
-					minute1 = Integer.parseInt(iterator.next());
-					year2 = Integer.parseInt(iterator.next());
-					month2 = Integer.parseInt(iterator.next());
-					day2 = Integer.parseInt(iterator.next());
-					hour2 = Integer.parseInt(iterator.next());
-					minute2 = Integer.parseInt(iterator.next());
+					hour1 = FieldDecoder.parseInt(iterator.next());
+					minute1 = FieldDecoder.parseInt(iterator.next());
+					year2 = FieldDecoder.parseInt(iterator.next());
+					month2 = FieldDecoder.parseInt(iterator.next());
+					day2 = FieldDecoder.parseInt(iterator.next());
+					hour2 = FieldDecoder.parseInt(iterator.next());
+					minute2 = FieldDecoder.parseInt(iterator.next());
 				} else if (object.size() == 12) {
-					hour1 = Integer.parseInt(iterator.next());
-					minute1 = Integer.parseInt(iterator.next());
-					second1 = Integer.parseInt(iterator.next());
-					year2 = Integer.parseInt(iterator.next());
-					month2 = Integer.parseInt(iterator.next());
-					day2 = Integer.parseInt(iterator.next());
-					hour2 = Integer.parseInt(iterator.next());
-					minute2 = Integer.parseInt(iterator.next());
-					second2 = Integer.parseInt(iterator.next());
+					hour1 = FieldDecoder.parseInt(iterator.next());
+					minute1 = FieldDecoder.parseInt(iterator.next());
+					second1 = FieldDecoder.parseInt(iterator.next());
+					year2 = FieldDecoder.parseInt(iterator.next());
+					month2 = FieldDecoder.parseInt(iterator.next());
+					day2 = FieldDecoder.parseInt(iterator.next());
+					hour2 = FieldDecoder.parseInt(iterator.next());
+					minute2 = FieldDecoder.parseInt(iterator.next());
+					second2 = FieldDecoder.parseInt(iterator.next());
 				} else {
-					hour1 = Integer.parseInt(iterator.next());
-					minute1 = Integer.parseInt(iterator.next());
-					second1 = Integer.parseInt(iterator.next());
-					millisecond1 = Integer.parseInt(iterator.next());
-					year2 = Integer.parseInt(iterator.next());
-					month2 = Integer.parseInt(iterator.next());
-					day2 = Integer.parseInt(iterator.next());
-					hour2 = Integer.parseInt(iterator.next());
-					minute2 = Integer.parseInt(iterator.next());
-					second2 = Integer.parseInt(iterator.next());
-					millisecond2 = Integer.parseInt(iterator.next());
+					hour1 = FieldDecoder.parseInt(iterator.next());
+					minute1 = FieldDecoder.parseInt(iterator.next());
+					second1 = FieldDecoder.parseInt(iterator.next());
+					millisecond1 = FieldDecoder.parseInt(iterator.next());
+					year2 = FieldDecoder.parseInt(iterator.next());
+					month2 = FieldDecoder.parseInt(iterator.next());
+					day2 = FieldDecoder.parseInt(iterator.next());
+					hour2 = FieldDecoder.parseInt(iterator.next());
+					minute2 = FieldDecoder.parseInt(iterator.next());
+					second2 = FieldDecoder.parseInt(iterator.next());
+					millisecond2 = FieldDecoder.parseInt(iterator.next());
 				}
 				
-				switch (this.conversionType) {
-					case NO_PARAM:
-						return new Interval(
-				    			new DateTime(year1, month1, day1, hour1, minute1, second1, millisecond1).getMillis(), 
-				    			new DateTime(year2, month2, day2, hour2, minute2, second2, millisecond2).getMillis());
-					case CHRONOLOGY:
-						return new Interval(
-								new DateTime(year1, month1, day1, hour1, minute1, second1, millisecond1, this.chronology).getMillis(), 
-				    			new DateTime(year2, month2, day2, hour2, minute2, second2, millisecond2, this.chronology).getMillis(), 
-			        			this.chronology);
-					default:
-						//DATETIMEZONE
-						return new Interval(
-								new DateTime(year1, month1, day1, hour1, minute1, second1, millisecond1, this.dateTimeZone).getMillis(), 
-				    			new DateTime(year2, month2, day2, hour2, minute2, second2, millisecond2, this.dateTimeZone).getMillis(), 
-			        			this.dateTimeZone);
-				}
+				final Chronology chronology = getFieldChronology();
+				return new Interval(
+						FieldMillis.getDateTimeMillis(chronology, year1, month1, day1, hour1, minute1, second1, millisecond1), 
+						FieldMillis.getDateTimeMillis(chronology, year2, month2, day2, hour2, minute2, second2, millisecond2), 
+						chronology);
 			} 
 			
 
@@ -1308,30 +1639,7 @@ public final class FnInterval {
 						+ "requires a Locale");
 			}
 
-			DateTimeFormatter dateTimeFormatter = null;
-			switch (this.conversionType) {
-				case PATTERN:
-					dateTimeFormatter = DateTimeFormat.forPattern(this.pattern);  				
-					break;
-				case PATTERN_LOCALE:
-					dateTimeFormatter = DateTimeFormat.forPattern(this.pattern).withLocale(this.locale);
-					break;	
-				case PATTERN_CHRONOLOGY:
-					dateTimeFormatter = DateTimeFormat.forPattern(this.pattern).withChronology(this.chronology);
-					break;	
-				case PATTERN_DATETIMEZONE:
-					dateTimeFormatter = DateTimeFormat.forPattern(this.pattern).withZone(this.dateTimeZone);
-					break;	
-				case PATTERN_LOCALE_CHRONOLOGY:
-					dateTimeFormatter = DateTimeFormat.forPattern(this.pattern)
-						.withLocale(this.locale).withChronology(this.chronology);
-					break;	
-				default:
-					// PATTERN_LOCALE_DATETIMEZONE
-					dateTimeFormatter = DateTimeFormat.forPattern(this.pattern)
-						.withLocale(this.locale).withZone(this.dateTimeZone);
-					break;		
-			}
+			final DateTimeFormatter dateTimeFormatter = this.formatter;
 			if (this.chronology != null) {
 				return new Interval(dateTimeFormatter.parseDateTime(iterator.next()).getMillis(), 
 						dateTimeFormatter.parseDateTime(iterator.next()).getMillis(),
@@ -1365,12 +1673,14 @@ public final class FnInterval {
 		private final ConversionType conversionType;
 		private final String pattern;
 		private final Locale locale;
+		private final DateTimeFormatter formatter;
 		
 		public StringFieldArrayToInterval() {
 			super();		
 			this.conversionType = ConversionType.NO_PARAM;
 			this.pattern = null;
 			this.locale = null;
+			this.formatter = null;
 		}
 		
 		public StringFieldArrayToInterval(String pattern) {
@@ -1381,6 +1691,7 @@ public final class FnInterval {
 			this.pattern = pattern;
 			this.conversionType = ConversionType.PATTERN;
 			this.locale = null;
+			this.formatter = DateTimeFormatterCache.forPattern(this.pattern, this.locale, this.dateTimeZone, this.chronology);
 		}	
 		
 		public StringFieldArrayToInterval(DateTimeZone dateTimeZone) {
@@ -1388,6 +1699,7 @@ public final class FnInterval {
 			this.conversionType = ConversionType.DATETIMEZONE;
 			this.pattern = null;
 			this.locale = null;
+			this.formatter = null;
 		}
 		
 		public StringFieldArrayToInterval(Chronology chronology) {
@@ -1395,6 +1707,7 @@ public final class FnInterval {
 			this.conversionType = ConversionType.CHRONOLOGY;
 			this.pattern = null;
 			this.locale = null;
+			this.formatter = null;
 		}
 				
 		public StringFieldArrayToInterval(String pattern, DateTimeZone dateTimeZone) {
@@ -1405,6 +1718,7 @@ public final class FnInterval {
 			this.pattern = pattern;
 			this.conversionType = ConversionType.PATTERN_DATETIMEZONE;
 			this.locale = null;
+			this.formatter = DateTimeFormatterCache.forPattern(this.pattern, this.locale, this.dateTimeZone, this.chronology);
 		}	
 		
 		public StringFieldArrayToInterval(String pattern, Chronology chronology) {
@@ -1415,6 +1729,7 @@ public final class FnInterval {
 			this.pattern = pattern;
 			this.conversionType = ConversionType.PATTERN_CHRONOLOGY;
 			this.locale = null;
+			this.formatter = DateTimeFormatterCache.forPattern(this.pattern, this.locale, this.dateTimeZone, this.chronology);
 		}
 		
 		public StringFieldArrayToInterval(String pattern, Locale locale) {
@@ -1426,6 +1741,7 @@ public final class FnInterval {
 			this.pattern = pattern;
 			this.locale = locale;
 			this.conversionType = ConversionType.PATTERN_LOCALE;
+			this.formatter = DateTimeFormatterCache.forPattern(this.pattern, this.locale, this.dateTimeZone, this.chronology);
 		}
 		
 		public StringFieldArrayToInterval(String pattern, String locale) {
@@ -1435,8 +1751,9 @@ public final class FnInterval {
 			Validate.notEmpty(locale, "locale can't be neither empty nor null");
 			
 			this.pattern = pattern;
-			this.locale = LocaleUtils.toLocale(locale);
+			this.locale = ResolutionCache.toLocale(locale);
 			this.conversionType = ConversionType.PATTERN_LOCALE;
+			this.formatter = DateTimeFormatterCache.forPattern(this.pattern, this.locale, this.dateTimeZone, this.chronology);
 		}
 		
 		public StringFieldArrayToInterval(String pattern, Locale locale, DateTimeZone dateTimeZone) {
@@ -1448,6 +1765,7 @@ public final class FnInterval {
 			this.pattern = pattern;
 			this.locale = locale;
 			this.conversionType = ConversionType.PATTERN_LOCALE_DATETIMEZONE;
+			this.formatter = DateTimeFormatterCache.forPattern(this.pattern, this.locale, this.dateTimeZone, this.chronology);
 		}
 		
 		public StringFieldArrayToInterval(String pattern, String locale, DateTimeZone dateTimeZone) {
@@ -1457,8 +1775,9 @@ public final class FnInterval {
 			Validate.notEmpty(locale, "locale can't be neither empty nor null");
 			
 			this.pattern = pattern;
-			this.locale = LocaleUtils.toLocale(locale);
+			this.locale = ResolutionCache.toLocale(locale);
 			this.conversionType = ConversionType.PATTERN_LOCALE_DATETIMEZONE;
+			this.formatter = DateTimeFormatterCache.forPattern(this.pattern, this.locale, this.dateTimeZone, this.chronology);
 		}
 		
 		public StringFieldArrayToInterval(String pattern, Locale locale, Chronology chronology) {
@@ -1470,6 +1789,7 @@ public final class FnInterval {
 			this.pattern = pattern;
 			this.locale = locale;
 			this.conversionType = ConversionType.PATTERN_LOCALE_CHRONOLOGY;
+			this.formatter = DateTimeFormatterCache.forPattern(this.pattern, this.locale, this.dateTimeZone, this.chronology);
 		}
 		
 		public StringFieldArrayToInterval(String pattern, String locale, Chronology chronology) {
@@ -1479,8 +1799,9 @@ public final class FnInterval {
 			Validate.notEmpty(locale, "locale can't be neither empty nor null");
 			
 			this.pattern = pattern;
-			this.locale = LocaleUtils.toLocale(locale);
+			this.locale = ResolutionCache.toLocale(locale);
 			this.conversionType = ConversionType.PATTERN_LOCALE_CHRONOLOGY;
+			this.formatter = DateTimeFormatterCache.forPattern(this.pattern, this.locale, this.dateTimeZone, this.chronology);
 		}
 		
 		/* (non-Javadoc)
@@ -1510,9 +1831,9 @@ public final class FnInterval {
 							". Size " + object.length + " is not valid.");
 				}
 				
-				int year1 = Integer.parseInt(object[0]);
-				int month1 = Integer.parseInt(object[1]);
-				int day1 = Integer.parseInt(object[2]);
+				int year1 = FieldDecoder.parseInt(object[0]);
+				int month1 = FieldDecoder.parseInt(object[1]);
+				int day1 = FieldDecoder.parseInt(object[2]);
 				int hour1 = 0;
 				int minute1 = 0;
 				int second1 = 0;
@@ -1525,58 +1846,46 @@ public final class FnInterval {
 				int second2 = 0;
 				int millisecond2 = 0;
 				if (object.length == 6) {
-					year2 = Integer.parseInt(object[3]);
-					month2 = Integer.parseInt(object[4]);
-					day2 = Integer.parseInt(object[5]);
+					year2 = FieldDecoder.parseInt(object[3]);
+					month2 = FieldDecoder.parseInt(object[4]);
+					day2 = FieldDecoder.parseInt(object[5]);
 				} else if (object.length == 10) {
-					hour1 = Integer.parseInt(object[3]);
-					minute1 = Integer.parseInt(object[4]);
-					year2 = Integer.parseInt(object[5]);
-					month2 = Integer.parseInt(object[6]);
-					day2 = Integer.parseInt(object[7]);
-					hour2 = Integer.parseInt(object[8]);
-					minute2 = Integer.parseInt(object[9]);
+					hour1 = FieldDecoder.parseInt(object[3]);
+					minute1 = FieldDecoder.parseInt(object[4]);
+					year2 = FieldDecoder.parseInt(object[5]);
+					month2 = FieldDecoder.parseInt(object[6]);
+					day2 = FieldDecoder.parseInt(object[7]);
+					hour2 = FieldDecoder.parseInt(object[8]);
+					minute2 = FieldDecoder.parseInt(object[9]);
 				} else if (object.length == 12) {
-					hour1 = Integer.parseInt(object[3]);
-					minute1 = Integer.parseInt(object[4]);
-					second1 = Integer.parseInt(object[5]);
-					year2 = Integer.parseInt(object[6]);
-					month2 = Integer.parseInt(object[7]);
-					day2 = Integer.parseInt(object[8]);
-					hour2 = Integer.parseInt(object[9]);
-					minute2 = Integer.parseInt(object[10]);
-					second2 = Integer.parseInt(object[11]);
+					hour1 = FieldDecoder.parseInt(object[3]);
+					minute1 = FieldDecoder.parseInt(object[4]);
+					second1 = FieldDecoder.parseInt(object[5]);
+					year2 = FieldDecoder.parseInt(object[6]);
+					month2 = FieldDecoder.parseInt(object[7]);
+					day2 = FieldDecoder.parseInt(object[8]);
+					hour2 = FieldDecoder.parseInt(object[9]);
+					minute2 = FieldDecoder.parseInt(object[10]);
+					second2 = FieldDecoder.parseInt(object[11]);
 				} else {
-					hour1 = Integer.parseInt(object[3]);
-					minute1 = Integer.parseInt(object[4]);
-					second1 = Integer.parseInt(object[5]);
-					millisecond1 = Integer.parseInt(object[6]);
-					year2 = Integer.parseInt(object[7]);
-					month2 = Integer.parseInt(object[8]);
-					day2 = Integer.parseInt(object[9]);
-					hour2 = Integer.parseInt(object[10]);
-					minute2 = Integer.parseInt(object[11]);
-					second2 = Integer.parseInt(object[12]);
-					millisecond2 = Integer.parseInt(object[13]);
+					hour1 = FieldDecoder.parseInt(object[3]);
+					minute1 = FieldDecoder.parseInt(object[4]);
+					second1 = FieldDecoder.parseInt(object[5]);
+					millisecond1 = FieldDecoder.parseInt(object[6]);
+					year2 = FieldDecoder.parseInt(object[7]);
+					month2 = FieldDecoder.parseInt(object[8]);
+					day2 = FieldDecoder.parseInt(object[9]);
+					hour2 = FieldDecoder.parseInt(object[10]);
+					minute2 = FieldDecoder.parseInt(object[11]);
+					second2 = FieldDecoder.parseInt(object[12]);
+					millisecond2 = FieldDecoder.parseInt(object[13]);
 				}
 				
-				switch (this.conversionType) {
-					case NO_PARAM:
-						return new Interval(
-				    			new DateTime(year1, month1, day1, hour1, minute1, second1, millisecond1).getMillis(), 
-				    			new DateTime(year2, month2, day2, hour2, minute2, second2, millisecond2).getMillis());
-					case CHRONOLOGY:
-						return new Interval(
-								new DateTime(year1, month1, day1, hour1, minute1, second1, millisecond1, this.chronology).getMillis(), 
-				    			new DateTime(year2, month2, day2, hour2, minute2, second2, millisecond2, this.chronology).getMillis(), 
-			        			this.chronology);
-					default:
-						//DATETIMEZONE
-						return new Interval(
-								new DateTime(year1, month1, day1, hour1, minute1, second1, millisecond1, this.dateTimeZone).getMillis(), 
-				    			new DateTime(year2, month2, day2, hour2, minute2, second2, millisecond2, this.dateTimeZone).getMillis(), 
-			        			this.dateTimeZone);
-				}
+				final Chronology chronology = getFieldChronology();
+				return new Interval(
+						FieldMillis.getDateTimeMillis(chronology, year1, month1, day1, hour1, minute1, second1, millisecond1), 
+						FieldMillis.getDateTimeMillis(chronology, year2, month2, day2, hour2, minute2, second2, millisecond2), 
+						chronology);
 			} 
 			
 			if (object.length != 2 ) {
@@ -1595,30 +1904,7 @@ public final class FnInterval {
 						+ "requires a Locale");
 			}
 
-			DateTimeFormatter dateTimeFormatter = null;
-			switch (this.conversionType) {
-				case PATTERN:
-					dateTimeFormatter = DateTimeFormat.forPattern(this.pattern);  				
-					break;
-				case PATTERN_LOCALE:
-					dateTimeFormatter = DateTimeFormat.forPattern(this.pattern).withLocale(this.locale);
-					break;	
-				case PATTERN_CHRONOLOGY:
-					dateTimeFormatter = DateTimeFormat.forPattern(this.pattern).withChronology(this.chronology);
-					break;	
-				case PATTERN_DATETIMEZONE:
-					dateTimeFormatter = DateTimeFormat.forPattern(this.pattern).withZone(this.dateTimeZone);
-					break;	
-				case PATTERN_LOCALE_CHRONOLOGY:
-					dateTimeFormatter = DateTimeFormat.forPattern(this.pattern)
-					.withLocale(this.locale).withChronology(this.chronology);
-					break;	
-				default:
-					// PATTERN_LOCALE_DATETIMEZONE
-					dateTimeFormatter = DateTimeFormat.forPattern(this.pattern)
-					.withLocale(this.locale).withZone(this.dateTimeZone);
-					break;		
-			}
+			final DateTimeFormatter dateTimeFormatter = this.formatter;
 			if (this.chronology != null) {
 				return new Interval(dateTimeFormatter.parseDateTime(object[0]).getMillis(), 
 						dateTimeFormatter.parseDateTime(object[1]).getMillis(),
@@ -1961,23 +2247,11 @@ public final class FnInterval {
 				millisecond2 = iterator.next().intValue();
 			}
 
-			if (this.chronology != null) {
-				return new Interval(
-						new DateTime(year1, month1, day1, hour1, minute1, second1, millisecond1, this.chronology).getMillis(), 
-						new DateTime(year2, month2, day2, hour2, minute2, second2, millisecond2, this.chronology).getMillis(), 
-						this.chronology);
-			}
-
-			if (this.dateTimeZone != null) {
-				return new Interval(
-						new DateTime(year1, month1, day1, hour1, minute1, second1, millisecond1, this.dateTimeZone).getMillis(), 
-						new DateTime(year2, month2, day2, hour2, minute2, second2, millisecond2, this.dateTimeZone).getMillis(), 
-						this.dateTimeZone);
-			}
-
+			final Chronology chronology = getFieldChronology();
 			return new Interval(
-					new DateTime(year1, month1, day1, hour1, minute1, second1, millisecond1).getMillis(), 
-					new DateTime(year2, month2, day2, hour2, minute2, second2, millisecond2).getMillis());
+					FieldMillis.getDateTimeMillis(chronology, year1, month1, day1, hour1, minute1, second1, millisecond1), 
+					FieldMillis.getDateTimeMillis(chronology, year2, month2, day2, hour2, minute2, second2, millisecond2), 
+					chronology);
 		}		
 	}	
 	
@@ -2067,23 +2341,236 @@ public final class FnInterval {
 				millisecond2 = object[13].intValue();
 			}
 
-			if (this.chronology != null) {
-				return new Interval(
-						new DateTime(year1, month1, day1, hour1, minute1, second1, millisecond1, this.chronology).getMillis(), 
-						new DateTime(year2, month2, day2, hour2, minute2, second2, millisecond2, this.chronology).getMillis(), 
-						this.chronology);
+			final Chronology chronology = getFieldChronology();
+			return new Interval(
+					FieldMillis.getDateTimeMillis(chronology, year1, month1, day1, hour1, minute1, second1, millisecond1), 
+					FieldMillis.getDateTimeMillis(chronology, year2, month2, day2, hour2, minute2, second2, millisecond2), 
+					chronology);
+		}		
+	}	
+	
+	static final class IntFieldArrayToInterval extends BaseToInterval<int[]> {
+
+		public IntFieldArrayToInterval() {
+			super();			
+		}	
+		
+		public IntFieldArrayToInterval(DateTimeZone dateTimeZone) {
+			super(dateTimeZone);
+		}
+		
+		public IntFieldArrayToInterval(Chronology chronology) {
+			super(chronology);
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.op4j.functions.AbstractNullAsNullFunction#nullAsNullExecute(java.lang.Object, org.op4j.functions.ExecCtx)
+		 */
+		@Override
+		public Interval nullAsNullExecute(final int[] object, final ExecCtx ctx) throws Exception {
+			return fromFields(object, 0, object.length);
+		}
+		
+		Interval fromFields(final int[] fields, final int offset, final int length) throws ExecutionException {
+			if (length != 6 && length != 10 && length != 12 && length != 14) {
+				throw new ExecutionException(
+						"int arguments array for Interval conversion should of lengths " +
+						"6 (year, month, day, year, month, day), " +
+						"10 (year, month, day, hour, minute, year, month, day, hour, minute), " +
+						"12 (year, month, day, hour, minute, second, year, month, day, hour, minute, second), " +
+						"14 (year, month, day, hour, minute, second, millisecond, year, month, day, hour, minute, second, millisecond)" +
+						". Size " + length + " is not valid.");
+			}
+			
+			// Start and end have the same number of fields: 3, 5, 6 or 7
+			final int size = length / 2;
+			final Chronology chronology = getFieldChronology();
+			return new Interval(
+					toMillis(chronology, fields, offset, size), 
+					toMillis(chronology, fields, offset + size, size), 
+					chronology);
+		}
+		
+		private static long toMillis(final Chronology chronology, final int[] fields, final int offset, final int size) {
+			final int year = fields[offset];
+			final int month = fields[offset + 1];
+			final int day = fields[offset + 2];
+			final int hour = (size >= 5) ? fields[offset + 3] : 0;
+			final int minute = (size >= 5) ? fields[offset + 4] : 0;
+			final int second = (size >= 6) ? fields[offset + 5] : 0;
+			final int millisecond = (size >= 7) ? fields[offset + 6] : 0;
+			
+			return FieldMillis.getDateTimeMillis(chronology, year, month, day, hour, minute, second, millisecond);
+		}
+	}	
+	
+	static final class IntFieldArrayToArrayOfInterval extends AbstractNullAsNullFunction<int[], Interval[]> {
+
+		private final IntFieldArrayToInterval converter;
+		private final int fieldsPerRecord;
+		
+		public IntFieldArrayToArrayOfInterval(final IntFieldArrayToInterval converter, final int fieldsPerRecord) {
+			super();
+			
+			Validate.isTrue(fieldsPerRecord == 6 || fieldsPerRecord == 10 || fieldsPerRecord == 12 || fieldsPerRecord == 14, 
+					"fieldsPerRecord must be 6, 10, 12 or 14");
+			
+			this.converter = converter;
+			this.fieldsPerRecord = fieldsPerRecord;
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.op4j.functions.AbstractNullAsNullFunction#nullAsNullExecute(java.lang.Object, org.op4j.functions.ExecCtx)
+		 */
+		@Override
+		public Interval[] nullAsNullExecute(final int[] object, final ExecCtx ctx) throws Exception {
+			if (object.length % this.fieldsPerRecord != 0) {
+				throw new ExecutionException(
+						"int arguments array for Interval conversion should have a size multiple of " +
+						this.fieldsPerRecord + ". Size " + object.length + " is not valid.");
+			}
+			
+			final Interval[] result = new Interval[object.length / this.fieldsPerRecord];
+			for (int i = 0; i < result.length; i++) {
+				result[i] = this.converter.fromFields(object, i * this.fieldsPerRecord, this.fieldsPerRecord);
 			}
+			return result;
+		}
+		
+	}
+	
+	static final class LayoutIntegerFieldCollectionToInterval extends BaseToInterval<Collection<Integer>> {
 
-			if (this.dateTimeZone != null) {
-				return new Interval(
-						new DateTime(year1, month1, day1, hour1, minute1, second1, millisecond1, this.dateTimeZone).getMillis(), 
-						new DateTime(year2, month2, day2, hour2, minute2, second2, millisecond2, this.dateTimeZone).getMillis(), 
-						this.dateTimeZone);
+		private final FieldLayout layout;
+		private final int size;
+		
+		public LayoutIntegerFieldCollectionToInterval(FieldLayout layout) {
+			super();
+			Validate.notNull(layout, "layout can't be null");
+			this.layout = layout;
+			this.size = 2 * layout.getSize();
+		}	
+		
+		public LayoutIntegerFieldCollectionToInterval(FieldLayout layout, DateTimeZone dateTimeZone) {
+			super(dateTimeZone);
+			Validate.notNull(layout, "layout can't be null");
+			this.layout = layout;
+			this.size = 2 * layout.getSize();
+		}
+		
+		public LayoutIntegerFieldCollectionToInterval(FieldLayout layout, Chronology chronology) {
+			super(chronology);
+			Validate.notNull(layout, "layout can't be null");
+			this.layout = layout;
+			this.size = 2 * layout.getSize();
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.op4j.functions.AbstractNullAsNullFunction#nullAsNullExecute(java.lang.Object, org.op4j.functions.ExecCtx)
+		 */
+		@Override
+		public Interval nullAsNullExecute(final Collection<Integer> object, final ExecCtx ctx) throws Exception {
+			if (object.size() != this.size) {
+				throw new ExecutionException(
+						"Integer arguments list for Interval conversion with layout " + this.layout + 
+						" should be of size " + this.size + ". Size " + object.size() + " is not valid.");
 			}
+			
+			final Iterator<Integer> iterator = object.iterator();
+			final Chronology chronology = getFieldChronology();
+			final long startMillis = this.layout.getMillis(chronology, iterator);
+			final long endMillis = this.layout.getMillis(chronology, iterator);
+			return new Interval(startMillis, endMillis, chronology);
+		}		
+	}	
+	
+	static final class LayoutIntegerFieldArrayToInterval extends BaseToInterval<Integer[]> {
+
+		private final FieldLayout layout;
+		private final int length;
+		
+		public LayoutIntegerFieldArrayToInterval(FieldLayout layout) {
+			super();
+			Validate.notNull(layout, "layout can't be null");
+			this.layout = layout;
+			this.length = 2 * layout.getSize();
+		}	
+		
+		public LayoutIntegerFieldArrayToInterval(FieldLayout layout, DateTimeZone dateTimeZone) {
+			super(dateTimeZone);
+			Validate.notNull(layout, "layout can't be null");
+			this.layout = layout;
+			this.length = 2 * layout.getSize();
+		}
+		
+		public LayoutIntegerFieldArrayToInterval(FieldLayout layout, Chronology chronology) {
+			super(chronology);
+			Validate.notNull(layout, "layout can't be null");
+			this.layout = layout;
+			this.length = 2 * layout.getSize();
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.op4j.functions.AbstractNullAsNullFunction#nullAsNullExecute(java.lang.Object, org.op4j.functions.ExecCtx)
+		 */
+		@Override
+		public Interval nullAsNullExecute(final Integer[] object, final ExecCtx ctx) throws Exception {
+			if (object.length != this.length) {
+				throw new ExecutionException(
+						"Integer arguments array for Interval conversion with layout " + this.layout + 
+						" should be of length " + this.length + ". Size " + object.length + " is not valid.");
+			}
+			
+			final Chronology chronology = getFieldChronology();
+			return new Interval(
+					this.layout.getMillis(chronology, object, 0), 
+					this.layout.getMillis(chronology, object, this.length / 2), 
+					chronology);
+		}		
+	}	
+	
+	static final class LayoutIntFieldArrayToInterval extends BaseToInterval<int[]> {
 
+		private final FieldLayout layout;
+		private final int length;
+		
+		public LayoutIntFieldArrayToInterval(FieldLayout layout) {
+			super();
+			Validate.notNull(layout, "layout can't be null");
+			this.layout = layout;
+			this.length = 2 * layout.getSize();
+		}	
+		
+		public LayoutIntFieldArrayToInterval(FieldLayout layout, DateTimeZone dateTimeZone) {
+			super(dateTimeZone);
+			Validate.notNull(layout, "layout can't be null");
+			this.layout = layout;
+			this.length = 2 * layout.getSize();
+		}
+		
+		public LayoutIntFieldArrayToInterval(FieldLayout layout, Chronology chronology) {
+			super(chronology);
+			Validate.notNull(layout, "layout can't be null");
+			this.layout = layout;
+			this.length = 2 * layout.getSize();
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.op4j.functions.AbstractNullAsNullFunction#nullAsNullExecute(java.lang.Object, org.op4j.functions.ExecCtx)
+		 */
+		@Override
+		public Interval nullAsNullExecute(final int[] object, final ExecCtx ctx) throws Exception {
+			if (object.length != this.length) {
+				throw new ExecutionException(
+						"int arguments array for Interval conversion with layout " + this.layout + 
+						" should be of length " + this.length + ". Size " + object.length + " is not valid.");
+			}
+			
+			final Chronology chronology = getFieldChronology();
 			return new Interval(
-					new DateTime(year1, month1, day1, hour1, minute1, second1, millisecond1).getMillis(), 
-					new DateTime(year2, month2, day2, hour2, minute2, second2, millisecond2).getMillis());
+					this.layout.getMillis(chronology, object, 0), 
+					this.layout.getMillis(chronology, object, this.length / 2), 
+					chronology);
 		}		
 	}	
 	
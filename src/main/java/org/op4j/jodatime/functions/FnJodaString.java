@@ -20,16 +20,17 @@
 
 package org.op4j.jodatime.functions;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.Locale;
 
-import org.apache.commons.lang.LocaleUtils;
 import org.apache.commons.lang.Validate;
 import org.joda.time.Chronology;
 import org.joda.time.LocalDate;
 import org.joda.time.LocalTime;
 import org.joda.time.base.BaseDateTime;
-import org.joda.time.format.DateTimeFormat;
 import org.joda.time.format.DateTimeFormatter;
+import org.joda.time.format.ISODateTimeFormat;
 import org.op4j.functions.AbstractNullAsNullFunction;
 import org.op4j.functions.ExecCtx;
 import org.op4j.functions.Function;
@@ -296,36 +297,326 @@ public final class FnJodaString {
 	}
 	
 	
+	
+	/**
+	 * <p>
+	 * It creates a {@link JodaStringAppender} which appends the input {@link BaseDateTime} converted into
+	 * a {@link String} by means of its default format.
+	 * The appended text is the same {@link #baseDateTimeToStr()} would return.
+	 * </p>
+	 * 
+	 * @return the {@link JodaStringAppender} created from the arguments 
+	 */
+	public static final JodaStringAppender<BaseDateTime> baseDateTimeAppender() {
+		return new BaseDateTimeAppender(new BaseDateTimeToStr());
+	}
+	
+	/**
+	 * <p>
+	 * It creates a {@link JodaStringAppender} which appends the input {@link BaseDateTime} converted into
+	 * a {@link String} by means of the given pattern or style (depending on the value of formatType parameter).
+	 * The appended text is the same {@link #baseDateTimeToStr(FormatType, String)} would return.
+	 * </p>
+	 * 
+	 * @param formatType the format {@link FormatType} 
+	 * @param format string with the format used for the output 
+	 * @return the {@link JodaStringAppender} created from the arguments 
+	 */
+	public static final JodaStringAppender<BaseDateTime> baseDateTimeAppender(final FormatType formatType, final String format) {
+		return new BaseDateTimeAppender(new BaseDateTimeToStr(formatType, format));
+	}
+	
+	/**
+	 * <p>
+	 * It creates a {@link JodaStringAppender} which appends the input {@link BaseDateTime} converted into
+	 * a {@link String} by means of the given pattern or style (depending on the value of formatType parameter)
+	 * with the given {@link Locale}.
+	 * The appended text is the same {@link #baseDateTimeToStr(FormatType, String, Locale)} would return.
+	 * </p>
+	 * 
+	 * @param formatType the format {@link FormatType} 
+	 * @param format string with the format used for the output 
+	 * @param locale {@link Locale} to be used 
+	 * @return the {@link JodaStringAppender} created from the arguments 
+	 */
+	public static final JodaStringAppender<BaseDateTime> baseDateTimeAppender(final FormatType formatType, final String format, final Locale locale) {
+		return new BaseDateTimeAppender(new BaseDateTimeToStr(formatType, format, locale));
+	}
+	
+	/**
+	 * <p>
+	 * It creates a {@link JodaStringAppender} which appends the input {@link BaseDateTime} converted into
+	 * a {@link String} by means of the given pattern or style (depending on the value of formatType parameter)
+	 * with the given {@link Chronology}.
+	 * The appended text is the same {@link #baseDateTimeToStr(FormatType, String, Chronology)} would return.
+	 * </p>
+	 * 
+	 * @param formatType the format {@link FormatType} 
+	 * @param format string with the format used for the output 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the {@link JodaStringAppender} created from the arguments 
+	 */
+	public static final JodaStringAppender<BaseDateTime> baseDateTimeAppender(final FormatType formatType, final String format, final Chronology chronology) {
+		return new BaseDateTimeAppender(new BaseDateTimeToStr(formatType, format, chronology));
+	}
+	
+	/**
+	 * <p>
+	 * It creates a {@link JodaStringAppender} which appends the input {@link BaseDateTime} converted into
+	 * a {@link String} by means of the given pattern or style (depending on the value of formatType parameter)
+	 * with the given locale.
+	 * The appended text is the same {@link #baseDateTimeToStr(FormatType, String, String)} would return.
+	 * </p>
+	 * 
+	 * @param formatType the format {@link FormatType} 
+	 * @param format string with the format used for the output 
+	 * @param locale {@link Locale} to be used 
+	 * @return the {@link JodaStringAppender} created from the arguments 
+	 */
+	public static final JodaStringAppender<BaseDateTime> baseDateTimeAppender(final FormatType formatType, final String format, final String locale) {
+		return new BaseDateTimeAppender(new BaseDateTimeToStr(formatType, format, locale));
+	}
+	
+	/**
+	 * <p>
+	 * It creates a {@link JodaStringAppender} which appends the input {@link BaseDateTime} converted into
+	 * a {@link String} by means of the given {@link DateTimeFormatter}.
+	 * The appended text is the same {@link #baseDateTimeToStr(DateTimeFormatter)} would return.
+	 * </p>
+	 * 
+	 * @param formatter {@link DateTimeFormatter} to generate the output String with 
+	 * @return the {@link JodaStringAppender} created from the arguments 
+	 */
+	public static final JodaStringAppender<BaseDateTime> baseDateTimeAppender(final DateTimeFormatter formatter) {
+		return new BaseDateTimeAppender(new BaseDateTimeToStr(formatter));
+	}
+	
+	
+	
+	/**
+	 * <p>
+	 * It creates a {@link JodaStringAppender} which appends the input {@link LocalTime} converted into
+	 * a {@link String} by means of its default format.
+	 * The appended text is the same {@link #localTimeToStr()} would return.
+	 * </p>
+	 * 
+	 * @return the {@link JodaStringAppender} created from the arguments 
+	 */
+	public static final JodaStringAppender<LocalTime> localTimeAppender() {
+		return new LocalTimeAppender(new LocalTimeToStr());
+	}
+	
+	/**
+	 * <p>
+	 * It creates a {@link JodaStringAppender} which appends the input {@link LocalTime} converted into
+	 * a {@link String} by means of the given pattern or style (depending on the value of formatType parameter).
+	 * The appended text is the same {@link #localTimeToStr(FormatType, String)} would return.
+	 * </p>
+	 * 
+	 * @param formatType the format {@link FormatType} 
+	 * @param format string with the format used for the output 
+	 * @return the {@link JodaStringAppender} created from the arguments 
+	 */
+	public static final JodaStringAppender<LocalTime> localTimeAppender(final FormatType formatType, final String format) {
+		return new LocalTimeAppender(new LocalTimeToStr(formatType, format));
+	}
+	
+	/**
+	 * <p>
+	 * It creates a {@link JodaStringAppender} which appends the input {@link LocalTime} converted into
+	 * a {@link String} by means of the given pattern or style (depending on the value of formatType parameter)
+	 * with the given {@link Locale}.
+	 * The appended text is the same {@link #localTimeToStr(FormatType, String, Locale)} would return.
+	 * </p>
+	 * 
+	 * @param formatType the format {@link FormatType} 
+	 * @param format string with the format used for the output 
+	 * @param locale {@link Locale} to be used 
+	 * @return the {@link JodaStringAppender} created from the arguments 
+	 */
+	public static final JodaStringAppender<LocalTime> localTimeAppender(final FormatType formatType, final String format, final Locale locale) {
+		return new LocalTimeAppender(new LocalTimeToStr(formatType, format, locale));
+	}
+	
+	/**
+	 * <p>
+	 * It creates a {@link JodaStringAppender} which appends the input {@link LocalTime} converted into
+	 * a {@link String} by means of the given pattern or style (depending on the value of formatType parameter)
+	 * with the given {@link Chronology}.
+	 * The appended text is the same {@link #localTimeToStr(FormatType, String, Chronology)} would return.
+	 * </p>
+	 * 
+	 * @param formatType the format {@link FormatType} 
+	 * @param format string with the format used for the output 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the {@link JodaStringAppender} created from the arguments 
+	 */
+	public static final JodaStringAppender<LocalTime> localTimeAppender(final FormatType formatType, final String format, final Chronology chronology) {
+		return new LocalTimeAppender(new LocalTimeToStr(formatType, format, chronology));
+	}
+	
+	/**
+	 * <p>
+	 * It creates a {@link JodaStringAppender} which appends the input {@link LocalTime} converted into
+	 * a {@link String} by means of the given pattern or style (depending on the value of formatType parameter)
+	 * with the given locale.
+	 * The appended text is the same {@link #localTimeToStr(FormatType, String, String)} would return.
+	 * </p>
+	 * 
+	 * @param formatType the format {@link FormatType} 
+	 * @param format string with the format used for the output 
+	 * @param locale {@link Locale} to be used 
+	 * @return the {@link JodaStringAppender} created from the arguments 
+	 */
+	public static final JodaStringAppender<LocalTime> localTimeAppender(final FormatType formatType, final String format, final String locale) {
+		return new LocalTimeAppender(new LocalTimeToStr(formatType, format, locale));
+	}
+	
+	/**
+	 * <p>
+	 * It creates a {@link JodaStringAppender} which appends the input {@link LocalTime} converted into
+	 * a {@link String} by means of the given {@link DateTimeFormatter}.
+	 * The appended text is the same {@link #localTimeToStr(DateTimeFormatter)} would return.
+	 * </p>
+	 * 
+	 * @param formatter {@link DateTimeFormatter} to generate the output String with 
+	 * @return the {@link JodaStringAppender} created from the arguments 
+	 */
+	public static final JodaStringAppender<LocalTime> localTimeAppender(final DateTimeFormatter formatter) {
+		return new LocalTimeAppender(new LocalTimeToStr(formatter));
+	}
+	
+	
+	
+	/**
+	 * <p>
+	 * It creates a {@link JodaStringAppender} which appends the input {@link LocalDate} converted into
+	 * a {@link String} by means of its default format.
+	 * The appended text is the same {@link #localDateToStr()} would return.
+	 * </p>
+	 * 
+	 * @return the {@link JodaStringAppender} created from the arguments 
+	 */
+	public static final JodaStringAppender<LocalDate> localDateAppender() {
+		return new LocalDateAppender(new LocalDateToStr());
+	}
+	
+	/**
+	 * <p>
+	 * It creates a {@link JodaStringAppender} which appends the input {@link LocalDate} converted into
+	 * a {@link String} by means of the given pattern or style (depending on the value of formatType parameter).
+	 * The appended text is the same {@link #localDateToStr(FormatType, String)} would return.
+	 * </p>
+	 * 
+	 * @param formatType the format {@link FormatType} 
+	 * @param format string with the format used for the output 
+	 * @return the {@link JodaStringAppender} created from the arguments 
+	 */
+	public static final JodaStringAppender<LocalDate> localDateAppender(final FormatType formatType, final String format) {
+		return new LocalDateAppender(new LocalDateToStr(formatType, format));
+	}
+	
+	/**
+	 * <p>
+	 * It creates a {@link JodaStringAppender} which appends the input {@link LocalDate} converted into
+	 * a {@link String} by means of the given pattern or style (depending on the value of formatType parameter)
+	 * with the given {@link Locale}.
+	 * The appended text is the same {@link #localDateToStr(FormatType, String, Locale)} would return.
+	 * </p>
+	 * 
+	 * @param formatType the format {@link FormatType} 
+	 * @param format string with the format used for the output 
+	 * @param locale {@link Locale} to be used 
+	 * @return the {@link JodaStringAppender} created from the arguments 
+	 */
+	public static final JodaStringAppender<LocalDate> localDateAppender(final FormatType formatType, final String format, final Locale locale) {
+		return new LocalDateAppender(new LocalDateToStr(formatType, format, locale));
+	}
+	
+	/**
+	 * <p>
+	 * It creates a {@link JodaStringAppender} which appends the input {@link LocalDate} converted into
+	 * a {@link String} by means of the given pattern or style (depending on the value of formatType parameter)
+	 * with the given {@link Chronology}.
+	 * The appended text is the same {@link #localDateToStr(FormatType, String, Chronology)} would return.
+	 * </p>
+	 * 
+	 * @param formatType the format {@link FormatType} 
+	 * @param format string with the format used for the output 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the {@link JodaStringAppender} created from the arguments 
+	 */
+	public static final JodaStringAppender<LocalDate> localDateAppender(final FormatType formatType, final String format, final Chronology chronology) {
+		return new LocalDateAppender(new LocalDateToStr(formatType, format, chronology));
+	}
+	
+	/**
+	 * <p>
+	 * It creates a {@link JodaStringAppender} which appends the input {@link LocalDate} converted into
+	 * a {@link String} by means of the given pattern or style (depending on the value of formatType parameter)
+	 * with the given locale.
+	 * The appended text is the same {@link #localDateToStr(FormatType, String, String)} would return.
+	 * </p>
+	 * 
+	 * @param formatType the format {@link FormatType} 
+	 * @param format string with the format used for the output 
+	 * @param locale {@link Locale} to be used 
+	 * @return the {@link JodaStringAppender} created from the arguments 
+	 */
+	public static final JodaStringAppender<LocalDate> localDateAppender(final FormatType formatType, final String format, final String locale) {
+		return new LocalDateAppender(new LocalDateToStr(formatType, format, locale));
+	}
+	
+	/**
+	 * <p>
+	 * It creates a {@link JodaStringAppender} which appends the input {@link LocalDate} converted into
+	 * a {@link String} by means of the given {@link DateTimeFormatter}.
+	 * The appended text is the same {@link #localDateToStr(DateTimeFormatter)} would return.
+	 * </p>
+	 * 
+	 * @param formatter {@link DateTimeFormatter} to generate the output String with 
+	 * @return the {@link JodaStringAppender} created from the arguments 
+	 */
+	public static final JodaStringAppender<LocalDate> localDateAppender(final DateTimeFormatter formatter) {
+		return new LocalDateAppender(new LocalDateToStr(formatter));
+	}
+	
+	
+	
+	
 	public static enum FormatType {
 		PATTERN,
 		STYLE			
 	}
 	
+	
+	
+	/*
+	 * Resolves the final formatter for the given pattern or style, so that functions
+	 * can obtain it once at construction time instead of once per converted element.
+	 */
+	private static DateTimeFormatter createFormatter(final FormatType formatType, final String format, 
+			final Locale locale, final Chronology chronology) {
+		switch (formatType) {
+			case PATTERN:
+				return DateTimeFormatterCache.forPattern(format, locale, null, chronology);
+			default: // STYLE
+				return DateTimeFormatterCache.forStyle(format, locale, null, chronology);
+		}
+	}
+	
+	
+	
 	static final class BaseDateTimeToStr extends AbstractNullAsNullFunction<BaseDateTime, String> {
 
-		private final ConversionType conversionType;		
 		private final DateTimeFormatter formatter;
-		private final String pattern;
-		private final String style;
-		private final Locale locale;
-		private final Chronology chronology;
-		
-		private static enum ConversionType {
-			FROM_PATTERN,
-			FROM_STYLE,
-			FROM_FORMATTER
-		}
+		private final FixedWidthPrinter printer;
 		
 		public BaseDateTimeToStr() {
             super();
             
-            this.conversionType = null;            
             this.formatter = null;
-            this.pattern = null;
-            this.style = null;
-            this.locale = null;
-            this.chronology = null;
-            
+            this.printer = null;
         }
 		
 		public BaseDateTimeToStr(DateTimeFormatter formatter) {
@@ -333,13 +624,8 @@ public final class FnJodaString {
 			
 			Validate.notNull(formatter, "formatter can't be null");
 			
-			this.conversionType = ConversionType.FROM_FORMATTER;			
 			this.formatter = formatter;
-			this.pattern = null;
-			this.style = null;
-			this.locale = null;
-			this.chronology = null;
-			
+			this.printer = null;
 		}
 		
 		public BaseDateTimeToStr(FormatType formatType, String format) {
@@ -348,22 +634,8 @@ public final class FnJodaString {
 			Validate.notNull(formatType, "formatType can't be null");
 			Validate.notEmpty(format, "format can't be neither empty nor null");
 			
-			this.locale = null;
-			this.formatter = null;
-			this.chronology = null;
-			
-			switch (formatType) {
-				case PATTERN:
-					this.pattern = format;
-					this.style = null;
-					this.conversionType = ConversionType.FROM_PATTERN;
-					break;
-				default: // STYLE
-					this.pattern = null;
-					this.style = format;
-					this.conversionType = ConversionType.FROM_STYLE;
-					break;	
-			}
+			this.formatter = createFormatter(formatType, format, null, null);
+			this.printer = (formatType == FormatType.PATTERN ? FixedWidthPrinter.forInstants(format, this.formatter) : null);
 		}
 		
 		public BaseDateTimeToStr(FormatType formatType, String format, Chronology chronology) {
@@ -373,22 +645,8 @@ public final class FnJodaString {
 			Validate.notEmpty(format, "format can't be neither empty nor null");
 			Validate.notNull(chronology, "chronology can't be null");
 			
-			this.chronology = chronology;
-			this.locale = null;
-			this.formatter = null;
-			
-			switch (formatType) {
-				case PATTERN:
-					this.pattern = format;
-					this.style = null;
-					this.conversionType = ConversionType.FROM_PATTERN;
-					break;
-				default: // STYLE
-					this.pattern = null;
-					this.style = format;
-					this.conversionType = ConversionType.FROM_STYLE;
-					break;	
-			}
+			this.formatter = createFormatter(formatType, format, null, chronology);
+			this.printer = (formatType == FormatType.PATTERN ? FixedWidthPrinter.forInstants(format, this.formatter) : null);
 		}
 		
 		public BaseDateTimeToStr(FormatType formatType, String format, Locale locale) {
@@ -398,22 +656,8 @@ public final class FnJodaString {
 			Validate.notEmpty(format, "format can't be neither empty nor null");
 			Validate.notNull(locale, "locale can't be null");
 			
-			this.locale = locale;
-			this.formatter = null;
-			this.chronology = null;
-			
-			switch (formatType) {
-				case PATTERN:
-					this.pattern = format;
-					this.style = null;
-					this.conversionType = ConversionType.FROM_PATTERN;
-					break;
-				default: // STYLE
-					this.pattern = null;
-					this.style = format;
-					this.conversionType = ConversionType.FROM_STYLE;
-					break;	
-			}
+			this.formatter = createFormatter(formatType, format, locale, null);
+			this.printer = (formatType == FormatType.PATTERN ? FixedWidthPrinter.forInstants(format, this.formatter) : null);
 		}
 		
 		public BaseDateTimeToStr(FormatType formatType, String format, String locale) {
@@ -423,22 +667,8 @@ public final class FnJodaString {
 			Validate.notEmpty(format, "format can't be neither empty nor null");
 			Validate.notEmpty(locale, "locale can't be neither empty nor null");
 			
-			this.locale = LocaleUtils.toLocale(locale);
-			this.formatter = null;
-			this.chronology = null;
-			
-			switch (formatType) {
-				case PATTERN:
-					this.pattern = format;
-					this.style = null;
-					this.conversionType = ConversionType.FROM_PATTERN;
-					break;
-				default: // STYLE
-					this.pattern = null;
-					this.style = format;
-					this.conversionType = ConversionType.FROM_STYLE;
-					break;	
-			}
+			this.formatter = createFormatter(formatType, format, ResolutionCache.toLocale(locale), null);
+			this.printer = (formatType == FormatType.PATTERN ? FixedWidthPrinter.forInstants(format, this.formatter) : null);
 		}
 		
 		/* (non-Javadoc)
@@ -446,55 +676,29 @@ public final class FnJodaString {
 		 */
 		@Override
 		public String nullAsNullExecute(final BaseDateTime baseDateTime, ExecCtx ctx) throws Exception {
-			if (this.conversionType == null) {
+			if (this.formatter == null) {
 			    return baseDateTime.toString();
 			}
-		    switch (this.conversionType) {
-				case FROM_FORMATTER:
-					return baseDateTime.toString(this.formatter);					
-				default:
-					// Either pattern or style
-					DateTimeFormatter f = null;
-					if (ConversionType.FROM_PATTERN.equals(this.conversionType)) {
-						f = DateTimeFormat.forPattern(this.pattern);
-					} else {
-						f = DateTimeFormat.forStyle(this.style);
-					}
-					if (this.locale != null) {
-						f = f.withLocale(this.locale);
-					}
-					if (this.chronology != null) {
-						f = f.withChronology(this.chronology);
-					}
-					return baseDateTime.toString(f);					
-			}			
+			if (this.printer != null) {
+				final String result = this.printer.print(baseDateTime);
+				if (result != null) {
+					return result;
+				}
+			}
+			return baseDateTime.toString(this.formatter);
 		}		
 	}
 	
 	static final class LocalTimeToStr extends AbstractNullAsNullFunction<LocalTime, String> {
 
-		private final ConversionType conversionType;		
 		private final DateTimeFormatter formatter;
-		private final String pattern;
-		private final String style;
-		private final Locale locale;
-		private final Chronology chronology;
-		
-		private static enum ConversionType {
-			FROM_PATTERN,
-			FROM_STYLE,
-			FROM_FORMATTER
-		}
+		private final FixedWidthPrinter printer;
 		
 		public LocalTimeToStr() {
             super();
             
-            this.conversionType = null;
             this.formatter = null;
-            this.pattern = null;
-            this.style = null;
-            this.locale = null;
-            this.chronology = null;
+            this.printer = null;
         }
 		
 		public LocalTimeToStr(DateTimeFormatter formatter) {
@@ -502,12 +706,8 @@ public final class FnJodaString {
 			
 			Validate.notNull(formatter, "formatter can't be null");
 			
-			this.conversionType = ConversionType.FROM_FORMATTER;
 			this.formatter = formatter;
-			this.pattern = null;
-			this.style = null;
-			this.locale = null;
-			this.chronology = null;
+			this.printer = null;
 		}
 		
 		public LocalTimeToStr(FormatType formatType, String format) {
@@ -516,22 +716,8 @@ public final class FnJodaString {
 			Validate.notNull(formatType, "formatType can't be null");
 			Validate.notEmpty(format, "format can't be neither empty nor null");
 			
-			this.locale = null;
-			this.formatter = null;
-			this.chronology = null;
-			
-			switch (formatType) {
-				case PATTERN:
-					this.pattern = format;
-					this.style = null;
-					this.conversionType = ConversionType.FROM_PATTERN;
-					break;
-				default:
-					this.pattern = null;
-					this.style = format;
-					this.conversionType = ConversionType.FROM_STYLE;
-					break;				
-			}
+			this.formatter = createFormatter(formatType, format, null, null);
+			this.printer = (formatType == FormatType.PATTERN ? FixedWidthPrinter.forLocalTimes(format) : null);
 		}
 		
 		public LocalTimeToStr(FormatType formatType, String format, Chronology chronology) {
@@ -541,22 +727,8 @@ public final class FnJodaString {
 			Validate.notEmpty(format, "format can't be neither empty nor null");
 			Validate.notNull(chronology, "chronology can't be null");
 			
-			this.chronology = chronology;
-			this.locale = null;
-			this.formatter = null;
-			
-			switch (formatType) {
-				case PATTERN:
-					this.pattern = format;
-					this.style = null;
-					this.conversionType = ConversionType.FROM_PATTERN;
-					break;
-				default:
-					this.pattern = null;
-					this.style = format;
-					this.conversionType = ConversionType.FROM_STYLE;
-					break;				
-			}
+			this.formatter = createFormatter(formatType, format, null, chronology);
+			this.printer = (formatType == FormatType.PATTERN ? FixedWidthPrinter.forLocalTimes(format) : null);
 		}
 		
 		public LocalTimeToStr(FormatType formatType, String format, Locale locale) {
@@ -566,22 +738,8 @@ public final class FnJodaString {
 			Validate.notEmpty(format, "format can't be neither empty nor null");
 			Validate.notNull(locale, "locale can't be null");
 			
-			this.locale = locale;
-			this.formatter = null;
-			this.chronology = null;
-			
-			switch (formatType) {
-				case PATTERN:
-					this.pattern = format;
-					this.style = null;
-					this.conversionType = ConversionType.FROM_PATTERN;
-					break;
-				default:
-					this.pattern = null;
-					this.style = format;
-					this.conversionType = ConversionType.FROM_STYLE;
-					break;				
-			}
+			this.formatter = createFormatter(formatType, format, locale, null);
+			this.printer = (formatType == FormatType.PATTERN ? FixedWidthPrinter.forLocalTimes(format) : null);
 		}
 		
 		public LocalTimeToStr(FormatType formatType, String format, String locale) {
@@ -591,22 +749,8 @@ public final class FnJodaString {
 			Validate.notEmpty(format, "format can't be neither empty nor null");
 			Validate.notEmpty(locale, "locale can't be neither empty nor null");
 			
-			this.locale = LocaleUtils.toLocale(locale);
-			this.formatter = null;
-			this.chronology = null;
-			
-			switch (formatType) {
-				case PATTERN:
-					this.pattern = format;
-					this.style = null;
-					this.conversionType = ConversionType.FROM_PATTERN;
-					break;
-				default:
-					this.pattern = null;
-					this.style = format;
-					this.conversionType = ConversionType.FROM_STYLE;
-					break;				
-			}
+			this.formatter = createFormatter(formatType, format, ResolutionCache.toLocale(locale), null);
+			this.printer = (formatType == FormatType.PATTERN ? FixedWidthPrinter.forLocalTimes(format) : null);
 		}
 		
 		/* (non-Javadoc)
@@ -614,56 +758,29 @@ public final class FnJodaString {
 		 */
 		@Override
 		public String nullAsNullExecute(final LocalTime localTime, ExecCtx ctx) throws Exception {
-			if (this.conversionType == null) {
+			if (this.formatter == null) {
 			    return localTime.toString();
 			}
-			
-		    switch (this.conversionType) {
-				case FROM_FORMATTER:
-					return localTime.toString(this.formatter);					
-				default:
-					// Either pattern or style
-					DateTimeFormatter f = null;
-					if (ConversionType.FROM_PATTERN.equals(this.conversionType)) {
-						f = DateTimeFormat.forPattern(this.pattern);
-					} else {
-						f = DateTimeFormat.forStyle(this.style);
-					}
-					if (this.locale != null) {
-						f = f.withLocale(this.locale);
-					}
-					if (this.chronology != null) {
-						f = f.withChronology(this.chronology);
-					}
-					return localTime.toString(f);					
-			}			
+			if (this.printer != null) {
+				final String result = this.printer.print(localTime);
+				if (result != null) {
+					return result;
+				}
+			}
+			return localTime.toString(this.formatter);
 		}
 	}
 	
 	static final class LocalDateToStr extends AbstractNullAsNullFunction<LocalDate, String> {
 
-		private final ConversionType conversionType;		
 		private final DateTimeFormatter formatter;
-		private final String pattern;
-		private final String style;
-		private final Locale locale;
-		private final Chronology chronology;
-		
-		private static enum ConversionType {
-			FROM_PATTERN,
-			FROM_STYLE,
-			FROM_FORMATTER
-		}
+		private final FixedWidthPrinter printer;
 		
 		public LocalDateToStr() {
             super();
             
             this.formatter = null;
-            this.conversionType = null;
-            this.pattern = null;
-            this.style = null;
-            this.locale = null;
-            this.chronology = null;
+            this.printer = null;
         }
 		
 		public LocalDateToStr(DateTimeFormatter formatter) {
@@ -672,11 +789,7 @@ public final class FnJodaString {
 			Validate.notNull(formatter, "formatter can't be null");
 			
 			this.formatter = formatter;
-			this.conversionType = ConversionType.FROM_FORMATTER;
-			this.pattern = null;
-			this.style = null;
-			this.locale = null;
-			this.chronology = null;
+			this.printer = null;
 		}
 		
 		public LocalDateToStr(FormatType formatType, String format) {
@@ -685,22 +798,8 @@ public final class FnJodaString {
 			Validate.notNull(formatType, "formatType can't be null");
 			Validate.notEmpty(format, "format can't be neither empty nor null");
 						
-			this.locale = null;
-			this.chronology = null;
-			this.formatter = null;
-			
-			switch (formatType) {
-				case PATTERN:
-					this.pattern = format;
-					this.style = null;
-					this.conversionType = ConversionType.FROM_PATTERN;
-					break;
-				default:
-					this.pattern = null;
-					this.style = format;
-					this.conversionType = ConversionType.FROM_STYLE;
-					break;				
-			}
+			this.formatter = createFormatter(formatType, format, null, null);
+			this.printer = (formatType == FormatType.PATTERN ? FixedWidthPrinter.forLocalDates(format) : null);
 		}
 		
 		public LocalDateToStr(FormatType formatType, String format, Chronology chronology) {
@@ -710,22 +809,8 @@ public final class FnJodaString {
 			Validate.notEmpty(format, "format can't be neither empty nor null");
 			Validate.notNull(chronology, "chronology can't be null");
 						
-			this.chronology = chronology;
-			this.locale = null;
-			this.formatter = null;
-						
-			switch (formatType) {
-				case PATTERN:
-					this.style = null;
-					this.pattern = format;
-					this.conversionType = ConversionType.FROM_PATTERN;
-					break;
-				default:
-					this.style = format;
-					this.pattern = null;
-					this.conversionType = ConversionType.FROM_STYLE;
-					break;				
-			}
+			this.formatter = createFormatter(formatType, format, null, chronology);
+			this.printer = (formatType == FormatType.PATTERN ? FixedWidthPrinter.forLocalDates(format) : null);
 		}		
 		
 		public LocalDateToStr(FormatType formatType, String format, Locale locale) {
@@ -735,23 +820,8 @@ public final class FnJodaString {
 			Validate.notEmpty(format, "format can't be neither empty nor null");
 			Validate.notNull(locale, "locale can't be null");
 			
-			this.locale = locale;
-			this.formatter = null;
-			this.chronology = null;
-						
-			switch (formatType) {
-				case PATTERN:
-					this.pattern = format;
-					this.style = null;
-					this.conversionType = ConversionType.FROM_PATTERN;
-					break;
-				default:
-					this.pattern = null;
-					this.style = format;
-					this.conversionType = ConversionType.FROM_STYLE;
-					break;				
-			}
-
+			this.formatter = createFormatter(formatType, format, locale, null);
+			this.printer = (formatType == FormatType.PATTERN ? FixedWidthPrinter.forLocalDates(format) : null);
 		}
 		
 		public LocalDateToStr(FormatType formatType, String format, String locale) {
@@ -761,22 +831,8 @@ public final class FnJodaString {
 			Validate.notEmpty(format, "format can't be neither empty nor null");
 			Validate.notEmpty(locale, "locale can't be neither empty nor null");
 			
-			this.locale = LocaleUtils.toLocale(locale);
-			this.chronology = null;
-			this.formatter = null;
-						
-			switch (formatType) {
-				case PATTERN:
-					this.pattern = format;
-					this.style = null;
-					this.conversionType = ConversionType.FROM_PATTERN;
-					break;
-				default:
-					this.pattern = null;
-					this.style = format;
-					this.conversionType = ConversionType.FROM_STYLE;
-					break;				
-			}
+			this.formatter = createFormatter(formatType, format, ResolutionCache.toLocale(locale), null);
+			this.printer = (formatType == FormatType.PATTERN ? FixedWidthPrinter.forLocalDates(format) : null);
 		}
 		
 		/* (non-Javadoc)
@@ -784,29 +840,175 @@ public final class FnJodaString {
 		 */
 		@Override
 		public String nullAsNullExecute(final LocalDate localDate, ExecCtx ctx) throws Exception {
-			if (this.conversionType == null) {
+			if (this.formatter == null) {
 			    return localDate.toString();
 			}
+			if (this.printer != null) {
+				final String result = this.printer.print(localDate);
+				if (result != null) {
+					return result;
+				}
+			}
+			return localDate.toString(this.formatter);
+		}
+	}
+	
+	static final class BaseDateTimeAppender implements JodaStringAppender<BaseDateTime> {
+
+		private final DateTimeFormatter formatter;
+		private final FixedWidthPrinter printer;
+		
+		public BaseDateTimeAppender(final BaseDateTimeToStr toStr) {
+			super();
 			
-		    switch (this.conversionType) {
-				case FROM_FORMATTER:
-					return localDate.toString(this.formatter);					
-				default:
-					// Either pattern or style
-					DateTimeFormatter f = null;
-					if (ConversionType.FROM_PATTERN.equals(this.conversionType)) {
-						f = DateTimeFormat.forPattern(this.pattern);
-					} else {
-						f = DateTimeFormat.forStyle(this.style);
-					}
-					if (this.locale != null) {
-						f = f.withLocale(this.locale);
-					}
-					if (this.chronology != null) {
-						f = f.withChronology(this.chronology);
-					}
-					return localDate.toString(f);					
-			}			
+			this.formatter = (toStr.formatter == null ? ISODateTimeFormat.dateTime() : toStr.formatter);
+			this.printer = toStr.printer;
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.op4j.jodatime.functions.JodaStringAppender#appendTo(java.lang.StringBuilder, java.lang.Object)
+		 */
+		public void appendTo(final StringBuilder builder, final BaseDateTime baseDateTime) {
+			Validate.notNull(builder, "builder can't be null");
+			if (baseDateTime == null) {
+				return;
+			}
+			if (this.printer != null && this.printer.appendTo(builder, baseDateTime)) {
+				return;
+			}
+			builder.append(this.formatter.print(baseDateTime));
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.op4j.jodatime.functions.JodaStringAppender#appendTo(java.lang.Appendable, java.lang.Object)
+		 */
+		public void appendTo(final Appendable appendable, final BaseDateTime baseDateTime) throws IOException {
+			Validate.notNull(appendable, "appendable can't be null");
+			if (appendable instanceof StringBuilder) {
+				appendTo((StringBuilder) appendable, baseDateTime);
+				return;
+			}
+			if (baseDateTime == null) {
+				return;
+			}
+			if (this.printer != null && this.printer.appendTo(appendable, baseDateTime)) {
+				return;
+			}
+			if (appendable instanceof StringBuffer) {
+				this.formatter.printTo((StringBuffer) appendable, baseDateTime);
+			} else if (appendable instanceof Writer) {
+				this.formatter.printTo((Writer) appendable, baseDateTime);
+			} else {
+				appendable.append(this.formatter.print(baseDateTime));
+			}
+		}
+	}
+	
+	static final class LocalTimeAppender implements JodaStringAppender<LocalTime> {
+
+		// Prints as ISODateTimeFormat.time() does for LocalTimes, which have no offset to print
+		private static final FixedWidthPrinter ISO_PRINTER = FixedWidthPrinter.forLocalTimes("HH:mm:ss.SSS");
+		
+		private final DateTimeFormatter formatter;
+		private final FixedWidthPrinter printer;
+		
+		public LocalTimeAppender(final LocalTimeToStr toStr) {
+			super();
+			
+			this.formatter = (toStr.formatter == null ? ISODateTimeFormat.time() : toStr.formatter);
+			this.printer = (toStr.formatter == null ? ISO_PRINTER : toStr.printer);
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.op4j.jodatime.functions.JodaStringAppender#appendTo(java.lang.StringBuilder, java.lang.Object)
+		 */
+		public void appendTo(final StringBuilder builder, final LocalTime localTime) {
+			Validate.notNull(builder, "builder can't be null");
+			if (localTime == null) {
+				return;
+			}
+			if (this.printer != null && this.printer.appendTo(builder, localTime)) {
+				return;
+			}
+			builder.append(this.formatter.print(localTime));
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.op4j.jodatime.functions.JodaStringAppender#appendTo(java.lang.Appendable, java.lang.Object)
+		 */
+		public void appendTo(final Appendable appendable, final LocalTime localTime) throws IOException {
+			Validate.notNull(appendable, "appendable can't be null");
+			if (appendable instanceof StringBuilder) {
+				appendTo((StringBuilder) appendable, localTime);
+				return;
+			}
+			if (localTime == null) {
+				return;
+			}
+			if (this.printer != null && this.printer.appendTo(appendable, localTime)) {
+				return;
+			}
+			if (appendable instanceof StringBuffer) {
+				this.formatter.printTo((StringBuffer) appendable, localTime);
+			} else if (appendable instanceof Writer) {
+				this.formatter.printTo((Writer) appendable, localTime);
+			} else {
+				appendable.append(this.formatter.print(localTime));
+			}
+		}
+	}
+	
+	static final class LocalDateAppender implements JodaStringAppender<LocalDate> {
+
+		// Prints as ISODateTimeFormat.date() does for LocalDates in the 0-9999 year range
+		private static final FixedWidthPrinter ISO_PRINTER = FixedWidthPrinter.forLocalDates("yyyy-MM-dd");
+		
+		private final DateTimeFormatter formatter;
+		private final FixedWidthPrinter printer;
+		
+		public LocalDateAppender(final LocalDateToStr toStr) {
+			super();
+			
+			this.formatter = (toStr.formatter == null ? ISODateTimeFormat.date() : toStr.formatter);
+			this.printer = (toStr.formatter == null ? ISO_PRINTER : toStr.printer);
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.op4j.jodatime.functions.JodaStringAppender#appendTo(java.lang.StringBuilder, java.lang.Object)
+		 */
+		public void appendTo(final StringBuilder builder, final LocalDate localDate) {
+			Validate.notNull(builder, "builder can't be null");
+			if (localDate == null) {
+				return;
+			}
+			if (this.printer != null && this.printer.appendTo(builder, localDate)) {
+				return;
+			}
+			builder.append(this.formatter.print(localDate));
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.op4j.jodatime.functions.JodaStringAppender#appendTo(java.lang.Appendable, java.lang.Object)
+		 */
+		public void appendTo(final Appendable appendable, final LocalDate localDate) throws IOException {
+			Validate.notNull(appendable, "appendable can't be null");
+			if (appendable instanceof StringBuilder) {
+				appendTo((StringBuilder) appendable, localDate);
+				return;
+			}
+			if (localDate == null) {
+				return;
+			}
+			if (this.printer != null && this.printer.appendTo(appendable, localDate)) {
+				return;
+			}
+			if (appendable instanceof StringBuffer) {
+				this.formatter.printTo((StringBuffer) appendable, localDate);
+			} else if (appendable instanceof Writer) {
+				this.formatter.printTo((Writer) appendable, localDate);
+			} else {
+				appendable.append(this.formatter.print(localDate));
+			}
 		}
 	}
 }
@@ -27,15 +27,13 @@ import java.util.Date;
 import java.util.Iterator;
 import java.util.Locale;
 
-import org.apache.commons.lang.LocaleUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.lang.Validate;
 import org.joda.time.Chronology;
 import org.joda.time.DateTime;
 import org.joda.time.DateTimeZone;
 import org.joda.time.LocalDate;
-import org.joda.time.format.DateTimeFormat;
-import org.joda.time.format.DateTimeFormatter;
+import org.joda.time.chrono.ISOChronology;
 import org.op4j.exceptions.ExecutionException;
 import org.op4j.functions.AbstractNullAsNullFunction;
 import org.op4j.functions.ExecCtx;
@@ -52,8 +50,10 @@ public final class FnLocalDate {
 	
 	private final static TimestampToLocalDate TIMESTAMP_TO_LOCAL_DATE = new TimestampToLocalDate();
 	private final static LongToLocalDate LONG_TO_LOCAL_DATE = new LongToLocalDate();
+	private final static LongArrayToArrayOfLocalDate LONG_ARRAY_TO_ARRAY_OF_LOCAL_DATE = new LongArrayToArrayOfLocalDate();
 	private final static IntegerFieldCollectionToLocalDate INTEGER_FIELD_COLLECTION_TO_LOCAL_DATE = new IntegerFieldCollectionToLocalDate();
 	private final static IntegerFieldArrayToLocalDate INTEGER_FIELD_ARRAY_TO_LOCAL_DATE = new IntegerFieldArrayToLocalDate();
+	private final static IntFieldArrayToLocalDate INT_FIELD_ARRAY_TO_LOCAL_DATE = new IntFieldArrayToLocalDate();
 	private final static StringFieldCollectionToLocalDate STRING_FIELD_COLLECTION_TO_LOCAL_DATE = new StringFieldCollectionToLocalDate();
 	private final static StringFieldArrayToLocalDate STRING_FIELD_ARRAY_TO_LOCAL_DATE = new StringFieldArrayToLocalDate();
 	
@@ -186,6 +186,318 @@ public final class FnLocalDate {
 	public static final Function<String, LocalDate> strToLocalDate(String pattern, String locale, Chronology chronology) {
 		return new StringToLocalDate(pattern, locale, chronology);
 	}
+	
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link LocalDate} (nulls are
+	 * kept as nulls) using the given pattern parameter.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @return the array of {@link LocalDate} created from the input and arguments 
+	 */
+	public static final Function<String[], LocalDate[]> strArrayToArrayOfLocalDate(String pattern) {
+		return new StringArrayToArrayOfLocalDate(new StringToLocalDate(pattern));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link LocalDate} (nulls are
+	 * kept as nulls) using the given pattern parameter and with the given
+	 * {@link DateTimeZone}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used 
+	 * @return the array of {@link LocalDate} created from the input and arguments 
+	 */
+	public static final Function<String[], LocalDate[]> strArrayToArrayOfLocalDate(String pattern, DateTimeZone dateTimeZone) {
+		return new StringArrayToArrayOfLocalDate(new StringToLocalDate(pattern, dateTimeZone));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link LocalDate} (nulls are
+	 * kept as nulls) using the given pattern parameter and with the given
+	 * {@link Chronology}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of {@link LocalDate} created from the input and arguments 
+	 */
+	public static final Function<String[], LocalDate[]> strArrayToArrayOfLocalDate(String pattern, Chronology chronology) {
+		return new StringArrayToArrayOfLocalDate(new StringToLocalDate(pattern, chronology));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link LocalDate} (nulls are
+	 * kept as nulls) using the given pattern parameter and with the given
+	 * {@link Locale}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale {@link Locale} to be used 
+	 * @return the array of {@link LocalDate} created from the input and arguments 
+	 */
+	public static final Function<String[], LocalDate[]> strArrayToArrayOfLocalDate(String pattern, Locale locale) {
+		return new StringArrayToArrayOfLocalDate(new StringToLocalDate(pattern, locale));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link LocalDate} (nulls are
+	 * kept as nulls) using the given pattern parameter and with the given
+	 * locale.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale locale to be used 
+	 * @return the array of {@link LocalDate} created from the input and arguments 
+	 */
+	public static final Function<String[], LocalDate[]> strArrayToArrayOfLocalDate(String pattern, String locale) {
+		return new StringArrayToArrayOfLocalDate(new StringToLocalDate(pattern, locale));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link LocalDate} (nulls are
+	 * kept as nulls) using the given pattern parameter, {@link Locale} and
+	 * {@link DateTimeZone}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale {@link Locale} to be used 
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used 
+	 * @return the array of {@link LocalDate} created from the input and arguments 
+	 */
+	public static final Function<String[], LocalDate[]> strArrayToArrayOfLocalDate(String pattern, Locale locale, DateTimeZone dateTimeZone) {
+		return new StringArrayToArrayOfLocalDate(new StringToLocalDate(pattern, locale, dateTimeZone));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link LocalDate} (nulls are
+	 * kept as nulls) using the given pattern parameter, locale and
+	 * {@link DateTimeZone}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale locale to be used 
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used 
+	 * @return the array of {@link LocalDate} created from the input and arguments 
+	 */
+	public static final Function<String[], LocalDate[]> strArrayToArrayOfLocalDate(String pattern, String locale, DateTimeZone dateTimeZone) {
+		return new StringArrayToArrayOfLocalDate(new StringToLocalDate(pattern, locale, dateTimeZone));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link LocalDate} (nulls are
+	 * kept as nulls) using the given pattern parameter, {@link Locale} and
+	 * {@link Chronology}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale {@link Locale} to be used 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of {@link LocalDate} created from the input and arguments 
+	 */
+	public static final Function<String[], LocalDate[]> strArrayToArrayOfLocalDate(String pattern, Locale locale, Chronology chronology) {
+		return new StringArrayToArrayOfLocalDate(new StringToLocalDate(pattern, locale, chronology));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link LocalDate} (nulls are
+	 * kept as nulls) using the given pattern parameter, locale and
+	 * {@link Chronology}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale locale to be used 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of {@link LocalDate} created from the input and arguments 
+	 */
+	public static final Function<String[], LocalDate[]> strArrayToArrayOfLocalDate(String pattern, String locale, Chronology chronology) {
+		return new StringArrayToArrayOfLocalDate(new StringToLocalDate(pattern, locale, chronology));
+	}
+	
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link LocalDate} (nulls are
+	 * kept as nulls) using the given pattern parameter.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @return the array of {@link LocalDate} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, LocalDate[]> strCollectionToArrayOfLocalDate(String pattern) {
+		return new StringCollectionToArrayOfLocalDate(new StringToLocalDate(pattern));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link LocalDate} (nulls are
+	 * kept as nulls) using the given pattern parameter and with the given
+	 * {@link DateTimeZone}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used 
+	 * @return the array of {@link LocalDate} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, LocalDate[]> strCollectionToArrayOfLocalDate(String pattern, DateTimeZone dateTimeZone) {
+		return new StringCollectionToArrayOfLocalDate(new StringToLocalDate(pattern, dateTimeZone));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link LocalDate} (nulls are
+	 * kept as nulls) using the given pattern parameter and with the given
+	 * {@link Chronology}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of {@link LocalDate} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, LocalDate[]> strCollectionToArrayOfLocalDate(String pattern, Chronology chronology) {
+		return new StringCollectionToArrayOfLocalDate(new StringToLocalDate(pattern, chronology));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link LocalDate} (nulls are
+	 * kept as nulls) using the given pattern parameter and with the given
+	 * {@link Locale}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale {@link Locale} to be used 
+	 * @return the array of {@link LocalDate} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, LocalDate[]> strCollectionToArrayOfLocalDate(String pattern, Locale locale) {
+		return new StringCollectionToArrayOfLocalDate(new StringToLocalDate(pattern, locale));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link LocalDate} (nulls are
+	 * kept as nulls) using the given pattern parameter and with the given
+	 * locale.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale locale to be used 
+	 * @return the array of {@link LocalDate} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, LocalDate[]> strCollectionToArrayOfLocalDate(String pattern, String locale) {
+		return new StringCollectionToArrayOfLocalDate(new StringToLocalDate(pattern, locale));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link LocalDate} (nulls are
+	 * kept as nulls) using the given pattern parameter, {@link Locale} and
+	 * {@link DateTimeZone}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale {@link Locale} to be used 
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used 
+	 * @return the array of {@link LocalDate} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, LocalDate[]> strCollectionToArrayOfLocalDate(String pattern, Locale locale, DateTimeZone dateTimeZone) {
+		return new StringCollectionToArrayOfLocalDate(new StringToLocalDate(pattern, locale, dateTimeZone));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link LocalDate} (nulls are
+	 * kept as nulls) using the given pattern parameter, locale and
+	 * {@link DateTimeZone}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale locale to be used 
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used 
+	 * @return the array of {@link LocalDate} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, LocalDate[]> strCollectionToArrayOfLocalDate(String pattern, String locale, DateTimeZone dateTimeZone) {
+		return new StringCollectionToArrayOfLocalDate(new StringToLocalDate(pattern, locale, dateTimeZone));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link LocalDate} (nulls are
+	 * kept as nulls) using the given pattern parameter, {@link Locale} and
+	 * {@link Chronology}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale {@link Locale} to be used 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of {@link LocalDate} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, LocalDate[]> strCollectionToArrayOfLocalDate(String pattern, Locale locale, Chronology chronology) {
+		return new StringCollectionToArrayOfLocalDate(new StringToLocalDate(pattern, locale, chronology));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link LocalDate} (nulls are
+	 * kept as nulls) using the given pattern parameter, locale and
+	 * {@link Chronology}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale locale to be used 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of {@link LocalDate} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, LocalDate[]> strCollectionToArrayOfLocalDate(String pattern, String locale, Chronology chronology) {
+		return new StringCollectionToArrayOfLocalDate(new StringToLocalDate(pattern, locale, chronology));
+	}
 	//
 	
 	
@@ -224,6 +536,46 @@ public final class FnLocalDate {
 	public static final <T extends Date> Function<T, LocalDate> dateToLocalDate(Chronology chronology) {
 		return new DateToLocalDate<T>(chronology);
 	}
+	/**
+	 * <p>
+	 * The input {@link Date} is converted into a {@link LocalDate}.
+	 * The result is the canonical {@link LocalDate} object for its date, shared by every interned 
+	 * conversion, which reduces the memory retained by large collections of dates.
+	 * </p>
+	 * 
+	 * @return the {@link LocalDate} created from the input 
+	 */
+	public static final <T extends Date> Function<T, LocalDate> dateToInternedLocalDate() {
+		return new DateToLocalDate<T>(true);
+	}
+	/**
+	 * <p>
+	 * The input {@link Date} is converted into a {@link LocalDate} in the given
+	 * {@link DateTimeZone}.
+	 * The result is the canonical {@link LocalDate} object for its date, shared by every interned 
+	 * conversion, which reduces the memory retained by large collections of dates.
+	 * </p>
+	 * 
+	 * @param dateTimeZone the the time zone ({@link DateTimeZone}) to be used 
+	 * @return the {@link LocalDate} created from the input and arguments 
+	 */
+	public static final <T extends Date> Function<T, LocalDate> dateToInternedLocalDate(DateTimeZone dateTimeZone) {
+		return new DateToLocalDate<T>(dateTimeZone, true);
+	}
+	/**
+	 * <p>
+	 * The input {@link Date} is converted into a {@link LocalDate} with the given
+	 * {@link Chronology}.
+	 * The result is the canonical {@link LocalDate} object for its date, shared by every interned 
+	 * conversion, which reduces the memory retained by large collections of dates.
+	 * </p>
+	 * 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the {@link LocalDate} created from the input and arguments 
+	 */
+	public static final <T extends Date> Function<T, LocalDate> dateToInternedLocalDate(Chronology chronology) {
+		return new DateToLocalDate<T>(chronology, true);
+	}
 	//
 	
 	
@@ -262,6 +614,46 @@ public final class FnLocalDate {
 	public static final Function<Timestamp, LocalDate> timestampToLocalDate(Chronology chronology) {
 		return new TimestampToLocalDate(chronology);
 	}
+	/**
+	 * <p>
+	 * The input {@link Timestamp} is converted into a {@link LocalDate}.
+	 * The result is the canonical {@link LocalDate} object for its date, shared by every interned 
+	 * conversion, which reduces the memory retained by large collections of dates.
+	 * </p>
+	 * 
+	 * @return the {@link LocalDate} created from the input 
+	 */
+	public static final Function<Timestamp, LocalDate> timestampToInternedLocalDate() {
+		return new TimestampToLocalDate(true);
+	}
+	/**
+	 * <p>
+	 * The input {@link Timestamp} is converted into a {@link LocalDate} in the given
+	 * {@link DateTimeZone}.
+	 * The result is the canonical {@link LocalDate} object for its date, shared by every interned 
+	 * conversion, which reduces the memory retained by large collections of dates.
+	 * </p>
+	 * 
+	 * @param dateTimeZone the the time zone ({@link DateTimeZone}) to be used 
+	 * @return the {@link LocalDate} created from the input and arguments 
+	 */
+	public static final Function<Timestamp, LocalDate> timestampToInternedLocalDate(DateTimeZone dateTimeZone) {
+		return new TimestampToLocalDate(dateTimeZone, true);
+	}
+	/**
+	 * <p>
+	 * The input {@link Timestamp} is converted into a {@link LocalDate} with the given
+	 * {@link Chronology}.
+	 * The result is the canonical {@link LocalDate} object for its date, shared by every interned 
+	 * conversion, which reduces the memory retained by large collections of dates.
+	 * </p>
+	 * 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the {@link LocalDate} created from the input and arguments 
+	 */
+	public static final Function<Timestamp, LocalDate> timestampToInternedLocalDate(Chronology chronology) {
+		return new TimestampToLocalDate(chronology, true);
+	}
 	//
 		
 	
@@ -300,6 +692,84 @@ public final class FnLocalDate {
 	public static final Function<Long, LocalDate> longToLocalDate(Chronology chronology) {
 		return new LongToLocalDate(chronology);
 	}
+	/**
+	 * <p>
+	 * The input {@link Long} representing the time in milliseconds is converted into a {@link LocalDate}.
+	 * The result is the canonical {@link LocalDate} object for its date, shared by every interned 
+	 * conversion, which reduces the memory retained by large collections of dates.
+	 * </p>
+	 * 
+	 * @return the {@link LocalDate} created from the input 
+	 */
+	public static final Function<Long, LocalDate> longToInternedLocalDate() {
+		return new LongToLocalDate(true);
+	}
+	/**
+	 * <p>
+	 * The input {@link Long} representing the time in milliseconds is converted into a {@link LocalDate} in the given
+	 * {@link DateTimeZone}.
+	 * The result is the canonical {@link LocalDate} object for its date, shared by every interned 
+	 * conversion, which reduces the memory retained by large collections of dates.
+	 * </p>
+	 * 
+	 * @param dateTimeZone the the time zone ({@link DateTimeZone}) to be used 
+	 * @return the {@link LocalDate} created from the input and arguments 
+	 */
+	public static final Function<Long, LocalDate> longToInternedLocalDate(DateTimeZone dateTimeZone) {
+		return new LongToLocalDate(dateTimeZone, true);
+	}
+	/**
+	 * <p>
+	 * The input {@link Long} representing the time in milliseconds is converted into a {@link LocalDate} with the given
+	 * {@link Chronology}.
+	 * The result is the canonical {@link LocalDate} object for its date, shared by every interned 
+	 * conversion, which reduces the memory retained by large collections of dates.
+	 * </p>
+	 * 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the {@link LocalDate} created from the input and arguments 
+	 */
+	public static final Function<Long, LocalDate> longToInternedLocalDate(Chronology chronology) {
+		return new LongToLocalDate(chronology, true);
+	}
+	
+	
+	// Conversion from long[]
+	/**
+	 * <p>
+	 * Every element of the input long[] representing a time in milliseconds is converted into a 
+	 * {@link LocalDate}. The values are never boxed.
+	 * </p>
+	 * 
+	 * @return the array of {@link LocalDate} created from the input 
+	 */
+	public static final Function<long[], LocalDate[]> longArrayToArrayOfLocalDate() {
+		return LONG_ARRAY_TO_ARRAY_OF_LOCAL_DATE;
+	}
+	/**
+	 * <p>
+	 * Every element of the input long[] representing a time in milliseconds is converted into a 
+	 * {@link LocalDate} in the given {@link DateTimeZone}. The values are never boxed.
+	 * </p>
+	 * 
+	 * @param dateTimeZone the the time zone ({@link DateTimeZone}) to be used 
+	 * @return the array of {@link LocalDate} created from the input and arguments 
+	 */
+	public static final Function<long[], LocalDate[]> longArrayToArrayOfLocalDate(DateTimeZone dateTimeZone) {
+		return new LongArrayToArrayOfLocalDate(dateTimeZone);
+	}
+	/**
+	 * <p>
+	 * Every element of the input long[] representing a time in milliseconds is converted into a 
+	 * {@link LocalDate} with the given {@link Chronology}. The values are never boxed.
+	 * </p>
+	 * 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of {@link LocalDate} created from the input and arguments 
+	 */
+	public static final Function<long[], LocalDate[]> longArrayToArrayOfLocalDate(Chronology chronology) {
+		return new LongArrayToArrayOfLocalDate(chronology);
+	}
 	//
 	
 	// Conversion from Integer list
@@ -386,6 +856,106 @@ public final class FnLocalDate {
 	public static final Function<Integer[], LocalDate> integerFieldArrayToLocalDate(Chronology chronology) {
 		return new IntegerFieldArrayToLocalDate(chronology);
 	}
+	
+	
+	// Conversion from int array
+	/**
+	 * <p>
+	 * A {@link LocalDate} is created from the given <tt>int</tt> array, without boxing its
+	 * components.
+	 * </p>
+	 * 
+	 * <p>
+	 * The valid input int[] are:
+	 * </p>
+	 * <ul>
+	 * <li>year (month and day will be set to 1)</li>
+	 * <li>year, month (day will be set to 1)</li>
+	 * <li>year, month, day</li>
+	 * </ul>
+	 * 
+	 * @return the {@link LocalDate} created from the input
+	 */
+	public static final Function<int[], LocalDate> intFieldArrayToLocalDate() {
+		return INT_FIELD_ARRAY_TO_LOCAL_DATE;
+	}
+	/**
+	 * <p>
+	 * A {@link LocalDate} is created from the given <tt>int</tt> array, without boxing its
+	 * components. The result will be created with the given {@link Chronology}
+	 * </p>
+	 * 
+	 * <p>
+	 * The valid input int[] are:
+	 * </p>
+	 * <ul>
+	 * <li>year (month and day will be set to 1)</li>
+	 * <li>year, month (day will be set to 1)</li>
+	 * <li>year, month, day</li>
+	 * </ul>
+	 * 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the {@link LocalDate} created from the input and arguments 
+	 */
+	public static final Function<int[], LocalDate> intFieldArrayToLocalDate(Chronology chronology) {
+		return new IntFieldArrayToLocalDate(chronology);
+	}
+	
+	/**
+	 * <p>
+	 * An array of {@link LocalDate} is created from the records of fields in the given 
+	 * <tt>int</tt> array.
+	 * </p>
+	 * 
+	 * <p>
+	 * The input int[] is read as a sequence of records of <tt>fieldsPerRecord</tt> fields each,
+	 * and one {@link LocalDate} is created from each record. The valid number of fields per record
+	 * is between 1 and 3, and the length of the input array has to be a multiple of it.
+	 * </p>
+	 * 
+	 * <p>
+	 * Each record is:
+	 * </p>
+	 * <ul>
+	 * <li>year (month and day will be set to 1)</li>
+	 * <li>year, month (day will be set to 1)</li>
+	 * <li>year, month, day</li>
+	 * </ul>
+	 * 
+	 * @param fieldsPerRecord the number of fields of each record
+	 * @return the array of {@link LocalDate} created from the input and arguments 
+	 */
+	public static final Function<int[], LocalDate[]> intFieldArrayToArrayOfLocalDate(int fieldsPerRecord) {
+		return new IntFieldArrayToArrayOfLocalDate(new IntFieldArrayToLocalDate(), fieldsPerRecord);
+	}
+	/**
+	 * <p>
+	 * An array of {@link LocalDate} is created from the records of fields in the given 
+	 * <tt>int</tt> array. The results will be created with the given {@link Chronology}
+	 * </p>
+	 * 
+	 * <p>
+	 * The input int[] is read as a sequence of records of <tt>fieldsPerRecord</tt> fields each,
+	 * and one {@link LocalDate} is created from each record. The valid number of fields per record
+	 * is between 1 and 3, and the length of the input array has to be a multiple of it.
+	 * </p>
+	 * 
+	 * <p>
+	 * Each record is:
+	 * </p>
+	 * <ul>
+	 * <li>year (month and day will be set to 1)</li>
+	 * <li>year, month (day will be set to 1)</li>
+	 * <li>year, month, day</li>
+	 * </ul>
+	 * 
+	 * @param fieldsPerRecord the number of fields of each record
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of {@link LocalDate} created from the input and arguments 
+	 */
+	public static final Function<int[], LocalDate[]> intFieldArrayToArrayOfLocalDate(int fieldsPerRecord, Chronology chronology) {
+		return new IntFieldArrayToArrayOfLocalDate(new IntFieldArrayToLocalDate(chronology), fieldsPerRecord);
+	}
 	//
 	
 	
@@ -517,11 +1087,16 @@ public final class FnLocalDate {
 
 		final DateTimeZone dateTimeZone;
 		final Chronology chronology;
+		// Used for converting instants, null if the default time zone has to be used
+		final ZoneOffsetCache offsetCache;
+		final Chronology localChronology;
 		
 		public BaseToLocalDate() {
 			super();
 			this.dateTimeZone = null;
 			this.chronology = null;
+			this.offsetCache = null;
+			this.localChronology = null;
 		}
 
 		public BaseToLocalDate(DateTimeZone dateTimeZone) {
@@ -531,6 +1106,8 @@ public final class FnLocalDate {
 			
 			this.dateTimeZone = dateTimeZone;
 			this.chronology = null;
+			this.offsetCache = ZoneOffsetCache.forZone(dateTimeZone);
+			this.localChronology = ISOChronology.getInstanceUTC();
 		}
 
 		public BaseToLocalDate(Chronology chronology) {
@@ -540,13 +1117,53 @@ public final class FnLocalDate {
 			
 			this.chronology = chronology;
 			this.dateTimeZone = null;			
+			this.offsetCache = ZoneOffsetCache.forZone(chronology.getZone());
+			this.localChronology = chronology.withUTC();
+		}
+		
+		/*
+		 * Equivalent to new LocalDate(instant, dateTimeZone) or new LocalDate(instant, chronology), 
+		 * but the offset of the zone is obtained from the cache.
+		 */
+		LocalDate fromInstant(long instant) {
+			if (this.offsetCache == null) {
+				return new LocalDate(instant);
+			}
+			return new LocalDate(this.offsetCache.toLocalMillis(instant), this.localChronology);
+		}
+		
+		/*
+		 * Equivalent to fromInstant(instant), but returning the canonical objects kept by
+		 * LocalDateInterner, so that equal dates are represented by the same object.
+		 */
+		LocalDate fromInstantInterned(long instant) {
+			if (this.offsetCache == null) {
+				final Chronology defaultChronology = ISOChronology.getInstance();
+				return LocalDateInterner.forChronology(defaultChronology).intern(
+						instant + defaultChronology.getZone().getOffset(instant));
+			}
+			return LocalDateInterner.forChronology(this.localChronology).intern(
+					this.offsetCache.toLocalMillis(instant));
 		}
 	}
 	
+	/*
+	 * Obtains the parser used by StringToLocalDate from the shared DateTimeFormatterCache. It is
+	 * resolved only once, when the function is created, so that invalid patterns are
+	 * reported immediately and no formatter has to be assembled for each converted String.
+	 */
+	private static MillisParser createParser(final String pattern, final Locale locale, 
+			final DateTimeZone dateTimeZone, final Chronology chronology) {
+		if (locale == null) {
+			Validate.isTrue(!(StringUtils.contains(pattern, "MMM") || StringUtils.contains(pattern, "EEE")), 
+					"The use of MMM, MMMM, EEE or EEEE as part of the date pattern requires a Locale");
+		}
+		return new MillisParser(pattern, DateTimeFormatterCache.forPattern(pattern, locale, dateTimeZone, chronology));
+	}
+	
 	static final class StringToLocalDate extends BaseToLocalDate<String> {
 
-		private final String pattern;
-		private final Locale locale;
+		private final MillisParser parser;
 		
 		
 		public StringToLocalDate(String pattern) {
@@ -554,8 +1171,7 @@ public final class FnLocalDate {
 			
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			
-			this.pattern = pattern;
-			this.locale = null;
+			this.parser = createParser(pattern, null, this.dateTimeZone, this.chronology);
 		}
 
 		public StringToLocalDate(String pattern, DateTimeZone dateTimeZone) {
@@ -563,8 +1179,7 @@ public final class FnLocalDate {
 			
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			
-			this.pattern = pattern;
-			this.locale = null;
+			this.parser = createParser(pattern, null, this.dateTimeZone, this.chronology);
 		}
 
 		public StringToLocalDate(String pattern, Chronology chronology) {
@@ -572,8 +1187,7 @@ public final class FnLocalDate {
 			
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			
-			this.pattern = pattern;
-			this.locale = null;
+			this.parser = createParser(pattern, null, this.dateTimeZone, this.chronology);
 		}
 
 		public StringToLocalDate(String pattern, Locale locale) {
@@ -582,8 +1196,7 @@ public final class FnLocalDate {
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			Validate.notNull(locale, "locale can't be null");
 			
-			this.pattern = pattern;
-			this.locale = locale;
+			this.parser = createParser(pattern, locale, this.dateTimeZone, this.chronology);
 		}
 		
 		public StringToLocalDate(String pattern, String locale) {
@@ -592,8 +1205,7 @@ public final class FnLocalDate {
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			Validate.notEmpty(locale, "locale can't be neither empty nor null");
 			
-			this.pattern = pattern;
-			this.locale = LocaleUtils.toLocale(locale);
+			this.parser = createParser(pattern, ResolutionCache.toLocale(locale), this.dateTimeZone, this.chronology);
 		}
 		
 		public StringToLocalDate(String pattern, Locale locale, DateTimeZone dateTimeZone) {
@@ -602,8 +1214,7 @@ public final class FnLocalDate {
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			Validate.notNull(locale, "locale can't be null");
 			
-			this.pattern = pattern;
-			this.locale = locale;
+			this.parser = createParser(pattern, locale, this.dateTimeZone, this.chronology);
 		}
 		
 		public StringToLocalDate(String pattern, String locale, DateTimeZone dateTimeZone) {
@@ -612,8 +1223,7 @@ public final class FnLocalDate {
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			Validate.notEmpty(locale, "locale can't be neither empty nor null");
 						
-			this.pattern = pattern;
-			this.locale = LocaleUtils.toLocale(locale);
+			this.parser = createParser(pattern, ResolutionCache.toLocale(locale), this.dateTimeZone, this.chronology);
 		}
 		
 		public StringToLocalDate(String pattern, Locale locale, Chronology chronology) {
@@ -622,8 +1232,7 @@ public final class FnLocalDate {
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			Validate.notNull(locale, "locale can't be null");
 						
-			this.pattern = pattern;
-			this.locale = locale;
+			this.parser = createParser(pattern, locale, this.dateTimeZone, this.chronology);
 		}
 		
 		public StringToLocalDate(String pattern, String locale, Chronology chronology) {
@@ -632,8 +1241,7 @@ public final class FnLocalDate {
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			Validate.notEmpty(locale, "locale can't be neither empty nor null");
 			
-			this.pattern = pattern;
-			this.locale = LocaleUtils.toLocale(locale);
+			this.parser = createParser(pattern, ResolutionCache.toLocale(locale), this.dateTimeZone, this.chronology);
 		}
 		
 		/* (non-Javadoc)
@@ -641,44 +1249,104 @@ public final class FnLocalDate {
 		 */
 		@Override
 		public LocalDate nullAsNullExecute(String object, ExecCtx ctx) throws Exception {
-			DateTimeFormatter dateTimeFormatter = null;
-		    if (this.locale == null) {
-		        if (StringUtils.contains(this.pattern, "MMM") || StringUtils.contains(this.pattern, "EEE")) {
-		        	throw new ExecutionException(
-							"The use of MMM, MMMM, EEE or EEEE as part of the date pattern requires a Locale");
-	            }
-		        dateTimeFormatter = DateTimeFormat.forPattern(this.pattern);        
-		    } else {    
-		        dateTimeFormatter = DateTimeFormat.forPattern(this.pattern).withLocale(this.locale);
-		    }
-		    
-		    LocalDate result = new LocalDate();
-		    if (this.dateTimeZone != null) {	    	
-		    	dateTimeFormatter = dateTimeFormatter.withZone(this.dateTimeZone);
-		    }
-		    if (this.chronology != null) {
-		    	dateTimeFormatter = dateTimeFormatter.withChronology(this.chronology);
-		    }
-			result = dateTimeFormatter.parseDateTime(object).toLocalDate();
-			
-			return result;		
+			return new LocalDate(this.parser.parseMillis(object), this.parser.getChronology());
 		}
 		
 		
 	}	
 	
+	/*
+	 * Bulk versions of StringToLocalDate: the parser and the chronology are resolved once
+	 * for the whole column instead of once per element.
+	 */
+	static final class StringArrayToArrayOfLocalDate extends AbstractNullAsNullFunction<String[], LocalDate[]> {
+
+		private final MillisParser parser;
+		
+		
+		public StringArrayToArrayOfLocalDate(StringToLocalDate stringToLocalDate) {
+			super();
+			this.parser = stringToLocalDate.parser;
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.op4j.functions.AbstractNullAsNullFunction#nullAsNullExecute(java.lang.Object, org.op4j.functions.ExecCtx)
+		 */
+		@Override
+		public LocalDate[] nullAsNullExecute(String[] object, ExecCtx ctx) throws Exception {
+			final MillisParser parser = this.parser;
+			final Chronology chronology = parser.getChronology();
+			final LocalDate[] result = new LocalDate[object.length];
+			for (int i = 0; i < object.length; i++) {
+				final String element = object[i];
+				if (element != null) {
+					result[i] = new LocalDate(parser.parseMillis(element, chronology), chronology);
+				}
+			}
+			return result;
+		}
+		
+	}
+	
+	static final class StringCollectionToArrayOfLocalDate extends AbstractNullAsNullFunction<Collection<String>, LocalDate[]> {
+
+		private final MillisParser parser;
+		
+		
+		public StringCollectionToArrayOfLocalDate(StringToLocalDate stringToLocalDate) {
+			super();
+			this.parser = stringToLocalDate.parser;
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.op4j.functions.AbstractNullAsNullFunction#nullAsNullExecute(java.lang.Object, org.op4j.functions.ExecCtx)
+		 */
+		@Override
+		public LocalDate[] nullAsNullExecute(Collection<String> object, ExecCtx ctx) throws Exception {
+			final MillisParser parser = this.parser;
+			final Chronology chronology = parser.getChronology();
+			final LocalDate[] result = new LocalDate[object.size()];
+			int i = 0;
+			for (final String element : object) {
+				if (element != null) {
+					result[i] = new LocalDate(parser.parseMillis(element, chronology), chronology);
+				}
+				i++;
+			}
+			return result;
+		}
+		
+	}
+	
 	static final class DateToLocalDate<T extends Date> extends BaseToLocalDate<T> {
 
+		private final boolean interned;
+		
 		public DateToLocalDate() {
-			super();			
+			this(false);			
 		}
 
 		public DateToLocalDate(DateTimeZone dateTimeZone) {
-			super(dateTimeZone);
+			this(dateTimeZone, false);
 		}
 
 		public DateToLocalDate(Chronology chronology) {
+			this(chronology, false);
+		}
+		
+		public DateToLocalDate(boolean interned) {
+			super();
+			this.interned = interned;
+		}
+
+		public DateToLocalDate(DateTimeZone dateTimeZone, boolean interned) {
+			super(dateTimeZone);
+			this.interned = interned;
+		}
+
+		public DateToLocalDate(Chronology chronology, boolean interned) {
 			super(chronology);
+			this.interned = interned;
 		}
 		
 		/* (non-Javadoc)
@@ -686,14 +1354,10 @@ public final class FnLocalDate {
 		 */
 		@Override
 		public LocalDate nullAsNullExecute(T object, ExecCtx ctx) throws Exception {
-			if (this.dateTimeZone != null) {
-				return new LocalDate(object.getTime(), this.dateTimeZone);
-			}
-			if (this.chronology != null) {
-				return new LocalDate(object.getTime(), this.chronology);
+			if (this.interned) {
+				return fromInstantInterned(object.getTime());
 			}
-			
-			return new LocalDate(object.getTime());
+			return fromInstant(object.getTime());
 		}
 		
 		
@@ -701,16 +1365,33 @@ public final class FnLocalDate {
 	
 	static final class TimestampToLocalDate extends BaseToLocalDate<Timestamp> {
 
+		private final boolean interned;
+		
 		public TimestampToLocalDate() {
-			super();			
+			this(false);			
 		}
 
 		public TimestampToLocalDate(DateTimeZone dateTimeZone) {
-			super(dateTimeZone);
+			this(dateTimeZone, false);
 		}
 
 		public TimestampToLocalDate(Chronology chronology) {
+			this(chronology, false);
+		}
+		
+		public TimestampToLocalDate(boolean interned) {
+			super();
+			this.interned = interned;
+		}
+
+		public TimestampToLocalDate(DateTimeZone dateTimeZone, boolean interned) {
+			super(dateTimeZone);
+			this.interned = interned;
+		}
+
+		public TimestampToLocalDate(Chronology chronology, boolean interned) {
 			super(chronology);
+			this.interned = interned;
 		}
 		
 		/* (non-Javadoc)
@@ -718,29 +1399,42 @@ public final class FnLocalDate {
 		 */
 		@Override
 		public LocalDate nullAsNullExecute(Timestamp object, ExecCtx ctx) throws Exception {
-			if (this.dateTimeZone != null) {
-				return new LocalDate(object.getTime(), this.dateTimeZone);
+			if (this.interned) {
+				return fromInstantInterned(object.getTime());
 			}
-			if (this.chronology != null) {
-				return new LocalDate(object.getTime(), this.chronology);
-			}
-			
-			return new LocalDate(object.getTime());
+			return fromInstant(object.getTime());
 		}
 	}	
 	
 	static final class LongToLocalDate extends BaseToLocalDate<Long> {
 
+		private final boolean interned;
+		
 		public LongToLocalDate() {
-			super();			
+			this(false);			
 		}
 
 		public LongToLocalDate(DateTimeZone dateTimeZone) {
-			super(dateTimeZone);
+			this(dateTimeZone, false);
 		}
 
 		public LongToLocalDate(Chronology chronology) {
+			this(chronology, false);
+		}
+		
+		public LongToLocalDate(boolean interned) {
+			super();
+			this.interned = interned;
+		}
+
+		public LongToLocalDate(DateTimeZone dateTimeZone, boolean interned) {
+			super(dateTimeZone);
+			this.interned = interned;
+		}
+
+		public LongToLocalDate(Chronology chronology, boolean interned) {
 			super(chronology);
+			this.interned = interned;
 		}
 		
 		/* (non-Javadoc)
@@ -748,14 +1442,70 @@ public final class FnLocalDate {
 		 */
 		@Override
 		public LocalDate nullAsNullExecute(Long object, ExecCtx ctx) throws Exception {
-			if (this.dateTimeZone != null) {
-				return new LocalDate(object.longValue(), this.dateTimeZone);
+			if (this.interned) {
+				return fromInstantInterned(object.longValue());
 			}
-			if (this.chronology != null) {
-				return new LocalDate(object.longValue(), this.chronology);
+			return fromInstant(object.longValue());
+		}
+	}	
+	
+	static final class LongArrayToArrayOfLocalDate extends AbstractNullAsNullFunction<long[], LocalDate[]> {
+
+		private final DateTimeZone dateTimeZone;
+		private final Chronology chronology;
+		private final ZoneOffsetCache offsetCache;
+		
+		public LongArrayToArrayOfLocalDate() {
+			super();
+			this.dateTimeZone = null;
+			this.chronology = null;
+			this.offsetCache = null;
+		}
+
+		public LongArrayToArrayOfLocalDate(DateTimeZone dateTimeZone) {
+			super();
+			
+			Validate.notNull(dateTimeZone, "dateTimeZone can't be null");
+			
+			this.dateTimeZone = dateTimeZone;
+			this.chronology = null;
+			this.offsetCache = ZoneOffsetCache.forZone(dateTimeZone);
+		}
+
+		public LongArrayToArrayOfLocalDate(Chronology chronology) {
+			super();
+			
+			Validate.notNull(chronology, "chronology can't be null");
+			
+			this.dateTimeZone = null;
+			this.chronology = chronology;
+			this.offsetCache = ZoneOffsetCache.forZone(chronology.getZone());
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.op4j.functions.AbstractNullAsNullFunction#nullAsNullExecute(java.lang.Object, org.op4j.functions.ExecCtx)
+		 */
+		@Override
+		public LocalDate[] nullAsNullExecute(long[] object, ExecCtx ctx) throws Exception {
+			// Resolved once per call, as the default time zone can change between calls
+			final Chronology chronology;
+			if (this.dateTimeZone != null) {
+				chronology = ISOChronology.getInstance(this.dateTimeZone);
+			} else if (this.chronology != null) {
+				chronology = this.chronology;
+			} else {
+				chronology = ISOChronology.getInstance();
 			}
 			
-			return new LocalDate(object.longValue());
+			final ZoneOffsetCache offsetCache = (this.offsetCache != null ? 
+					this.offsetCache : ZoneOffsetCache.forZone(chronology.getZone()));
+			final Chronology localChronology = chronology.withUTC();
+			
+			final LocalDate[] result = new LocalDate[object.length];
+			for (int i = 0; i < object.length; i++) {
+				result[i] = new LocalDate(offsetCache.toLocalMillis(object[i]), localChronology);
+			}
+			return result;
 		}
 	}	
 	
@@ -826,6 +1576,78 @@ public final class FnLocalDate {
 		
 	}	
 	
+	static final class IntFieldArrayToLocalDate extends BaseToLocalDate<int[]> {
+
+		public IntFieldArrayToLocalDate() {
+			super();			
+		}
+
+		public IntFieldArrayToLocalDate(Chronology chronology) {
+			super(chronology);
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.op4j.functions.AbstractNullAsNullFunction#nullAsNullExecute(java.lang.Object, org.op4j.functions.ExecCtx)
+		 */
+		@Override
+		public LocalDate nullAsNullExecute(final int[] object, final ExecCtx ctx) throws Exception {
+			return fromFields(object, 0, object.length);
+		}
+		
+		LocalDate fromFields(final int[] fields, final int offset, final int length) throws ExecutionException {
+			if (length < 1 || length > 3) {
+				throw new ExecutionException(
+						"int arguments array for LocalDate conversion should have a size " +
+						"between 1 and 3. Size " + length + " is not valid.");
+			}
+			
+			final int year = fields[offset];
+			final int month = (length >= 2) ? fields[offset + 1] : 1;
+			final int day = (length >= 3) ? fields[offset + 2] : 1;
+			
+			if (this.chronology != null) {
+				return new LocalDate(year, month, day, this.chronology);
+			}
+			return new LocalDate(year, month, day);
+		}
+		
+	}	
+	
+	static final class IntFieldArrayToArrayOfLocalDate extends AbstractNullAsNullFunction<int[], LocalDate[]> {
+
+		private final IntFieldArrayToLocalDate converter;
+		private final int fieldsPerRecord;
+		
+		public IntFieldArrayToArrayOfLocalDate(final IntFieldArrayToLocalDate converter, final int fieldsPerRecord) {
+			super();
+			
+			Validate.isTrue(fieldsPerRecord >= 1 && fieldsPerRecord <= 3, 
+					"fieldsPerRecord must be between 1 and 3");
+			
+			this.converter = converter;
+			this.fieldsPerRecord = fieldsPerRecord;
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.op4j.functions.AbstractNullAsNullFunction#nullAsNullExecute(java.lang.Object, org.op4j.functions.ExecCtx)
+		 */
+		@Override
+		public LocalDate[] nullAsNullExecute(final int[] object, final ExecCtx ctx) throws Exception {
+			if (object.length % this.fieldsPerRecord != 0) {
+				throw new ExecutionException(
+						"int arguments array for LocalDate conversion should have a size multiple of " +
+						this.fieldsPerRecord + ". Size " + object.length + " is not valid.");
+			}
+			
+			final LocalDate[] result = new LocalDate[object.length / this.fieldsPerRecord];
+			for (int i = 0; i < result.length; i++) {
+				result[i] = this.converter.fromFields(object, i * this.fieldsPerRecord, this.fieldsPerRecord);
+			}
+			return result;
+		}
+		
+	}
+	
 	
 	
 	static final class StringFieldCollectionToLocalDate extends BaseToLocalDate<Collection<String>> {
@@ -851,15 +1673,14 @@ public final class FnLocalDate {
 			
 			Iterator<String> iterator = object.iterator();
 			
-			String year = iterator.next();
-			String month = (object.size() >= 2) ? iterator.next() : "1";
-			String day = (object.size() >= 3) ? iterator.next() : "1";
+			int year = FieldDecoder.parseInt(iterator.next());
+			int month = (object.size() >= 2) ? FieldDecoder.parseInt(iterator.next()) : 1;
+			int day = (object.size() >= 3) ? FieldDecoder.parseInt(iterator.next()) : 1;
 			
 			if (this.chronology != null) {
-	        	return new LocalDate(Integer.parseInt(year),Integer.parseInt(month), Integer.parseInt(day),
-	        			this.chronology);
+	        	return new LocalDate(year, month, day, this.chronology);
 	        }
-			return new LocalDate(Integer.parseInt(year), Integer.parseInt(month), Integer.parseInt(day));
+			return new LocalDate(year, month, day);
 		}
 		
 		
@@ -886,15 +1707,14 @@ public final class FnLocalDate {
 						"between 1 and 3. Size " + object.length + " is not valid.");
 			}			
 			
-			String year = object[0];
-			String month = (object.length >= 2) ? object[1] : "1";
-			String day = (object.length >= 3) ? object[2] : "1";
+			int year = FieldDecoder.parseInt(object[0]);
+			int month = (object.length >= 2) ? FieldDecoder.parseInt(object[1]) : 1;
+			int day = (object.length >= 3) ? FieldDecoder.parseInt(object[2]) : 1;
 			
 			if (this.chronology != null) {
-	        	return new LocalDate(Integer.parseInt(year),Integer.parseInt(month), Integer.parseInt(day), 
-	        			this.chronology);
+	        	return new LocalDate(year, month, day, this.chronology);
 	        }
-			return new LocalDate(Integer.parseInt(year),Integer.parseInt(month), Integer.parseInt(day));
+			return new LocalDate(year, month, day);
 		}
 	}	
 	
@@ -917,13 +1737,14 @@ public final class FnLocalDate {
 		 */
 		@Override
 		public LocalDate nullAsNullExecute(T object, ExecCtx ctx) throws Exception {
-			if (this.dateTimeZone != null) {
-				return new LocalDate(object, this.dateTimeZone);
-			}
+			// Same millis and chronology Joda-Time's CalendarConverter would obtain, without
+			// looking the converter up and resolving the time zone through ResolutionCache
 			if (this.chronology != null) {
-				return new LocalDate(object, this.chronology);
+				return fromInstant(object.getTimeInMillis());
 			}
-			return new LocalDate(object);
+			final Chronology calendarChronology = (this.dateTimeZone != null ? 
+					ResolutionCache.toChronology(object, this.dateTimeZone) : ResolutionCache.toChronology(object));
+			return new LocalDate(object.getTimeInMillis(), calendarChronology);
 		}
 	}	
 }
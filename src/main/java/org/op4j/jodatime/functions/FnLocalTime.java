@@ -27,15 +27,13 @@ import java.util.Date;
 import java.util.Iterator;
 import java.util.Locale;
 
-import org.apache.commons.lang.LocaleUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.lang.Validate;
 import org.joda.time.Chronology;
 import org.joda.time.DateTime;
 import org.joda.time.DateTimeZone;
 import org.joda.time.LocalTime;
-import org.joda.time.format.DateTimeFormat;
-import org.joda.time.format.DateTimeFormatter;
+import org.joda.time.chrono.ISOChronology;
 import org.op4j.exceptions.ExecutionException;
 import org.op4j.functions.AbstractNullAsNullFunction;
 import org.op4j.functions.ExecCtx;
@@ -52,8 +50,10 @@ public final class FnLocalTime {
 	
 	private final static TimestampToLocalTime TIMESTAMP_TO_LOCAL_TIME = new TimestampToLocalTime();
 	private final static LongToLocalTime LONG_TO_LOCAL_TIME = new LongToLocalTime();
+	private final static LongArrayToArrayOfLocalTime LONG_ARRAY_TO_ARRAY_OF_LOCAL_TIME = new LongArrayToArrayOfLocalTime();
 	private final static IntegerFieldCollectionToLocalTime INTEGER_FIELD_LIST_TO_LOCAL_TIME = new IntegerFieldCollectionToLocalTime();
 	private final static IntegerFieldArrayToLocalTime INTEGER_FIELD_ARRAY_TO_LOCAL_TIME = new IntegerFieldArrayToLocalTime();
+	private final static IntFieldArrayToLocalTime INT_FIELD_ARRAY_TO_LOCAL_TIME = new IntFieldArrayToLocalTime();
 	private final static StringFieldCollectionToLocalTime STRING_FIELD_LIST_TO_LOCAL_TIME = new StringFieldCollectionToLocalTime();
 	private final static StringFieldArrayToLocalTime STRING_FIELD_ARRAY_TO_LOCAL_TIME = new StringFieldArrayToLocalTime();
 	
@@ -185,6 +185,318 @@ public final class FnLocalTime {
 	public static final Function<String, LocalTime> strToLocalTime(String pattern, String locale, Chronology chronology) {
 		return new StringToLocalTime(pattern, locale, chronology);
 	}
+	
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link LocalTime} (nulls are
+	 * kept as nulls) using the given pattern parameter.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @return the array of {@link LocalTime} created from the input and arguments 
+	 */
+	public static final Function<String[], LocalTime[]> strArrayToArrayOfLocalTime(String pattern) {
+		return new StringArrayToArrayOfLocalTime(new StringToLocalTime(pattern));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link LocalTime} (nulls are
+	 * kept as nulls) using the given pattern parameter and with the given
+	 * {@link DateTimeZone}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used 
+	 * @return the array of {@link LocalTime} created from the input and arguments 
+	 */
+	public static final Function<String[], LocalTime[]> strArrayToArrayOfLocalTime(String pattern, DateTimeZone dateTimeZone) {
+		return new StringArrayToArrayOfLocalTime(new StringToLocalTime(pattern, dateTimeZone));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link LocalTime} (nulls are
+	 * kept as nulls) using the given pattern parameter and with the given
+	 * {@link Chronology}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of {@link LocalTime} created from the input and arguments 
+	 */
+	public static final Function<String[], LocalTime[]> strArrayToArrayOfLocalTime(String pattern, Chronology chronology) {
+		return new StringArrayToArrayOfLocalTime(new StringToLocalTime(pattern, chronology));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link LocalTime} (nulls are
+	 * kept as nulls) using the given pattern parameter and with the given
+	 * {@link Locale}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale {@link Locale} to be used 
+	 * @return the array of {@link LocalTime} created from the input and arguments 
+	 */
+	public static final Function<String[], LocalTime[]> strArrayToArrayOfLocalTime(String pattern, Locale locale) {
+		return new StringArrayToArrayOfLocalTime(new StringToLocalTime(pattern, locale));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link LocalTime} (nulls are
+	 * kept as nulls) using the given pattern parameter and with the given
+	 * locale.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale locale to be used 
+	 * @return the array of {@link LocalTime} created from the input and arguments 
+	 */
+	public static final Function<String[], LocalTime[]> strArrayToArrayOfLocalTime(String pattern, String locale) {
+		return new StringArrayToArrayOfLocalTime(new StringToLocalTime(pattern, locale));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link LocalTime} (nulls are
+	 * kept as nulls) using the given pattern parameter, {@link Locale} and
+	 * {@link DateTimeZone}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale {@link Locale} to be used 
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used 
+	 * @return the array of {@link LocalTime} created from the input and arguments 
+	 */
+	public static final Function<String[], LocalTime[]> strArrayToArrayOfLocalTime(String pattern, Locale locale, DateTimeZone dateTimeZone) {
+		return new StringArrayToArrayOfLocalTime(new StringToLocalTime(pattern, locale, dateTimeZone));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link LocalTime} (nulls are
+	 * kept as nulls) using the given pattern parameter, locale and
+	 * {@link DateTimeZone}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale locale to be used 
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used 
+	 * @return the array of {@link LocalTime} created from the input and arguments 
+	 */
+	public static final Function<String[], LocalTime[]> strArrayToArrayOfLocalTime(String pattern, String locale, DateTimeZone dateTimeZone) {
+		return new StringArrayToArrayOfLocalTime(new StringToLocalTime(pattern, locale, dateTimeZone));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link LocalTime} (nulls are
+	 * kept as nulls) using the given pattern parameter, {@link Locale} and
+	 * {@link Chronology}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale {@link Locale} to be used 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of {@link LocalTime} created from the input and arguments 
+	 */
+	public static final Function<String[], LocalTime[]> strArrayToArrayOfLocalTime(String pattern, Locale locale, Chronology chronology) {
+		return new StringArrayToArrayOfLocalTime(new StringToLocalTime(pattern, locale, chronology));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link LocalTime} (nulls are
+	 * kept as nulls) using the given pattern parameter, locale and
+	 * {@link Chronology}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale locale to be used 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of {@link LocalTime} created from the input and arguments 
+	 */
+	public static final Function<String[], LocalTime[]> strArrayToArrayOfLocalTime(String pattern, String locale, Chronology chronology) {
+		return new StringArrayToArrayOfLocalTime(new StringToLocalTime(pattern, locale, chronology));
+	}
+	
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link LocalTime} (nulls are
+	 * kept as nulls) using the given pattern parameter.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @return the array of {@link LocalTime} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, LocalTime[]> strCollectionToArrayOfLocalTime(String pattern) {
+		return new StringCollectionToArrayOfLocalTime(new StringToLocalTime(pattern));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link LocalTime} (nulls are
+	 * kept as nulls) using the given pattern parameter and with the given
+	 * {@link DateTimeZone}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used 
+	 * @return the array of {@link LocalTime} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, LocalTime[]> strCollectionToArrayOfLocalTime(String pattern, DateTimeZone dateTimeZone) {
+		return new StringCollectionToArrayOfLocalTime(new StringToLocalTime(pattern, dateTimeZone));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link LocalTime} (nulls are
+	 * kept as nulls) using the given pattern parameter and with the given
+	 * {@link Chronology}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of {@link LocalTime} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, LocalTime[]> strCollectionToArrayOfLocalTime(String pattern, Chronology chronology) {
+		return new StringCollectionToArrayOfLocalTime(new StringToLocalTime(pattern, chronology));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link LocalTime} (nulls are
+	 * kept as nulls) using the given pattern parameter and with the given
+	 * {@link Locale}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale {@link Locale} to be used 
+	 * @return the array of {@link LocalTime} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, LocalTime[]> strCollectionToArrayOfLocalTime(String pattern, Locale locale) {
+		return new StringCollectionToArrayOfLocalTime(new StringToLocalTime(pattern, locale));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link LocalTime} (nulls are
+	 * kept as nulls) using the given pattern parameter and with the given
+	 * locale.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale locale to be used 
+	 * @return the array of {@link LocalTime} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, LocalTime[]> strCollectionToArrayOfLocalTime(String pattern, String locale) {
+		return new StringCollectionToArrayOfLocalTime(new StringToLocalTime(pattern, locale));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link LocalTime} (nulls are
+	 * kept as nulls) using the given pattern parameter, {@link Locale} and
+	 * {@link DateTimeZone}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale {@link Locale} to be used 
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used 
+	 * @return the array of {@link LocalTime} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, LocalTime[]> strCollectionToArrayOfLocalTime(String pattern, Locale locale, DateTimeZone dateTimeZone) {
+		return new StringCollectionToArrayOfLocalTime(new StringToLocalTime(pattern, locale, dateTimeZone));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link LocalTime} (nulls are
+	 * kept as nulls) using the given pattern parameter, locale and
+	 * {@link DateTimeZone}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale locale to be used 
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used 
+	 * @return the array of {@link LocalTime} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, LocalTime[]> strCollectionToArrayOfLocalTime(String pattern, String locale, DateTimeZone dateTimeZone) {
+		return new StringCollectionToArrayOfLocalTime(new StringToLocalTime(pattern, locale, dateTimeZone));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link LocalTime} (nulls are
+	 * kept as nulls) using the given pattern parameter, {@link Locale} and
+	 * {@link Chronology}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale {@link Locale} to be used 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of {@link LocalTime} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, LocalTime[]> strCollectionToArrayOfLocalTime(String pattern, Locale locale, Chronology chronology) {
+		return new StringCollectionToArrayOfLocalTime(new StringToLocalTime(pattern, locale, chronology));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link LocalTime} (nulls are
+	 * kept as nulls) using the given pattern parameter, locale and
+	 * {@link Chronology}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale locale to be used 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of {@link LocalTime} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, LocalTime[]> strCollectionToArrayOfLocalTime(String pattern, String locale, Chronology chronology) {
+		return new StringCollectionToArrayOfLocalTime(new StringToLocalTime(pattern, locale, chronology));
+	}
 	//
 	
 	
@@ -293,6 +605,44 @@ public final class FnLocalTime {
 	public static final Function<Long, LocalTime> longToLocalTime(Chronology chronology) {
 		return new LongToLocalTime(chronology);
 	}
+	
+	
+	// Conversion from long[]
+	/**
+	 * <p>
+	 * Every element of the input long[] representing a time in milliseconds is converted into a 
+	 * {@link LocalTime}. The values are never boxed.
+	 * </p>
+	 * 
+	 * @return the array of {@link LocalTime} created from the input 
+	 */
+	public static final Function<long[], LocalTime[]> longArrayToArrayOfLocalTime() {
+		return LONG_ARRAY_TO_ARRAY_OF_LOCAL_TIME;
+	}
+	/**
+	 * <p>
+	 * Every element of the input long[] representing a time in milliseconds is converted into a 
+	 * {@link LocalTime} in the given {@link DateTimeZone}. The values are never boxed.
+	 * </p>
+	 * 
+	 * @param dateTimeZone the the time zone ({@link DateTimeZone}) to be used 
+	 * @return the array of {@link LocalTime} created from the input and arguments 
+	 */
+	public static final Function<long[], LocalTime[]> longArrayToArrayOfLocalTime(DateTimeZone dateTimeZone) {
+		return new LongArrayToArrayOfLocalTime(dateTimeZone);
+	}
+	/**
+	 * <p>
+	 * Every element of the input long[] representing a time in milliseconds is converted into a 
+	 * {@link LocalTime} with the given {@link Chronology}. The values are never boxed.
+	 * </p>
+	 * 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of {@link LocalTime} created from the input and arguments 
+	 */
+	public static final Function<long[], LocalTime[]> longArrayToArrayOfLocalTime(Chronology chronology) {
+		return new LongArrayToArrayOfLocalTime(chronology);
+	}
 	//
 	
 	// Conversion from Integer list
@@ -383,6 +733,110 @@ public final class FnLocalTime {
 	public static final Function<Integer[], LocalTime> integerFieldArrayToLocalTime(Chronology chronology) {
 		return new IntegerFieldArrayToLocalTime(chronology);
 	}
+	
+	
+	// Conversion from int array
+	/**
+	 * <p>
+	 * A {@link LocalTime} is created from the given <tt>int</tt> array, without boxing its
+	 * components.
+	 * </p>
+	 * 
+	 * <p>
+	 * The valid input int[] represent:
+	 * </p>
+	 * <ul>
+	 * <li>hour (minute, second and millisecond will be set to 0)</li>
+	 * <li>hour, minute (second and millisecond will be set to 0)</li>
+	 * <li>hour, minute, second (millisecond will be set to 0)</li>
+	 * <li>hour, minute, second, millisecond</li>
+	 * </ul>
+	 * 
+	 * @return the {@link LocalTime} created from the input
+	 */
+	public static final Function<int[], LocalTime> intFieldArrayToLocalTime() {
+		return INT_FIELD_ARRAY_TO_LOCAL_TIME;
+	}
+	/**
+	 * <p>
+	 * A {@link LocalTime} is created from the given <tt>int</tt> array, without boxing its
+	 * components, with the specified {@link Chronology}.
+	 * </p>
+	 * 
+	 * <p>
+	 * The valid input int[] represent:
+	 * </p>
+	 * <ul>
+	 * <li>hour (minute, second and millisecond will be set to 0)</li>
+	 * <li>hour, minute (second and millisecond will be set to 0)</li>
+	 * <li>hour, minute, second (millisecond will be set to 0)</li>
+	 * <li>hour, minute, second, millisecond</li>
+	 * </ul>
+	 * 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the {@link LocalTime} created from the input and arguments 
+	 */
+	public static final Function<int[], LocalTime> intFieldArrayToLocalTime(Chronology chronology) {
+		return new IntFieldArrayToLocalTime(chronology);
+	}
+	
+	/**
+	 * <p>
+	 * An array of {@link LocalTime} is created from the records of fields in the given 
+	 * <tt>int</tt> array.
+	 * </p>
+	 * 
+	 * <p>
+	 * The input int[] is read as a sequence of records of <tt>fieldsPerRecord</tt> fields each,
+	 * and one {@link LocalTime} is created from each record. The valid number of fields per record
+	 * is between 1 and 4, and the length of the input array has to be a multiple of it.
+	 * </p>
+	 * 
+	 * <p>
+	 * Each record represents:
+	 * </p>
+	 * <ul>
+	 * <li>hour (minute, second and millisecond will be set to 0)</li>
+	 * <li>hour, minute (second and millisecond will be set to 0)</li>
+	 * <li>hour, minute, second (millisecond will be set to 0)</li>
+	 * <li>hour, minute, second, millisecond</li>
+	 * </ul>
+	 * 
+	 * @param fieldsPerRecord the number of fields of each record
+	 * @return the array of {@link LocalTime} created from the input and arguments 
+	 */
+	public static final Function<int[], LocalTime[]> intFieldArrayToArrayOfLocalTime(int fieldsPerRecord) {
+		return new IntFieldArrayToArrayOfLocalTime(new IntFieldArrayToLocalTime(), fieldsPerRecord);
+	}
+	/**
+	 * <p>
+	 * An array of {@link LocalTime} is created from the records of fields in the given 
+	 * <tt>int</tt> array, with the specified {@link Chronology}.
+	 * </p>
+	 * 
+	 * <p>
+	 * The input int[] is read as a sequence of records of <tt>fieldsPerRecord</tt> fields each,
+	 * and one {@link LocalTime} is created from each record. The valid number of fields per record
+	 * is between 1 and 4, and the length of the input array has to be a multiple of it.
+	 * </p>
+	 * 
+	 * <p>
+	 * Each record represents:
+	 * </p>
+	 * <ul>
+	 * <li>hour (minute, second and millisecond will be set to 0)</li>
+	 * <li>hour, minute (second and millisecond will be set to 0)</li>
+	 * <li>hour, minute, second (millisecond will be set to 0)</li>
+	 * <li>hour, minute, second, millisecond</li>
+	 * </ul>
+	 * 
+	 * @param fieldsPerRecord the number of fields of each record
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of {@link LocalTime} created from the input and arguments 
+	 */
+	public static final Function<int[], LocalTime[]> intFieldArrayToArrayOfLocalTime(int fieldsPerRecord, Chronology chronology) {
+		return new IntFieldArrayToArrayOfLocalTime(new IntFieldArrayToLocalTime(chronology), fieldsPerRecord);
+	}
 	//
 	
 	
@@ -517,12 +971,17 @@ public final class FnLocalTime {
 
 		final DateTimeZone dateTimeZone;
 		final Chronology chronology;
+		// Used for converting instants, null if the default time zone has to be used
+		final ZoneOffsetCache offsetCache;
+		final Chronology localChronology;
 		
 		public BaseToLocalTime() {
 			super();
 			
 			this.dateTimeZone = null;
 			this.chronology = null;
+			this.offsetCache = null;
+			this.localChronology = null;
 		}
 
 		public BaseToLocalTime(DateTimeZone dateTimeZone) {
@@ -532,6 +991,8 @@ public final class FnLocalTime {
 			
 			this.dateTimeZone = dateTimeZone;
 			this.chronology = null;
+			this.offsetCache = ZoneOffsetCache.forZone(dateTimeZone);
+			this.localChronology = ISOChronology.getInstanceUTC();
 		}
 
 		public BaseToLocalTime(Chronology chronology) {
@@ -541,13 +1002,39 @@ public final class FnLocalTime {
 			
 			this.dateTimeZone = null;
 			this.chronology = chronology;
+			this.offsetCache = ZoneOffsetCache.forZone(chronology.getZone());
+			this.localChronology = chronology.withUTC();
+		}
+		
+		/*
+		 * Equivalent to new LocalTime(instant, dateTimeZone) or new LocalTime(instant, chronology), 
+		 * but the offset of the zone is obtained from the cache.
+		 */
+		LocalTime fromInstant(long instant) {
+			if (this.offsetCache == null) {
+				return new LocalTime(instant);
+			}
+			return new LocalTime(this.offsetCache.toLocalMillis(instant), this.localChronology);
 		}
 	}
 	
+	/*
+	 * Obtains the parser used by StringToLocalTime from the shared DateTimeFormatterCache. It is
+	 * resolved only once, when the function is created, so that invalid patterns are
+	 * reported immediately and no formatter has to be assembled for each converted String.
+	 */
+	private static MillisParser createParser(final String pattern, final Locale locale, 
+			final DateTimeZone dateTimeZone, final Chronology chronology) {
+		if (locale == null) {
+			Validate.isTrue(!(StringUtils.contains(pattern, "MMM") || StringUtils.contains(pattern, "EEE")), 
+					"The use of MMM, MMMM, EEE or EEEE as part of the date pattern requires a Locale");
+		}
+		return new MillisParser(pattern, DateTimeFormatterCache.forPattern(pattern, locale, dateTimeZone, chronology));
+	}
+	
 	static final class StringToLocalTime extends BaseToLocalTime<String> {
 
-		private final String pattern;
-		private final Locale locale;
+		private final MillisParser parser;
 		
 		
 		public StringToLocalTime(String pattern) {
@@ -555,8 +1042,7 @@ public final class FnLocalTime {
 			
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			
-			this.pattern = pattern;
-			this.locale = null;
+			this.parser = createParser(pattern, null, this.dateTimeZone, this.chronology);
 		}
 
 		public StringToLocalTime(String pattern, DateTimeZone dateTimeZone) {
@@ -564,8 +1050,7 @@ public final class FnLocalTime {
 			
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			
-			this.pattern = pattern;
-			this.locale = null;
+			this.parser = createParser(pattern, null, this.dateTimeZone, this.chronology);
 		}
 
 		public StringToLocalTime(String pattern, Chronology chronology) {
@@ -573,8 +1058,7 @@ public final class FnLocalTime {
 			
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			
-			this.pattern = pattern;
-			this.locale = null;
+			this.parser = createParser(pattern, null, this.dateTimeZone, this.chronology);
 		}
 
 		public StringToLocalTime(String pattern, Locale locale) {
@@ -583,8 +1067,7 @@ public final class FnLocalTime {
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			Validate.notNull(locale, "locale can't be null");
 			
-			this.pattern = pattern;
-			this.locale = locale;
+			this.parser = createParser(pattern, locale, this.dateTimeZone, this.chronology);
 		}
 		
 		public StringToLocalTime(String pattern, String locale) {
@@ -593,8 +1076,7 @@ public final class FnLocalTime {
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			Validate.notEmpty(locale, "locale can't be neither empty nor null");
 			
-			this.pattern = pattern;
-			this.locale = LocaleUtils.toLocale(locale);
+			this.parser = createParser(pattern, ResolutionCache.toLocale(locale), this.dateTimeZone, this.chronology);
 		}
 		
 		public StringToLocalTime(String pattern, Locale locale, DateTimeZone dateTimeZone) {
@@ -603,8 +1085,7 @@ public final class FnLocalTime {
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			Validate.notNull(locale, "locale can't be null");
 			
-			this.pattern = pattern;
-			this.locale = locale;
+			this.parser = createParser(pattern, locale, this.dateTimeZone, this.chronology);
 		}
 		
 		public StringToLocalTime(String pattern, String locale, DateTimeZone dateTimeZone) {
@@ -613,8 +1094,7 @@ public final class FnLocalTime {
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			Validate.notEmpty(locale, "locale can't be neither empty nor null");
 			
-			this.pattern = pattern;
-			this.locale = LocaleUtils.toLocale(locale);
+			this.parser = createParser(pattern, ResolutionCache.toLocale(locale), this.dateTimeZone, this.chronology);
 		}
 		
 		public StringToLocalTime(String pattern, Locale locale, Chronology chronology) {
@@ -623,8 +1103,7 @@ public final class FnLocalTime {
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			Validate.notNull(locale, "locale can't be null");
 			
-			this.pattern = pattern;
-			this.locale = locale;
+			this.parser = createParser(pattern, locale, this.dateTimeZone, this.chronology);
 		}
 		
 		public StringToLocalTime(String pattern, String locale, Chronology chronology) {
@@ -633,8 +1112,7 @@ public final class FnLocalTime {
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			Validate.notEmpty(locale, "locale can't be neither empty nor null");
 			
-			this.pattern = pattern;
-			this.locale = LocaleUtils.toLocale(locale);
+			this.parser = createParser(pattern, ResolutionCache.toLocale(locale), this.dateTimeZone, this.chronology);
 		}
 		
 		/* (non-Javadoc)
@@ -642,32 +1120,75 @@ public final class FnLocalTime {
 		 */
 		@Override
 		public LocalTime nullAsNullExecute(String object, ExecCtx ctx) throws Exception {
-			DateTimeFormatter dateTimeFormatter = null;
-		    if (this.locale == null) {
-		        if (StringUtils.contains(this.pattern, "MMM") || StringUtils.contains(this.pattern, "EEE")) {
-		        	throw new ExecutionException(
-							"The use of MMM, MMMM, EEE or EEEE as part of the date pattern requires a Locale");
-	            }
-		        dateTimeFormatter = DateTimeFormat.forPattern(this.pattern);        
-		    } else {    
-		        dateTimeFormatter = DateTimeFormat.forPattern(this.pattern).withLocale(this.locale);
-		    }
-		    
-		    LocalTime result = new LocalTime();
-		    if (this.dateTimeZone != null) {	    	
-		    	dateTimeFormatter = dateTimeFormatter.withZone(this.dateTimeZone);
-		    }
-		    if (this.chronology != null) {
-		    	dateTimeFormatter = dateTimeFormatter.withChronology(this.chronology);
-		    }
-			result = dateTimeFormatter.parseDateTime(object).toLocalTime();
-			
-			return result;		
+			return new LocalTime(this.parser.parseMillis(object), this.parser.getChronology());
 		}
 		
 		
 	}	
 	
+	/*
+	 * Bulk versions of StringToLocalTime: the parser and the chronology are resolved once
+	 * for the whole column instead of once per element.
+	 */
+	static final class StringArrayToArrayOfLocalTime extends AbstractNullAsNullFunction<String[], LocalTime[]> {
+
+		private final MillisParser parser;
+		
+		
+		public StringArrayToArrayOfLocalTime(StringToLocalTime stringToLocalTime) {
+			super();
+			this.parser = stringToLocalTime.parser;
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.op4j.functions.AbstractNullAsNullFunction#nullAsNullExecute(java.lang.Object, org.op4j.functions.ExecCtx)
+		 */
+		@Override
+		public LocalTime[] nullAsNullExecute(String[] object, ExecCtx ctx) throws Exception {
+			final MillisParser parser = this.parser;
+			final Chronology chronology = parser.getChronology();
+			final LocalTime[] result = new LocalTime[object.length];
+			for (int i = 0; i < object.length; i++) {
+				final String element = object[i];
+				if (element != null) {
+					result[i] = new LocalTime(parser.parseMillis(element, chronology), chronology);
+				}
+			}
+			return result;
+		}
+		
+	}
+	
+	static final class StringCollectionToArrayOfLocalTime extends AbstractNullAsNullFunction<Collection<String>, LocalTime[]> {
+
+		private final MillisParser parser;
+		
+		
+		public StringCollectionToArrayOfLocalTime(StringToLocalTime stringToLocalTime) {
+			super();
+			this.parser = stringToLocalTime.parser;
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.op4j.functions.AbstractNullAsNullFunction#nullAsNullExecute(java.lang.Object, org.op4j.functions.ExecCtx)
+		 */
+		@Override
+		public LocalTime[] nullAsNullExecute(Collection<String> object, ExecCtx ctx) throws Exception {
+			final MillisParser parser = this.parser;
+			final Chronology chronology = parser.getChronology();
+			final LocalTime[] result = new LocalTime[object.size()];
+			int i = 0;
+			for (final String element : object) {
+				if (element != null) {
+					result[i] = new LocalTime(parser.parseMillis(element, chronology), chronology);
+				}
+				i++;
+			}
+			return result;
+		}
+		
+	}
+	
 	static final class DateToLocalTime<T extends Date> extends BaseToLocalTime<T> {
 
 		public DateToLocalTime() {
@@ -687,14 +1208,7 @@ public final class FnLocalTime {
 		 */
 		@Override
 		public LocalTime nullAsNullExecute(T object, ExecCtx ctx) throws Exception {
-			if (this.dateTimeZone != null) {
-				return new LocalTime(object.getTime(), this.dateTimeZone);
-			}
-			if (this.chronology != null) {
-				return new LocalTime(object.getTime(), this.chronology);
-			}
-			
-			return new LocalTime(object.getTime());
+			return fromInstant(object.getTime());
 		}
 	}	
 	
@@ -717,14 +1231,7 @@ public final class FnLocalTime {
 		 */
 		@Override
 		public LocalTime nullAsNullExecute(Timestamp object, ExecCtx ctx) throws Exception {
-			if (this.dateTimeZone != null) {
-				return new LocalTime(object.getTime(), this.dateTimeZone);
-			}
-			if (this.chronology != null) {
-				return new LocalTime(object.getTime(), this.chronology);
-			}
-			
-			return new LocalTime(object.getTime());
+			return fromInstant(object.getTime());
 		}
 	}	
 	
@@ -747,14 +1254,67 @@ public final class FnLocalTime {
 		 */
 		@Override
 		public LocalTime nullAsNullExecute(Long object, ExecCtx ctx) throws Exception {
+			return fromInstant(object.longValue());
+		}
+	}	
+	
+	static final class LongArrayToArrayOfLocalTime extends AbstractNullAsNullFunction<long[], LocalTime[]> {
+
+		private final DateTimeZone dateTimeZone;
+		private final Chronology chronology;
+		private final ZoneOffsetCache offsetCache;
+		
+		public LongArrayToArrayOfLocalTime() {
+			super();
+			this.dateTimeZone = null;
+			this.chronology = null;
+			this.offsetCache = null;
+		}
+
+		public LongArrayToArrayOfLocalTime(DateTimeZone dateTimeZone) {
+			super();
+			
+			Validate.notNull(dateTimeZone, "dateTimeZone can't be null");
+			
+			this.dateTimeZone = dateTimeZone;
+			this.chronology = null;
+			this.offsetCache = ZoneOffsetCache.forZone(dateTimeZone);
+		}
+
+		public LongArrayToArrayOfLocalTime(Chronology chronology) {
+			super();
+			
+			Validate.notNull(chronology, "chronology can't be null");
+			
+			this.dateTimeZone = null;
+			this.chronology = chronology;
+			this.offsetCache = ZoneOffsetCache.forZone(chronology.getZone());
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.op4j.functions.AbstractNullAsNullFunction#nullAsNullExecute(java.lang.Object, org.op4j.functions.ExecCtx)
+		 */
+		@Override
+		public LocalTime[] nullAsNullExecute(long[] object, ExecCtx ctx) throws Exception {
+			// Resolved once per call, as the default time zone can change between calls
+			final Chronology chronology;
 			if (this.dateTimeZone != null) {
-				return new LocalTime(object.longValue(), this.dateTimeZone);
-			}
-			if (this.chronology != null) {
-				return new LocalTime(object.longValue(), this.chronology);
+				chronology = ISOChronology.getInstance(this.dateTimeZone);
+			} else if (this.chronology != null) {
+				chronology = this.chronology;
+			} else {
+				chronology = ISOChronology.getInstance();
 			}
 			
-			return new LocalTime(object.longValue());
+			final ZoneOffsetCache offsetCache = (this.offsetCache != null ? 
+					this.offsetCache : ZoneOffsetCache.forZone(chronology.getZone()));
+			final Chronology localChronology = chronology.withUTC();
+			
+			final LocalTime[] result = new LocalTime[object.length];
+			for (int i = 0; i < object.length; i++) {
+				result[i] = new LocalTime(offsetCache.toLocalMillis(object[i]), localChronology);
+			}
+			return result;
 		}
 	}	
 	
@@ -787,11 +1347,9 @@ public final class FnLocalTime {
 			int milli = (object.size() >= 4) ? iterator.next().intValue() : 0;
 			
 			if (this.chronology != null) {
-	        	return new LocalTime(hour, minute, second, 
-	        			milli, this.chronology);
+	        	return new LocalTime(hour, minute, second, milli, this.chronology);
 	        }
-			return new LocalTime(hour, minute, second, 
-        			milli);
+			return new LocalTime(hour, minute, second, milli);
 		}
 	}	
 	
@@ -822,15 +1380,86 @@ public final class FnLocalTime {
 			int milli = (object.length >= 4) ? object[3].intValue() : 0;
 			
 			if (this.chronology != null) {
-	        	return new LocalTime(hour, minute, second, 
-	        			milli, this.chronology);
+	        	return new LocalTime(hour, minute, second, milli, this.chronology);
 	        }
-			return new LocalTime(hour, minute, second, 
-        			milli);
+			return new LocalTime(hour, minute, second, milli);
 		}
 		
 	}	
 	
+	static final class IntFieldArrayToLocalTime extends BaseToLocalTime<int[]> {
+
+		public IntFieldArrayToLocalTime() {
+			super();			
+		}
+
+		public IntFieldArrayToLocalTime(Chronology chronology) {
+			super(chronology);
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.op4j.functions.AbstractNullAsNullFunction#nullAsNullExecute(java.lang.Object, org.op4j.functions.ExecCtx)
+		 */
+		@Override
+		public LocalTime nullAsNullExecute(final int[] object, final ExecCtx ctx) throws Exception {
+			return fromFields(object, 0, object.length);
+		}
+		
+		LocalTime fromFields(final int[] fields, final int offset, final int length) throws ExecutionException {
+			if (length < 1 || length > 4) {
+				throw new ExecutionException(
+						"int arguments array for LocalTime conversion should have a size " +
+						"between 1 and 4. Size " + length + " is not valid.");
+			}
+			
+			final int hour = fields[offset];
+			final int minute = (length >= 2) ? fields[offset + 1] : 0;
+			final int second = (length >= 3) ? fields[offset + 2] : 0;
+			final int milli = (length >= 4) ? fields[offset + 3] : 0;
+			
+			if (this.chronology != null) {
+				return new LocalTime(hour, minute, second, milli, this.chronology);
+			}
+			return new LocalTime(hour, minute, second, milli);
+		}
+		
+	}	
+	
+	static final class IntFieldArrayToArrayOfLocalTime extends AbstractNullAsNullFunction<int[], LocalTime[]> {
+
+		private final IntFieldArrayToLocalTime converter;
+		private final int fieldsPerRecord;
+		
+		public IntFieldArrayToArrayOfLocalTime(final IntFieldArrayToLocalTime converter, final int fieldsPerRecord) {
+			super();
+			
+			Validate.isTrue(fieldsPerRecord >= 1 && fieldsPerRecord <= 4, 
+					"fieldsPerRecord must be between 1 and 4");
+			
+			this.converter = converter;
+			this.fieldsPerRecord = fieldsPerRecord;
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.op4j.functions.AbstractNullAsNullFunction#nullAsNullExecute(java.lang.Object, org.op4j.functions.ExecCtx)
+		 */
+		@Override
+		public LocalTime[] nullAsNullExecute(final int[] object, final ExecCtx ctx) throws Exception {
+			if (object.length % this.fieldsPerRecord != 0) {
+				throw new ExecutionException(
+						"int arguments array for LocalTime conversion should have a size multiple of " +
+						this.fieldsPerRecord + ". Size " + object.length + " is not valid.");
+			}
+			
+			final LocalTime[] result = new LocalTime[object.length / this.fieldsPerRecord];
+			for (int i = 0; i < result.length; i++) {
+				result[i] = this.converter.fromFields(object, i * this.fieldsPerRecord, this.fieldsPerRecord);
+			}
+			return result;
+		}
+		
+	}
+	
 	
 	
 	static final class StringFieldCollectionToLocalTime extends BaseToLocalTime<Collection<String>> {
@@ -856,17 +1485,15 @@ public final class FnLocalTime {
 			
 			Iterator<String> iterator = object.iterator();
 			
-			String hour = iterator.next();
-			String minute = (object.size() >= 2) ? iterator.next() : "0";
-			String second = (object.size() >= 3) ? iterator.next() : "0";
-			String milli = (object.size() >= 4) ? iterator.next() : "0";
+			int hour = FieldDecoder.parseInt(iterator.next());
+			int minute = (object.size() >= 2) ? FieldDecoder.parseInt(iterator.next()) : 0;
+			int second = (object.size() >= 3) ? FieldDecoder.parseInt(iterator.next()) : 0;
+			int milli = (object.size() >= 4) ? FieldDecoder.parseInt(iterator.next()) : 0;
 			
 			if (this.chronology != null) {
-	        	return new LocalTime(Integer.parseInt(hour),Integer.parseInt(minute), Integer.parseInt(second), 
-	        			Integer.parseInt(milli), this.chronology);
+	        	return new LocalTime(hour, minute, second, milli, this.chronology);
 	        }
-			return new LocalTime(Integer.parseInt(hour), Integer.parseInt(minute), Integer.parseInt(second), 
-        			Integer.parseInt(milli));
+			return new LocalTime(hour, minute, second, milli);
 		}
 		
 		
@@ -893,17 +1520,15 @@ public final class FnLocalTime {
 						"between 1 and 4. Size " + object.length + " is not valid.");
 			}			
 			
-			String hour = object[0];
-			String minute = (object.length >= 2) ? object[1] : "0";
-			String second = (object.length >= 3) ? object[2] : "0";
-			String milli = (object.length >= 4) ? object[3] : "0";
+			int hour = FieldDecoder.parseInt(object[0]);
+			int minute = (object.length >= 2) ? FieldDecoder.parseInt(object[1]) : 0;
+			int second = (object.length >= 3) ? FieldDecoder.parseInt(object[2]) : 0;
+			int milli = (object.length >= 4) ? FieldDecoder.parseInt(object[3]) : 0;
 			
 			if (this.chronology != null) {
-	        	return new LocalTime(Integer.parseInt(hour),Integer.parseInt(minute), Integer.parseInt(second), 
-	        			Integer.parseInt(milli), this.chronology);
+	        	return new LocalTime(hour, minute, second, milli, this.chronology);
 	        }
-			return new LocalTime(Integer.parseInt(hour),Integer.parseInt(minute), Integer.parseInt(second), 
-        			Integer.parseInt(milli));
+			return new LocalTime(hour, minute, second, milli);
 		}
 	}	
 	
@@ -926,13 +1551,14 @@ public final class FnLocalTime {
 		 */
 		@Override
 		public LocalTime nullAsNullExecute(T object, ExecCtx ctx) throws Exception {
-			if (this.dateTimeZone != null) {
-				return new LocalTime(object, this.dateTimeZone);
-			}
+			// Same millis and chronology Joda-Time's CalendarConverter would obtain, without
+			// looking the converter up and resolving the time zone through ResolutionCache
 			if (this.chronology != null) {
-				return new LocalTime(object, this.chronology);
+				return fromInstant(object.getTimeInMillis());
 			}
-			return new LocalTime(object);
+			final Chronology calendarChronology = (this.dateTimeZone != null ? 
+					ResolutionCache.toChronology(object, this.dateTimeZone) : ResolutionCache.toChronology(object));
+			return new LocalTime(object.getTimeInMillis(), calendarChronology);
 		}
 	}	
 }
@@ -27,14 +27,12 @@ import java.util.Date;
 import java.util.Iterator;
 import java.util.Locale;
 
-import org.apache.commons.lang.LocaleUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.lang.Validate;
 import org.joda.time.Chronology;
 import org.joda.time.DateTimeZone;
 import org.joda.time.MutableDateTime;
-import org.joda.time.format.DateTimeFormat;
-import org.joda.time.format.DateTimeFormatter;
+import org.joda.time.chrono.ISOChronology;
 import org.op4j.exceptions.ExecutionException;
 import org.op4j.functions.AbstractNullAsNullFunction;
 import org.op4j.functions.ExecCtx;
@@ -185,6 +183,318 @@ public final class FnMutableDateTime {
 	public static final Function<String, MutableDateTime> strToMutableDateTime(String pattern, String locale, Chronology chronology) {
 		return new StringToMutableDateTime(pattern, locale, chronology);
 	}
+	
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link MutableDateTime} (nulls are
+	 * kept as nulls) using the given pattern parameter.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @return the array of {@link MutableDateTime} created from the input and arguments 
+	 */
+	public static final Function<String[], MutableDateTime[]> strArrayToArrayOfMutableDateTime(String pattern) {
+		return new StringArrayToArrayOfMutableDateTime(new StringToMutableDateTime(pattern));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link MutableDateTime} (nulls are
+	 * kept as nulls) using the given pattern parameter and with the given
+	 * {@link DateTimeZone}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used 
+	 * @return the array of {@link MutableDateTime} created from the input and arguments 
+	 */
+	public static final Function<String[], MutableDateTime[]> strArrayToArrayOfMutableDateTime(String pattern, DateTimeZone dateTimeZone) {
+		return new StringArrayToArrayOfMutableDateTime(new StringToMutableDateTime(pattern, dateTimeZone));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link MutableDateTime} (nulls are
+	 * kept as nulls) using the given pattern parameter and with the given
+	 * {@link Chronology}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of {@link MutableDateTime} created from the input and arguments 
+	 */
+	public static final Function<String[], MutableDateTime[]> strArrayToArrayOfMutableDateTime(String pattern, Chronology chronology) {
+		return new StringArrayToArrayOfMutableDateTime(new StringToMutableDateTime(pattern, chronology));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link MutableDateTime} (nulls are
+	 * kept as nulls) using the given pattern parameter and with the given
+	 * {@link Locale}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale {@link Locale} to be used 
+	 * @return the array of {@link MutableDateTime} created from the input and arguments 
+	 */
+	public static final Function<String[], MutableDateTime[]> strArrayToArrayOfMutableDateTime(String pattern, Locale locale) {
+		return new StringArrayToArrayOfMutableDateTime(new StringToMutableDateTime(pattern, locale));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link MutableDateTime} (nulls are
+	 * kept as nulls) using the given pattern parameter and with the given
+	 * locale.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale locale to be used 
+	 * @return the array of {@link MutableDateTime} created from the input and arguments 
+	 */
+	public static final Function<String[], MutableDateTime[]> strArrayToArrayOfMutableDateTime(String pattern, String locale) {
+		return new StringArrayToArrayOfMutableDateTime(new StringToMutableDateTime(pattern, locale));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link MutableDateTime} (nulls are
+	 * kept as nulls) using the given pattern parameter, {@link Locale} and
+	 * {@link DateTimeZone}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale {@link Locale} to be used 
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used 
+	 * @return the array of {@link MutableDateTime} created from the input and arguments 
+	 */
+	public static final Function<String[], MutableDateTime[]> strArrayToArrayOfMutableDateTime(String pattern, Locale locale, DateTimeZone dateTimeZone) {
+		return new StringArrayToArrayOfMutableDateTime(new StringToMutableDateTime(pattern, locale, dateTimeZone));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link MutableDateTime} (nulls are
+	 * kept as nulls) using the given pattern parameter, locale and
+	 * {@link DateTimeZone}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale locale to be used 
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used 
+	 * @return the array of {@link MutableDateTime} created from the input and arguments 
+	 */
+	public static final Function<String[], MutableDateTime[]> strArrayToArrayOfMutableDateTime(String pattern, String locale, DateTimeZone dateTimeZone) {
+		return new StringArrayToArrayOfMutableDateTime(new StringToMutableDateTime(pattern, locale, dateTimeZone));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link MutableDateTime} (nulls are
+	 * kept as nulls) using the given pattern parameter, {@link Locale} and
+	 * {@link Chronology}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale {@link Locale} to be used 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of {@link MutableDateTime} created from the input and arguments 
+	 */
+	public static final Function<String[], MutableDateTime[]> strArrayToArrayOfMutableDateTime(String pattern, Locale locale, Chronology chronology) {
+		return new StringArrayToArrayOfMutableDateTime(new StringToMutableDateTime(pattern, locale, chronology));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input array into a {@link MutableDateTime} (nulls are
+	 * kept as nulls) using the given pattern parameter, locale and
+	 * {@link Chronology}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale locale to be used 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of {@link MutableDateTime} created from the input and arguments 
+	 */
+	public static final Function<String[], MutableDateTime[]> strArrayToArrayOfMutableDateTime(String pattern, String locale, Chronology chronology) {
+		return new StringArrayToArrayOfMutableDateTime(new StringToMutableDateTime(pattern, locale, chronology));
+	}
+	
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link MutableDateTime} (nulls are
+	 * kept as nulls) using the given pattern parameter.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @return the array of {@link MutableDateTime} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, MutableDateTime[]> strCollectionToArrayOfMutableDateTime(String pattern) {
+		return new StringCollectionToArrayOfMutableDateTime(new StringToMutableDateTime(pattern));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link MutableDateTime} (nulls are
+	 * kept as nulls) using the given pattern parameter and with the given
+	 * {@link DateTimeZone}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used 
+	 * @return the array of {@link MutableDateTime} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, MutableDateTime[]> strCollectionToArrayOfMutableDateTime(String pattern, DateTimeZone dateTimeZone) {
+		return new StringCollectionToArrayOfMutableDateTime(new StringToMutableDateTime(pattern, dateTimeZone));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link MutableDateTime} (nulls are
+	 * kept as nulls) using the given pattern parameter and with the given
+	 * {@link Chronology}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of {@link MutableDateTime} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, MutableDateTime[]> strCollectionToArrayOfMutableDateTime(String pattern, Chronology chronology) {
+		return new StringCollectionToArrayOfMutableDateTime(new StringToMutableDateTime(pattern, chronology));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link MutableDateTime} (nulls are
+	 * kept as nulls) using the given pattern parameter and with the given
+	 * {@link Locale}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale {@link Locale} to be used 
+	 * @return the array of {@link MutableDateTime} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, MutableDateTime[]> strCollectionToArrayOfMutableDateTime(String pattern, Locale locale) {
+		return new StringCollectionToArrayOfMutableDateTime(new StringToMutableDateTime(pattern, locale));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link MutableDateTime} (nulls are
+	 * kept as nulls) using the given pattern parameter and with the given
+	 * locale.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale locale to be used 
+	 * @return the array of {@link MutableDateTime} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, MutableDateTime[]> strCollectionToArrayOfMutableDateTime(String pattern, String locale) {
+		return new StringCollectionToArrayOfMutableDateTime(new StringToMutableDateTime(pattern, locale));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link MutableDateTime} (nulls are
+	 * kept as nulls) using the given pattern parameter, {@link Locale} and
+	 * {@link DateTimeZone}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale {@link Locale} to be used 
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used 
+	 * @return the array of {@link MutableDateTime} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, MutableDateTime[]> strCollectionToArrayOfMutableDateTime(String pattern, Locale locale, DateTimeZone dateTimeZone) {
+		return new StringCollectionToArrayOfMutableDateTime(new StringToMutableDateTime(pattern, locale, dateTimeZone));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link MutableDateTime} (nulls are
+	 * kept as nulls) using the given pattern parameter, locale and
+	 * {@link DateTimeZone}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale locale to be used 
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used 
+	 * @return the array of {@link MutableDateTime} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, MutableDateTime[]> strCollectionToArrayOfMutableDateTime(String pattern, String locale, DateTimeZone dateTimeZone) {
+		return new StringCollectionToArrayOfMutableDateTime(new StringToMutableDateTime(pattern, locale, dateTimeZone));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link MutableDateTime} (nulls are
+	 * kept as nulls) using the given pattern parameter, {@link Locale} and
+	 * {@link Chronology}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale {@link Locale} to be used 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of {@link MutableDateTime} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, MutableDateTime[]> strCollectionToArrayOfMutableDateTime(String pattern, Locale locale, Chronology chronology) {
+		return new StringCollectionToArrayOfMutableDateTime(new StringToMutableDateTime(pattern, locale, chronology));
+	}
+	
+	/**
+	 * <p>
+	 * It converts every {@link String} in the input collection into a {@link MutableDateTime} (nulls are
+	 * kept as nulls) using the given pattern parameter, locale and
+	 * {@link Chronology}.
+	 * If the pattern includes either, the name of the month or day of week, a conversion
+	 * accepting a {@link Locale} must be used instead
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String 
+	 * @param locale locale to be used 
+	 * @param chronology {@link Chronology} to be used 
+	 * @return the array of {@link MutableDateTime} created from the input and arguments 
+	 */
+	public static final Function<Collection<String>, MutableDateTime[]> strCollectionToArrayOfMutableDateTime(String pattern, String locale, Chronology chronology) {
+		return new StringCollectionToArrayOfMutableDateTime(new StringToMutableDateTime(pattern, locale, chronology));
+	}
 	//
 	
 	
@@ -541,12 +851,37 @@ public final class FnMutableDateTime {
 			this.dateTimeZone = null;
 			this.chronology = chronology;
 		}
+		
+		/*
+		 * Same as new MutableDateTime(year, ..., millisOfSecond, chronology), with the
+		 * instant computed by FieldMillis.
+		 */
+		MutableDateTime fromFields(final int year, final int monthOfYear, final int dayOfMonth, 
+				final int hourOfDay, final int minuteOfHour, final int secondOfMinute, final int millisOfSecond) {
+			final Chronology fieldChronology = 
+				(this.chronology != null ? this.chronology : ISOChronology.getInstance());
+			return new MutableDateTime(FieldMillis.getDateTimeMillis(fieldChronology, year, monthOfYear, dayOfMonth, 
+					hourOfDay, minuteOfHour, secondOfMinute, millisOfSecond), fieldChronology);
+		}
+	}
+	
+	/*
+	 * Obtains the parser used by StringToMutableDateTime from the shared DateTimeFormatterCache. It is
+	 * resolved only once, when the function is created, so that invalid patterns are
+	 * reported immediately and no formatter has to be assembled for each converted String.
+	 */
+	private static MillisParser createParser(final String pattern, final Locale locale, 
+			final DateTimeZone dateTimeZone, final Chronology chronology) {
+		if (locale == null) {
+			Validate.isTrue(!(StringUtils.contains(pattern, "MMM") || StringUtils.contains(pattern, "EEE")), 
+					"The use of MMM, MMMM, EEE or EEEE as part of the date pattern requires a Locale");
+		}
+		return new MillisParser(pattern, DateTimeFormatterCache.forPattern(pattern, locale, dateTimeZone, chronology));
 	}
 	
 	static final class StringToMutableDateTime extends BaseToMutableDateTime<String> {
 
-		private final String pattern;
-		private final Locale locale;
+		private final MillisParser parser;
 		
 		
 		public StringToMutableDateTime(String pattern) {
@@ -554,8 +889,7 @@ public final class FnMutableDateTime {
 			
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			
-			this.pattern = pattern;
-			this.locale = null;
+			this.parser = createParser(pattern, null, this.dateTimeZone, this.chronology);
 		}
 
 		public StringToMutableDateTime(String pattern, DateTimeZone dateTimeZone) {
@@ -563,8 +897,7 @@ public final class FnMutableDateTime {
 			
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			
-			this.pattern = pattern;
-			this.locale = null;
+			this.parser = createParser(pattern, null, this.dateTimeZone, this.chronology);
 		}
 
 		public StringToMutableDateTime(String pattern, Chronology chronology) {
@@ -572,8 +905,7 @@ public final class FnMutableDateTime {
 			
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			
-			this.pattern = pattern;
-			this.locale = null;
+			this.parser = createParser(pattern, null, this.dateTimeZone, this.chronology);
 		}
 
 		public StringToMutableDateTime(String pattern, Locale locale) {
@@ -582,8 +914,7 @@ public final class FnMutableDateTime {
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			Validate.notNull(locale, "locale can't be null");
 			
-			this.pattern = pattern;
-			this.locale = locale;
+			this.parser = createParser(pattern, locale, this.dateTimeZone, this.chronology);
 		}
 		
 		public StringToMutableDateTime(String pattern, String locale) {
@@ -592,8 +923,7 @@ public final class FnMutableDateTime {
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			Validate.notEmpty(locale, "locale can't be neither empty nor null");
 			
-			this.pattern = pattern;
-			this.locale = LocaleUtils.toLocale(locale);
+			this.parser = createParser(pattern, ResolutionCache.toLocale(locale), this.dateTimeZone, this.chronology);
 		}
 		
 		public StringToMutableDateTime(String pattern, Locale locale, DateTimeZone dateTimeZone) {
@@ -602,8 +932,7 @@ public final class FnMutableDateTime {
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			Validate.notNull(locale, "locale can't be null");
 			
-			this.pattern = pattern;
-			this.locale = locale;
+			this.parser = createParser(pattern, locale, this.dateTimeZone, this.chronology);
 		}
 		
 		public StringToMutableDateTime(String pattern, String locale, DateTimeZone dateTimeZone) {
@@ -612,8 +941,7 @@ public final class FnMutableDateTime {
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			Validate.notEmpty(locale, "locale can't be neither empty nor null");
 			
-			this.pattern = pattern;
-			this.locale = LocaleUtils.toLocale(locale);
+			this.parser = createParser(pattern, ResolutionCache.toLocale(locale), this.dateTimeZone, this.chronology);
 		}
 		
 		public StringToMutableDateTime(String pattern, Locale locale, Chronology chronology) {
@@ -622,8 +950,7 @@ public final class FnMutableDateTime {
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			Validate.notNull(locale, "locale can't be null");
 			
-			this.pattern = pattern;
-			this.locale = locale;
+			this.parser = createParser(pattern, locale, this.dateTimeZone, this.chronology);
 		}
 		
 		public StringToMutableDateTime(String pattern, String locale, Chronology chronology) {
@@ -632,8 +959,7 @@ public final class FnMutableDateTime {
 			Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
 			Validate.notEmpty(locale, "locale can't be neither empty nor null");
 			
-			this.pattern = pattern;
-			this.locale = LocaleUtils.toLocale(locale);
+			this.parser = createParser(pattern, ResolutionCache.toLocale(locale), this.dateTimeZone, this.chronology);
 		}
 		
 		/* (non-Javadoc)
@@ -641,32 +967,75 @@ public final class FnMutableDateTime {
 		 */
 		@Override
 		public MutableDateTime nullAsNullExecute(String object, ExecCtx ctx) throws Exception {
-			DateTimeFormatter dateTimeFormatter = null;
-		    if (this.locale == null) {
-		        if (StringUtils.contains(this.pattern, "MMM") || StringUtils.contains(this.pattern, "EEE")) {
-		        	throw new ExecutionException(
-							"The use of MMM, MMMM, EEE or EEEE as part of the date pattern requires a Locale");
-	            }
-		        dateTimeFormatter = DateTimeFormat.forPattern(this.pattern);        
-		    } else {    
-		        dateTimeFormatter = DateTimeFormat.forPattern(this.pattern).withLocale(this.locale);
-		    }
-		    
-		    MutableDateTime result = new MutableDateTime();
-		    if (this.dateTimeZone != null) {	    	
-		    	dateTimeFormatter = dateTimeFormatter.withZone(this.dateTimeZone);
-		    }
-		    if (this.chronology != null) {
-		    	dateTimeFormatter = dateTimeFormatter.withChronology(this.chronology);
-		    }
-			result = dateTimeFormatter.parseMutableDateTime(object);
-			
-			return result;		
+			return new MutableDateTime(this.parser.parseMillis(object), this.parser.getChronology());
 		}
 		
 		
 	}	
 	
+	/*
+	 * Bulk versions of StringToMutableDateTime: the parser and the chronology are resolved once
+	 * for the whole column instead of once per element.
+	 */
+	static final class StringArrayToArrayOfMutableDateTime extends AbstractNullAsNullFunction<String[], MutableDateTime[]> {
+
+		private final MillisParser parser;
+		
+		
+		public StringArrayToArrayOfMutableDateTime(StringToMutableDateTime stringToMutableDateTime) {
+			super();
+			this.parser = stringToMutableDateTime.parser;
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.op4j.functions.AbstractNullAsNullFunction#nullAsNullExecute(java.lang.Object, org.op4j.functions.ExecCtx)
+		 */
+		@Override
+		public MutableDateTime[] nullAsNullExecute(String[] object, ExecCtx ctx) throws Exception {
+			final MillisParser parser = this.parser;
+			final Chronology chronology = parser.getChronology();
+			final MutableDateTime[] result = new MutableDateTime[object.length];
+			for (int i = 0; i < object.length; i++) {
+				final String element = object[i];
+				if (element != null) {
+					result[i] = new MutableDateTime(parser.parseMillis(element, chronology), chronology);
+				}
+			}
+			return result;
+		}
+		
+	}
+	
+	static final class StringCollectionToArrayOfMutableDateTime extends AbstractNullAsNullFunction<Collection<String>, MutableDateTime[]> {
+
+		private final MillisParser parser;
+		
+		
+		public StringCollectionToArrayOfMutableDateTime(StringToMutableDateTime stringToMutableDateTime) {
+			super();
+			this.parser = stringToMutableDateTime.parser;
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.op4j.functions.AbstractNullAsNullFunction#nullAsNullExecute(java.lang.Object, org.op4j.functions.ExecCtx)
+		 */
+		@Override
+		public MutableDateTime[] nullAsNullExecute(Collection<String> object, ExecCtx ctx) throws Exception {
+			final MillisParser parser = this.parser;
+			final Chronology chronology = parser.getChronology();
+			final MutableDateTime[] result = new MutableDateTime[object.size()];
+			int i = 0;
+			for (final String element : object) {
+				if (element != null) {
+					result[i] = new MutableDateTime(parser.parseMillis(element, chronology), chronology);
+				}
+				i++;
+			}
+			return result;
+		}
+		
+	}
+	
 	static final class DateToMutableDateTime<T extends Date> extends BaseToMutableDateTime<T> {
 
 		public DateToMutableDateTime() {
@@ -790,10 +1159,7 @@ public final class FnMutableDateTime {
 			int second = (object.size() >= 6) ? iterator.next().intValue() : 0;
 			int milli = (object.size() >= 7) ? iterator.next().intValue() : 0;
 			
-			if (this.chronology != null) {
-	        	return new MutableDateTime(year, month, day, hour, minute, second, milli, this.chronology);
-	        }
-			return new MutableDateTime(year, month, day,  hour, minute, second, milli);
+			return fromFields(year, month, day, hour, minute, second, milli);
 		}
 	}	
 	
@@ -826,10 +1192,7 @@ public final class FnMutableDateTime {
 			int second = (object.length >= 6) ? object[5].intValue() : 0;
 			int milli = (object.length >= 7) ? object[6].intValue() : 0;
 			
-			if (this.chronology != null) {
-	        	return new MutableDateTime(year, month, day, hour, minute, second, milli, this.chronology);
-	        }
-			return new MutableDateTime(year, month, day, hour, minute, second, milli);
+			return fromFields(year, month, day, hour, minute, second, milli);
 		}
 		
 	}	
@@ -859,21 +1222,15 @@ public final class FnMutableDateTime {
 			
 			Iterator<String> iterator = object.iterator();
 			
-			String year = iterator.next();
-			String month = iterator.next();
-			String day = iterator.next();
-			String hour = iterator.next();
-			String minute = (object.size() >= 5) ? iterator.next() : "0";
-			String second = (object.size() >= 6) ? iterator.next() : "0";
-			String milli = (object.size() >= 7) ? iterator.next() : "0";
+			int year = FieldDecoder.parseInt(iterator.next());
+			int month = FieldDecoder.parseInt(iterator.next());
+			int day = FieldDecoder.parseInt(iterator.next());
+			int hour = FieldDecoder.parseInt(iterator.next());
+			int minute = (object.size() >= 5) ? FieldDecoder.parseInt(iterator.next()) : 0;
+			int second = (object.size() >= 6) ? FieldDecoder.parseInt(iterator.next()) : 0;
+			int milli = (object.size() >= 7) ? FieldDecoder.parseInt(iterator.next()) : 0;
 			
-			if (this.chronology != null) {
-	        	return new MutableDateTime(Integer.parseInt(year),Integer.parseInt(month), Integer.parseInt(day),
-	        			Integer.parseInt(hour), Integer.parseInt(minute), Integer.parseInt(second), Integer.parseInt(milli),
-	        			this.chronology);
-	        }
-			return new MutableDateTime(Integer.parseInt(year), Integer.parseInt(month), Integer.parseInt(day),
-					Integer.parseInt(hour), Integer.parseInt(minute), Integer.parseInt(second), Integer.parseInt(milli));
+			return fromFields(year, month, day, hour, minute, second, milli);
 		}
 	}	
 	
@@ -898,21 +1255,15 @@ public final class FnMutableDateTime {
 						"between 4 and 7 (year, month, day, hour, minute, second, millisecond). Size " + object.length + " is not valid.");
 			}			
 			
-			String year = object[0];
-			String month = object[1];
-			String day = object[2];
-			String hour = object[3];
-			String minute = (object.length >= 5) ? object[4] : "0";
-			String second = (object.length >= 6) ? object[5] : "0";
-			String milli = (object.length >= 7) ? object[6] : "0";
+			int year = FieldDecoder.parseInt(object[0]);
+			int month = FieldDecoder.parseInt(object[1]);
+			int day = FieldDecoder.parseInt(object[2]);
+			int hour = FieldDecoder.parseInt(object[3]);
+			int minute = (object.length >= 5) ? FieldDecoder.parseInt(object[4]) : 0;
+			int second = (object.length >= 6) ? FieldDecoder.parseInt(object[5]) : 0;
+			int milli = (object.length >= 7) ? FieldDecoder.parseInt(object[6]) : 0;
 			
-			if (this.chronology != null) {
-	        	return new MutableDateTime(Integer.parseInt(year),Integer.parseInt(month), Integer.parseInt(day), 
-	        			Integer.parseInt(hour), Integer.parseInt(minute), Integer.parseInt(second), Integer.parseInt(milli),
-	        			this.chronology);
-	        }
-			return new MutableDateTime(Integer.parseInt(year),Integer.parseInt(month), Integer.parseInt(day),
-					Integer.parseInt(hour), Integer.parseInt(minute), Integer.parseInt(second), Integer.parseInt(milli));
+			return fromFields(year, month, day, hour, minute, second, milli);
 		}
 	}	
 	
@@ -935,13 +1286,14 @@ public final class FnMutableDateTime {
 		 */
 		@Override
 		public MutableDateTime nullAsNullExecute(T object, ExecCtx ctx) throws Exception {
-			if (this.dateTimeZone != null) {
-				return new MutableDateTime(object, this.dateTimeZone);
-			}
+			// Same millis and chronology Joda-Time's CalendarConverter would obtain, without
+			// looking the converter up and resolving the time zone through ResolutionCache
 			if (this.chronology != null) {
-				return new MutableDateTime(object, this.chronology);
+				return new MutableDateTime(object.getTimeInMillis(), this.chronology);
 			}
-			return new MutableDateTime(object);
+			final Chronology calendarChronology = (this.dateTimeZone != null ? 
+					ResolutionCache.toChronology(object, this.dateTimeZone) : ResolutionCache.toChronology(object));
+			return new MutableDateTime(object.getTimeInMillis(), calendarChronology);
 		}
 	}	
 }
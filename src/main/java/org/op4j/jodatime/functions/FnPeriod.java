@@ -62,6 +62,7 @@ public final class FnPeriod {
 	
 	private static final Function<Collection<Integer>, Period> INTEGER_FIELD_COLLECTION_TO_PERIOD = new IntegerFieldCollectionToPeriod();
 	private static final Function<Integer[], Period> INTEGER_FIELD_ARRAY_TO_PERIOD = new IntegerFieldArrayToPeriod();
+	private static final Function<int[], Period> INT_FIELD_ARRAY_TO_PERIOD = new IntFieldArrayToPeriod();
 	
 	private static final Function<Collection<String>, Period> STRING_FIELD_COLLECTION_TO_PERIOD = new StringFieldCollectionToPeriod();
 	private static final Function<String[], Period> STRING_FIELD_ARRAY_TO_PERIOD = new StringFieldArrayToPeriod();
@@ -729,6 +730,76 @@ public final class FnPeriod {
 		return new IntegerFieldArrayToPeriod(periodType);
 	}
 	
+	/**
+	 * <p>
+	 * It creates a Period from an <tt>int</tt> array, without boxing its components, either:
+	 * </p>
+	 * <ul>   
+	 * <li>From an int[] representing the hours, minutes, seconds and milliseconds</li>
+	 * <li>From an int[] representing the years, months, weeks, days, hours, minutes, seconds and milliseconds</li>
+	 * </ul>
+	 * 
+	 * @return the {@link Period} created from the input
+	 */
+	public static final Function<int[], Period> intFieldArrayToPeriod() {
+		return INT_FIELD_ARRAY_TO_PERIOD;
+	}
+	
+	/**
+	 * <p>
+	 * It creates a Period with the specified {@link PeriodType} from an <tt>int</tt> array, 
+	 * without boxing its components. The input int[] must contain one value for each of the 
+	 * duration fields supported by the {@link PeriodType}, from the largest to the smallest.
+	 * </p>
+	 * 
+	 * @param periodType the {@link PeriodType} to be created. It specifies which duration fields are to be used 
+	 * @return the {@link Period} created from the input and arguments 
+	 */
+	public static final Function<int[], Period> intFieldArrayToPeriod(PeriodType periodType) {
+		return new IntFieldArrayToPeriod(periodType);
+	}
+	
+	/**
+	 * <p>
+	 * An array of {@link Period} is created from the records of fields in the given 
+	 * <tt>int</tt> array.
+	 * </p>
+	 * 
+	 * <p>
+	 * The input int[] is read as a sequence of records of <tt>fieldsPerRecord</tt> fields each,
+	 * and one {@link Period} is created from each record. The valid number of fields per record
+	 * is 4 (hours, minutes, seconds and milliseconds) or 8 (years, months, weeks, days, hours,
+	 * minutes, seconds and milliseconds), and the length of the input array has to be a multiple
+	 * of it.
+	 * </p>
+	 * 
+	 * @param fieldsPerRecord the number of fields of each record
+	 * @return the array of {@link Period} created from the input and arguments
+	 */
+	public static final Function<int[], Period[]> intFieldArrayToArrayOfPeriod(int fieldsPerRecord) {
+		return new IntFieldArrayToArrayOfPeriod(new IntFieldArrayToPeriod(), fieldsPerRecord);
+	}
+	
+	/**
+	 * <p>
+	 * An array of {@link Period} with the specified {@link PeriodType} is created from the 
+	 * records of fields in the given <tt>int</tt> array.
+	 * </p>
+	 * 
+	 * <p>
+	 * The input int[] is read as a sequence of records, each of them with one value for each of 
+	 * the duration fields supported by the {@link PeriodType}, and its length has to be a multiple 
+	 * of the size of the {@link PeriodType}.
+	 * </p>
+	 * 
+	 * @param periodType the {@link PeriodType} to be created. It specifies which duration fields are to be used 
+	 * @return the array of {@link Period} created from the input and arguments
+	 */
+	public static final Function<int[], Period[]> intFieldArrayToArrayOfPeriod(PeriodType periodType) {
+		Validate.notNull(periodType, "periodType can't be null");
+		return new IntFieldArrayToArrayOfPeriod(new IntFieldArrayToPeriod(periodType), periodType.size());
+	}
+	
 	/**
 	 * <p>
 	 * A Period is created either:
@@ -1477,6 +1548,132 @@ public final class FnPeriod {
 		}		
 	}	
 	
+	static final class IntFieldArrayToPeriod extends BaseToPeriod<int[]> {
+
+		public IntFieldArrayToPeriod() {
+			super();			
+		}		
+		
+		public IntFieldArrayToPeriod(PeriodType periodType) {
+			super(periodType);
+		}	
+		
+		/* (non-Javadoc)
+		 * @see org.op4j.functions.AbstractNullAsNullFunction#nullAsNullExecute(java.lang.Object, org.op4j.functions.ExecCtx)
+		 */
+		@Override
+		public Period nullAsNullExecute(final int[] object, final ExecCtx ctx) throws Exception {
+			return fromFields(object, 0, object.length);
+		}
+		
+		Period fromFields(final int[] fields, final int offset, final int length) throws ExecutionException {
+			if (this.periodType != null) {
+				// Check array size is consistent with periodType
+				if (length != this.periodType.size()) { 
+					throw new ExecutionException(
+							"int arguments array for Period conversion with the periodType " +
+							this.periodType.getName() + " should have size " + this.periodType.size() +
+							". Size " + length + " is not valid.");
+				}
+				
+				int currentIndex = offset;
+				int years = 0;
+				int months = 0;
+				int weeks = 0;
+				int days = 0;
+				int hours = 0;
+				int minutes = 0;
+				int seconds = 0;
+				int millis = 0;
+				if (this.periodType.isSupported(DurationFieldType.years())) {
+					years = fields[currentIndex++];
+				}
+				if (this.periodType.isSupported(DurationFieldType.months())) {
+					months = fields[currentIndex++];
+				}
+				if (this.periodType.isSupported(DurationFieldType.weeks())) {
+					weeks = fields[currentIndex++];
+				}
+				if (this.periodType.isSupported(DurationFieldType.days())) {
+					days = fields[currentIndex++];
+				}
+				if (this.periodType.isSupported(DurationFieldType.hours())) {
+					hours = fields[currentIndex++];
+				}
+				if (this.periodType.isSupported(DurationFieldType.minutes())) {
+					minutes = fields[currentIndex++];
+				}
+				if (this.periodType.isSupported(DurationFieldType.seconds())) {
+					seconds = fields[currentIndex++];
+				}
+				if (this.periodType.isSupported(DurationFieldType.millis())) {
+					millis = fields[currentIndex++];
+				}
+				
+				return new Period(years, months, weeks, days, hours, minutes, seconds, millis, this.periodType);
+			}
+			
+			// When periodType is null, only two types of data are allowed: 
+			// (hours, minutes, seconds, milliseconds)
+			// (years, months, weeks, days, hours, minutes, seconds and milliseconds)
+			if (length != 4 && length != 8) {
+				throw new ExecutionException(
+						"int arguments array for Period conversion without a PeriodType should of sizes " +
+						"4 (hours, minutes, seconds, milliseconds), 8 (years, months, weeks, days, hours, minutes, seconds and milliseconds). " +
+						"Size " + length + " is not valid.");
+			}
+			
+			// hours, minutes, seconds, milliseconds
+			if (length == 4) {
+				return new Period(fields[offset], fields[offset + 1], fields[offset + 2], fields[offset + 3]);
+			}
+			
+			// years, months, weeks, days, hours, minutes, seconds and milliseconds
+			return new Period(fields[offset], fields[offset + 1], fields[offset + 2], fields[offset + 3],
+					fields[offset + 4], fields[offset + 5], fields[offset + 6], fields[offset + 7]);
+		}
+	}	
+	
+	static final class IntFieldArrayToArrayOfPeriod extends AbstractNullAsNullFunction<int[], Period[]> {
+
+		private final IntFieldArrayToPeriod converter;
+		private final int fieldsPerRecord;
+		
+		public IntFieldArrayToArrayOfPeriod(final IntFieldArrayToPeriod converter, final int fieldsPerRecord) {
+			super();
+			
+			if (converter.periodType != null) {
+				Validate.isTrue(fieldsPerRecord == converter.periodType.size() && fieldsPerRecord > 0, 
+						"fieldsPerRecord must be the size of the periodType");
+			} else {
+				Validate.isTrue(fieldsPerRecord == 4 || fieldsPerRecord == 8, 
+						"fieldsPerRecord must be 4 or 8");
+			}
+			
+			this.converter = converter;
+			this.fieldsPerRecord = fieldsPerRecord;
+		}
+		
+		/* (non-Javadoc)
+		 * @see org.op4j.functions.AbstractNullAsNullFunction#nullAsNullExecute(java.lang.Object, org.op4j.functions.ExecCtx)
+		 */
+		@Override
+		public Period[] nullAsNullExecute(final int[] object, final ExecCtx ctx) throws Exception {
+			if (object.length % this.fieldsPerRecord != 0) {
+				throw new ExecutionException(
+						"int arguments array for Period conversion should have a size multiple of " +
+						this.fieldsPerRecord + ". Size " + object.length + " is not valid.");
+			}
+			
+			final Period[] result = new Period[object.length / this.fieldsPerRecord];
+			for (int i = 0; i < result.length; i++) {
+				result[i] = this.converter.fromFields(object, i * this.fieldsPerRecord, this.fieldsPerRecord);
+			}
+			return result;
+		}
+		
+	}
+	
 	static final class StringFieldCollectionToPeriod extends BaseToPeriod<Collection<String>> {
 
 		public StringFieldCollectionToPeriod() {
@@ -1513,28 +1710,28 @@ public final class FnPeriod {
 				int seconds = 0;
 				int millis = 0;
 				if (this.periodType.isSupported(DurationFieldType.years())) {
-					years = Integer.parseInt(iterator.next());					
+					years = FieldDecoder.parseInt(iterator.next());					
 				}
 				if (this.periodType.isSupported(DurationFieldType.months())) {
-					months = Integer.parseInt(iterator.next());					
+					months = FieldDecoder.parseInt(iterator.next());					
 				}
 				if (this.periodType.isSupported(DurationFieldType.weeks())) {
-					weeks = Integer.parseInt(iterator.next());					
+					weeks = FieldDecoder.parseInt(iterator.next());					
 				}
 				if (this.periodType.isSupported(DurationFieldType.days())) {
-					days = Integer.parseInt(iterator.next());					
+					days = FieldDecoder.parseInt(iterator.next());					
 				}
 				if (this.periodType.isSupported(DurationFieldType.hours())) {
-					hours = Integer.parseInt(iterator.next());					
+					hours = FieldDecoder.parseInt(iterator.next());					
 				}
 				if (this.periodType.isSupported(DurationFieldType.minutes())) {
-					minutes = Integer.parseInt(iterator.next());					
+					minutes = FieldDecoder.parseInt(iterator.next());					
 				}
 				if (this.periodType.isSupported(DurationFieldType.seconds())) {
-					seconds = Integer.parseInt(iterator.next());					
+					seconds = FieldDecoder.parseInt(iterator.next());					
 				}
 				if (this.periodType.isSupported(DurationFieldType.millis())) {
-					millis = Integer.parseInt(iterator.next());					
+					millis = FieldDecoder.parseInt(iterator.next());					
 				}				
 				
 				return new Period(years, months, weeks, days, hours, minutes, seconds, millis, this.periodType);
@@ -1553,15 +1750,15 @@ public final class FnPeriod {
 
 			// hours, minutes, seconds, milliseconds
 			if (strings.size() == 4) {
-				return new Period(Integer.parseInt(iterator.next()), Integer.parseInt(iterator.next()), 
-						Integer.parseInt(iterator.next()), Integer.parseInt(iterator.next()));
+				return new Period(FieldDecoder.parseInt(iterator.next()), FieldDecoder.parseInt(iterator.next()), 
+						FieldDecoder.parseInt(iterator.next()), FieldDecoder.parseInt(iterator.next()));
 			} 
 			
 			// years, months, weeks, days, hours, minutes, seconds and milliseconds
-			return new Period(Integer.parseInt(iterator.next()), Integer.parseInt(iterator.next()), 
-					Integer.parseInt(iterator.next()), Integer.parseInt(iterator.next()),
-					Integer.parseInt(iterator.next()), Integer.parseInt(iterator.next()),
-					Integer.parseInt(iterator.next()), Integer.parseInt(iterator.next()));
+			return new Period(FieldDecoder.parseInt(iterator.next()), FieldDecoder.parseInt(iterator.next()), 
+					FieldDecoder.parseInt(iterator.next()), FieldDecoder.parseInt(iterator.next()),
+					FieldDecoder.parseInt(iterator.next()), FieldDecoder.parseInt(iterator.next()),
+					FieldDecoder.parseInt(iterator.next()), FieldDecoder.parseInt(iterator.next()));
 		}		
 	}	
 	
@@ -1599,28 +1796,28 @@ public final class FnPeriod {
 				int seconds = 0;
 				int millis = 0;
 				if (this.periodType.isSupported(DurationFieldType.years())) {
-					years = Integer.parseInt(strings[currentIndex++]);					
+					years = FieldDecoder.parseInt(strings[currentIndex++]);					
 				}
 				if (this.periodType.isSupported(DurationFieldType.months())) {
-					months = Integer.parseInt(strings[currentIndex++]);					
+					months = FieldDecoder.parseInt(strings[currentIndex++]);					
 				}
 				if (this.periodType.isSupported(DurationFieldType.weeks())) {
-					weeks = Integer.parseInt(strings[currentIndex++]);					
+					weeks = FieldDecoder.parseInt(strings[currentIndex++]);					
 				}
 				if (this.periodType.isSupported(DurationFieldType.days())) {
-					days = Integer.parseInt(strings[currentIndex++]);					
+					days = FieldDecoder.parseInt(strings[currentIndex++]);					
 				}
 				if (this.periodType.isSupported(DurationFieldType.hours())) {
-					hours = Integer.parseInt(strings[currentIndex++]);					
+					hours = FieldDecoder.parseInt(strings[currentIndex++]);					
 				}
 				if (this.periodType.isSupported(DurationFieldType.minutes())) {
-					minutes = Integer.parseInt(strings[currentIndex++]);					
+					minutes = FieldDecoder.parseInt(strings[currentIndex++]);					
 				}
 				if (this.periodType.isSupported(DurationFieldType.seconds())) {
-					seconds = Integer.parseInt(strings[currentIndex++]);					
+					seconds = FieldDecoder.parseInt(strings[currentIndex++]);					
 				}
 				if (this.periodType.isSupported(DurationFieldType.millis())) {
-					millis = Integer.parseInt(strings[currentIndex++]);					
+					millis = FieldDecoder.parseInt(strings[currentIndex++]);					
 				}				
 				
 				return new Period(years, months, weeks, days, hours, minutes, seconds, millis, this.periodType);
@@ -1639,15 +1836,15 @@ public final class FnPeriod {
 
 			// hours, minutes, seconds, milliseconds
 			if (strings.length == 4) {
-				return new Period(Integer.parseInt(strings[0]), Integer.parseInt(strings[1]), 
-						Integer.parseInt(strings[2]), Integer.parseInt(strings[3]));
+				return new Period(FieldDecoder.parseInt(strings[0]), FieldDecoder.parseInt(strings[1]), 
+						FieldDecoder.parseInt(strings[2]), FieldDecoder.parseInt(strings[3]));
 			} 
 			
 			// years, months, weeks, days, hours, minutes, seconds and milliseconds
-			return new Period(Integer.parseInt(strings[0]), Integer.parseInt(strings[1]), 
-					Integer.parseInt(strings[2]), Integer.parseInt(strings[3]),
-					Integer.parseInt(strings[4]), Integer.parseInt(strings[5]),
-					Integer.parseInt(strings[6]), Integer.parseInt(strings[7]));
+			return new Period(FieldDecoder.parseInt(strings[0]), FieldDecoder.parseInt(strings[1]), 
+					FieldDecoder.parseInt(strings[2]), FieldDecoder.parseInt(strings[3]),
+					FieldDecoder.parseInt(strings[4]), FieldDecoder.parseInt(strings[5]),
+					FieldDecoder.parseInt(strings[6]), FieldDecoder.parseInt(strings[7]));
 		}		
 	}	
 }
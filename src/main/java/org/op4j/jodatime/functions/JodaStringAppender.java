@@ -0,0 +1,72 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2010, The OP4J team (http://www.op4j.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+
+package org.op4j.jodatime.functions;
+
+import java.io.IOException;
+
+/**
+ * <p>
+ * Sink-based equivalent of the {@link String} conversion functions in {@link FnJodaString}:
+ * instead of returning a new {@link String} for each object, it appends the same text
+ * to a caller-supplied {@link StringBuilder} or {@link Appendable}.
+ * </p>
+ * <p>
+ * Appenders are obtained from {@link FnJodaString} and are thread-safe. Appending a
+ * null object appends nothing.
+ * </p>
+ * <p>
+ * Fixed-width numeric patterns (such as <tt>yyyy-MM-dd HH:mm:ss</tt>), and the default ISO
+ * formats of {@link org.joda.time.LocalDate} and {@link org.joda.time.LocalTime}, are written
+ * digit by digit to the target without any intermediate object. Any other format is printed
+ * by Joda-Time, which writes directly to {@link StringBuffer} and {@link java.io.Writer}
+ * targets but creates a {@link String} for any other one, including {@link StringBuilder}, as
+ * Joda-Time 1.6 cannot print to them.
+ * </p>
+ *
+ * @since 1.3
+ *
+ */
+public interface JodaStringAppender<T> {
+
+	/**
+	 * <p>
+	 * Appends the {@link String} representation of the given object to the given
+	 * {@link StringBuilder}.
+	 * </p>
+	 *
+	 * @param builder the {@link StringBuilder} to append to
+	 * @param object the object to be converted (can be null)
+	 */
+	public void appendTo(final StringBuilder builder, final T object);
+
+	/**
+	 * <p>
+	 * Appends the {@link String} representation of the given object to the given
+	 * {@link Appendable}.
+	 * </p>
+	 *
+	 * @param appendable the {@link Appendable} to append to
+	 * @param object the object to be converted (can be null)
+	 * @throws IOException if the {@link Appendable} throws it
+	 */
+	public void appendTo(final Appendable appendable, final T object) throws IOException;
+
+}
@@ -0,0 +1,332 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2010, The OP4J team (http://www.op4j.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+
+package org.op4j.jodatime.functions;
+
+import java.util.Locale;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.lang.Validate;
+import org.joda.time.Chronology;
+import org.joda.time.DateMidnight;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.LocalDate;
+import org.joda.time.LocalTime;
+import org.joda.time.MutableDateTime;
+
+/**
+ * <p>
+ * Parser for dates and times embedded in larger texts: it parses a range of characters of
+ * any {@link CharSequence} (a {@link StringBuilder} or a {@link java.nio.CharBuffer}, for
+ * example) without the need to create a {@link String} for it first.
+ * </p>
+ * <p>
+ * Parsers are created for a pattern, optionally with a {@link Locale} and a {@link DateTimeZone}
+ * or {@link Chronology}, and give exactly the same results as the String-to-X functions 
+ * in {@link FnDateTime}, {@link FnLocalDate}, {@link FnLocalTime}, {@link FnDateMidnight} and 
+ * {@link FnMutableDateTime} created with the same arguments. They are thread-safe.
+ * </p>
+ * 
+ * @since 1.3
+ *
+ */
+public final class JodaTextParser {
+
+	private final MillisParser parser;
+	
+	
+	
+	private JodaTextParser(final String pattern, final Locale locale, 
+			final DateTimeZone dateTimeZone, final Chronology chronology) {
+		super();
+		if (locale == null) {
+			Validate.isTrue(!(StringUtils.contains(pattern, "MMM") || StringUtils.contains(pattern, "EEE")), 
+					"The use of MMM, MMMM, EEE or EEEE as part of the date pattern requires a Locale");
+		}
+		this.parser = new MillisParser(pattern, DateTimeFormatterCache.forPattern(pattern, locale, dateTimeZone, chronology));
+	}
+	
+	
+	
+	/**
+	 * <p>
+	 * Creates a parser for the given pattern. Parsing a String with it gives
+	 * the same result as the String-to-X functions created with the same arguments.
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String
+	 * @return the {@link JodaTextParser}
+	 */
+	public static JodaTextParser forPattern(final String pattern) {
+		Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
+		return new JodaTextParser(pattern, null, null, null);
+	}
+	
+	/**
+	 * <p>
+	 * Creates a parser for the given pattern in the given {@link DateTimeZone}. Parsing a String with it gives
+	 * the same result as the String-to-X functions created with the same arguments.
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used
+	 * @return the {@link JodaTextParser}
+	 */
+	public static JodaTextParser forPattern(final String pattern, final DateTimeZone dateTimeZone) {
+		Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
+		Validate.notNull(dateTimeZone, "dateTimeZone can't be null");
+		return new JodaTextParser(pattern, null, dateTimeZone, null);
+	}
+	
+	/**
+	 * <p>
+	 * Creates a parser for the given pattern with the given {@link Chronology}. Parsing a String with it gives
+	 * the same result as the String-to-X functions created with the same arguments.
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String
+	 * @param chronology {@link Chronology} to be used
+	 * @return the {@link JodaTextParser}
+	 */
+	public static JodaTextParser forPattern(final String pattern, final Chronology chronology) {
+		Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
+		Validate.notNull(chronology, "chronology can't be null");
+		return new JodaTextParser(pattern, null, null, chronology);
+	}
+	
+	/**
+	 * <p>
+	 * Creates a parser for the given pattern with the given {@link Locale}. Parsing a String with it gives
+	 * the same result as the String-to-X functions created with the same arguments.
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String
+	 * @param locale {@link Locale} to be used
+	 * @return the {@link JodaTextParser}
+	 */
+	public static JodaTextParser forPattern(final String pattern, final Locale locale) {
+		Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
+		Validate.notNull(locale, "locale can't be null");
+		return new JodaTextParser(pattern, locale, null, null);
+	}
+	
+	/**
+	 * <p>
+	 * Creates a parser for the given pattern with the given locale. Parsing a String with it gives
+	 * the same result as the String-to-X functions created with the same arguments.
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String
+	 * @param locale {@link Locale} to be used
+	 * @return the {@link JodaTextParser}
+	 */
+	public static JodaTextParser forPattern(final String pattern, final String locale) {
+		Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
+		Validate.notEmpty(locale, "locale can't be neither empty nor null");
+		return new JodaTextParser(pattern, ResolutionCache.toLocale(locale), null, null);
+	}
+	
+	/**
+	 * <p>
+	 * Creates a parser for the given pattern with the given {@link Locale}, in the given {@link DateTimeZone}. Parsing a String with it gives
+	 * the same result as the String-to-X functions created with the same arguments.
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String
+	 * @param locale {@link Locale} to be used
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used
+	 * @return the {@link JodaTextParser}
+	 */
+	public static JodaTextParser forPattern(final String pattern, final Locale locale, final DateTimeZone dateTimeZone) {
+		Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
+		Validate.notNull(locale, "locale can't be null");
+		Validate.notNull(dateTimeZone, "dateTimeZone can't be null");
+		return new JodaTextParser(pattern, locale, dateTimeZone, null);
+	}
+	
+	/**
+	 * <p>
+	 * Creates a parser for the given pattern with the given locale, in the given {@link DateTimeZone}. Parsing a String with it gives
+	 * the same result as the String-to-X functions created with the same arguments.
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String
+	 * @param locale {@link Locale} to be used
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) to be used
+	 * @return the {@link JodaTextParser}
+	 */
+	public static JodaTextParser forPattern(final String pattern, final String locale, final DateTimeZone dateTimeZone) {
+		Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
+		Validate.notEmpty(locale, "locale can't be neither empty nor null");
+		Validate.notNull(dateTimeZone, "dateTimeZone can't be null");
+		return new JodaTextParser(pattern, ResolutionCache.toLocale(locale), dateTimeZone, null);
+	}
+	
+	/**
+	 * <p>
+	 * Creates a parser for the given pattern with the given {@link Locale} and {@link Chronology}. Parsing a String with it gives
+	 * the same result as the String-to-X functions created with the same arguments.
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String
+	 * @param locale {@link Locale} to be used
+	 * @param chronology {@link Chronology} to be used
+	 * @return the {@link JodaTextParser}
+	 */
+	public static JodaTextParser forPattern(final String pattern, final Locale locale, final Chronology chronology) {
+		Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
+		Validate.notNull(locale, "locale can't be null");
+		Validate.notNull(chronology, "chronology can't be null");
+		return new JodaTextParser(pattern, locale, null, chronology);
+	}
+	
+	/**
+	 * <p>
+	 * Creates a parser for the given pattern with the given locale and {@link Chronology}. Parsing a String with it gives
+	 * the same result as the String-to-X functions created with the same arguments.
+	 * </p>
+	 * 
+	 * @param pattern string with the format of the input String
+	 * @param locale {@link Locale} to be used
+	 * @param chronology {@link Chronology} to be used
+	 * @return the {@link JodaTextParser}
+	 */
+	public static JodaTextParser forPattern(final String pattern, final String locale, final Chronology chronology) {
+		Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
+		Validate.notEmpty(locale, "locale can't be neither empty nor null");
+		Validate.notNull(chronology, "chronology can't be null");
+		return new JodaTextParser(pattern, ResolutionCache.toLocale(locale), null, chronology);
+	}
+	
+	
+	
+	/**
+	 * <p>
+	 * Parses the characters of text between start (inclusive) and end (exclusive) into
+	 * milliseconds from 1970-01-01T00:00:00Z.
+	 * </p>
+	 * 
+	 * @param text the {@link CharSequence} containing the text to be parsed
+	 * @param start the index of the first character to be parsed
+	 * @param end the index after the last character to be parsed
+	 * @return the parsed milliseconds
+	 * @throws IllegalArgumentException if the text can't be parsed
+	 */
+	public long parseMillis(final CharSequence text, final int start, final int end) {
+		Validate.notNull(text, "text can't be null");
+		if (start < 0 || end > text.length() || start > end) {
+			throw new IndexOutOfBoundsException(
+					"Range [" + start + ", " + end + ") is not valid for a text of length " + text.length());
+		}
+		return this.parser.parseMillis(text, start, end);
+	}
+	
+	/**
+	 * <p>
+	 * Parses the characters of text between start (inclusive) and end (exclusive) into
+	 * a {@link DateTime}, as {@link FnDateTime#strToDateTime(String)} and its overloads would do
+	 * with the same characters as a {@link String}.
+	 * </p>
+	 * 
+	 * @param text the {@link CharSequence} containing the text to be parsed
+	 * @param start the index of the first character to be parsed
+	 * @param end the index after the last character to be parsed
+	 * @return the parsed {@link DateTime}
+	 * @throws IllegalArgumentException if the text can't be parsed
+	 */
+	public DateTime parseDateTime(final CharSequence text, final int start, final int end) {
+		final long millis = parseMillis(text, start, end);
+		return new DateTime(millis, this.parser.getChronology());
+	}
+	
+	/**
+	 * <p>
+	 * Parses the characters of text between start (inclusive) and end (exclusive) into
+	 * a {@link LocalDate}, as {@link FnLocalDate#strToLocalDate(String)} and its overloads would do
+	 * with the same characters as a {@link String}.
+	 * </p>
+	 * 
+	 * @param text the {@link CharSequence} containing the text to be parsed
+	 * @param start the index of the first character to be parsed
+	 * @param end the index after the last character to be parsed
+	 * @return the parsed {@link LocalDate}
+	 * @throws IllegalArgumentException if the text can't be parsed
+	 */
+	public LocalDate parseLocalDate(final CharSequence text, final int start, final int end) {
+		final long millis = parseMillis(text, start, end);
+		return new LocalDate(millis, this.parser.getChronology());
+	}
+	
+	/**
+	 * <p>
+	 * Parses the characters of text between start (inclusive) and end (exclusive) into
+	 * a {@link LocalTime}, as {@link FnLocalTime#strToLocalTime(String)} and its overloads would do
+	 * with the same characters as a {@link String}.
+	 * </p>
+	 * 
+	 * @param text the {@link CharSequence} containing the text to be parsed
+	 * @param start the index of the first character to be parsed
+	 * @param end the index after the last character to be parsed
+	 * @return the parsed {@link LocalTime}
+	 * @throws IllegalArgumentException if the text can't be parsed
+	 */
+	public LocalTime parseLocalTime(final CharSequence text, final int start, final int end) {
+		final long millis = parseMillis(text, start, end);
+		return new LocalTime(millis, this.parser.getChronology());
+	}
+	
+	/**
+	 * <p>
+	 * Parses the characters of text between start (inclusive) and end (exclusive) into
+	 * a {@link DateMidnight}, as {@link FnDateMidnight#strToDateMidnight(String)} and its overloads would do
+	 * with the same characters as a {@link String}.
+	 * </p>
+	 * 
+	 * @param text the {@link CharSequence} containing the text to be parsed
+	 * @param start the index of the first character to be parsed
+	 * @param end the index after the last character to be parsed
+	 * @return the parsed {@link DateMidnight}
+	 * @throws IllegalArgumentException if the text can't be parsed
+	 */
+	public DateMidnight parseDateMidnight(final CharSequence text, final int start, final int end) {
+		final long millis = parseMillis(text, start, end);
+		return new DateMidnight(millis, this.parser.getChronology());
+	}
+	
+	/**
+	 * <p>
+	 * Parses the characters of text between start (inclusive) and end (exclusive) into
+	 * a {@link MutableDateTime}, as {@link FnMutableDateTime#strToMutableDateTime(String)} and its overloads would do
+	 * with the same characters as a {@link String}.
+	 * </p>
+	 * 
+	 * @param text the {@link CharSequence} containing the text to be parsed
+	 * @param start the index of the first character to be parsed
+	 * @param end the index after the last character to be parsed
+	 * @return the parsed {@link MutableDateTime}
+	 * @throws IllegalArgumentException if the text can't be parsed
+	 */
+	public MutableDateTime parseMutableDateTime(final CharSequence text, final int start, final int end) {
+		final long millis = parseMillis(text, start, end);
+		return new MutableDateTime(millis, this.parser.getChronology());
+	}
+
+}
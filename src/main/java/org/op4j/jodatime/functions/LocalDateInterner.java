@@ -0,0 +1,121 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2010, The OP4J team (http://www.op4j.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+
+package org.op4j.jodatime.functions;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.joda.time.Chronology;
+import org.joda.time.DateTimeConstants;
+import org.joda.time.LocalDate;
+import org.joda.time.chrono.ISOChronology;
+
+/*
+ * Process-wide tables of canonical LocalDate objects, one per (UTC) chronology, keyed
+ * by epoch day. Every chronology in Joda-Time has days of exactly 24 hours in UTC, so
+ * the epoch day of some local millis identifies the LocalDate they are converted into.
+ *
+ * Tables are direct-mapped and bounded: each holds at most SIZE dates (more than 22
+ * years of consecutive days), and a date replaces the one in its slot, if any. Slots
+ * are updated atomically, so all threads get the same instance while it is in the table.
+ */
+final class LocalDateInterner {
+
+	// Number of slots in each table, must be a power of two
+	private static final int SIZE = 8192;
+	
+	private static final LocalDateInterner ISO_UTC = new LocalDateInterner(ISOChronology.getInstanceUTC());
+	private static final ConcurrentMap<Chronology, LocalDateInterner> INTERNERS = 
+		new ConcurrentHashMap<Chronology, LocalDateInterner>();
+	
+	private final Chronology utcChronology;
+	private final AtomicReferenceArray<Entry> entries;
+	
+	
+	
+	private LocalDateInterner(final Chronology utcChronology) {
+		super();
+		this.utcChronology = utcChronology;
+		this.entries = new AtomicReferenceArray<Entry>(SIZE);
+	}
+	
+	
+	
+	/*
+	 * Returns the table for the LocalDates of the given chronology (in any zone)
+	 */
+	static LocalDateInterner forChronology(final Chronology chronology) {
+		final Chronology utcChronology = chronology.withUTC();
+		if (utcChronology == ISO_UTC.utcChronology) {
+			return ISO_UTC;
+		}
+		final LocalDateInterner interner = INTERNERS.get(utcChronology);
+		if (interner != null) {
+			return interner;
+		}
+		final LocalDateInterner newInterner = new LocalDateInterner(utcChronology);
+		final LocalDateInterner existing = INTERNERS.putIfAbsent(utcChronology, newInterner);
+		return (existing != null ? existing : newInterner);
+	}
+	
+	
+	
+	/*
+	 * Equivalent to new LocalDate(localMillis, utcChronology)
+	 */
+	LocalDate intern(final long localMillis) {
+		final long epochDay = (localMillis >= 0 ? 
+				localMillis / DateTimeConstants.MILLIS_PER_DAY : 
+				(localMillis + 1) / DateTimeConstants.MILLIS_PER_DAY - 1);
+		final int index = (int) epochDay & (SIZE - 1);
+		final Entry entry = this.entries.get(index);
+		if (entry != null && entry.epochDay == epochDay) {
+			return entry.localDate;
+		}
+		final Entry newEntry = new Entry(epochDay, new LocalDate(localMillis, this.utcChronology));
+		if (this.entries.compareAndSet(index, entry, newEntry)) {
+			return newEntry.localDate;
+		}
+		// Another thread has updated the slot, possibly with the same date
+		final Entry current = this.entries.get(index);
+		if (current != null && current.epochDay == epochDay) {
+			return current.localDate;
+		}
+		return newEntry.localDate;
+	}
+	
+	
+	
+	private static final class Entry {
+		
+		final long epochDay;
+		final LocalDate localDate;
+		
+		Entry(final long epochDay, final LocalDate localDate) {
+			super();
+			this.epochDay = epochDay;
+			this.localDate = localDate;
+		}
+		
+	}
+	
+}
@@ -0,0 +1,215 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2010, The OP4J team (http://www.op4j.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+
+package org.op4j.jodatime.functions;
+
+import org.apache.commons.lang.Validate;
+import org.joda.time.Chronology;
+import org.joda.time.DateTimeZone;
+import org.joda.time.chrono.ISOChronology;
+import org.joda.time.format.DateTimeFormatter;
+
+/*
+ * Parses Strings into milliseconds and resolves the Chronology the result has to be
+ * created with, exactly as DateTimeFormatter.parseDateTime would do. This allows the
+ * String-to-X functions to create their result object directly, without building an
+ * intermediate DateTime.
+ *
+ * If neither chronology nor zone have been specified, the ISO chronology in the default
+ * zone is resolved on each call, as Joda-Time does.
+ *
+ * When the chronology is ISO and the pattern is one of the canonical ISO-8601 shapes
+ * (see IsoShape) or any other fixed-width numeric pattern (see NumericPattern), Strings
+ * are scanned directly and millis are computed by the chronology. Any input not matching
+ * the pattern exactly, or any invalid field value, is left to the DateTimeFormatter so
+ * that results and exceptions are unchanged.
+ */
+final class MillisParser {
+
+	private static final long NOT_PARSED = NumericPattern.NOT_PARSED;
+
+	private final DateTimeFormatter formatter;
+	private final Chronology chronology;
+	private final IsoShape isoShape;
+	private final NumericPattern numericPattern;
+
+
+	MillisParser(final String pattern, final DateTimeFormatter formatter) {
+		super();
+
+		Validate.notEmpty(pattern, "pattern can't be neither empty nor null");
+		Validate.notNull(formatter, "formatter can't be null");
+
+		this.formatter = formatter;
+		final Chronology formatterChronology = formatter.getChronolgy();
+		final DateTimeZone formatterZone = formatter.getZone();
+		if (formatterChronology != null) {
+			this.chronology = (formatterZone != null ?
+					formatterChronology.withZone(formatterZone) : formatterChronology);
+		} else if (formatterZone != null) {
+			this.chronology = ISOChronology.getInstance(formatterZone);
+		} else {
+			this.chronology = null;
+		}
+		final boolean iso = (this.chronology == null || this.chronology instanceof ISOChronology);
+		this.isoShape = (iso ? IsoShape.forPattern(pattern) : null);
+		this.numericPattern = (iso && this.isoShape == null ? NumericPattern.compile(pattern) : null);
+	}
+
+
+	DateTimeFormatter getFormatter() {
+		return this.formatter;
+	}
+
+	Chronology getChronology() {
+		if (this.chronology == null) {
+			return ISOChronology.getInstance();
+		}
+		return this.chronology;
+	}
+
+	long parseMillis(final String text) {
+		return parseMillis(text, 0, text.length(), getChronology());
+	}
+
+	long parseMillis(final String text, final Chronology resolvedChronology) {
+		return parseMillis(text, 0, text.length(), resolvedChronology);
+	}
+
+	long parseMillis(final CharSequence text, final int start, final int end) {
+		return parseMillis(text, start, end, getChronology());
+	}
+
+	/*
+	 * Parses text[start, end). The input is only copied into a String if it has to be
+	 * handed to the DateTimeFormatter. The chronology must be the one returned by
+	 * getChronology(), so that callers converting many values resolve it only once.
+	 */
+	long parseMillis(final CharSequence text, final int start, final int end, final Chronology resolvedChronology) {
+		if (this.isoShape != null) {
+			final long millis = this.isoShape.parseMillis(text, start, end, resolvedChronology);
+			if (millis != NOT_PARSED) {
+				return millis;
+			}
+		} else if (this.numericPattern != null) {
+			final long millis = this.numericPattern.parseMillis(text, start, end, resolvedChronology);
+			if (millis != NOT_PARSED) {
+				return millis;
+			}
+		}
+		if (start == 0 && end == text.length() && text instanceof String) {
+			return this.formatter.parseMillis((String) text);
+		}
+		return this.formatter.parseMillis(text.subSequence(start, end).toString());
+	}
+
+
+
+	/*
+	 * Returns the value of the "count" digits starting at "start", or -1 if any of
+	 * them is not an ASCII digit.
+	 */
+	static int parseDigits(final CharSequence text, final int start, final int count) {
+		int value = 0;
+		for (int i = start, end = start + count; i < end; i++) {
+			final int digit = text.charAt(i) - '0';
+			if (digit < 0 || digit > 9) {
+				return -1;
+			}
+			value = value * 10 + digit;
+		}
+		return value;
+	}
+
+
+
+	private static enum IsoShape {
+
+		DATE_TIME("yyyy-MM-dd'T'HH:mm:ss.SSS", "####-##-##T##:##:##.###"),
+		DATE("yyyy-MM-dd", "####-##-##"),
+		TIME("HH:mm:ss", "##:##:##");
+
+		private final String pattern;
+		private final String layout;
+
+		private IsoShape(final String pattern, final String layout) {
+			this.pattern = pattern;
+			this.layout = layout;
+		}
+
+		static IsoShape forPattern(final String pattern) {
+			for (final IsoShape shape : values()) {
+				if (shape.pattern.equals(pattern)) {
+					return shape;
+				}
+			}
+			return null;
+		}
+
+		long parseMillis(final CharSequence text, final int start, final int end, final Chronology chronology) {
+			final String layout = this.layout;
+			if (end - start != layout.length()) {
+				return NOT_PARSED;
+			}
+			for (int i = 0, n = layout.length(); i < n; i++) {
+				final char c = layout.charAt(i);
+				if (c != '#' && c != text.charAt(start + i)) {
+					return NOT_PARSED;
+				}
+			}
+
+			int year = 1970;
+			int month = 1;
+			int day = 1;
+			int hour = 0;
+			int minute = 0;
+			int second = 0;
+			int millis = 0;
+			switch (this) {
+				case TIME:
+					hour = parseDigits(text, start, 2);
+					minute = parseDigits(text, start + 3, 2);
+					second = parseDigits(text, start + 6, 2);
+					break;
+				default:
+					year = parseDigits(text, start, 4);
+					month = parseDigits(text, start + 5, 2);
+					day = parseDigits(text, start + 8, 2);
+					if (this == DATE_TIME) {
+						hour = parseDigits(text, start + 11, 2);
+						minute = parseDigits(text, start + 14, 2);
+						second = parseDigits(text, start + 17, 2);
+						millis = parseDigits(text, start + 20, 3);
+					}
+					break;
+			}
+			if ((year | month | day | hour | minute | second | millis) < 0) {
+				return NOT_PARSED;
+			}
+			try {
+				return chronology.getDateTimeMillis(year, month, day, hour, minute, second, millis);
+			} catch (final IllegalArgumentException e) {
+				// Invalid values are reported by the DateTimeFormatter
+				return NOT_PARSED;
+			}
+		}
+	}
+
+}
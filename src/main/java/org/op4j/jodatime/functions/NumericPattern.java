@@ -0,0 +1,361 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2010, The OP4J team (http://www.op4j.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+
+package org.op4j.jodatime.functions;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.joda.time.Chronology;
+
+/*
+ * A DateTimeFormat pattern made only of fixed-width numeric fields and non-digit
+ * literals, compiled into a table of positions: "dd/MM/yyyy-HH:mm" or "yyyyMMddHHmmss",
+ * for example.
+ *
+ * Supported fields are yyyy, MM, dd, HH, mm, ss and SSS (the latter only if it is not
+ * directly followed by another numeric field, as Joda-Time would then read more than
+ * three digits). For input having exactly the digits and literals of the layout, the
+ * result of reading the digits at their offsets is the same as the one of Joda-Time's
+ * generic parser. Any other input must be left to the DateTimeFormatter.
+ *
+ * Printing is equally exact as long as the year is in the 0-9999 range, which is the only
+ * one in which "yyyy" outputs exactly four digits.
+ */
+final class NumericPattern {
+
+	static final long NOT_PARSED = Long.MIN_VALUE;
+
+	static final int YEAR = 0;
+	static final int MONTH = 1;
+	static final int DAY = 2;
+	static final int HOUR = 3;
+	static final int MINUTE = 4;
+	static final int SECOND = 5;
+	static final int MILLIS = 6;
+
+	private static final char[] FIELD_LETTERS = new char[] {'y', 'M', 'd', 'H', 'm', 's', 'S'};
+	private static final int[] FIELD_WIDTHS = new int[] {4, 2, 2, 2, 2, 2, 3};
+	// Divisor of the first digit of each field, 10^(width - 1)
+	private static final int[] DIVISORS = new int[] {1000, 10, 10, 10, 10, 10, 100};
+
+	// Values any field can take independently of the rest, used for fields appearing
+	// more than once (only the last occurrence is used, but all are validated)
+	private static final int[] SAFE_MINIMUMS = new int[] {0, 1, 1, 0, 0, 0, 0};
+	private static final int[] SAFE_MAXIMUMS = new int[] {9999, 12, 28, 23, 59, 59, 999};
+
+	private final char[] template;
+	private final int[] literalOffsets;
+	private final int[] fields;
+	private final int[] fieldOffsets;
+	private final boolean[] overridden;
+
+
+
+	private NumericPattern(final char[] template, final int[] literalOffsets,
+			final int[] fields, final int[] fieldOffsets) {
+		super();
+		this.template = template;
+		this.literalOffsets = literalOffsets;
+		this.fields = fields;
+		this.fieldOffsets = fieldOffsets;
+		this.overridden = new boolean[fields.length];
+		for (int i = 0; i < fields.length; i++) {
+			for (int j = i + 1; j < fields.length; j++) {
+				if (fields[i] == fields[j]) {
+					this.overridden[i] = true;
+				}
+			}
+		}
+	}
+
+
+
+	/*
+	 * Returns the compiled pattern, or null if the pattern contains anything other than
+	 * the supported numeric fields and non-digit literals.
+	 */
+	static NumericPattern compile(final String pattern) {
+
+		final StringBuilder template = new StringBuilder();
+		final List<Integer> literalOffsets = new ArrayList<Integer>();
+		final List<Integer> fields = new ArrayList<Integer>();
+		final List<Integer> fieldOffsets = new ArrayList<Integer>();
+
+		final int length = pattern.length();
+		int i = 0;
+		while (i < length) {
+			final char c = pattern.charAt(i);
+			if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z')) {
+				int tokenLength = 1;
+				while (i + tokenLength < length && pattern.charAt(i + tokenLength) == c) {
+					tokenLength++;
+				}
+				final int field = fieldFor(c);
+				if (field < 0 || FIELD_WIDTHS[field] != tokenLength) {
+					return null;
+				}
+				if (field == MILLIS && i + tokenLength < length && isLetter(pattern.charAt(i + tokenLength))) {
+					// Every supported letter is numeric and unsupported ones are rejected anyway
+					return null;
+				}
+				fields.add(Integer.valueOf(field));
+				fieldOffsets.add(Integer.valueOf(template.length()));
+				for (int j = 0; j < tokenLength; j++) {
+					template.append('0');
+				}
+				i += tokenLength;
+			} else if (c == '\'') {
+				i++;
+				if (i < length && pattern.charAt(i) == '\'') {
+					// Escaped quote
+					literalOffsets.add(Integer.valueOf(template.length()));
+					template.append('\'');
+					i++;
+					continue;
+				}
+				boolean closed = false;
+				while (i < length) {
+					final char q = pattern.charAt(i);
+					if (q == '\'') {
+						if (i + 1 < length && pattern.charAt(i + 1) == '\'') {
+							literalOffsets.add(Integer.valueOf(template.length()));
+							template.append('\'');
+							i += 2;
+							continue;
+						}
+						closed = true;
+						i++;
+						break;
+					}
+					if (!appendLiteral(q, template, literalOffsets)) {
+						return null;
+					}
+					i++;
+				}
+				if (!closed) {
+					return null;
+				}
+			} else {
+				if (!appendLiteral(c, template, literalOffsets)) {
+					return null;
+				}
+				i++;
+			}
+		}
+
+		if (fields.isEmpty()) {
+			return null;
+		}
+
+		return new NumericPattern(
+				template.toString().toCharArray(), toArray(literalOffsets), toArray(fields), toArray(fieldOffsets));
+	}
+
+
+	private static boolean appendLiteral(final char c, final StringBuilder template, final List<Integer> literalOffsets) {
+		if (c >= '0' && c <= '9') {
+			// Digit literals could be taken as part of a variable-width field by Joda-Time
+			return false;
+		}
+		literalOffsets.add(Integer.valueOf(template.length()));
+		template.append(c);
+		return true;
+	}
+
+	private static boolean isLetter(final char c) {
+		return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+	}
+
+	private static int fieldFor(final char c) {
+		for (int i = 0; i < FIELD_LETTERS.length; i++) {
+			if (FIELD_LETTERS[i] == c) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static int[] toArray(final List<Integer> list) {
+		final int[] result = new int[list.size()];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = list.get(i).intValue();
+		}
+		return result;
+	}
+
+
+
+	int getLength() {
+		return this.template.length;
+	}
+
+	boolean hasDateFields() {
+		return hasAnyField(YEAR, DAY);
+	}
+
+	boolean hasTimeFields() {
+		return hasAnyField(HOUR, MILLIS);
+	}
+
+	private boolean hasAnyField(final int first, final int last) {
+		for (int i = 0; i < this.fields.length; i++) {
+			if (this.fields[i] >= first && this.fields[i] <= last) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+
+	/*
+	 * Appends the layout filled with the given values to builder. Returns false (having
+	 * appended nothing) if the year does not fit in four digits.
+	 */
+	boolean appendTo(final StringBuilder builder, final int year, final int month, final int day,
+			final int hour, final int minute, final int second, final int millis) {
+
+		if (year < 0 || year > 9999) {
+			return false;
+		}
+		final int position = builder.length();
+		builder.append(this.template);
+		final int[] fields = this.fields;
+		for (int i = 0; i < fields.length; i++) {
+			final int field = fields[i];
+			int value = getValue(field, year, month, day, hour, minute, second, millis);
+			final int offset = position + this.fieldOffsets[i];
+			for (int j = offset + FIELD_WIDTHS[field] - 1; j >= offset; j--) {
+				builder.setCharAt(j, (char) ('0' + (value % 10)));
+				value /= 10;
+			}
+		}
+		return true;
+	}
+
+	/*
+	 * Appends the layout filled with the given values to appendable, one char at a time so
+	 * that nothing is allocated. Returns false (having appended nothing) if the year does
+	 * not fit in four digits.
+	 */
+	boolean appendTo(final Appendable appendable, final int year, final int month, final int day,
+			final int hour, final int minute, final int second, final int millis) throws IOException {
+
+		if (appendable instanceof StringBuilder) {
+			return appendTo((StringBuilder) appendable, year, month, day, hour, minute, second, millis);
+		}
+		if (year < 0 || year > 9999) {
+			return false;
+		}
+		final char[] template = this.template;
+		final int[] fields = this.fields;
+		int position = 0;
+		for (int i = 0; i < fields.length; i++) {
+			final int field = fields[i];
+			final int offset = this.fieldOffsets[i];
+			while (position < offset) {
+				appendable.append(template[position++]);
+			}
+			final int value = getValue(field, year, month, day, hour, minute, second, millis);
+			for (int divisor = DIVISORS[field]; divisor > 0; divisor /= 10) {
+				appendable.append((char) ('0' + ((value / divisor) % 10)));
+			}
+			position += FIELD_WIDTHS[field];
+		}
+		while (position < template.length) {
+			appendable.append(template[position++]);
+		}
+		return true;
+	}
+
+	private static int getValue(final int field, final int year, final int month, final int day,
+			final int hour, final int minute, final int second, final int millis) {
+		switch (field) {
+			case YEAR: return year;
+			case MONTH: return month;
+			case DAY: return day;
+			case HOUR: return hour;
+			case MINUTE: return minute;
+			case SECOND: return second;
+			default: return millis;
+		}
+	}
+
+
+	/*
+	 * Returns the millis for text[start, end) in the given chronology, or NOT_PARSED
+	 * if the input does not match the layout exactly or any value is not valid.
+	 */
+	long parseMillis(final CharSequence text, final int start, final int end, final Chronology chronology) {
+
+		if (end - start != this.template.length) {
+			return NOT_PARSED;
+		}
+		final char[] template = this.template;
+		final int[] literalOffsets = this.literalOffsets;
+		for (int i = 0; i < literalOffsets.length; i++) {
+			final int offset = literalOffsets[i];
+			if (text.charAt(start + offset) != template[offset]) {
+				return NOT_PARSED;
+			}
+		}
+
+		int year = 1970;
+		int month = 1;
+		int day = 1;
+		int hour = 0;
+		int minute = 0;
+		int second = 0;
+		int millis = 0;
+
+		final int[] fields = this.fields;
+		for (int i = 0; i < fields.length; i++) {
+			final int field = fields[i];
+			final int value = MillisParser.parseDigits(text, start + this.fieldOffsets[i], FIELD_WIDTHS[field]);
+			if (value < 0) {
+				return NOT_PARSED;
+			}
+			if (this.overridden[i]) {
+				if (value < SAFE_MINIMUMS[field] || value > SAFE_MAXIMUMS[field]) {
+					return NOT_PARSED;
+				}
+				continue;
+			}
+			switch (field) {
+				case YEAR: year = value; break;
+				case MONTH: month = value; break;
+				case DAY: day = value; break;
+				case HOUR: hour = value; break;
+				case MINUTE: minute = value; break;
+				case SECOND: second = value; break;
+				default: millis = value; break;
+			}
+		}
+
+		try {
+			return chronology.getDateTimeMillis(year, month, day, hour, minute, second, millis);
+		} catch (final IllegalArgumentException e) {
+			// Invalid values are reported by the DateTimeFormatter
+			return NOT_PARSED;
+		}
+	}
+
+}
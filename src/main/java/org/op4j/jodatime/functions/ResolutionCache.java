@@ -0,0 +1,138 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2010, The OP4J team (http://www.op4j.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+
+package org.op4j.jodatime.functions;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.commons.lang.LocaleUtils;
+import org.joda.time.Chronology;
+import org.joda.time.DateTimeZone;
+import org.joda.time.chrono.BuddhistChronology;
+import org.joda.time.chrono.GJChronology;
+import org.joda.time.chrono.GregorianChronology;
+import org.joda.time.chrono.ISOChronology;
+import org.joda.time.chrono.JulianChronology;
+
+/*
+ * Process-wide caches for the objects the conversions in this package resolve from
+ * identifiers on every call, and the Calendar resolution rules of Joda-Time, so that
+ * Calendars can be converted without going through its ConverterManager.
+ *
+ * Caches are concurrent maps read without locking, and stop growing when they reach
+ * MAX_SIZE entries (later identifiers are then resolved on every call).
+ */
+final class ResolutionCache {
+
+	static final int MAX_SIZE = 1024;
+	
+	private static final ConcurrentMap<String, DateTimeZone> DATE_TIME_ZONES = 
+		new ConcurrentHashMap<String, DateTimeZone>();
+	
+	private static final ConcurrentMap<String, Locale> LOCALES = 
+		new ConcurrentHashMap<String, Locale>();
+	
+	
+	
+	private ResolutionCache() {
+		super();
+	}
+	
+	
+	
+	/*
+	 * Equivalent to LocaleUtils.toLocale(locale). Strings which are not valid locales
+	 * are not cached, and throw the same IllegalArgumentException on every call.
+	 */
+	static Locale toLocale(final String locale) {
+		if (locale == null) {
+			return null;
+		}
+		Locale result = LOCALES.get(locale);
+		if (result == null) {
+			result = LocaleUtils.toLocale(locale);
+			if (LOCALES.size() < MAX_SIZE) {
+				LOCALES.putIfAbsent(locale, result);
+			}
+		}
+		return result;
+	}
+	
+	
+	/*
+	 * Equivalent to DateTimeZone.forTimeZone(timeZone), but returning the default zone if
+	 * the time zone is not recognised, as Joda-Time does for Calendars.
+	 *
+	 * Only the IDs known to the zone provider are cached, as those are resolved from the
+	 * ID alone. For any other ID Joda-Time falls back to the "GMT+hh:mm" display name of
+	 * the time zone, so the same ID can mean different offsets and is resolved every time.
+	 */
+	static DateTimeZone toDateTimeZone(final TimeZone timeZone) {
+		final String id = timeZone.getID();
+		DateTimeZone zone = DATE_TIME_ZONES.get(id);
+		if (zone == null) {
+			try {
+				zone = DateTimeZone.forTimeZone(timeZone);
+			} catch (final IllegalArgumentException e) {
+				return DateTimeZone.getDefault();
+			}
+			if (DATE_TIME_ZONES.size() < MAX_SIZE && DateTimeZone.getAvailableIDs().contains(id)) {
+				DATE_TIME_ZONES.putIfAbsent(id, zone);
+			}
+		}
+		return zone;
+	}
+	
+	
+	/*
+	 * Returns the chronology Joda-Time creates objects from a Calendar with when no
+	 * chronology is specified: the one matching the type of Calendar, in its time zone.
+	 */
+	static Chronology toChronology(final Calendar calendar) {
+		return toChronology(calendar, toDateTimeZone(calendar.getTimeZone()));
+	}
+	
+	/*
+	 * Returns the chronology Joda-Time creates objects from a Calendar with when a time
+	 * zone is specified: the one matching the type of Calendar, in that zone.
+	 */
+	static Chronology toChronology(final Calendar calendar, final DateTimeZone dateTimeZone) {
+		if (calendar.getClass().getName().endsWith(".BuddhistCalendar")) {
+			return BuddhistChronology.getInstance(dateTimeZone);
+		}
+		if (calendar instanceof GregorianCalendar) {
+			final long cutover = ((GregorianCalendar) calendar).getGregorianChange().getTime();
+			if (cutover == Long.MIN_VALUE) {
+				return GregorianChronology.getInstance(dateTimeZone);
+			}
+			if (cutover == Long.MAX_VALUE) {
+				return JulianChronology.getInstance(dateTimeZone);
+			}
+			return GJChronology.getInstance(dateTimeZone, cutover, 4);
+		}
+		return ISOChronology.getInstance(dateTimeZone);
+	}
+	
+}
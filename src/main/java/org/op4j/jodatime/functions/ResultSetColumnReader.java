@@ -0,0 +1,379 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2010, The OP4J team (http://www.op4j.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+
+package org.op4j.jodatime.functions;
+
+import java.lang.reflect.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+
+import org.apache.commons.lang.Validate;
+import org.joda.time.Chronology;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.LocalDate;
+import org.joda.time.chrono.ISOChronology;
+
+/**
+ * <p>
+ * Reads the values of a {@link ResultSet} column in batches of rows, directly into
+ * milliseconds, {@link DateTime} or {@link LocalDate} objects, instead of converting
+ * the value obtained for each row with the functions in {@link FnDateTime} or 
+ * {@link FnLocalDate}.
+ * </p>
+ * <p>
+ * Columns can be either <tt>TIMESTAMP</tt> (or <tt>DATE</tt>) columns, read with 
+ * {@link ResultSet#getTimestamp(int)} or, if a {@link DateTimeZone} is specified, with
+ * {@link ResultSet#getTimestamp(int, Calendar)} and a single {@link Calendar} for each batch,
+ * or numeric columns containing milliseconds, read with {@link ResultSet#getLong(int)} 
+ * and no object creation at all.
+ * </p>
+ * <p>
+ * Every read method starts by moving the cursor to the next row and reads at most the
+ * specified number of rows, which must be greater than zero. Reading the fetch size of the
+ * {@link ResultSet} each time processes it in fetch-size batches, but many drivers report
+ * a fetch size of zero by default, so a fixed batch size should be used in that case. 
+ * Readers are thread-safe, but {@link ResultSet} objects are not.
+ * </p>
+ * 
+ * @since 1.3
+ *
+ */
+public final class ResultSetColumnReader {
+
+	// Initial length of the result arrays, grown as more rows are read
+	private static final int INITIAL_CAPACITY = 64;
+	
+	private final int columnIndex;
+	private final String columnLabel;
+	private final boolean millisColumn;
+	private final DateTimeZone dateTimeZone;
+	
+	
+	
+	private ResultSetColumnReader(final int columnIndex, final String columnLabel, 
+			final boolean millisColumn, final DateTimeZone dateTimeZone) {
+		super();
+		this.columnIndex = columnIndex;
+		this.columnLabel = columnLabel;
+		this.millisColumn = millisColumn;
+		this.dateTimeZone = dateTimeZone;
+	}
+	
+	
+	
+	/**
+	 * <p>
+	 * Creates a reader for the <tt>TIMESTAMP</tt> column with the given index
+	 * </p>
+	 * 
+	 * @param columnIndex the index of the column (the first one is 1)
+	 * @return the {@link ResultSetColumnReader}
+	 */
+	public static ResultSetColumnReader forTimestampColumn(final int columnIndex) {
+		Validate.isTrue(columnIndex > 0, "columnIndex must be greater than zero");
+		return new ResultSetColumnReader(columnIndex, null, false, null);
+	}
+	
+	/**
+	 * <p>
+	 * Creates a reader for the <tt>TIMESTAMP</tt> column with the given index, containing 
+	 * values without time zone that have to be interpreted in the given {@link DateTimeZone}
+	 * </p>
+	 * 
+	 * @param columnIndex the index of the column (the first one is 1)
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) of the values in the column
+	 * @return the {@link ResultSetColumnReader}
+	 */
+	public static ResultSetColumnReader forTimestampColumn(final int columnIndex, final DateTimeZone dateTimeZone) {
+		Validate.isTrue(columnIndex > 0, "columnIndex must be greater than zero");
+		Validate.notNull(dateTimeZone, "dateTimeZone can't be null");
+		return new ResultSetColumnReader(columnIndex, null, false, dateTimeZone);
+	}
+	
+	/**
+	 * <p>
+	 * Creates a reader for the <tt>TIMESTAMP</tt> column with the given label
+	 * </p>
+	 * 
+	 * @param columnLabel the label of the column
+	 * @return the {@link ResultSetColumnReader}
+	 */
+	public static ResultSetColumnReader forTimestampColumn(final String columnLabel) {
+		Validate.notEmpty(columnLabel, "columnLabel can't be neither empty nor null");
+		return new ResultSetColumnReader(0, columnLabel, false, null);
+	}
+	
+	/**
+	 * <p>
+	 * Creates a reader for the <tt>TIMESTAMP</tt> column with the given label, containing 
+	 * values without time zone that have to be interpreted in the given {@link DateTimeZone}
+	 * </p>
+	 * 
+	 * @param columnLabel the label of the column
+	 * @param dateTimeZone the time zone ({@link DateTimeZone}) of the values in the column
+	 * @return the {@link ResultSetColumnReader}
+	 */
+	public static ResultSetColumnReader forTimestampColumn(final String columnLabel, final DateTimeZone dateTimeZone) {
+		Validate.notEmpty(columnLabel, "columnLabel can't be neither empty nor null");
+		Validate.notNull(dateTimeZone, "dateTimeZone can't be null");
+		return new ResultSetColumnReader(0, columnLabel, false, dateTimeZone);
+	}
+	
+	/**
+	 * <p>
+	 * Creates a reader for the numeric column with the given index, containing times
+	 * in milliseconds
+	 * </p>
+	 * 
+	 * @param columnIndex the index of the column (the first one is 1)
+	 * @return the {@link ResultSetColumnReader}
+	 */
+	public static ResultSetColumnReader forMillisColumn(final int columnIndex) {
+		Validate.isTrue(columnIndex > 0, "columnIndex must be greater than zero");
+		return new ResultSetColumnReader(columnIndex, null, true, null);
+	}
+	
+	/**
+	 * <p>
+	 * Creates a reader for the numeric column with the given label, containing times
+	 * in milliseconds
+	 * </p>
+	 * 
+	 * @param columnLabel the label of the column
+	 * @return the {@link ResultSetColumnReader}
+	 */
+	public static ResultSetColumnReader forMillisColumn(final String columnLabel) {
+		Validate.notEmpty(columnLabel, "columnLabel can't be neither empty nor null");
+		return new ResultSetColumnReader(0, columnLabel, true, null);
+	}
+	
+	
+	
+	/**
+	 * <p>
+	 * Reads at most <tt>maxRows</tt> rows, storing the milliseconds of each value in 
+	 * <tt>millis</tt> from position <tt>offset</tt> on. If <tt>nulls</tt> is not null, 
+	 * the position of each null value in it is set to true (and the one in <tt>millis</tt>
+	 * to zero); otherwise, null values are not allowed.
+	 * </p>
+	 * 
+	 * @param resultSet the {@link ResultSet} to be read
+	 * @param millis the array the milliseconds will be stored in
+	 * @param nulls the array null values will be marked in (can be null)
+	 * @param offset the position of the first value in the arrays
+	 * @param maxRows the maximum number of rows to be read (greater than zero)
+	 * @return the number of rows read, less than <tt>maxRows</tt> only if the end of the 
+	 *         {@link ResultSet} has been reached
+	 * @throws SQLException if the {@link ResultSet} throws it
+	 * @throws IllegalStateException if a null value is found and <tt>nulls</tt> is null
+	 */
+	public int readMillis(final ResultSet resultSet, final long[] millis, final boolean[] nulls, 
+			final int offset, final int maxRows) throws SQLException {
+		
+		Validate.notNull(resultSet, "resultSet can't be null");
+		Validate.notNull(millis, "millis can't be null");
+		Validate.isTrue(maxRows > 0, "maxRows must be greater than zero");
+		Validate.isTrue(offset >= 0 && maxRows <= millis.length - offset, 
+				"millis is shorter than offset + maxRows");
+		Validate.isTrue(nulls == null || maxRows <= nulls.length - offset, 
+				"nulls is shorter than offset + maxRows");
+		
+		final int column = resolveColumn(resultSet);
+		final Calendar calendar = createCalendar();
+		
+		int rows = 0;
+		while (rows < maxRows && resultSet.next()) {
+			final int position = offset + rows;
+			final long value = readValue(resultSet, column, calendar);
+			final boolean isNull = resultSet.wasNull();
+			if (isNull && nulls == null) {
+				throw new IllegalStateException("Null value found in row " + (rows + 1) + 
+						" of the batch while reading milliseconds without a nulls array");
+			}
+			millis[position] = value;
+			if (nulls != null) {
+				nulls[position] = isNull;
+			}
+			rows++;
+		}
+		return rows;
+	}
+	
+	/**
+	 * <p>
+	 * Reads at most <tt>maxRows</tt> rows into {@link DateTime} objects (null for null
+	 * values) in the default time zone
+	 * </p>
+	 * 
+	 * @param resultSet the {@link ResultSet} to be read
+	 * @param maxRows the maximum number of rows to be read (greater than zero)
+	 * @return the {@link DateTime} objects, as many as rows have been read
+	 * @throws SQLException if the {@link ResultSet} throws it
+	 */
+	public DateTime[] readDateTimes(final ResultSet resultSet, final int maxRows) throws SQLException {
+		return readDateTimes(resultSet, maxRows, ISOChronology.getInstance());
+	}
+	
+	/**
+	 * <p>
+	 * Reads at most <tt>maxRows</tt> rows into {@link DateTime} objects (null for null
+	 * values) with the given {@link Chronology}
+	 * </p>
+	 * 
+	 * @param resultSet the {@link ResultSet} to be read
+	 * @param maxRows the maximum number of rows to be read (greater than zero)
+	 * @param chronology {@link Chronology} to be used
+	 * @return the {@link DateTime} objects, as many as rows have been read
+	 * @throws SQLException if the {@link ResultSet} throws it
+	 */
+	public DateTime[] readDateTimes(final ResultSet resultSet, final int maxRows, 
+			final Chronology chronology) throws SQLException {
+		
+		Validate.notNull(resultSet, "resultSet can't be null");
+		Validate.isTrue(maxRows > 0, "maxRows must be greater than zero");
+		Validate.notNull(chronology, "chronology can't be null");
+		
+		final int column = resolveColumn(resultSet);
+		final Calendar calendar = createCalendar();
+		
+		DateTime[] result = new DateTime[Math.min(maxRows, INITIAL_CAPACITY)];
+		int rows = 0;
+		while (rows < maxRows && resultSet.next()) {
+			if (rows == result.length) {
+				result = resize(result, grownCapacity(rows, maxRows));
+			}
+			final long millis = readValue(resultSet, column, calendar);
+			if (!resultSet.wasNull()) {
+				result[rows] = new DateTime(millis, chronology);
+			}
+			rows++;
+		}
+		return (rows == result.length ? result : resize(result, rows));
+	}
+	
+	/**
+	 * <p>
+	 * Reads at most <tt>maxRows</tt> rows into {@link LocalDate} objects (null for null
+	 * values) in the default time zone
+	 * </p>
+	 * 
+	 * @param resultSet the {@link ResultSet} to be read
+	 * @param maxRows the maximum number of rows to be read (greater than zero)
+	 * @return the {@link LocalDate} objects, as many as rows have been read
+	 * @throws SQLException if the {@link ResultSet} throws it
+	 */
+	public LocalDate[] readLocalDates(final ResultSet resultSet, final int maxRows) throws SQLException {
+		return readLocalDates(resultSet, maxRows, ISOChronology.getInstance());
+	}
+	
+	/**
+	 * <p>
+	 * Reads at most <tt>maxRows</tt> rows into {@link LocalDate} objects (null for null
+	 * values) with the given {@link Chronology}
+	 * </p>
+	 * 
+	 * @param resultSet the {@link ResultSet} to be read
+	 * @param maxRows the maximum number of rows to be read (greater than zero)
+	 * @param chronology {@link Chronology} to be used
+	 * @return the {@link LocalDate} objects, as many as rows have been read
+	 * @throws SQLException if the {@link ResultSet} throws it
+	 */
+	public LocalDate[] readLocalDates(final ResultSet resultSet, final int maxRows, 
+			final Chronology chronology) throws SQLException {
+		
+		Validate.notNull(resultSet, "resultSet can't be null");
+		Validate.isTrue(maxRows > 0, "maxRows must be greater than zero");
+		Validate.notNull(chronology, "chronology can't be null");
+		
+		final int column = resolveColumn(resultSet);
+		final Calendar calendar = createCalendar();
+		
+		final ZoneOffsetCache offsetCache = ZoneOffsetCache.forZone(chronology.getZone());
+		final Chronology localChronology = chronology.withUTC();
+		LocalDate[] result = new LocalDate[Math.min(maxRows, INITIAL_CAPACITY)];
+		int rows = 0;
+		while (rows < maxRows && resultSet.next()) {
+			if (rows == result.length) {
+				result = resize(result, grownCapacity(rows, maxRows));
+			}
+			final long millis = readValue(resultSet, column, calendar);
+			if (!resultSet.wasNull()) {
+				result[rows] = new LocalDate(offsetCache.toLocalMillis(millis), localChronology);
+			}
+			rows++;
+		}
+		return (rows == result.length ? result : resize(result, rows));
+	}
+	
+	
+	
+	/*
+	 * Result arrays start small and grow as rows are read, so that a large maxRows meaning
+	 * "read everything" doesn't allocate an array of that size.
+	 */
+	private static int grownCapacity(final int capacity, final int maxRows) {
+		return (int) Math.min((long) maxRows, 2L * capacity);
+	}
+	
+	@SuppressWarnings("unchecked")
+	private static <T> T[] resize(final T[] array, final int length) {
+		final T[] result = (T[]) Array.newInstance(array.getClass().getComponentType(), length);
+		System.arraycopy(array, 0, result, 0, Math.min(array.length, length));
+		return result;
+	}
+	
+	private int resolveColumn(final ResultSet resultSet) throws SQLException {
+		if (this.columnLabel != null) {
+			return resultSet.findColumn(this.columnLabel);
+		}
+		return this.columnIndex;
+	}
+	
+	/*
+	 * Always a GregorianCalendar: Calendar.getInstance would return a BuddhistCalendar or a
+	 * JapaneseImperialCalendar for some default locales, and drivers reading or setting its
+	 * YEAR field would then compute wrong instants.
+	 */
+	private Calendar createCalendar() {
+		if (this.dateTimeZone == null) {
+			return null;
+		}
+		return new GregorianCalendar(this.dateTimeZone.toTimeZone());
+	}
+	
+	/*
+	 * Reads the value of the column in the current row, as milliseconds. For null values it
+	 * returns 0, and resultSet.wasNull() returns true.
+	 */
+	private long readValue(final ResultSet resultSet, final int column, final Calendar calendar) 
+			throws SQLException {
+		if (this.millisColumn) {
+			return resultSet.getLong(column);
+		}
+		final Timestamp timestamp = (calendar == null ? 
+				resultSet.getTimestamp(column) : resultSet.getTimestamp(column, calendar));
+		return (timestamp == null ? 0L : timestamp.getTime());
+	}
+	
+}
@@ -0,0 +1,173 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2010, The OP4J team (http://www.op4j.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+
+package org.op4j.jodatime.functions;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.lang.Validate;
+import org.joda.time.DateTimeZone;
+
+/**
+ * <p>
+ * Cache of the offsets of a {@link DateTimeZone}, used by the zoned conversions in this
+ * package instead of looking up the zone's transition table for every converted value.
+ * </p>
+ * <p>
+ * Each function converting with a non-fixed zone owns one of these caches. It remembers,
+ * for every period of about 50 days of the time range being converted, the interval 
+ * between two transitions of the zone in which the offset is constant, so that most
+ * lookups are resolved with a single comparison. The total number of lookups that had
+ * to query the zone is available through {@link #getMissCount()}.
+ * </p>
+ *
+ * @since 1.3
+ *
+ */
+public final class ZoneOffsetCache {
+
+	// Number of remembered periods (of 2^32 milliseconds each), must be a power of two
+	private static final int SIZE = 64;
+	
+	private static final AtomicLong TOTAL_MISS_COUNT = new AtomicLong(0L);
+	
+	private final DateTimeZone zone;
+	private final boolean fixed;
+	private final int fixedOffset;
+	private final Window[] windows;
+	private final AtomicLong missCount;
+	
+	
+	
+	private ZoneOffsetCache(final DateTimeZone zone) {
+		super();
+		this.zone = zone;
+		this.fixed = zone.isFixed();
+		this.fixedOffset = (this.fixed ? zone.getOffset(0L) : 0);
+		this.windows = (this.fixed ? null : new Window[SIZE]);
+		this.missCount = new AtomicLong(0L);
+	}
+	
+	
+	
+	static ZoneOffsetCache forZone(final DateTimeZone zone) {
+		Validate.notNull(zone, "zone can't be null");
+		return new ZoneOffsetCache(zone);
+	}
+	
+	
+	/**
+	 * <p>
+	 * Returns the number of offset lookups, in all the caches since the class was loaded,
+	 * that could not be resolved with the cached transitions and had to query the 
+	 * {@link DateTimeZone}
+	 * </p>
+	 * 
+	 * @return the number of cache misses
+	 */
+	public static long getMissCount() {
+		return TOTAL_MISS_COUNT.get();
+	}
+	
+	
+	
+	DateTimeZone getZone() {
+		return this.zone;
+	}
+	
+	/*
+	 * Returns the number of offset lookups in this cache that could not be resolved with
+	 * the cached transitions and had to query the zone
+	 */
+	long getCacheMissCount() {
+		return this.missCount.get();
+	}
+	
+	/*
+	 * Equivalent to zone.getOffset(instant)
+	 */
+	int getOffset(final long instant) {
+		if (this.fixed) {
+			return this.fixedOffset;
+		}
+		final int index = (int) (instant >> 32) & (SIZE - 1);
+		final Window window = this.windows[index];
+		if (window != null && instant >= window.start && instant < window.end) {
+			return window.offset;
+		}
+		return miss(index, instant);
+	}
+	
+	/*
+	 * Equivalent to instant + zone.getOffset(instant), the local millis LocalDate, LocalTime
+	 * and the zoned chronologies read the fields from
+	 */
+	long toLocalMillis(final long instant) {
+		return instant + getOffset(instant);
+	}
+	
+	
+	private int miss(final int index, final long instant) {
+		this.missCount.incrementAndGet();
+		TOTAL_MISS_COUNT.incrementAndGet();
+		final DateTimeZone zone = this.zone;
+		final int offset = zone.getOffset(instant);
+		if (instant == Long.MAX_VALUE) {
+			return offset;
+		}
+		// The offset is constant between the previous transition and the next one. Depending
+		// on the zone, previousTransition returns either the transition or the instant right
+		// before it, so the start of the window is checked to have the same offset
+		long start = zone.previousTransition(instant + 1);
+		if (start == instant + 1) {
+			start = Long.MIN_VALUE;
+		} else if (zone.getOffset(start) != offset) {
+			start++;
+			if (zone.getOffset(start) != offset) {
+				start = instant;
+			}
+		}
+		long end = zone.nextTransition(instant);
+		if (end == instant) {
+			end = Long.MAX_VALUE;
+		}
+		// Windows are immutable, so racing threads can only cause further misses
+		this.windows[index] = new Window(start, end, offset);
+		return offset;
+	}
+	
+	
+	
+	private static final class Window {
+		
+		final long start;
+		final long end;
+		final int offset;
+		
+		Window(final long start, final long end, final int offset) {
+			super();
+			this.start = start;
+			this.end = end;
+			this.offset = offset;
+		}
+		
+	}
+	
+}
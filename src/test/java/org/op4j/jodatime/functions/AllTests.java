@@ -17,6 +17,13 @@ public class AllTests {
 		suite.addTestSuite(LocalTimeTest.class);
 		suite.addTestSuite(PeriodTest.class);	
 		suite.addTestSuite(MutableDateTimeTest.class);
+		suite.addTestSuite(DateTimeFormatterCacheTest.class);
+		suite.addTestSuite(JodaTextParserTest.class);
+		suite.addTestSuite(DateTimeColumnsTest.class);
+		suite.addTestSuite(ZoneOffsetCacheTest.class);
+		suite.addTestSuite(ResultSetColumnReaderTest.class);
+		suite.addTestSuite(ResolutionCacheTest.class);
+		suite.addTestSuite(FieldDecoderTest.class);
 		//$JUnit-END$
 		return suite;
 	}
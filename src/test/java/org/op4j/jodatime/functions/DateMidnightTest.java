@@ -9,6 +9,7 @@ import java.util.Locale;
 import junit.framework.TestCase;
 
 import org.joda.time.DateMidnight;
+import org.joda.time.DateTime;
 import org.joda.time.DateTimeZone;
 import org.joda.time.chrono.BuddhistChronology;
 import org.joda.time.chrono.CopticChronology;
@@ -204,6 +205,26 @@ public class DateMidnightTest extends TestCase {
 		assertEquals(result, new DateMidnight(dateAsLong, CopticChronology.getInstance()));
 	}
 
+	@Test
+	public void testFromLongSharedPerDay() {
+		DateTimeZone zone = DateTimeZone.forID("America/Sao_Paulo");
+		// Midnight does not exist in Sao Paulo on the day DST started in 2009
+		long morning = new DateTime(2009, 10, 18, 8, 0, 0, 0, zone).getMillis();
+		long evening = new DateTime(2009, 10, 18, 20, 0, 0, 0, zone).getMillis();
+		
+		DateMidnight[] result = Op.on(new long[] {morning, evening, evening + 12 * 3600000L}).exec(
+				FnDateMidnight.longArrayToArrayOfDateMidnight(zone)).get();
+		
+		assertEquals(new DateMidnight(morning, zone), result[0]);
+		assertEquals(new DateMidnight(evening + 12 * 3600000L, zone), result[2]);
+		assertSame(result[0], result[1]);
+		
+		DateMidnight fromLong = Op.on(Long.valueOf(morning)).exec(FnDateMidnight.longToDateMidnight(zone)).get();
+		assertEquals(new DateMidnight(morning, zone), fromLong);
+		assertEquals(new DateMidnight(evening, zone), 
+				Op.on(new Date(evening)).exec(FnDateMidnight.dateToDateMidnight(zone)).get());
+	}
+
 	@Test
 	public void testFromIntegerFieldList() {
 		Integer year = Integer.valueOf(2008);
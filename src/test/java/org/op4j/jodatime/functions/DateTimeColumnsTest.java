@@ -0,0 +1,166 @@
+package org.op4j.jodatime.functions;
+
+import junit.framework.TestCase;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Interval;
+import org.joda.time.LocalDate;
+import org.joda.time.chrono.BuddhistChronology;
+import org.joda.time.chrono.GJChronology;
+import org.junit.Test;
+
+public class DateTimeColumnsTest extends TestCase {
+
+	@Test
+	public void testExtractFieldsDateTimeZone() {
+		DateTimeZone zone = DateTimeZone.forID("Europe/Madrid");
+		// Several values per day, crossing midnight and both DST transitions of 2010
+		long start = new DateTime(2010, 3, 27, 20, 0, 0, 0, zone).getMillis();
+		long[] millis = new long[2000];
+		for (int i = 0; i < millis.length; i++) {
+			millis[i] = start + i * 17L * 60L * 1000L + (i % 3 == 0 ? 212L * 24L * 3600L * 1000L : 0L);
+		}
+		int[] years = new int[millis.length];
+		int[] months = new int[millis.length];
+		int[] days = new int[millis.length];
+		int[] hours = new int[millis.length];
+		
+		DateTimeColumns.extractFields(millis, zone, years, months, days, hours);
+		
+		for (int i = 0; i < millis.length; i++) {
+			DateTime expected = new DateTime(millis[i], zone);
+			assertEquals(expected.getYear(), years[i]);
+			assertEquals(expected.getMonthOfYear(), months[i]);
+			assertEquals(expected.getDayOfMonth(), days[i]);
+			assertEquals(expected.getHourOfDay(), hours[i]);
+		}
+	}
+	
+	@Test
+	public void testExtractFieldsChronology() {
+		long[] millis = new long[] {
+				new DateTime(1582, 10, 4, 23, 59, 0, 0, GJChronology.getInstanceUTC()).getMillis(), 
+				new DateTime(1582, 10, 15, 0, 1, 0, 0, GJChronology.getInstanceUTC()).getMillis(), 
+				-1L, 0L, 1234567890123L};
+		int[] years = new int[millis.length];
+		int[] days = new int[millis.length + 1];
+		
+		DateTimeColumns.extractFields(millis, GJChronology.getInstanceUTC(), years, null, days, null);
+		for (int i = 0; i < millis.length; i++) {
+			DateTime expected = new DateTime(millis[i], GJChronology.getInstanceUTC());
+			assertEquals(expected.getYear(), years[i]);
+			assertEquals(expected.getDayOfMonth(), days[i]);
+		}
+		
+		DateTimeColumns.extractFields(millis, BuddhistChronology.getInstance(), years, null, null, null);
+		for (int i = 0; i < millis.length; i++) {
+			assertEquals(new DateTime(millis[i], BuddhistChronology.getInstance()).getYear(), years[i]);
+		}
+	}
+	
+	@Test
+	public void testExtractFieldsShortColumn() {
+		try {
+			DateTimeColumns.extractFields(new long[3], DateTimeZone.UTC, null, new int[2], null, null);
+			fail("Short columns should be rejected");
+		} catch (IllegalArgumentException e) {
+			// Expected
+		}
+	}
+	
+	@Test
+	public void testToMillisDateTimeZone() {
+		DateTimeZone zone = DateTimeZone.forID("Europe/Madrid");
+		// Includes the hour repeated at the end of DST in 2010
+		int[] years = new int[] {2010, 2010, 1600, 2010, -5};
+		int[] months = new int[] {10, 10, 2, 12, 7};
+		int[] days = new int[] {31, 31, 29, 31, 14};
+		int[] hours = new int[] {2, 3, 23, 23, 12};
+		int[] minutes = new int[] {30, 0, 59, 59, 0};
+		
+		long[] result = DateTimeColumns.toMillis(years, months, days, hours, minutes, null, null, zone);
+		DateTime[] dateTimes = DateTimeColumns.toDateTimes(years, months, days, hours, minutes, null, null, zone);
+		
+		assertEquals(years.length, result.length);
+		for (int i = 0; i < years.length; i++) {
+			DateTime expected = new DateTime(years[i], months[i], days[i], hours[i], minutes[i], 0, 0, zone);
+			assertEquals(expected.getMillis(), result[i]);
+			assertEquals(expected, dateTimes[i]);
+		}
+	}
+	
+	@Test
+	public void testToMillisInvalid() {
+		DateTimeZone zone = DateTimeZone.forID("Europe/Madrid");
+		try {
+			// 02:30 does not exist in Madrid on 2010-03-28
+			DateTimeColumns.toMillis(new int[] {2010}, new int[] {3}, new int[] {28}, 
+					new int[] {2}, new int[] {30}, null, null, zone);
+			fail("Times in an offset transition gap should be rejected");
+		} catch (IllegalArgumentException e) {
+			// Expected
+		}
+		try {
+			DateTimeColumns.toMillis(new int[] {2010}, new int[] {2}, new int[] {29}, 
+					null, null, null, null, DateTimeZone.UTC);
+			fail("Invalid dates should be rejected");
+		} catch (IllegalArgumentException e) {
+			// Expected
+		}
+	}
+	
+	@Test
+	public void testToLocalDates() {
+		int[] years = new int[] {1582, 1582, 2000};
+		int[] months = new int[] {10, 10, 2};
+		int[] days = new int[] {4, 15, 29};
+		
+		LocalDate[] result = DateTimeColumns.toLocalDates(years, months, days, 
+				GJChronology.getInstance(DateTimeZone.forID("Asia/Tokyo")));
+		
+		for (int i = 0; i < years.length; i++) {
+			assertEquals(new LocalDate(years[i], months[i], days[i], GJChronology.getInstance()), result[i]);
+		}
+	}
+	
+	@Test
+	public void testToIntervals() {
+		DateTimeZone zone = DateTimeZone.forID("America/New_York");
+		long[] starts = new long[] {0L, -86400000L, 1268550000000L, 5L};
+		long[] ends = new long[] {0L, 86400000L, 1288503000000L, 7L};
+		
+		Interval[] result = DateTimeColumns.toIntervals(starts, ends, zone);
+		assertEquals(starts.length, result.length);
+		for (int i = 0; i < starts.length; i++) {
+			assertEquals(new Interval(starts[i], ends[i], zone), result[i]);
+		}
+		
+		result = DateTimeColumns.toIntervals(starts, ends, BuddhistChronology.getInstance());
+		for (int i = 0; i < starts.length; i++) {
+			assertEquals(new Interval(starts[i], ends[i], BuddhistChronology.getInstance()), result[i]);
+		}
+		
+		assertEquals(new Interval(5L, 7L), DateTimeColumns.toIntervals(new long[] {5L}, new long[] {7L})[0]);
+		
+		try {
+			DateTimeColumns.toIntervals(new long[] {0L, 10L}, new long[] {1L, 9L}, zone);
+			fail("Intervals ending before their start should be rejected");
+		} catch (IllegalArgumentException e) {
+			// Expected
+		}
+		try {
+			DateTimeColumns.toIntervals(new long[] {0L, 10L}, new long[] {1L}, zone);
+			fail("The ends column can't be shorter than the starts column");
+		} catch (IllegalArgumentException e) {
+			// Expected
+		}
+		try {
+			DateTimeColumns.toIntervals(new long[] {0L, 10L}, new long[] {1L, 11L, 12L}, zone);
+			fail("The ends column can't be longer than the starts column");
+		} catch (IllegalArgumentException e) {
+			// Expected
+		}
+	}
+	
+}
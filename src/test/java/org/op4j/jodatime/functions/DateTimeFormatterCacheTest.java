@@ -0,0 +1,87 @@
+package org.op4j.jodatime.functions;
+
+import java.util.Locale;
+
+import junit.framework.TestCase;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.chrono.BuddhistChronology;
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
+import org.junit.Test;
+import org.op4j.Op;
+import org.op4j.jodatime.functions.FnJodaString.FormatType;
+
+public class DateTimeFormatterCacheTest extends TestCase {
+
+	@Test
+	public void testSameConfigurationSharesFormatter() {
+		DateTimeFormatter f1 = DateTimeFormatterCache.forPattern("dd/MM/yyyy", Locale.UK, 
+				DateTimeZone.UTC, null);
+		long hits = DateTimeFormatterCache.getHitCount();
+		DateTimeFormatter f2 = DateTimeFormatterCache.forPattern("dd/MM/yyyy", Locale.UK, 
+				DateTimeZone.UTC, null);
+		
+		assertSame(f1, f2);
+		assertEquals(hits + 1, DateTimeFormatterCache.getHitCount());
+		
+		assertNotSame(f1, DateTimeFormatterCache.forPattern("dd/MM/yyyy", Locale.UK, 
+				null, BuddhistChronology.getInstance()));
+		assertNotSame(f1, DateTimeFormatterCache.forStyle("M-", Locale.UK, 
+				DateTimeZone.UTC, null));
+	}
+	
+	@Test
+	public void testFormatterConfiguration() {
+		String pattern = "dd/mm/yyyy-HH:mm";
+		String asStr = "24/12/2000-15:03";
+		DateTimeFormatter f = DateTimeFormatterCache.forPattern(pattern, Locale.CANADA, 
+				null, BuddhistChronology.getInstance());
+		
+		assertEquals(DateTimeFormat.forPattern(pattern).withLocale(Locale.CANADA)
+				.withChronology(BuddhistChronology.getInstance()).parseDateTime(asStr), 
+				f.parseDateTime(asStr));
+		assertEquals(Locale.CANADA, f.getLocale());
+	}
+	
+	@Test
+	public void testFunctionsUseCache() {
+		String pattern = "yyyy.MM.dd G 'at' HH:mm:ss";
+		DateTimeFormatterCache.forPattern(pattern, null, null, null);
+		long misses = DateTimeFormatterCache.getMissCount();
+		
+		FnDateTime.strToDateTime(pattern);
+		FnJodaString.baseDateTimeToStr(FormatType.PATTERN, pattern);
+		DateTime now = new DateTime();
+		String result = Op.on(now).exec(FnJodaString.baseDateTimeToStr(FormatType.PATTERN, pattern)).get();
+		
+		assertEquals(misses, DateTimeFormatterCache.getMissCount());
+		assertEquals(now.toString(pattern), result);
+	}
+	
+	@Test
+	public void testInvalidPattern() {
+		long misses = DateTimeFormatterCache.getMissCount();
+		int size = DateTimeFormatterCache.size();
+		try {
+			DateTimeFormatterCache.forPattern("yyyy-qq", null, null, null);
+			fail("formatter can't be created if pattern is not valid");
+		} catch (IllegalArgumentException e) {
+			// Do nothing
+		}
+		assertEquals(misses, DateTimeFormatterCache.getMissCount());
+		assertEquals(size, DateTimeFormatterCache.size());
+	}
+	
+	@Test
+	public void testBounded() {
+		long evictions = DateTimeFormatterCache.getEvictionCount();
+		for (int i = 0; i <= DateTimeFormatterCache.MAX_SIZE; i++) {
+			DateTimeFormatterCache.forPattern("'" + i + "' yyyy", null, null, null);
+		}
+		
+		assertEquals(DateTimeFormatterCache.MAX_SIZE, DateTimeFormatterCache.size());
+		assertTrue(DateTimeFormatterCache.getEvictionCount() > evictions);
+	}
+}
@@ -4,7 +4,10 @@ import java.sql.Timestamp;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.GregorianCalendar;
 import java.util.Locale;
+import java.util.SimpleTimeZone;
+import java.util.TimeZone;
 
 import junit.framework.TestCase;
 
@@ -13,9 +16,11 @@ import org.joda.time.DateTimeZone;
 import org.joda.time.chrono.BuddhistChronology;
 import org.joda.time.chrono.CopticChronology;
 import org.joda.time.chrono.GJChronology;
+import org.joda.time.chrono.ISOChronology;
 import org.joda.time.format.DateTimeFormat;
 import org.junit.Test;
 import org.op4j.Op;
+import org.op4j.exceptions.ExecutionException;
 import org.op4j.jodatime.functions.FnJodaTimeUtils;
 import org.op4j.jodatime.functions.FnDateTime;
 
@@ -30,6 +35,126 @@ public class DateTimeTest extends TestCase {
 		assertEquals(result, DateTimeFormat.forPattern(pattern).parseDateTime(asStr));
 	}
 
+	@Test
+	public void testFromStringInvalidPattern() {
+		try {
+			FnDateTime.strToDateTime("dd/MMM/yyyy");
+			fail("strToDateTime can't be created if pattern uses MMM without a Locale");
+		} catch (IllegalArgumentException e) {
+			// Do nothing
+		}
+		try {
+			FnDateTime.strToDateTime("dd/mm/yyyy-qq", DateTimeZone.UTC);
+			fail("strToDateTime can't be created if pattern is not valid");
+		} catch (IllegalArgumentException e) {
+			// Do nothing
+		}
+	}
+
+	@Test
+	public void testFromStringIsoPattern() {
+		String pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS";
+		DateTimeZone zone = DateTimeZone.forID("Europe/Madrid");
+		String[] asStrs = new String[] {
+				"2000-12-24T15:03:27.451", "2000-12-24t15:03:27.451", "2000-1-24T15:03:27.451", 
+				"2000-12-24T15:03:27.4", "+2000-12-24T15:03:27.451", "2010-03-28T02:30:00.000", 
+				"2010-10-31T02:30:00.000", "2000-02-30T15:03:27.451", "2000-12-24T24:03:27.451"};
+		
+		for (String asStr : asStrs) {
+			DateTime expected = null;
+			try {
+				expected = DateTimeFormat.forPattern(pattern).withZone(zone).parseDateTime(asStr);
+			} catch (IllegalArgumentException e) {
+				// Conversion is not possible
+			}
+			try {
+				DateTime result = Op.on(asStr).exec(FnDateTime.strToDateTime(pattern, zone)).get();
+				assertEquals(expected, result);
+			} catch (RuntimeException e) {
+				assertNull(asStr + " should be converted", expected);
+			}
+		}
+		
+		DateTime result = Op.on("2000-12-24").exec(FnDateTime.strToDateTime("yyyy-MM-dd", 
+				ISOChronology.getInstanceUTC())).get();
+		assertEquals(new DateTime(2000, 12, 24, 0, 0, 0, 0, ISOChronology.getInstanceUTC()), result);
+	}
+
+	@Test
+	public void testFromStringNumericPattern() {
+		String[][] patternsAndStrs = new String[][] {
+				{"dd/MM/yyyy-HH:mm", "24/12/2000-15:03", "24/1/2000-15:03", "24-12-2000-15:03", "31/04/2000-15:03"},
+				{"dd/mm/yyyy-HH:mm", "24/12/2000-15:03", "24/75/2000-15:03"},
+				{"yyyyMMddHHmmss", "20001224150327", "2000122415032", "20001224150360"},
+				{"HH:mm:ss.SSS 'h'", "15:03:27.451 h", "15:03:27.451 H", "15:03:27.45 h"}};
+		
+		for (String[] patternAndStrs : patternsAndStrs) {
+			String pattern = patternAndStrs[0];
+			for (int i = 1; i < patternAndStrs.length; i++) {
+				String asStr = patternAndStrs[i];
+				DateTime expected = null;
+				try {
+					expected = DateTimeFormat.forPattern(pattern).parseDateTime(asStr);
+				} catch (IllegalArgumentException e) {
+					// Conversion is not possible
+				}
+				try {
+					DateTime result = Op.on(asStr).exec(FnDateTime.strToDateTime(pattern)).get();
+					assertEquals(expected, result);
+				} catch (RuntimeException e) {
+					assertNull(asStr + " should be converted", expected);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testFromStringArray() {
+		String pattern = "dd/MM/yyyy-HH:mm";
+		String[] asStrs = new String[] {"24/12/2000-15:03", null, "01/01/1999-00:00"};
+		
+		DateTime[] result = Op.on(asStrs).exec(FnDateTime.strArrayToArrayOfDateTime(pattern, 
+				BuddhistChronology.getInstance())).get();
+		DateTime[] fromCollection = Op.on(Arrays.asList(asStrs)).exec(FnDateTime.strCollectionToArrayOfDateTime(pattern, 
+				BuddhistChronology.getInstance())).get();
+		
+		assertEquals(3, result.length);
+		assertEquals(Op.on(asStrs[0]).exec(FnDateTime.strToDateTime(pattern, BuddhistChronology.getInstance())).get(), result[0]);
+		assertNull(result[1]);
+		assertEquals(Op.on(asStrs[2]).exec(FnDateTime.strToDateTime(pattern, BuddhistChronology.getInstance())).get(), result[2]);
+		assertTrue(Arrays.equals(result, fromCollection));
+	}
+
+	@Test
+	public void testFromStringArrayToMillis() {
+		String pattern = "dd/MM/yyyy HH:mm";
+		String[] asStrs = new String[] {"24/12/2000 15:03", "01/01/1999 00:00"};
+		
+		long[] result = Op.on(asStrs).exec(FnDateTime.strArrayToMillisArray(pattern, 
+				DateTimeZone.forID("America/New_York"))).get();
+		long[] fromCollection = Op.on(Arrays.asList(asStrs)).exec(FnDateTime.strCollectionToMillisArray(pattern, 
+				DateTimeZone.forID("America/New_York"))).get();
+		
+		for (int i = 0; i < asStrs.length; i++) {
+			assertEquals(DateTimeFormat.forPattern(pattern).withZone(DateTimeZone.forID("America/New_York"))
+					.parseMillis(asStrs[i]), result[i]);
+		}
+		assertTrue(Arrays.equals(result, fromCollection));
+		
+		try {
+			Op.on(new String[] {"24/12/2000 15:03", null}).exec(FnDateTime.strArrayToMillisArray(pattern)).get();
+			fail("Null elements should not be converted");
+		} catch (RuntimeException e) {
+			// Expected
+		}
+		try {
+			Op.on(new String[] {"24/12/2000 15.03"}).exec(FnDateTime.strArrayToMillisArray(pattern)).get();
+			fail("Invalid elements should not be converted");
+		} catch (RuntimeException e) {
+			// Expected
+		}
+	}
+
 	@Test
 	public void testFromStringStringDateTimeZone() {
 		String pattern = "dd/mm/yyyy-HH:mm";
@@ -211,6 +336,23 @@ public class DateTimeTest extends TestCase {
 		assertEquals(result, new DateTime(dateAsLong, CopticChronology.getInstance()));
 	}
 
+	@Test
+	public void testFromLongArray() {
+		long[] datesAsLong = new long[] {new Date().getTime(), 0L, -1234567890123L};
+		DateTime[] result = Op.on(datesAsLong).exec(FnDateTime.longArrayToArrayOfDateTime()).get();
+		DateTime[] resultDateTimeZone = Op.on(datesAsLong).exec(FnDateTime.longArrayToArrayOfDateTime(
+				DateTimeZone.forID("Asia/Tokyo"))).get();
+		DateTime[] resultChronology = Op.on(datesAsLong).exec(FnDateTime.longArrayToArrayOfDateTime(
+				CopticChronology.getInstance())).get();
+		
+		assertEquals(datesAsLong.length, result.length);
+		for (int i = 0; i < datesAsLong.length; i++) {
+			assertEquals(new DateTime(datesAsLong[i]), result[i]);
+			assertEquals(new DateTime(datesAsLong[i], DateTimeZone.forID("Asia/Tokyo")), resultDateTimeZone[i]);
+			assertEquals(new DateTime(datesAsLong[i], CopticChronology.getInstance()), resultChronology[i]);
+		}
+	}
+
 	@Test
 	public void testFromIntegerFieldList() {
 		Integer year = Integer.valueOf(2008);
@@ -386,4 +528,94 @@ public class DateTimeTest extends TestCase {
 		assertEquals(result, new DateTime(calendar, GJChronology.getInstance()));
 	}
 
+
+	@Test
+	public void testFromCalendarOfEachKind() {
+		TimeZone timeZone = TimeZone.getTimeZone("Asia/Tokyo");
+		GregorianCalendar gregorian = new GregorianCalendar(timeZone);
+		gregorian.setGregorianChange(new Date(Long.MIN_VALUE));
+		GregorianCalendar julian = new GregorianCalendar(timeZone);
+		julian.setGregorianChange(new Date(Long.MAX_VALUE));
+		Calendar[] calendars = new Calendar[] {
+				new GregorianCalendar(timeZone), gregorian, julian,
+				Calendar.getInstance(timeZone, new Locale("th", "TH")),
+				Calendar.getInstance(new SimpleTimeZone(3600000, "Unknown/Zone"))};
+		
+		for (Calendar calendar : calendars) {
+			calendar.setTimeInMillis(-12219292800000L + 123456789L);
+			assertEquals(new DateTime(calendar), 
+					Op.on(calendar).exec(FnDateTime.calendarToDateTime()).get());
+			assertEquals(new DateTime(calendar, DateTimeZone.UTC), 
+					Op.on(calendar).exec(FnDateTime.calendarToDateTime(DateTimeZone.UTC)).get());
+			assertEquals(new DateTime(calendar, CopticChronology.getInstance()), 
+					Op.on(calendar).exec(FnDateTime.calendarToDateTime(CopticChronology.getInstance())).get());
+		}
+	}
+
+	@Test
+	public void testFromIntFieldArray() {
+		DateTime result = Op.on(new int[] {2010, 3, 28, 1, 30, 15, 999})
+			.exec(FnDateTime.intFieldArrayToDateTime(BuddhistChronology.getInstance())).get();
+		
+		assertEquals(new DateTime(2010, 3, 28, 1, 30, 15, 999, BuddhistChronology.getInstance()), result);
+		
+		DateTime[] results = Op.on(new int[] {2010, 3, 28, 1, 30, 1977, 5, 2, 17, 35})
+			.exec(FnDateTime.intFieldArrayToArrayOfDateTime(5)).get();
+		
+		assertEquals(2, results.length);
+		assertEquals(new DateTime(2010, 3, 28, 1, 30, 0, 0), results[0]);
+		assertEquals(new DateTime(1977, 5, 2, 17, 35, 0, 0), results[1]);
+		
+		try {
+			Op.on(new int[] {2010, 3, 28, 1, 30, 1977}).exec(FnDateTime.intFieldArrayToArrayOfDateTime(5)).get();
+			fail("intFieldArrayToArrayOfDateTime should not work with an incomplete record");
+		} catch (ExecutionException e) {
+			// Do nothing
+		}
+	}
+
+	@Test
+	public void testFromIntegerFieldArrayISOUTC() {
+		DateTime result = Op.on(new Integer[] {Integer.valueOf(-1), Integer.valueOf(12), Integer.valueOf(31),
+				Integer.valueOf(23), Integer.valueOf(59)})
+			.exec(FnDateTime.integerFieldArrayToDateTime(ISOChronology.getInstanceUTC())).get();
+		
+		assertEquals(new DateTime(-1, 12, 31, 23, 59, 0, 0, ISOChronology.getInstanceUTC()), result);
+		assertSame(ISOChronology.getInstanceUTC(), result.getChronology());
+	}
+
+	@Test
+	public void testFromFieldsWithLayout() {
+		assertEquals(new DateTime(2010, 10, 31, 2, 30, 0, 0, GJChronology.getInstance()), 
+			Op.on(new int[] {2010, 10, 31, 2, 30})
+				.exec(FnDateTime.intFieldArrayToDateTime(FieldLayout.YMDHM, GJChronology.getInstance())).get());
+		
+		assertEquals(new DateTime(2010, 10, 31, 0, 0, 0, 0), 
+			Op.on(new Integer[] {Integer.valueOf(2010), Integer.valueOf(10), Integer.valueOf(31)})
+				.exec(FnDateTime.integerFieldArrayToDateTime(FieldLayout.YMD)).get());
+		
+		assertEquals(new DateTime(2010, 10, 31, 2, 30, 45, 500, BuddhistChronology.getInstance()), 
+			Op.on(Arrays.asList(Integer.valueOf(2010), Integer.valueOf(10), Integer.valueOf(31), 
+					Integer.valueOf(2), Integer.valueOf(30), Integer.valueOf(45), Integer.valueOf(500)))
+				.exec(FnDateTime.integerFieldCollectionToDateTime(FieldLayout.YMDHMS_MILLIS, BuddhistChronology.getInstance()))
+				.get());
+		
+		for (FieldLayout layout : FieldLayout.values()) {
+			final int[] fields = new int[] {1995, 7, 14, 16, 45, 12, 3};
+			final int[] layoutFields = new int[layout.getSize()];
+			System.arraycopy(fields, 0, layoutFields, 0, layoutFields.length);
+			final int[] defaultFields = (layout.getSize() >= 4 ? layoutFields : new int[] {1995, 7, 14, 0});
+			
+			assertEquals(Op.on(defaultFields).exec(FnDateTime.intFieldArrayToDateTime()).get(), 
+					Op.on(layoutFields).exec(FnDateTime.intFieldArrayToDateTime(layout)).get());
+		}
+		
+		try {
+			Op.on(new int[] {2010, 10, 31, 2}).exec(FnDateTime.intFieldArrayToDateTime(FieldLayout.YMDHM)).get();
+			fail("intFieldArrayToDateTime(FieldLayout.YMDHM) should only accept 5 fields");
+		} catch (ExecutionException e) {
+			// Do nothing
+		}
+	}
+
 }
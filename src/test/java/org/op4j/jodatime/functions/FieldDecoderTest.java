@@ -0,0 +1,33 @@
+package org.op4j.jodatime.functions;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+public class FieldDecoderTest extends TestCase {
+
+	@Test
+	public void testParseIntAsIntegerParseInt() {
+		String[] values = new String[] {"0", "7", "-7", "007", "-0", "2010", "999999999", "-999999999", 
+				"1000000000", "2147483647", "-2147483648", "\u0663\u0661"};
+		
+		for (String value : values) {
+			assertEquals(value, Integer.parseInt(value), FieldDecoder.parseInt(value));
+		}
+	}
+	
+	@Test
+	public void testParseIntInvalid() {
+		String[] values = new String[] {null, "", "-", " 1", "1 ", "1a", "--1", "2147483648", "-2147483649", "1.0"};
+		
+		for (String value : values) {
+			try {
+				FieldDecoder.parseInt(value);
+				fail("A NumberFormatException should have been thrown for " + value);
+			} catch (NumberFormatException e) {
+				// expected
+			}
+		}
+	}
+
+}
@@ -986,4 +986,92 @@ public class IntervalTest extends TestCase {
 		
 	}
 
+	@Test
+	public void testFromIntFieldArray() {
+		Interval result = Op.on(new int[] {1977, 5, 2, 17, 35, 1980, 8, 5, 18, 20})
+			.exec(FnInterval.intFieldArrayToInterval(BuddhistChronology.getInstance())).get();
+		
+		assertEquals(new Interval(new DateTime(1977, 5, 2, 17, 35, 0, 0, BuddhistChronology.getInstance()).getMillis(), 
+				new DateTime(1980, 8, 5, 18, 20, 0, 0, BuddhistChronology.getInstance()).getMillis(), 
+				BuddhistChronology.getInstance()), result);
+		
+		DateTimeZone zone = DateTimeZone.forID("Europe/Madrid");
+		Interval[] results = Op.on(new int[] {1977, 5, 2, 1980, 8, 5, 2010, 3, 28, 2010, 10, 31})
+			.exec(FnInterval.intFieldArrayToArrayOfInterval(6, zone)).get();
+		
+		assertEquals(2, results.length);
+		assertEquals(new Interval(new DateTime(1977, 5, 2, 0, 0, 0, 0, zone), 
+				new DateTime(1980, 8, 5, 0, 0, 0, 0, zone)), results[0]);
+		assertEquals(new Interval(new DateTime(2010, 3, 28, 0, 0, 0, 0, zone), 
+				new DateTime(2010, 10, 31, 0, 0, 0, 0, zone)), results[1]);
+		
+		try {
+			Op.on(new int[] {1977, 5, 2, 1980, 8}).exec(FnInterval.intFieldArrayToInterval()).get();
+			fail("intFieldArrayToInterval should not work with an array of 5 elements");
+		} catch (ExecutionException e) {
+			// Do nothing
+		}
+	}
+
+	@Test
+	public void testFromIntegerFieldArrayUTC() {
+		Interval result = Op.on(new Integer[] {Integer.valueOf(1600), Integer.valueOf(2), Integer.valueOf(29),
+				Integer.valueOf(23), Integer.valueOf(59), Integer.valueOf(59), Integer.valueOf(999),
+				Integer.valueOf(2010), Integer.valueOf(12), Integer.valueOf(31),
+				Integer.valueOf(0), Integer.valueOf(0), Integer.valueOf(0), Integer.valueOf(1)})
+			.exec(FnInterval.integerFieldArrayToInterval(DateTimeZone.UTC))
+			.get();
+		
+		assertEquals(new Interval(new DateTime(1600, 2, 29, 23, 59, 59, 999, DateTimeZone.UTC), 
+				new DateTime(2010, 12, 31, 0, 0, 0, 1, DateTimeZone.UTC)), result);
+		
+		try {
+			Op.on(new Integer[] {Integer.valueOf(1900), Integer.valueOf(2), Integer.valueOf(29), 
+					Integer.valueOf(1980), Integer.valueOf(8), Integer.valueOf(5)})
+				.exec(FnInterval.integerFieldArrayToInterval(DateTimeZone.UTC)).get();
+			fail("integerFieldArrayToInterval should not accept 1900-02-29");
+		} catch (RuntimeException e) {
+			// Do nothing
+		}
+	}
+
+	@Test
+	public void testFromFieldsWithLayout() {
+		Interval result = Op.on(new int[] {2010, 3, 28, 1, 30, 2010, 3, 28, 3, 30})
+			.exec(FnInterval.intFieldArrayToInterval(FieldLayout.YMDHM, DateTimeZone.forID("Europe/Madrid")))
+			.get();
+		assertEquals(Op.on(new int[] {2010, 3, 28, 1, 30, 2010, 3, 28, 3, 30})
+				.exec(FnInterval.intFieldArrayToInterval(DateTimeZone.forID("Europe/Madrid"))).get(), result);
+		assertEquals(60L * 60 * 1000, result.toDurationMillis());
+		
+		assertEquals(new Interval(new DateTime(2010, 1, 1, 10, 0, 0, 0, GJChronology.getInstance()), 
+				new DateTime(2010, 12, 31, 20, 0, 0, 0, GJChronology.getInstance())), 
+			Op.on(Arrays.asList(Integer.valueOf(2010), Integer.valueOf(1), Integer.valueOf(1), Integer.valueOf(10),
+					Integer.valueOf(2010), Integer.valueOf(12), Integer.valueOf(31), Integer.valueOf(20)))
+				.exec(FnInterval.integerFieldCollectionToInterval(FieldLayout.YMDH, GJChronology.getInstance()))
+				.get());
+		
+		assertEquals(new Interval(new DateTime(1999, 5, 6, 7, 8, 9, 10, DateTimeZone.UTC), 
+				new DateTime(2000, 1, 2, 3, 4, 5, 6, DateTimeZone.UTC)), 
+			Op.on(new Integer[] {Integer.valueOf(1999), Integer.valueOf(5), Integer.valueOf(6), 
+					Integer.valueOf(7), Integer.valueOf(8), Integer.valueOf(9), Integer.valueOf(10),
+					Integer.valueOf(2000), Integer.valueOf(1), Integer.valueOf(2), 
+					Integer.valueOf(3), Integer.valueOf(4), Integer.valueOf(5), Integer.valueOf(6)})
+				.exec(FnInterval.integerFieldArrayToInterval(FieldLayout.YMDHMS_MILLIS, DateTimeZone.UTC))
+				.get());
+		
+		assertEquals(new Interval(new DateMidnight(2001, 2, 3), new DateMidnight(2004, 5, 6)), 
+			Op.on(new int[] {2001, 2, 3, 2004, 5, 6})
+				.exec(FnInterval.intFieldArrayToInterval(FieldLayout.YMD)).get());
+		
+		try {
+			// Valid for the 10 field layout, but not for YMDHMS
+			Op.on(new int[] {2010, 3, 28, 1, 30, 2010, 3, 28, 3, 30})
+				.exec(FnInterval.intFieldArrayToInterval(FieldLayout.YMDHMS)).get();
+			fail("intFieldArrayToInterval(FieldLayout.YMDHMS) should only accept 12 fields");
+		} catch (ExecutionException e) {
+			// Do nothing
+		}
+	}
+
 }
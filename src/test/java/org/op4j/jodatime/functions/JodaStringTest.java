@@ -1,5 +1,6 @@
 package org.op4j.jodatime.functions;
 
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
@@ -9,6 +10,7 @@ import junit.framework.TestCase;
 import org.apache.commons.lang.StringUtils;
 import org.joda.time.DateMidnight;
 import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
 import org.joda.time.LocalDate;
 import org.joda.time.LocalTime;
 import org.joda.time.chrono.BuddhistChronology;
@@ -277,4 +279,128 @@ public class JodaStringTest extends TestCase {
 				DateTimeFormat.fullDateTime()),
 				result.get(0));		
 	}
+
+	@Test
+	public void testInvalidFormatFailsOnCreation() {
+		try {
+			FnJodaString.baseDateTimeToStr(FormatType.STYLE, "XX");
+			fail("baseDateTimeToStr(STYLE, \"XX\") should fail when the function is created");
+		} catch (IllegalArgumentException e) {
+			// Do nothing
+		}
+		try {
+			FnJodaString.localTimeToStr(FormatType.STYLE, "L", Locale.UK);
+			fail("localTimeToStr(STYLE, \"L\") should fail when the function is created");
+		} catch (IllegalArgumentException e) {
+			// Do nothing
+		}
+	}
+
+	@Test
+	public void testNumericPattern() {
+		String pattern = "dd/MM/yyyy-HH:mm:ss.SSS";
+		DateTime[] targets = new DateTime[] {
+				new DateTime(2000, 12, 24, 15, 3, 27, 451, DateTimeZone.forID("Europe/Madrid")),
+				new DateTime(12345, 1, 2, 3, 4, 5, 6, BuddhistChronology.getInstance()),
+				new DateTime(-5, 1, 2, 3, 4, 5, 6, GregorianChronology.getInstanceUTC())};
+		for (DateTime target : targets) {
+			assertEquals(target.toString(pattern), 
+					Op.on(target).exec(FnJodaString.baseDateTimeToStr(FormatType.PATTERN, pattern)).get());
+			assertEquals(target.toString(DateTimeFormat.forPattern(pattern).withChronology(BuddhistChronology.getInstance())), 
+					Op.on(target).exec(FnJodaString.baseDateTimeToStr(FormatType.PATTERN, pattern, 
+							BuddhistChronology.getInstance())).get());
+		}
+		
+		LocalDate localDate = new LocalDate(2000, 2, 29);
+		assertEquals("29/02/2000", 
+				Op.on(localDate).exec(FnJodaString.localDateToStr(FormatType.PATTERN, "dd/MM/yyyy")).get());
+		assertEquals(localDate.toString(pattern), 
+				Op.on(localDate).exec(FnJodaString.localDateToStr(FormatType.PATTERN, pattern)).get());
+		
+		LocalTime localTime = new LocalTime(7, 3, 27, 45);
+		assertEquals("070327.045", 
+				Op.on(localTime).exec(FnJodaString.localTimeToStr(FormatType.PATTERN, "HHmmss.SSS")).get());
+		assertEquals(localTime.toString(pattern), 
+				Op.on(localTime).exec(FnJodaString.localTimeToStr(FormatType.PATTERN, pattern)).get());
+	}
+
+	@Test
+	public void testAppenders() throws Exception {
+		DateTime dateTime = new DateTime(2000, 12, 24, 15, 3, 27, 451, DateTimeZone.forID("Europe/Madrid"));
+		LocalDate localDate = new LocalDate(2000, 12, 24);
+		LocalTime localTime = new LocalTime(15, 3, 27, 451);
+		
+		StringBuilder builder = new StringBuilder("[");
+		FnJodaString.baseDateTimeAppender().appendTo(builder, dateTime);
+		FnJodaString.baseDateTimeAppender(FormatType.PATTERN, "dd/MM/yyyy HH:mm").appendTo(builder, null);
+		FnJodaString.baseDateTimeAppender(FormatType.PATTERN, "dd/MM/yyyy HH:mm").appendTo(builder, dateTime);
+		FnJodaString.localDateAppender(FormatType.PATTERN, "dd MMMM yyyy", Locale.UK).appendTo(builder, localDate);
+		FnJodaString.localTimeAppender(FormatType.STYLE, "-S", Locale.UK).appendTo(builder, localTime);
+		builder.append("]");
+		
+		assertEquals("[" + dateTime.toString() + dateTime.toString("dd/MM/yyyy HH:mm") 
+				+ localDate.toString("dd MMMM yyyy", Locale.UK) 
+				+ localTime.toString(DateTimeFormat.forStyle("-S").withLocale(Locale.UK)) + "]", 
+				builder.toString());
+		
+		StringWriter writer = new StringWriter();
+		FnJodaString.localDateAppender().appendTo(writer, localDate);
+		FnJodaString.localTimeAppender(FormatType.PATTERN, "HH:mm:ss.SSS").appendTo(writer, localTime);
+		FnJodaString.baseDateTimeAppender(DateTimeFormat.fullDateTime()).appendTo(writer, dateTime);
+		StringBuffer buffer = new StringBuffer();
+		FnJodaString.localTimeAppender().appendTo(buffer, localTime);
+		FnJodaString.localDateAppender(FormatType.PATTERN, "yyyyMMdd").appendTo(buffer, localDate);
+		
+		assertEquals(localDate.toString() + "15:03:27.451" + dateTime.toString(DateTimeFormat.fullDateTime()), 
+				writer.toString());
+		assertEquals(localTime.toString() + "20001224", buffer.toString());
+		
+		try {
+			FnJodaString.localDateAppender(FormatType.STYLE, "XX");
+			fail("localDateAppender(STYLE, \"XX\") should fail when the appender is created");
+		} catch (IllegalArgumentException e) {
+			// Do nothing
+		}
+	}
+
+	@Test
+	public void testAppendersOutsideFixedWidthRange() throws Exception {
+		StringWriter writer = new StringWriter();
+		StringBuilder expected = new StringBuilder();
+		for (LocalDate localDate : new LocalDate[] {new LocalDate(0, 1, 1), new LocalDate(9999, 12, 31), 
+				new LocalDate(12345, 6, 7), new LocalDate(-5, 6, 7)}) {
+			FnJodaString.localDateAppender().appendTo(writer, localDate);
+			FnJodaString.localDateAppender(FormatType.PATTERN, "dd/MM/yyyy").appendTo(writer, localDate);
+			expected.append(localDate.toString()).append(localDate.toString("dd/MM/yyyy"));
+		}
+		FnJodaString.localTimeAppender().appendTo(writer, new LocalTime(0, 0, 0, 5));
+		expected.append(new LocalTime(0, 0, 0, 5).toString());
+		
+		assertEquals(expected.toString(), writer.toString());
+	}
+
+	@Test
+	public void testNumericPatternBelowChronologyLimit() throws Exception {
+		String pattern = "yyyy-MM-dd HH:mm:ss.SSS";
+		// Before the minimum instant BuddhistChronology supports
+		DateTime dateTime = new DateTime(-196233246877409L, BuddhistChronology.getInstanceUTC());
+		
+		assertEquals(dateTime.toString(pattern), 
+				FnJodaString.baseDateTimeToStr(FormatType.PATTERN, pattern).execute(dateTime, null));
+	}
+
+	@Test
+	public void testAppendersBelowChronologyLimit() throws Exception {
+		String pattern = "yyyy-MM-dd HH:mm:ss.SSS";
+		// Before the minimum instant BuddhistChronology supports
+		DateTime dateTime = new DateTime(-196233246877409L, BuddhistChronology.getInstanceUTC());
+		
+		StringBuilder builder = new StringBuilder();
+		FnJodaString.baseDateTimeAppender(FormatType.PATTERN, pattern).appendTo(builder, dateTime);
+		StringWriter writer = new StringWriter();
+		FnJodaString.baseDateTimeAppender(FormatType.PATTERN, pattern).appendTo(writer, dateTime);
+		
+		assertEquals(dateTime.toString(pattern), builder.toString());
+		assertEquals(dateTime.toString(pattern), writer.toString());
+	}
 }
@@ -0,0 +1,96 @@
+package org.op4j.jodatime.functions;
+
+import java.nio.CharBuffer;
+import java.util.Locale;
+
+import junit.framework.TestCase;
+
+import org.joda.time.DateMidnight;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.LocalDate;
+import org.joda.time.LocalTime;
+import org.joda.time.MutableDateTime;
+import org.joda.time.chrono.BuddhistChronology;
+import org.junit.Test;
+import org.op4j.Op;
+
+public class JodaTextParserTest extends TestCase {
+
+	private static final String LINE = "0001|24/12/2000-15:03|2000-12-24T15:03:27.451|24 December 2000|EOL";
+	
+	@Test
+	public void testParseNumericPattern() {
+		String pattern = "dd/MM/yyyy-HH:mm";
+		StringBuilder line = new StringBuilder(LINE);
+		String asStr = LINE.substring(5, 21);
+		JodaTextParser parser = JodaTextParser.forPattern(pattern, DateTimeZone.UTC);
+		
+		assertEquals(Op.on(asStr).exec(FnDateTime.strToDateTime(pattern, DateTimeZone.UTC)).get(), 
+				parser.parseDateTime(line, 5, 21));
+		assertEquals(Op.on(asStr).exec(FnLocalDate.strToLocalDate(pattern, DateTimeZone.UTC)).get(), 
+				parser.parseLocalDate(line, 5, 21));
+		assertEquals(Op.on(asStr).exec(FnLocalTime.strToLocalTime(pattern, DateTimeZone.UTC)).get(), 
+				parser.parseLocalTime(line, 5, 21));
+		assertEquals(Op.on(asStr).exec(FnDateMidnight.strToDateMidnight(pattern, DateTimeZone.UTC)).get(), 
+				parser.parseDateMidnight(line, 5, 21));
+		assertEquals(Op.on(asStr).exec(FnMutableDateTime.strToMutableDateTime(pattern, DateTimeZone.UTC)).get(), 
+				parser.parseMutableDateTime(line, 5, 21));
+		assertEquals(new DateTime(2000, 12, 24, 15, 3, 0, 0, DateTimeZone.UTC).getMillis(), 
+				parser.parseMillis(line, 5, 21));
+	}
+	
+	@Test
+	public void testParseIsoPattern() {
+		String pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS";
+		CharBuffer line = CharBuffer.wrap(LINE);
+		JodaTextParser parser = JodaTextParser.forPattern(pattern);
+		
+		DateTime result = parser.parseDateTime(line, 22, 45);
+		assertEquals(Op.on(LINE.substring(22, 45)).exec(FnDateTime.strToDateTime(pattern)).get(), result);
+		
+		MutableDateTime mutableResult = JodaTextParser.forPattern(pattern, BuddhistChronology.getInstance())
+				.parseMutableDateTime(line, 22, 45);
+		assertEquals(Op.on(LINE.substring(22, 45)).exec(FnMutableDateTime.strToMutableDateTime(pattern, 
+				BuddhistChronology.getInstance())).get(), mutableResult);
+	}
+	
+	@Test
+	public void testParseTextPattern() {
+		String pattern = "dd MMMM yyyy";
+		StringBuilder line = new StringBuilder(LINE);
+		
+		LocalDate result = JodaTextParser.forPattern(pattern, Locale.UK).parseLocalDate(line, 46, 62);
+		assertEquals(new LocalDate(2000, 12, 24), result);
+		
+		DateMidnight midnight = JodaTextParser.forPattern(pattern, Locale.UK.toString(), DateTimeZone.UTC)
+				.parseDateMidnight(line, 46, 62);
+		assertEquals(new DateMidnight(2000, 12, 24, DateTimeZone.UTC), midnight);
+		
+		try {
+			JodaTextParser.forPattern(pattern);
+			fail("parser can't be created if pattern uses MMM without a Locale");
+		} catch (IllegalArgumentException e) {
+			// Do nothing
+		}
+	}
+	
+	@Test
+	public void testParseInvalidRange() {
+		JodaTextParser parser = JodaTextParser.forPattern("HH:mm");
+		
+		assertEquals(new LocalTime(15, 3), parser.parseLocalTime(LINE, 16, 21));
+		try {
+			parser.parseLocalTime(LINE, 16, 22);
+			fail("conversion can't be done if the range contains more than the time");
+		} catch (IllegalArgumentException e) {
+			// Do nothing
+		}
+		try {
+			parser.parseLocalTime(LINE, 16, LINE.length() + 1);
+			fail("conversion can't be done if the range is out of the text");
+		} catch (IndexOutOfBoundsException e) {
+			// Do nothing
+		}
+	}
+}
@@ -8,11 +8,13 @@ import java.util.Locale;
 
 import junit.framework.TestCase;
 
+import org.joda.time.DateTime;
 import org.joda.time.DateTimeZone;
 import org.joda.time.LocalDate;
 import org.joda.time.chrono.BuddhistChronology;
 import org.joda.time.chrono.CopticChronology;
 import org.joda.time.chrono.GJChronology;
+import org.joda.time.chrono.ISOChronology;
 import org.joda.time.format.DateTimeFormat;
 import org.junit.Test;
 import org.op4j.Op;
@@ -41,6 +43,24 @@ public class LocalDateTest extends TestCase {
 				.parseDateTime(asStr).toLocalDate());	
 	}
 
+	@Test
+	public void testFromStringWithOffsetStringDateTimeZone() {
+		String pattern = "yyyy-MM-dd HH:mm Z";
+		String asStr = "2000-12-24 23:30 -0800";
+		LocalDate result = Op.on(asStr).exec(FnLocalDate.strToLocalDate(pattern,
+				DateTimeZone.UTC)).get();
+		
+		assertEquals(new LocalDate(2000, 12, 25), result);
+		assertEquals(result, DateTimeFormat.forPattern(pattern).withZone(DateTimeZone.UTC)
+				.parseDateTime(asStr).toLocalDate());
+		
+		result = Op.on(asStr).exec(FnLocalDate.strToLocalDate(pattern, Locale.UK, 
+				GJChronology.getInstance(DateTimeZone.forID("America/Los_Angeles")))).get();
+		assertEquals(result, DateTimeFormat.forPattern(pattern)
+				.withChronology(GJChronology.getInstance(DateTimeZone.forID("America/Los_Angeles")))
+				.parseDateTime(asStr).toLocalDate());
+	}
+
 	@Test
 	public void testFromStringStringChronology() {
 		String pattern = "dd/mm/yyyy-HH:mm";
@@ -338,4 +358,55 @@ public class LocalDateTest extends TestCase {
 		assertEquals(result, new LocalDate(calendar, GJChronology.getInstance()));
 	}
 
+	@Test
+	public void testFromStringArray() {
+		String pattern = "yyyy-MM-dd";
+		String[] asStrs = new String[] {"2000-12-24", null, "1999-01-01"};
+		
+		LocalDate[] result = Op.on(asStrs).exec(FnLocalDate.strArrayToArrayOfLocalDate(pattern)).get();
+		
+		assertEquals(3, result.length);
+		assertEquals(new LocalDate(2000, 12, 24), result[0]);
+		assertNull(result[1]);
+		assertEquals(new LocalDate(1999, 1, 1), result[2]);
+	}
+
+	@Test
+	public void testFromLongInterned() {
+		DateTimeZone zone = DateTimeZone.forID("Europe/Madrid");
+		long morning = new DateTime(2010, 3, 28, 1, 30, 0, 0, zone).getMillis();
+		long evening = new DateTime(2010, 3, 28, 23, 30, 0, 0, zone).getMillis();
+		
+		LocalDate first = Op.on(Long.valueOf(morning)).exec(FnLocalDate.longToInternedLocalDate(zone)).get();
+		LocalDate second = Op.on(new Timestamp(evening)).exec(FnLocalDate.timestampToInternedLocalDate(zone)).get();
+		LocalDate third = Op.on(new Date(evening)).exec(FnLocalDate.dateToInternedLocalDate(
+				ISOChronology.getInstance(zone))).get();
+		
+		assertEquals(new LocalDate(morning, zone), first);
+		assertSame(first, second);
+		assertSame(first, third);
+		
+		LocalDate buddhist = Op.on(Long.valueOf(morning)).exec(FnLocalDate.longToInternedLocalDate(
+				BuddhistChronology.getInstance(zone))).get();
+		assertEquals(new LocalDate(morning, BuddhistChronology.getInstance(zone)), buddhist);
+		assertSame(buddhist, Op.on(Long.valueOf(evening)).exec(FnLocalDate.longToInternedLocalDate(
+				BuddhistChronology.getInstance(zone))).get());
+		
+		assertEquals(new LocalDate(-1L), Op.on(Long.valueOf(-1L)).exec(FnLocalDate.longToInternedLocalDate()).get());
+	}
+
+	@Test
+	public void testFromIntFieldArray() {
+		LocalDate result = Op.on(new int[] {2010, 3}).exec(FnLocalDate.intFieldArrayToLocalDate()).get();
+		
+		assertEquals(new LocalDate(2010, 3, 1), result);
+		
+		LocalDate[] results = Op.on(new int[] {2010, 3, 28, 1977, 5, 2})
+			.exec(FnLocalDate.intFieldArrayToArrayOfLocalDate(3, CopticChronology.getInstance())).get();
+		
+		assertEquals(2, results.length);
+		assertEquals(new LocalDate(2010, 3, 28, CopticChronology.getInstance()), results[0]);
+		assertEquals(new LocalDate(1977, 5, 2, CopticChronology.getInstance()), results[1]);
+	}
+
 }
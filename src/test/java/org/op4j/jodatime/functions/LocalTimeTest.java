@@ -28,6 +28,29 @@ public class LocalTimeTest extends TestCase {
 		assertEquals(result, DateTimeFormat.forPattern(pattern).parseDateTime(asStr).toLocalTime());	
 	}
 	
+	@Test
+	public void testFromStringIsoPattern() {
+		String pattern = "HH:mm:ss";
+		String[] asStrs = new String[] {"15:03:27", "5:03:27", "15:03:27.4", "25:03:27"};
+		
+		for (String asStr : asStrs) {
+			LocalTime expected = null;
+			try {
+				expected = DateTimeFormat.forPattern(pattern).withZone(DateTimeZone.UTC)
+						.parseDateTime(asStr).toLocalTime();
+			} catch (IllegalArgumentException e) {
+				// Conversion is not possible
+			}
+			try {
+				LocalTime result = Op.on(asStr).exec(FnLocalTime.strToLocalTime(pattern,
+						DateTimeZone.UTC)).get();
+				assertEquals(expected, result);
+			} catch (RuntimeException e) {
+				assertNull(asStr + " should be converted", expected);
+			}
+		}
+	}
+
 	@Test
 	public void testFromStringStringDateTimeZone() {
 		String pattern = "dd/mm/yyyy-HH:mm";
@@ -198,6 +221,17 @@ public class LocalTimeTest extends TestCase {
 		assertEquals(result, new LocalTime(dateAsLong, CopticChronology.getInstance()));
 	}
 
+	@Test
+	public void testFromLongArray() {
+		long[] datesAsLong = new long[] {new Date().getTime(), 0L};
+		LocalTime[] result = Op.on(datesAsLong).exec(FnLocalTime.longArrayToArrayOfLocalTime(
+				DateTimeZone.UTC)).get();
+		
+		assertEquals(2, result.length);
+		assertEquals(new LocalTime(datesAsLong[0], DateTimeZone.UTC), result[0]);
+		assertEquals(new LocalTime(0, 0), result[1]);
+	}
+
 	@Test
 	public void testFromIntegerFieldList() {
 		Integer hour = Integer.valueOf(16);
@@ -338,4 +372,19 @@ public class LocalTimeTest extends TestCase {
 		assertEquals(result, new LocalTime(calendar, GJChronology.getInstance()));
 	}
 
+	@Test
+	public void testFromIntFieldArray() {
+		LocalTime result = Op.on(new int[] {17, 35, 12}).exec(FnLocalTime.intFieldArrayToLocalTime()).get();
+		
+		assertEquals(new LocalTime(17, 35, 12, 0), result);
+		
+		LocalTime[] results = Op.on(new int[] {17, 35, 23, 59, 0, 0})
+			.exec(FnLocalTime.intFieldArrayToArrayOfLocalTime(2)).get();
+		
+		assertEquals(3, results.length);
+		assertEquals(new LocalTime(17, 35), results[0]);
+		assertEquals(new LocalTime(23, 59), results[1]);
+		assertEquals(new LocalTime(0, 0), results[2]);
+	}
+
 }
@@ -707,4 +707,18 @@ public class PeriodTest extends TestCase {
 								DurationFieldType.minutes()})));
 	}
 
+	@Test
+	public void testFromIntFieldArray() {
+		Period result = Op.on(new int[] {3, 30, 13, 500}).exec(FnPeriod.intFieldArrayToPeriod()).get();
+		
+		assertEquals(new Period(3, 30, 13, 500), result);
+		
+		Period[] results = Op.on(new int[] {1, 2, 3, 4, 5, 6})
+			.exec(FnPeriod.intFieldArrayToArrayOfPeriod(PeriodType.yearMonthDay())).get();
+		
+		assertEquals(2, results.length);
+		assertEquals(new Period(1, 2, 0, 3, 0, 0, 0, 0, PeriodType.yearMonthDay()), results[0]);
+		assertEquals(new Period(4, 5, 0, 6, 0, 0, 0, 0, PeriodType.yearMonthDay()), results[1]);
+	}
+
 }
@@ -0,0 +1,58 @@
+package org.op4j.jodatime.functions;
+
+import java.util.Locale;
+import java.util.SimpleTimeZone;
+import java.util.TimeZone;
+
+import junit.framework.TestCase;
+
+import org.apache.commons.lang.LocaleUtils;
+import org.joda.time.DateTimeZone;
+import org.junit.Test;
+
+public class ResolutionCacheTest extends TestCase {
+
+	@Test
+	public void testToLocale() {
+		String[] locales = new String[] {"en", "es_ES", "fr_CA", "ja_JP_JP", "es_ES"};
+		
+		for (String locale : locales) {
+			Locale result = ResolutionCache.toLocale(locale);
+			assertEquals(LocaleUtils.toLocale(locale), result);
+			assertSame(result, ResolutionCache.toLocale(locale));
+		}
+		assertNull(ResolutionCache.toLocale(null));
+	}
+	
+	@Test
+	public void testToLocaleInvalid() {
+		for (int i = 0; i < 2; i++) {
+			try {
+				ResolutionCache.toLocale("es-ES");
+				fail("An IllegalArgumentException should have been thrown");
+			} catch (IllegalArgumentException e) {
+				// expected
+			}
+		}
+	}
+	
+	@Test
+	public void testToDateTimeZone() {
+		TimeZone timeZone = TimeZone.getTimeZone("Europe/Madrid");
+		
+		assertEquals(DateTimeZone.forTimeZone(timeZone), ResolutionCache.toDateTimeZone(timeZone));
+		assertSame(ResolutionCache.toDateTimeZone(timeZone), 
+				ResolutionCache.toDateTimeZone(TimeZone.getTimeZone("Europe/Madrid")));
+		TimeZone unknown = new SimpleTimeZone(3600000, "Unknown/Zone");
+		assertEquals(DateTimeZone.forTimeZone(unknown), ResolutionCache.toDateTimeZone(unknown));
+		
+		// Unknown IDs are resolved by their offset, so the same ID can mean different zones
+		TimeZone sameIdPlusTwo = new SimpleTimeZone(7200000, "Unknown/Zone");
+		TimeZone sameIdPlusFiveThirty = new SimpleTimeZone(19800000, "Unknown/Zone");
+		assertEquals(DateTimeZone.forOffsetHours(1), ResolutionCache.toDateTimeZone(unknown));
+		assertEquals(DateTimeZone.forOffsetHours(2), ResolutionCache.toDateTimeZone(sameIdPlusTwo));
+		assertEquals(DateTimeZone.forOffsetHoursMinutes(5, 30), ResolutionCache.toDateTimeZone(sameIdPlusFiveThirty));
+		assertEquals(DateTimeZone.forTimeZone(sameIdPlusTwo), ResolutionCache.toDateTimeZone(sameIdPlusTwo));
+	}
+
+}
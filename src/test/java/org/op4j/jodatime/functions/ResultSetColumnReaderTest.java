@@ -0,0 +1,211 @@
+package org.op4j.jodatime.functions;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import junit.framework.TestCase;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.LocalDate;
+import org.joda.time.chrono.ISOChronology;
+import org.junit.Test;
+
+public class ResultSetColumnReaderTest extends TestCase {
+
+	/*
+	 * In-memory ResultSet with a single column called "TS", holding Timestamp or Long values
+	 */
+	private static final class StubResultSet implements InvocationHandler {
+		
+		private final Object[] values;
+		private int row = 0;
+		private boolean wasNull = false;
+		private TimeZone lastCalendarZone = null;
+		private Class<?> lastCalendarClass = null;
+		
+		StubResultSet(Object[] values) {
+			this.values = values;
+		}
+		
+		static ResultSet create(StubResultSet stub) {
+			return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), 
+					new Class<?>[] {ResultSet.class}, stub);
+		}
+
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			String name = method.getName();
+			if (name.equals("next")) {
+				return Boolean.valueOf(++this.row <= this.values.length);
+			}
+			if (name.equals("getRow")) {
+				return Integer.valueOf(this.row);
+			}
+			if (name.equals("findColumn")) {
+				if ("TS".equals(args[0])) {
+					return Integer.valueOf(1);
+				}
+				throw new SQLException("Unknown column " + args[0]);
+			}
+			if (name.equals("wasNull")) {
+				return Boolean.valueOf(this.wasNull);
+			}
+			assertEquals(Integer.valueOf(1), args[0]);
+			Object value = this.values[this.row - 1];
+			this.wasNull = (value == null);
+			if (name.equals("getTimestamp")) {
+				if (args.length > 1) {
+					this.lastCalendarZone = ((Calendar) args[1]).getTimeZone();
+					this.lastCalendarClass = args[1].getClass();
+				}
+				return value;
+			}
+			if (name.equals("getLong")) {
+				return (value == null ? Long.valueOf(0L) : value);
+			}
+			throw new UnsupportedOperationException(name);
+		}
+	}
+	
+	@Test
+	public void testReadMillisInBatches() throws SQLException {
+		Object[] values = new Object[] {Long.valueOf(1000L), null, Long.valueOf(-5L), Long.valueOf(7L), Long.valueOf(9L)};
+		ResultSet resultSet = StubResultSet.create(new StubResultSet(values));
+		ResultSetColumnReader reader = ResultSetColumnReader.forMillisColumn("TS");
+		
+		long[] millis = new long[5];
+		boolean[] nulls = new boolean[5];
+		assertEquals(3, reader.readMillis(resultSet, millis, nulls, 0, 3));
+		assertEquals(2, reader.readMillis(resultSet, millis, nulls, 3, 2));
+		assertEquals(0, reader.readMillis(resultSet, millis, nulls, 0, 2));
+		
+		assertTrue(Arrays.equals(new long[] {1000L, 0L, -5L, 7L, 9L}, millis));
+		assertTrue(Arrays.equals(new boolean[] {false, true, false, false, false}, nulls));
+	}
+	
+	@Test
+	public void testReadMillisNullNotAllowed() throws SQLException {
+		ResultSet resultSet = StubResultSet.create(new StubResultSet(new Object[] {null}));
+		try {
+			ResultSetColumnReader.forMillisColumn(1).readMillis(resultSet, new long[1], null, 0, 1);
+			fail("Null values should not be allowed without a nulls array");
+		} catch (IllegalStateException e) {
+			// Expected
+		}
+	}
+	
+	@Test
+	public void testReadDateTimes() throws SQLException {
+		long now = System.currentTimeMillis();
+		Object[] values = new Object[] {new Timestamp(now), null, new Timestamp(0L)};
+		StubResultSet stub = new StubResultSet(values);
+		ResultSet resultSet = StubResultSet.create(stub);
+		DateTimeZone zone = DateTimeZone.forID("Europe/Madrid");
+		
+		DateTime[] result = ResultSetColumnReader.forTimestampColumn(1, zone).readDateTimes(resultSet, 10, 
+				ISOChronology.getInstance(zone));
+		
+		assertEquals(3, result.length);
+		assertEquals(new DateTime(now, zone), result[0]);
+		assertNull(result[1]);
+		assertEquals(new DateTime(0L, zone), result[2]);
+		assertEquals(zone.toTimeZone().getID(), stub.lastCalendarZone.getID());
+	}
+	
+	@Test
+	public void testReadLocalDates() throws SQLException {
+		long now = System.currentTimeMillis();
+		Object[] values = new Object[] {new Timestamp(now), new Timestamp(-1L), null};
+		ResultSet resultSet = StubResultSet.create(new StubResultSet(values));
+		
+		LocalDate[] result = ResultSetColumnReader.forTimestampColumn("TS").readLocalDates(resultSet, 3);
+		
+		assertEquals(new LocalDate(now), result[0]);
+		assertEquals(new LocalDate(-1L), result[1]);
+		assertNull(result[2]);
+	}
+	
+	@Test
+	public void testReadWithGregorianCalendar() throws SQLException {
+		Locale defaultLocale = Locale.getDefault();
+		try {
+			// Calendar.getInstance would return a BuddhistCalendar for this locale
+			Locale.setDefault(new Locale("th", "TH"));
+			StubResultSet stub = new StubResultSet(new Object[] {new Timestamp(0L)});
+			DateTimeZone zone = DateTimeZone.forID("Asia/Bangkok");
+			
+			DateTime[] result = ResultSetColumnReader.forTimestampColumn(1, zone).readDateTimes(
+					StubResultSet.create(stub), 1);
+			
+			assertEquals(new DateTime(0L), result[0]);
+			assertEquals(GregorianCalendar.class, stub.lastCalendarClass);
+		} finally {
+			Locale.setDefault(defaultLocale);
+		}
+	}
+	
+	@Test
+	public void testZeroMaxRowsNotAllowed() throws SQLException {
+		ResultSet resultSet = StubResultSet.create(new StubResultSet(new Object[] {new Timestamp(0L)}));
+		ResultSetColumnReader reader = ResultSetColumnReader.forTimestampColumn(1);
+		try {
+			reader.readMillis(resultSet, new long[1], null, 0, 0);
+			fail("maxRows must be greater than zero");
+		} catch (IllegalArgumentException e) {
+			// Expected
+		}
+		try {
+			reader.readDateTimes(resultSet, 0);
+			fail("maxRows must be greater than zero");
+		} catch (IllegalArgumentException e) {
+			// Expected
+		}
+		try {
+			reader.readLocalDates(resultSet, 0);
+			fail("maxRows must be greater than zero");
+		} catch (IllegalArgumentException e) {
+			// Expected
+		}
+	}
+	
+	@Test
+	public void testReadWithLargeMaxRows() throws SQLException {
+		Object[] values = new Object[1000];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = (i % 7 == 0 ? null : new Timestamp(i * 86400000L));
+		}
+		
+		DateTime[] dateTimes = ResultSetColumnReader.forTimestampColumn(1).readDateTimes(
+				StubResultSet.create(new StubResultSet(values)), Integer.MAX_VALUE);
+		LocalDate[] localDates = ResultSetColumnReader.forTimestampColumn(1).readLocalDates(
+				StubResultSet.create(new StubResultSet(values)), Integer.MAX_VALUE);
+		DateTime[] firstRows = ResultSetColumnReader.forTimestampColumn(1).readDateTimes(
+				StubResultSet.create(new StubResultSet(values)), 100);
+		
+		assertEquals(values.length, dateTimes.length);
+		assertEquals(values.length, localDates.length);
+		assertEquals(100, firstRows.length);
+		for (int i = 0; i < values.length; i++) {
+			if (values[i] == null) {
+				assertNull(dateTimes[i]);
+				assertNull(localDates[i]);
+			} else {
+				assertEquals(new DateTime(i * 86400000L), dateTimes[i]);
+				assertEquals(new LocalDate(i * 86400000L), localDates[i]);
+			}
+			if (i < firstRows.length) {
+				assertEquals(dateTimes[i], firstRows[i]);
+			}
+		}
+	}
+	
+}
@@ -0,0 +1,63 @@
+package org.op4j.jodatime.functions;
+
+import junit.framework.TestCase;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.LocalDate;
+import org.joda.time.LocalTime;
+import org.joda.time.chrono.BuddhistChronology;
+import org.junit.Test;
+import org.op4j.Op;
+
+public class ZoneOffsetCacheTest extends TestCase {
+
+	@Test
+	public void testOffsetsAroundTransitions() {
+		DateTimeZone zone = DateTimeZone.forID("Europe/Madrid");
+		ZoneOffsetCache cache = ZoneOffsetCache.forZone(zone);
+		
+		long instant = new DateTime(2005, 1, 1, 0, 0, 0, 0, zone).getMillis();
+		for (int i = 0; i < 20; i++) {
+			instant = zone.nextTransition(instant);
+			for (long millis = instant - 2; millis <= instant + 2; millis++) {
+				assertEquals(zone.getOffset(millis), cache.getOffset(millis));
+			}
+		}
+	}
+	
+	@Test
+	public void testMissesForSortedInstants() {
+		DateTimeZone zone = DateTimeZone.forID("America/New_York");
+		ZoneOffsetCache cache = ZoneOffsetCache.forZone(zone);
+		
+		long start = new DateTime(2010, 1, 1, 0, 0, 0, 0, zone).getMillis();
+		long totalMisses = ZoneOffsetCache.getMissCount();
+		for (int i = 0; i < 365 * 24; i++) {
+			long millis = start + i * 3600000L;
+			assertEquals(zone.getOffset(millis), cache.getOffset(millis));
+		}
+		// At most one miss per period and transition
+		assertTrue(cache.getCacheMissCount() >= 3);
+		assertTrue(cache.getCacheMissCount() < 20);
+		assertEquals(0L, ZoneOffsetCache.forZone(zone).getCacheMissCount());
+		// The total includes the misses of any other cache, so it only has a lower bound
+		assertTrue(ZoneOffsetCache.getMissCount() - totalMisses >= cache.getCacheMissCount());
+	}
+	
+	@Test
+	public void testLocalConversionsAroundTransitions() {
+		DateTimeZone zone = DateTimeZone.forID("Europe/Madrid");
+		long transition = zone.nextTransition(new DateTime(2010, 1, 1, 0, 0, 0, 0, zone).getMillis());
+		
+		for (long millis = transition - 3600000L; millis <= transition + 3600000L; millis += 900000L) {
+			assertEquals(new LocalDate(millis, zone), 
+					Op.on(Long.valueOf(millis)).exec(FnLocalDate.longToLocalDate(zone)).get());
+			assertEquals(new LocalTime(millis, zone), 
+					Op.on(Long.valueOf(millis)).exec(FnLocalTime.longToLocalTime(zone)).get());
+			assertEquals(new LocalDate(millis, BuddhistChronology.getInstance(zone)), 
+					Op.on(Long.valueOf(millis)).exec(FnLocalDate.longToLocalDate(BuddhistChronology.getInstance(zone))).get());
+		}
+	}
+	
+}